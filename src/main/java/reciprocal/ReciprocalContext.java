@@ -1,18 +1,38 @@
 package reciprocal;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.math.MathContext;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Context
+ * <p>
+ * The context is the precision policy of all methods of the Big* types which
+ * round but do not take a {@link MathContext}. These methods use the
+ * {@link MathContext} of the current context of the calling thread, which is
+ * {@link #DEFAULT} unless a context is bound with {@link #run(Runnable)} or
+ * {@link #call(Supplier)}. Thus callers trade precision for speed without
+ * passing a {@link MathContext} through every call.
  *
  * @param scale scale
  * @param mathContext {@link MathContext}
  * @since 0.0.1
  */
 public record ReciprocalContext(int scale, @NotNull MathContext mathContext) {
+    /**
+     * Default context with {@link MathContext#DECIMAL128}
+     *
+     * @since 0.0.1
+     */
+    public static final @NotNull ReciprocalContext DEFAULT =
+        new ReciprocalContext(MathContext.DECIMAL128.getPrecision(), MathContext.DECIMAL128);
+
+    private static final @NotNull ThreadLocal<@NotNull ReciprocalContext> CURRENT =
+        ThreadLocal.withInitial(() -> DEFAULT);
+
     /**
      * Constructor
      *
@@ -24,4 +44,65 @@ public record ReciprocalContext(int scale, @NotNull MathContext mathContext) {
     public ReciprocalContext {
         requireNonNull(mathContext, "mathContext");
     }
+
+    /**
+     * Returns a context with the precision as scale and precision of a
+     * {@link MathContext} with {@link java.math.RoundingMode#HALF_EVEN}
+     *
+     * @param precision precision
+     * @return context
+     * @throws IllegalArgumentException when {@code precision < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull ReciprocalContext ofPrecision(final int precision) {
+        checkArgument(precision > 0, "precision > 0 expected but precision = %s", precision);
+        return new ReciprocalContext(precision, new MathContext(precision));
+    }
+
+    /**
+     * Returns the current context of the calling thread
+     *
+     * @return current context
+     * @since 0.0.1
+     */
+    public static @NotNull ReciprocalContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the action with this context as current context of the calling
+     * thread and restores the previous one afterwards
+     *
+     * @param action action
+     * @throws NullPointerException when {@code action == null}
+     * @since 0.0.1
+     */
+    public void run(final @NotNull Runnable action) {
+        requireNonNull(action, "action");
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the supplier with this context as current context of the calling
+     * thread and restores the previous one afterwards
+     *
+     * @param supplier supplier
+     * @param <T> type of the result
+     * @return result of the supplier
+     * @throws NullPointerException when {@code supplier == null}
+     * @since 0.0.1
+     */
+    public <T> T call(final @NotNull Supplier<T> supplier) {
+        requireNonNull(supplier, "supplier");
+        final var previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
 }
@@ -1,28 +1,174 @@
 package reciprocal;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Global constants
+ * <p>
+ * pi and e are calculated to any precision by binary splitting of their
+ * series. The value with the highest precision calculated so far is cached and
+ * values with lower precisions are rounded from it, so that repeated calls do
+ * not calculate the constants again. The cached value is only rounded when
+ * both ends of its error interval round to the same value in the
+ * {@link java.math.RoundingMode} of the caller, otherwise the constant is
+ * calculated with more digits, so that every rounding mode is correct.
  *
  * @since 0.0.1
  */
 public final class ReciprocalUtils {
+    private static final long CHUDNOVSKY_A = 13591409L;
+    private static final long CHUDNOVSKY_B = 545140134L;
+    private static final long CHUDNOVSKY_C3_OVER_24 = 10939058860032000L;
+    private static final double CHUDNOVSKY_DIGITS_PER_TERM = 14.181647462725477D;
+    private static final int GUARD_DIGITS = 10;
+    private static final int ERROR_DIGITS = 2;
+    private static final @NotNull CachedConstant PI = new CachedConstant(ReciprocalUtils::calculatePi);
+    private static final @NotNull CachedConstant E = new CachedConstant(ReciprocalUtils::calculateE);
+
     /**
-     * pi
+     * pi to the precision of {@link MathContext#DECIMAL128}
      *
      * @since 0.0.1
      */
-    public static final @NotNull BigDecimal BIG_PI = BigDecimal.valueOf(Math.PI);
+    public static final @NotNull BigDecimal BIG_PI = pi(MathContext.DECIMAL128);
 
     /**
-     * e
+     * e to the precision of {@link MathContext#DECIMAL128}
      *
      * @since 0.0.1
      */
-    public static final @NotNull BigDecimal BIG_E = BigDecimal.valueOf(Math.E);
+    public static final @NotNull BigDecimal BIG_E = e(MathContext.DECIMAL128);
 
     private ReciprocalUtils() {
     }
+
+    /**
+     * Returns pi
+     *
+     * @param mathContext {@link MathContext}
+     * @return pi
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull BigDecimal pi(final @NotNull MathContext mathContext) {
+        return PI.get(mathContext);
+    }
+
+    /**
+     * Returns e
+     *
+     * @param mathContext {@link MathContext}
+     * @return e
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull BigDecimal e(final @NotNull MathContext mathContext) {
+        return E.get(mathContext);
+    }
+
+    private static @NotNull BigDecimal calculatePi(final int precision) {
+        // Chudnovsky: pi = 426880 * sqrt(10005) * Q(0, n) / T(0, n)
+        final var terms = (int) (precision / CHUDNOVSKY_DIGITS_PER_TERM) + 2;
+        final var pqt = chudnovsky(0, terms);
+        final var mathContext = new MathContext(precision);
+        final var sqrt = BigDecimal.valueOf(10005L).sqrt(mathContext);
+        return new BigDecimal(pqt[1].multiply(BigInteger.valueOf(426880L))).multiply(sqrt, mathContext)
+            .divide(new BigDecimal(pqt[2]), mathContext);
+    }
+
+    private static @NotNull BigInteger @NotNull [] chudnovsky(final int a, final int b) {
+        if (b - a == 1) {
+            if (a == 0) {
+                return new BigInteger[]{BigInteger.ONE, BigInteger.ONE, BigInteger.valueOf(CHUDNOVSKY_A)};
+            }
+            final var k = BigInteger.valueOf(a);
+            final var p = BigInteger.valueOf(6L * a - 5L).multiply(BigInteger.valueOf(2L * a - 1L))
+                .multiply(BigInteger.valueOf(6L * a - 1L));
+            final var q = k.pow(3).multiply(BigInteger.valueOf(CHUDNOVSKY_C3_OVER_24));
+            final var t = p.multiply(BigInteger.valueOf(CHUDNOVSKY_B).multiply(k)
+                .add(BigInteger.valueOf(CHUDNOVSKY_A)));
+            return new BigInteger[]{p, q, (a & 1) == 1 ? t.negate() : t};
+        }
+        final var m = a + b >>> 1;
+        final var left = chudnovsky(a, m);
+        final var right = chudnovsky(m, b);
+        return new BigInteger[]{
+            left[0].multiply(right[0]),
+            left[1].multiply(right[1]),
+            right[1].multiply(left[2]).add(left[0].multiply(right[2]))
+        };
+    }
+
+    private static @NotNull BigDecimal calculateE(final int precision) {
+        // e = 1 + P(0, n) / Q(0, n) with n! > 10^precision
+        var terms = 1;
+        var digits = 0.0D;
+        while (digits <= precision) {
+            terms++;
+            digits += Math.log10(terms);
+        }
+        final var pq = exponential(0, terms);
+        final var mathContext = new MathContext(precision);
+        return BigDecimal.ONE.add(new BigDecimal(pq[0]).divide(new BigDecimal(pq[1]), mathContext), mathContext);
+    }
+
+    private static @NotNull BigInteger @NotNull [] exponential(final int a, final int b) {
+        if (b - a == 1) {
+            return new BigInteger[]{BigInteger.ONE, BigInteger.valueOf(b)};
+        }
+        final var m = a + b >>> 1;
+        final var left = exponential(a, m);
+        final var right = exponential(m, b);
+        return new BigInteger[]{left[0].multiply(right[1]).add(right[0]), left[1].multiply(right[1])};
+    }
+
+    private static final class CachedConstant {
+        private final @NotNull IntFunction<@NotNull BigDecimal> calculation;
+        private final @NotNull AtomicReference<BigDecimal> cache = new AtomicReference<>();
+
+        private CachedConstant(final @NotNull IntFunction<@NotNull BigDecimal> calculation) {
+            this.calculation = calculation;
+        }
+
+        private @NotNull BigDecimal get(final @NotNull MathContext mathContext) {
+            requireNonNull(mathContext, "mathContext");
+            checkArgument(mathContext.getPrecision() > 0,
+                "mathContext.getPrecision() > 0 expected but " + "mathContext.getPrecision() = %s",
+                mathContext.getPrecision());
+            var precision = mathContext.getPrecision() + GUARD_DIGITS;
+            while (true) {
+                var value = cache.get();
+                if (value == null || value.precision() < precision) {
+                    final var calculated = calculation.apply(precision);
+                    value = cache.accumulateAndGet(calculated, CachedConstant::morePrecise);
+                }
+                // the calculation is correct up to a few units in the last place, so that the constant is
+                // rounded once when the bounds of the error agree and is calculated with more digits otherwise
+                final var error = value.ulp().movePointRight(ERROR_DIGITS);
+                final var lower = value.subtract(error).round(mathContext);
+                if (lower.compareTo(value.add(error).round(mathContext)) == 0) {
+                    return lower;
+                }
+                precision = value.precision() + GUARD_DIGITS;
+            }
+        }
+
+        private static @NotNull BigDecimal morePrecise(
+            final @Nullable BigDecimal cached,
+            final @NotNull BigDecimal candidate
+        ) {
+            return cached == null || cached.precision() < candidate.precision() ? candidate : cached;
+        }
+    }
 }
@@ -6,8 +6,10 @@ import static java.util.Objects.requireNonNull;
 import java.io.Serial;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.Comparator;
 import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
 import reciprocal.ReciprocalUtils;
 
 /**
@@ -40,12 +42,38 @@ public final class BigCircle extends AbstractCircle<BigDecimal, BigCircle> {
 
     @Override
     public @NotNull BigDecimal getCircumference() {
-        return ReciprocalUtils.BIG_PI.multiply(getDiameter());
+        return getCircumference(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Returns the circumference
+     *
+     * @param mathContext {@link MathContext}
+     * @return circumference
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal getCircumference(final @NotNull MathContext mathContext) {
+        return ReciprocalUtils.pi(mathContext).multiply(getDiameter(), mathContext);
     }
 
     @Override
     public @NotNull BigDecimal getArea() {
-        return ReciprocalUtils.BIG_PI.multiply(getRadius().pow(2));
+        return getArea(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Returns the area
+     *
+     * @param mathContext {@link MathContext}
+     * @return area
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal getArea(final @NotNull MathContext mathContext) {
+        return ReciprocalUtils.pi(mathContext).multiply(getRadius().pow(2), mathContext);
     }
 
     @Override
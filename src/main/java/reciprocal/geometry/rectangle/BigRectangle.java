@@ -7,6 +7,7 @@ import java.io.Serial;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a rectangle which uses {@link Double} as type for
@@ -47,7 +48,7 @@ public final class BigRectangle extends AbstractRectangle<BigDecimal, BigRectang
 
     @Override
     public @NotNull BigDecimal getDiagonal() {
-        return getLength().pow(2).add(getWidth().pow(2)).sqrt(MathContext.DECIMAL128);
+        return getLength().pow(2).add(getWidth().pow(2)).sqrt(ReciprocalContext.current().mathContext());
     }
 
     /**
@@ -1,13 +1,20 @@
 package reciprocal.linear.matrix;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.Validate.noNullElements;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.builder.Builder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import reciprocal.linear.vector.AbstractVector;
@@ -22,6 +29,8 @@ import reciprocal.linear.vector.AbstractVector;
  * @since 0.0.1
  */
 public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<E, V, N>, M extends AbstractMatrix<E, V, M, N>, N extends Number> {
+    private final int rowSize;
+    private final int columnSize;
     private final @NotNull List<@NotNull MatrixEntry<@NotNull E>> entries;
 
     /**
@@ -34,8 +43,7 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
      * @throws IllegalArgumentException when {@code columnSize < 1}
      * @throws NullPointerException when {@code entries == null}
      * @throws IllegalArgumentException when one entry in entries is null
-     * @throws IllegalArgumentException when {@code rowIndex < 1 || size < rowIndex} for one row index
-     * @throws IllegalArgumentException when {@code columnIndex < 1 || size < columnIndex} for one column index
+     * @throws IllegalArgumentException when entries do not contain exactly one entry for each row and column index
      * @since 0.0.1
      */
     protected AbstractMatrix(final int rowSize, final int columnSize,
@@ -44,16 +52,20 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
         checkArgument(columnSize > 0, "expected columnSize > 0 but columnSize = %s", columnSize);
         requireNonNull(entries, "entries");
         noNullElements(entries, "all entries expected not to be null but entries = %s", entries);
-        final var rowIndices = entries.stream().map(MatrixEntry::rowIndex).sorted().toList();
-        final var expectedRowIndices = Stream.iterate(1, i -> i + 1).limit(rowSize).toList();
-        checkArgument(rowIndices.equals(expectedRowIndices), "rowIndices == (1..%s) expected but rowIndices = %s",
-            rowSize, rowIndices);
-        final var columnIndices = entries.stream().map(MatrixEntry::columnIndex).sorted().toList();
-        final var expectedColumnIndices = Stream.iterate(1, i -> i + 1).limit(columnSize).toList();
-        checkArgument(rowIndices.equals(expectedColumnIndices),
-            "columnIndices == (1..%s) expected but columnIndices = %s", columnSize, columnIndices);
-        this.entries = entries.stream().sorted(Comparator.comparingInt(MatrixEntry::rowIndex))
-            .sorted(Comparator.comparingInt(MatrixEntry::columnIndex)).toList();
+        checkArgument(entries.size() == Math.multiplyExact(rowSize, columnSize),
+            "rowSize * columnSize entries expected but entries.size() = %s", entries.size());
+        final var sorted = entries.stream().sorted(Comparator.comparingInt(MatrixEntry<E>::rowIndex)
+            .thenComparingInt(MatrixEntry::columnIndex)).toList();
+        for (var i = 0; i < sorted.size(); i++) {
+            // in row-major order the entry i is on the row i / columnSize + 1 and the column i % columnSize + 1
+            final var entry = sorted.get(i);
+            checkArgument(entry.rowIndex() == i / columnSize + 1 && entry.columnIndex() == i % columnSize + 1,
+                "entry with rowIndex = %s and columnIndex = %s expected but entry = %s", i / columnSize + 1,
+                i % columnSize + 1, entry);
+        }
+        this.rowSize = rowSize;
+        this.columnSize = columnSize;
+        this.entries = sorted;
     }
 
     /**
@@ -135,7 +147,7 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
      * @since 0.0.1
      */
     public final boolean isSkewSymmetric() {
-        return isSquare() && equalsByComparing(transpose());
+        return isSquare() && equalsByComparing(transpose().negate());
     }
 
     /**
@@ -145,7 +157,7 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
      * @since 0.0.1
      */
     public final @NotNull Stream<@NotNull Integer> getRowIndices() {
-        return entries.stream().map(MatrixEntry::rowIndex).distinct();
+        return Stream.iterate(1, i -> i + 1).limit(rowSize);
     }
 
     /**
@@ -155,7 +167,7 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
      * @since 0.0.1
      */
     public final @NotNull Stream<@NotNull Integer> getColumnIndices() {
-        return entries.stream().map(MatrixEntry::columnIndex).distinct();
+        return Stream.iterate(1, i -> i + 1).limit(columnSize);
     }
 
     /**
@@ -194,7 +206,7 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
      * @since 0.0.1
      */
     public final int getRowSize() {
-        return getRowIndices().toList().size();
+        return rowSize;
     }
 
     /**
@@ -204,9 +216,73 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
      * @since 0.0.1
      */
     public final int getColumnSize() {
-        return getColumnIndices().toList().size();
+        return columnSize;
+    }
+
+    /**
+     * Returns the element on the row and column index
+     *
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return element
+     * @throws IllegalArgumentException when {@code rowIndex < 1 || rowIndex > rowSize}
+     * @throws IllegalArgumentException when {@code columnIndex < 1 || columnIndex > columnSize}
+     * @since 0.0.1
+     */
+    public final @NotNull E getElement(final int rowIndex, final int columnIndex) {
+        checkArgument(rowIndex > 0 && rowIndex <= rowSize, "0 < rowIndex <= %s expected but rowIndex = %s", rowSize,
+            rowIndex);
+        checkArgument(columnIndex > 0 && columnIndex <= columnSize,
+            "0 < columnIndex <= %s expected but columnIndex = %s", columnSize, columnIndex);
+        return entries.get((rowIndex - 1) * columnSize + columnIndex - 1).element();
+    }
+
+    /**
+     * Calculates the product of this and the factor
+     *
+     * @param factor factor
+     * @return product
+     * @throws NullPointerException when {@code factor == null}
+     * @throws IllegalArgumentException when {@code columnSize != factor.rowSize}
+     * @since 0.0.1
+     */
+    public abstract @NotNull M multiply(@NotNull M factor);
+
+    /**
+     * Calculates the power by repeated squaring, so that it takes
+     * {@code O(log(exponent))} products
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when {@code this} is not square
+     * @throws IllegalArgumentException when {@code exponent < 0}
+     * @since 0.0.1
+     */
+    public @NotNull M pow(final int exponent) {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        checkArgument(exponent >= 0, "exponent >= 0 expected but exponent = %s", exponent);
+        @SuppressWarnings("unchecked")
+        var square = (M) this;
+        M result = null;
+        for (var e = exponent; e > 0; e >>>= 1) {
+            if ((e & 1) == 1) {
+                result = result == null ? square : result.multiply(square);
+            }
+            if (e > 1) {
+                square = square.multiply(square);
+            }
+        }
+        return result == null ? identity() : result;
     }
 
+    /**
+     * Returns the identity matrix with the size of {@code this}
+     *
+     * @return identity matrix
+     * @since 0.0.1
+     */
+    protected abstract @NotNull M identity();
+
     /**
      * Calculates the negated
      *
@@ -253,4 +329,132 @@ public abstract class AbstractMatrix<E extends Number, V extends AbstractVector<
     public final @NotNull String toString() {
         return getClass().getSimpleName() + "{entries=" + entries + "}";
     }
+
+    /**
+     * Builder for matrices
+     *
+     * @param <E> element
+     * @param <M> matrix
+     * @param <B> builder
+     * @since 0.0.1
+     */
+    public abstract static class AbstractMatrixBuilder
+        <E extends Number, M extends AbstractMatrix<E, ?, M, ?>, B extends AbstractMatrixBuilder<E, M, B>> implements
+        Builder<M> {
+        private final int rowSize;
+        private final int columnSize;
+
+        /**
+         * Entries in row-major order with null for absentees
+         *
+         * @since 0.0.1
+         */
+        private final @NotNull List<@Nullable MatrixEntry<@NotNull E>> entries;
+
+        private @NotNull BiFunction<@NotNull Integer, @NotNull Integer, @NotNull E> computationOfAbsentees;
+
+        /**
+         * Constructor
+         *
+         * @param rowSize row size
+         * @param columnSize column size
+         * @param computationOfAbsentees computation of absentees from row and column index
+         * @throws IllegalArgumentException when {@code rowSize < 1}
+         * @throws IllegalArgumentException when {@code columnSize < 1}
+         * @throws NullPointerException when {@code computationOfAbsentees == null}
+         * @since 0.0.1
+         */
+        protected AbstractMatrixBuilder(
+            final int rowSize,
+            final int columnSize,
+            final @NotNull BiFunction<@NotNull Integer, @NotNull Integer, @NotNull E> computationOfAbsentees
+        ) {
+            checkArgument(rowSize > 0, "expected rowSize > 0 but rowSize = %s", rowSize);
+            checkArgument(columnSize > 0, "expected columnSize > 0 but columnSize = %s", columnSize);
+            this.rowSize = rowSize;
+            this.columnSize = columnSize;
+            entries = new ArrayList<>(Collections.nCopies(Math.multiplyExact(rowSize, columnSize), null));
+            this.computationOfAbsentees = requireNonNull(computationOfAbsentees, "computationOfAbsentees");
+        }
+
+        /**
+         * Sets element
+         *
+         * @param rowIndex row index
+         * @param columnIndex column index
+         * @param element element
+         * @return {@code this}
+         * @throws IllegalArgumentException when {@code rowIndex < 1 || rowIndex > rowSize}
+         * @throws IllegalArgumentException when {@code columnIndex < 1 || columnIndex > columnSize}
+         * @throws IllegalArgumentException when row and column index already exist
+         * @throws NullPointerException when {@code element == null}
+         * @since 0.0.1
+         */
+        @SuppressWarnings("unchecked")
+        public final @NotNull B set(final int rowIndex, final int columnIndex, final @NotNull E element) {
+            checkArgument(rowIndex > 0 && rowIndex <= rowSize, "0 < rowIndex <= rowSize expected but rowIndex = %s",
+                rowIndex);
+            checkArgument(columnIndex > 0 && columnIndex <= columnSize,
+                "0 < columnIndex <= columnSize expected but columnIndex = %s", columnIndex);
+            final var position = (rowIndex - 1) * columnSize + columnIndex - 1;
+            checkArgument(entries.get(position) == null, "row and column index already exist");
+            requireNonNull(element, "element");
+            entries.set(position, new MatrixEntry<>(rowIndex, columnIndex, element));
+            return (B) this;
+        }
+
+        /**
+         * Sets computation of absentees
+         *
+         * @param newComputationOfAbsentees computation of absentees from row and column index
+         * @return {@code this}
+         * @since 0.0.1
+         */
+        @SuppressWarnings("unchecked")
+        public final @NotNull B computationOfAbsentees(
+            final @NotNull BiFunction<@NotNull Integer, @NotNull Integer, @NotNull E> newComputationOfAbsentees) {
+            computationOfAbsentees = requireNonNull(newComputationOfAbsentees, "newComputationOfAbsentees");
+            return (B) this;
+        }
+
+        /**
+         * Row size
+         *
+         * @return row size
+         * @since 0.0.1
+         */
+        protected final int getRowSize() {
+            return rowSize;
+        }
+
+        /**
+         * Column size
+         *
+         * @return column size
+         * @since 0.0.1
+         */
+        protected final int getColumnSize() {
+            return columnSize;
+        }
+
+        /**
+         * Computes entries
+         *
+         * @return entries
+         * @since 0.0.1
+         */
+        protected @NotNull List<@NotNull MatrixEntry<@NotNull E>> computeEntries() {
+            return IntStream.range(0, entries.size()).mapToObj(i -> {
+                final var entry = entries.get(i);
+                return entry != null ? entry : new MatrixEntry<>(i / columnSize + 1, i % columnSize + 1,
+                    computationOfAbsentees.apply(i / columnSize + 1, i % columnSize + 1));
+            }).toList();
+        }
+
+        @Override
+        public final @NotNull String toString() {
+            return getClass().getSimpleName() + "{rowSize=" + rowSize + ", columnSize=" + columnSize + ", entries="
+                + entries.stream().filter(Objects::nonNull).toList() + "}";
+        }
+    }
 }
@@ -0,0 +1,243 @@
+package reciprocal.linear.matrix;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.linear.vector.BigDecimalVector;
+import reciprocal.linear.vector.DoubleVector;
+import reciprocal.linear.vector.LongVector;
+
+/**
+ * Base class for sparse matrices which store their non-zero elements as
+ * doubles in compressed form
+ * <p>
+ * Unlike {@link AbstractMatrix} only the non-zero elements are stored, so that
+ * the memory and the steps of a matrix-vector product are proportional to
+ * their number. Products with {@link BigDecimalVector BigDecimalVectors} are
+ * exact with the decimal representations of the values.
+ *
+ * @since 0.0.1
+ */
+public abstract class AbstractSparseMatrix implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int rowSize;
+    private final int columnSize;
+
+    /**
+     * Storage
+     *
+     * @since 0.0.1
+     */
+    private final @NotNull CompressedStorage storage;
+
+    AbstractSparseMatrix(final int rowSize, final int columnSize, final @NotNull CompressedStorage storage) {
+        this.rowSize = rowSize;
+        this.columnSize = columnSize;
+        this.storage = storage;
+    }
+
+    /**
+     * Row size
+     *
+     * @return row size
+     * @since 0.0.1
+     */
+    public final int getRowSize() {
+        return rowSize;
+    }
+
+    /**
+     * Column size
+     *
+     * @return column size
+     * @since 0.0.1
+     */
+    public final int getColumnSize() {
+        return columnSize;
+    }
+
+    /**
+     * Returns the number of stored elements
+     *
+     * @return number of stored elements
+     * @since 0.0.1
+     */
+    public final int getNonZeroCount() {
+        return storage.values().length;
+    }
+
+    /**
+     * Returns the element on the row and column index
+     *
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return element or 0 when it is not stored
+     * @throws IllegalArgumentException when {@code rowIndex < 1 || rowIndex > rowSize}
+     * @throws IllegalArgumentException when {@code columnIndex < 1 || columnIndex > columnSize}
+     * @since 0.0.1
+     */
+    public final double getElement(final int rowIndex, final int columnIndex) {
+        checkArgument(rowIndex > 0 && rowIndex <= rowSize, "0 < rowIndex <= %s expected but rowIndex = %s", rowSize,
+            rowIndex);
+        checkArgument(columnIndex > 0 && columnIndex <= columnSize,
+            "0 < columnIndex <= %s expected but columnIndex = %s", columnSize, columnIndex);
+        return getStoredElement(rowIndex - 1, columnIndex - 1);
+    }
+
+    /**
+     * Calculates the product of this and the vector
+     * <p>
+     * Neither the vector nor the product are boxed, so that repeated products
+     * like in iterative solvers allocate only the product.
+     *
+     * @param vector vector
+     * @return product
+     * @throws NullPointerException when {@code vector == null}
+     * @throws IllegalArgumentException when {@code columnSize != vector.length}
+     * @since 0.0.1
+     */
+    public final double @NotNull [] multiply(final double @NotNull [] vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize == vector.length, "equal sizes expected but %s != %s", columnSize, vector.length);
+        return product(vector);
+    }
+
+    /**
+     * Calculates the product of this and the vector
+     *
+     * @param vector vector
+     * @return product
+     * @throws NullPointerException when {@code vector == null}
+     * @throws IllegalArgumentException when {@code columnSize != vector.size}
+     * @since 0.0.1
+     */
+    public final @NotNull DoubleVector multiply(final @NotNull DoubleVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize == vector.getSize(), "equal sizes expected but %s != %s", columnSize,
+            vector.getSize());
+        final var product = product(vector.getElements().mapToDouble(Double::doubleValue).toArray());
+        return DoubleVector.ofSize(rowSize).computationOfAbsentees(i -> product[i - 1]).build();
+    }
+
+    /**
+     * Calculates the product of this and the vector
+     * <p>
+     * The elements are converted to doubles, so that elements with an absolute
+     * value greater than {@code 2^53} lose precision.
+     *
+     * @param vector vector
+     * @return product
+     * @throws NullPointerException when {@code vector == null}
+     * @throws IllegalArgumentException when {@code columnSize != vector.size}
+     * @since 0.0.1
+     */
+    public final @NotNull DoubleVector multiply(final @NotNull LongVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize == vector.getSize(), "equal sizes expected but %s != %s", columnSize,
+            vector.getSize());
+        final var product = product(vector.getElements().mapToDouble(Long::doubleValue).toArray());
+        return DoubleVector.ofSize(rowSize).computationOfAbsentees(i -> product[i - 1]).build();
+    }
+
+    /**
+     * Calculates the exact product of this and the vector
+     * <p>
+     * Infinite and NaN elements have no decimal representation, so that they
+     * are rejected.
+     *
+     * @param vector vector
+     * @return product
+     * @throws NullPointerException when {@code vector == null}
+     * @throws IllegalArgumentException when {@code columnSize != vector.size}
+     * @throws ArithmeticException when this contains an infinite or NaN element
+     * @since 0.0.1
+     */
+    public final @NotNull BigDecimalVector multiply(final @NotNull BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize == vector.getSize(), "equal sizes expected but %s != %s", columnSize,
+            vector.getSize());
+        for (final var value : storage.values()) {
+            if (!Double.isFinite(value)) {
+                throw new ArithmeticException("finite elements expected but this contains " + value);
+            }
+        }
+        final var product = product(vector.getElements().toArray(BigDecimal[]::new));
+        return BigDecimalVector.ofSize(rowSize).computationOfAbsentees(i -> product[i - 1]).build();
+    }
+
+    /**
+     * Calculates the transpose without copying the storage
+     *
+     * @return transpose in the other format
+     * @since 0.0.1
+     */
+    public abstract @NotNull AbstractSparseMatrix transpose();
+
+    /**
+     * Storage
+     *
+     * @return storage
+     * @since 0.0.1
+     */
+    final @NotNull CompressedStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the stored element
+     *
+     * @param row row from 0
+     * @param column column from 0
+     * @return element or 0
+     * @since 0.0.1
+     */
+    abstract double getStoredElement(int row, int column);
+
+    /**
+     * Calculates the product of this and the vector
+     *
+     * @param vector vector
+     * @return product
+     * @since 0.0.1
+     */
+    abstract double @NotNull [] product(double @NotNull [] vector);
+
+    /**
+     * Calculates the product of this and the vector
+     *
+     * @param vector vector
+     * @return product
+     * @since 0.0.1
+     */
+    abstract @NotNull BigDecimal @NotNull [] product(@NotNull BigDecimal @NotNull [] vector);
+
+    @Override
+    public final int hashCode() {
+        return 31 * (31 * rowSize + columnSize) + storage.hashCode();
+    }
+
+    @Override
+    public final boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final var other = (AbstractSparseMatrix) obj;
+        return rowSize == other.rowSize && columnSize == other.columnSize && storage.equals(other.storage);
+    }
+
+    @Override
+    public final @NotNull String toString() {
+        return getClass().getSimpleName() + "{rowSize=" + rowSize + ", columnSize=" + columnSize + ", storage="
+            + storage + "}";
+    }
+}
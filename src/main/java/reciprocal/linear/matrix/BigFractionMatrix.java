@@ -0,0 +1,198 @@
+package reciprocal.linear.matrix;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.linear.vector.BigFractionVector;
+import reciprocal.number.fraction.BigFraction;
+
+/**
+ * Immutable implementation of a matrix which uses {@link BigFraction} as type for its elements
+ * <p>
+ * Linear systems are solved and matrices are inverted exactly by Gauss-Jordan
+ * elimination with a pivot that limits the fill-in of sparse matrices.
+ *
+ * @since 0.0.1
+ */
+public final class BigFractionMatrix extends AbstractMatrix<@NotNull BigFraction, @NotNull BigFractionVector,
+    @NotNull BigFractionMatrix, @NotNull BigFraction> {
+    BigFractionMatrix(
+        final int rowSize,
+        final int columnSize,
+        final @NotNull List<@NotNull MatrixEntry<@NotNull BigFraction>> entries
+    ) {
+        super(rowSize, columnSize, entries);
+    }
+
+    /**
+     * Returns {@link BigFractionMatrixBuilder}
+     *
+     * @param rowSize row size
+     * @param columnSize column size
+     * @return {@link BigFractionMatrixBuilder}
+     * @throws IllegalArgumentException when {@code rowSize < 1}
+     * @throws IllegalArgumentException when {@code columnSize < 1}
+     * @since 0.0.1
+     */
+    public static BigFractionMatrixBuilder ofSize(final int rowSize, final int columnSize) {
+        return new BigFractionMatrixBuilder(rowSize, columnSize);
+    }
+
+    @Override
+    public boolean isUpperTriangular() {
+        return getEntries().filter(e -> e.rowIndex() > e.columnIndex()).allMatch(e -> e.element().getSignum() == 0);
+    }
+
+    @Override
+    public boolean isLowerTriangular() {
+        return getEntries().filter(e -> e.rowIndex() < e.columnIndex()).allMatch(e -> e.element().getSignum() == 0);
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return isSquare() && getEntries().allMatch(e -> e.rowIndex() == e.columnIndex()
+            ? e.element().compareTo(BigFraction.ONE) == 0 : e.element().getSignum() == 0);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return isSquare() && determinant().getSignum() != 0;
+    }
+
+    @Override
+    public @NotNull BigFractionMatrix negate() {
+        return new BigFractionMatrix(getRowSize(), getColumnSize(),
+            getEntries().map(e -> e.withElement(e.element().negate())).toList());
+    }
+
+    @Override
+    public @NotNull BigFractionMatrix transpose() {
+        return new BigFractionMatrix(getColumnSize(), getRowSize(),
+            getEntries().map(e -> new MatrixEntry<>(e.columnIndex(), e.rowIndex(), e.element())).toList());
+    }
+
+    @Override
+    public boolean equalsByComparing(final @NotNull BigFractionMatrix other) {
+        requireNonNull(other, "other");
+        return getRowSize() == other.getRowSize() && getColumnSize() == other.getColumnSize()
+            && getEntries().allMatch(e -> e.element().compareTo(other.getElement(e.rowIndex(), e.columnIndex())) == 0);
+    }
+
+    @Override
+    public @NotNull BigFractionMatrix multiply(final @NotNull BigFractionMatrix factor) {
+        requireNonNull(factor, "factor");
+        checkArgument(getColumnSize() == factor.getRowSize(), "columnSize == factor.rowSize expected but %s != %s",
+            getColumnSize(), factor.getRowSize());
+        final var a = toArray();
+        final var b = factor.toArray();
+        // every element is summed in a tree and reduced once
+        return ofSize(getRowSize(), factor.getColumnSize()).computationOfAbsentees((i, j) -> BigFraction.sum(
+            IntStream.range(0, b.length).filter(k -> a[i - 1][k].getSignum() != 0 && b[k][j - 1].getSignum() != 0)
+                .mapToObj(k -> a[i - 1][k].multiply(b[k][j - 1])).toList()).normalize()).build();
+    }
+
+    /**
+     * Calculates the power by repeated squaring where a negative exponent
+     * raises the inverse
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when {@code this} is not square
+     * @throws IllegalStateException when {@code exponent < 0} and {@code this} is not invertible
+     * @since 0.0.1
+     */
+    @Override
+    public @NotNull BigFractionMatrix pow(final int exponent) {
+        if (exponent >= 0) {
+            return super.pow(exponent);
+        }
+        // -(exponent + 1) does not overflow for Integer.MIN_VALUE
+        final var inverse = invert();
+        return inverse.pow(-(exponent + 1)).multiply(inverse);
+    }
+
+    @Override
+    protected @NotNull BigFractionMatrix identity() {
+        return ofSize(getRowSize(), getColumnSize())
+            .computationOfAbsentees((i, j) -> i.equals(j) ? BigFraction.ONE : BigFraction.ZERO).build();
+    }
+
+    /**
+     * Calculates the determinant
+     *
+     * @return determinant
+     * @throws IllegalStateException when {@code this} is not square
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction determinant() {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        return Elimination.determinant(toArray());
+    }
+
+    /**
+     * Solves {@code this * x = b} exactly
+     *
+     * @param b b
+     * @return x
+     * @throws NullPointerException when {@code b == null}
+     * @throws IllegalStateException when {@code this} is not square
+     * @throws IllegalArgumentException when {@code rowSize != b.size}
+     * @throws IllegalStateException when {@code this} is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionVector solve(final @NotNull BigFractionVector b) {
+        requireNonNull(b, "b");
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        checkArgument(getRowSize() == b.getSize(), "equal sizes expected but %s != %s", getRowSize(), b.getSize());
+        final var x = Elimination.solve(toArray(), b.getElements().map(e -> new BigFraction[]{e})
+            .toArray(BigFraction[][]::new));
+        checkState(x != null, "this expected to be invertible but this = %s", this);
+        final var builder = BigFractionVector.ofSize(getRowSize());
+        for (var i = 0; i < x.length; i++) {
+            builder.set(i + 1, x[i][0]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Calculates the inverse exactly
+     *
+     * @return inverse
+     * @throws IllegalStateException when {@code this} is not square
+     * @throws IllegalStateException when {@code this} is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionMatrix invert() {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        final var x = Elimination.solve(toArray(), identity().toArray());
+        checkState(x != null, "this expected to be invertible but this = %s", this);
+        return ofSize(getRowSize(), getColumnSize()).computationOfAbsentees((i, j) -> x[i - 1][j - 1]).build();
+    }
+
+    private @NotNull BigFraction @NotNull [] @NotNull [] toArray() {
+        final var array = new BigFraction[getRowSize()][getColumnSize()];
+        getEntries().forEach(e -> array[e.rowIndex() - 1][e.columnIndex() - 1] = e.element());
+        return array;
+    }
+
+    /**
+     * Builder for {@link BigFractionMatrix BigFractionMatrices}
+     *
+     * @since 0.0.1
+     */
+    public static final class BigFractionMatrixBuilder extends
+        AbstractMatrixBuilder<@NotNull BigFraction, @NotNull BigFractionMatrix, @NotNull BigFractionMatrixBuilder> {
+        BigFractionMatrixBuilder(final int rowSize, final int columnSize) {
+            super(rowSize, columnSize, (i, j) -> BigFraction.ZERO);
+        }
+
+        @Override
+        public @NotNull BigFractionMatrix build() {
+            return new BigFractionMatrix(getRowSize(), getColumnSize(), computeEntries());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package reciprocal.linear.matrix;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.linear.vector.BigFractionVector;
+import reciprocal.linear.vector.BigIntegerVector;
+import reciprocal.number.fraction.BigFraction;
+
+/**
+ * Immutable implementation of a matrix which uses {@link BigInteger} as type for its elements
+ * <p>
+ * Linear systems are solved, matrices are inverted and determinants are
+ * calculated exactly by fraction-free elimination, so that no fractions are
+ * needed until the solution.
+ *
+ * @since 0.0.1
+ */
+public final class BigIntegerMatrix extends AbstractMatrix<@NotNull BigInteger, @NotNull BigIntegerVector,
+    @NotNull BigIntegerMatrix, @NotNull BigDecimal> {
+    BigIntegerMatrix(
+        final int rowSize,
+        final int columnSize,
+        final @NotNull List<@NotNull MatrixEntry<@NotNull BigInteger>> entries
+    ) {
+        super(rowSize, columnSize, entries);
+    }
+
+    /**
+     * Returns {@link BigIntegerMatrixBuilder}
+     *
+     * @param rowSize row size
+     * @param columnSize column size
+     * @return {@link BigIntegerMatrixBuilder}
+     * @throws IllegalArgumentException when {@code rowSize < 1}
+     * @throws IllegalArgumentException when {@code columnSize < 1}
+     * @since 0.0.1
+     */
+    public static BigIntegerMatrixBuilder ofSize(final int rowSize, final int columnSize) {
+        return new BigIntegerMatrixBuilder(rowSize, columnSize);
+    }
+
+    @Override
+    public boolean isUpperTriangular() {
+        return getEntries().filter(e -> e.rowIndex() > e.columnIndex()).allMatch(e -> e.element().signum() == 0);
+    }
+
+    @Override
+    public boolean isLowerTriangular() {
+        return getEntries().filter(e -> e.rowIndex() < e.columnIndex()).allMatch(e -> e.element().signum() == 0);
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return isSquare() && getEntries().allMatch(e -> e.rowIndex() == e.columnIndex()
+            ? e.element().equals(BigInteger.ONE) : e.element().signum() == 0);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return isSquare() && determinant().signum() != 0;
+    }
+
+    @Override
+    public @NotNull BigIntegerMatrix negate() {
+        return new BigIntegerMatrix(getRowSize(), getColumnSize(),
+            getEntries().map(e -> e.withElement(e.element().negate())).toList());
+    }
+
+    @Override
+    public @NotNull BigIntegerMatrix transpose() {
+        return new BigIntegerMatrix(getColumnSize(), getRowSize(),
+            getEntries().map(e -> new MatrixEntry<>(e.columnIndex(), e.rowIndex(), e.element())).toList());
+    }
+
+    @Override
+    public boolean equalsByComparing(final @NotNull BigIntegerMatrix other) {
+        requireNonNull(other, "other");
+        return equals(other);
+    }
+
+    @Override
+    public @NotNull BigIntegerMatrix multiply(final @NotNull BigIntegerMatrix factor) {
+        requireNonNull(factor, "factor");
+        checkArgument(getColumnSize() == factor.getRowSize(), "columnSize == factor.rowSize expected but %s != %s",
+            getColumnSize(), factor.getRowSize());
+        final var a = toArray();
+        final var b = factor.toArray();
+        final var product = new BigInteger[getRowSize()][factor.getColumnSize()];
+        for (var i = 0; i < a.length; i++) {
+            Arrays.fill(product[i], BigInteger.ZERO);
+            for (var k = 0; k < b.length; k++) {
+                if (a[i][k].signum() == 0) {
+                    continue;
+                }
+                for (var j = 0; j < product[i].length; j++) {
+                    product[i][j] = product[i][j].add(a[i][k].multiply(b[k][j]));
+                }
+            }
+        }
+        return ofSize(getRowSize(), factor.getColumnSize()).computationOfAbsentees((i, j) -> product[i - 1][j - 1])
+            .build();
+    }
+
+    @Override
+    protected @NotNull BigIntegerMatrix identity() {
+        return ofSize(getRowSize(), getColumnSize())
+            .computationOfAbsentees((i, j) -> i.equals(j) ? BigInteger.ONE : BigInteger.ZERO).build();
+    }
+
+    /**
+     * Calculates the determinant
+     *
+     * @return determinant
+     * @throws IllegalStateException when {@code this} is not square
+     * @since 0.0.1
+     */
+    public @NotNull BigInteger determinant() {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        return Elimination.determinant(toArray());
+    }
+
+    /**
+     * Solves {@code this * x = b} exactly
+     *
+     * @param b b
+     * @return x
+     * @throws NullPointerException when {@code b == null}
+     * @throws IllegalStateException when {@code this} is not square
+     * @throws IllegalArgumentException when {@code rowSize != b.size}
+     * @throws IllegalStateException when {@code this} is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionVector solve(final @NotNull BigIntegerVector b) {
+        requireNonNull(b, "b");
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        checkArgument(getRowSize() == b.getSize(), "equal sizes expected but %s != %s", getRowSize(), b.getSize());
+        final var x = Elimination.solve(toArray(), b.getElements().map(e -> new BigInteger[]{e})
+            .toArray(BigInteger[][]::new));
+        checkState(x != null, "this expected to be invertible but this = %s", this);
+        final var builder = BigFractionVector.ofSize(getRowSize());
+        for (var i = 0; i < x.length; i++) {
+            builder.set(i + 1, x[i][0]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Calculates the inverse exactly
+     *
+     * @return inverse
+     * @throws IllegalStateException when {@code this} is not square
+     * @throws IllegalStateException when {@code this} is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionMatrix invert() {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        final var x = Elimination.solve(toArray(), identity().toArray());
+        checkState(x != null, "this expected to be invertible but this = %s", this);
+        return BigFractionMatrix.ofSize(getRowSize(), getColumnSize()).computationOfAbsentees((i, j) -> x[i - 1][j - 1])
+            .build();
+    }
+
+    private @NotNull BigInteger @NotNull [] @NotNull [] toArray() {
+        final var array = new BigInteger[getRowSize()][getColumnSize()];
+        getEntries().forEach(e -> array[e.rowIndex() - 1][e.columnIndex() - 1] = e.element());
+        return array;
+    }
+
+    /**
+     * Builder for {@link BigIntegerMatrix BigIntegerMatrices}
+     *
+     * @since 0.0.1
+     */
+    public static final class BigIntegerMatrixBuilder extends
+        AbstractMatrixBuilder<@NotNull BigInteger, @NotNull BigIntegerMatrix, @NotNull BigIntegerMatrixBuilder> {
+        BigIntegerMatrixBuilder(final int rowSize, final int columnSize) {
+            super(rowSize, columnSize, (i, j) -> BigInteger.ZERO);
+        }
+
+        @Override
+        public @NotNull BigIntegerMatrix build() {
+            return new BigIntegerMatrix(getRowSize(), getColumnSize(), computeEntries());
+        }
+    }
+}
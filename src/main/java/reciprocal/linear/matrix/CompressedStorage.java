@@ -0,0 +1,154 @@
+package reciprocal.linear.matrix;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compressed storage of the non-zero elements of a sparse matrix
+ * <p>
+ * The elements of the major index {@code i} are at the positions
+ * {@code pointers[i]} to {@code pointers[i + 1] - 1} of the minor indices and
+ * the values, where the minor indices are ascending. The major index is the
+ * row index of compressed sparse rows and the column index of compressed
+ * sparse columns, so that the storage of a matrix in one format is the storage
+ * of its transpose in the other one.
+ *
+ * @param pointers pointers with the major size + 1 as length
+ * @param indices minor indices
+ * @param values values
+ * @since 0.0.1
+ */
+record CompressedStorage(int @NotNull [] pointers, int @NotNull [] indices, double @NotNull [] values)
+    implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Compresses coordinates, sums the values of equal coordinates and drops
+     * the sums equal to 0
+     * <p>
+     * The coordinates are sorted by two stable counting sorts, first by the
+     * minor and then by the major index, so that it takes
+     * {@code O(size + majorSize + minorSize)} steps.
+     *
+     * @param majors major indices from 0
+     * @param minors minor indices from 0
+     * @param values values
+     * @param size number of coordinates
+     * @param majorSize major size
+     * @param minorSize minor size
+     * @return {@link CompressedStorage}
+     * @since 0.0.1
+     */
+    static @NotNull CompressedStorage of(
+        final int @NotNull [] majors,
+        final int @NotNull [] minors,
+        final double @NotNull [] values,
+        final int size,
+        final int majorSize,
+        final int minorSize
+    ) {
+        final var identity = new int[size];
+        Arrays.setAll(identity, i -> i);
+        final var order = sort(majors, majorSize, sort(minors, minorSize, identity));
+        final var sumMajors = new int[size];
+        final var indices = new int[size];
+        final var sums = new double[size];
+        var count = 0;
+        for (final var position : order) {
+            if (count > 0 && sumMajors[count - 1] == majors[position] && indices[count - 1] == minors[position]) {
+                sums[count - 1] += values[position];
+                continue;
+            }
+            sumMajors[count] = majors[position];
+            indices[count] = minors[position];
+            sums[count] = values[position];
+            count++;
+        }
+        // explicit zeros and sums which cancel out are not stored
+        final var pointers = new int[majorSize + 1];
+        var nonZeroCount = 0;
+        for (var k = 0; k < count; k++) {
+            if (sums[k] != 0.0D) {
+                indices[nonZeroCount] = indices[k];
+                sums[nonZeroCount] = sums[k];
+                pointers[sumMajors[k] + 1]++;
+                nonZeroCount++;
+            }
+        }
+        for (var i = 0; i < majorSize; i++) {
+            pointers[i + 1] += pointers[i];
+        }
+        return new CompressedStorage(pointers, Arrays.copyOf(indices, nonZeroCount),
+            Arrays.copyOf(sums, nonZeroCount));
+    }
+
+    /**
+     * Returns the storage of the matrix in the other format
+     *
+     * @param minorSize minor size
+     * @return {@link CompressedStorage}
+     * @since 0.0.1
+     */
+    @NotNull CompressedStorage convert(final int minorSize) {
+        final var majors = new int[indices.length];
+        for (var i = 0; i < pointers.length - 1; i++) {
+            Arrays.fill(majors, pointers[i], pointers[i + 1], i);
+        }
+        return of(indices, majors, values, indices.length, minorSize, pointers.length - 1);
+    }
+
+    /**
+     * Returns the value on the major and minor index
+     *
+     * @param major major index from 0
+     * @param minor minor index from 0
+     * @return value or 0
+     * @since 0.0.1
+     */
+    double get(final int major, final int minor) {
+        final var position = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return position < 0 ? 0.0D : values[position];
+    }
+
+    private static int @NotNull [] sort(final int @NotNull [] keys, final int keySize, final int @NotNull [] order) {
+        final var starts = new int[keySize + 1];
+        for (final var position : order) {
+            starts[keys[position] + 1]++;
+        }
+        for (var i = 0; i < keySize; i++) {
+            starts[i + 1] += starts[i];
+        }
+        final var sorted = new int[order.length];
+        for (final var position : order) {
+            sorted[starts[keys[position]]++] = position;
+        }
+        return sorted;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompressedStorage other)) {
+            return false;
+        }
+        return Arrays.equals(pointers, other.pointers) && Arrays.equals(indices, other.indices)
+            && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(pointers) + Arrays.hashCode(indices)) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CompressedStorage{pointers=" + Arrays.toString(pointers) + ", indices=" + Arrays.toString(indices)
+            + ", values=" + Arrays.toString(values) + "}";
+    }
+}
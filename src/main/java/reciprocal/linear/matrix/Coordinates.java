@@ -0,0 +1,110 @@
+package reciprocal.linear.matrix;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Growable list of the coordinates and values of a sparse matrix
+ *
+ * @since 0.0.1
+ */
+final class Coordinates {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int rowSize;
+    private final int columnSize;
+    private int @NotNull [] rows = new int[INITIAL_CAPACITY];
+    private int @NotNull [] columns = new int[INITIAL_CAPACITY];
+    private double @NotNull [] values = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param rowSize row size
+     * @param columnSize column size
+     * @throws IllegalArgumentException when {@code rowSize < 1}
+     * @throws IllegalArgumentException when {@code columnSize < 1}
+     * @since 0.0.1
+     */
+    Coordinates(final int rowSize, final int columnSize) {
+        checkArgument(rowSize > 0, "expected rowSize > 0 but rowSize = %s", rowSize);
+        checkArgument(columnSize > 0, "expected columnSize > 0 but columnSize = %s", columnSize);
+        this.rowSize = rowSize;
+        this.columnSize = columnSize;
+    }
+
+    /**
+     * Adds a value
+     *
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @param value value
+     * @throws IllegalArgumentException when {@code rowIndex < 1 || rowIndex > rowSize}
+     * @throws IllegalArgumentException when {@code columnIndex < 1 || columnIndex > columnSize}
+     * @since 0.0.1
+     */
+    void add(final int rowIndex, final int columnIndex, final double value) {
+        checkArgument(rowIndex > 0 && rowIndex <= rowSize, "0 < rowIndex <= %s expected but rowIndex = %s", rowSize,
+            rowIndex);
+        checkArgument(columnIndex > 0 && columnIndex <= columnSize,
+            "0 < columnIndex <= %s expected but columnIndex = %s", columnSize, columnIndex);
+        if (size == rows.length) {
+            final var capacity = Math.max(size + 1, size + (size >> 1));
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        rows[size] = rowIndex - 1;
+        columns[size] = columnIndex - 1;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * Row size
+     *
+     * @return row size
+     * @since 0.0.1
+     */
+    int getRowSize() {
+        return rowSize;
+    }
+
+    /**
+     * Column size
+     *
+     * @return column size
+     * @since 0.0.1
+     */
+    int getColumnSize() {
+        return columnSize;
+    }
+
+    /**
+     * Compresses the rows
+     *
+     * @return {@link CompressedStorage} with rows as major indices
+     * @since 0.0.1
+     */
+    @NotNull CompressedStorage compressRows() {
+        return CompressedStorage.of(rows, columns, values, size, rowSize, columnSize);
+    }
+
+    /**
+     * Compresses the columns
+     *
+     * @return {@link CompressedStorage} with columns as major indices
+     * @since 0.0.1
+     */
+    @NotNull CompressedStorage compressColumns() {
+        return CompressedStorage.of(columns, rows, values, size, columnSize, rowSize);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Coordinates{rowSize=" + rowSize + ", columnSize=" + columnSize + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,139 @@
+package reciprocal.linear.matrix;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import org.apache.commons.lang3.builder.Builder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable sparse matrix in compressed sparse column format
+ * <p>
+ * Matrix-vector products scatter the columns into the product. Like
+ * {@link CsrMatrix} they multiply every stored element, so that an infinite
+ * element times 0 yields NaN in both formats.
+ *
+ * @since 0.0.1
+ */
+public final class CscMatrix extends AbstractSparseMatrix {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    CscMatrix(final int rowSize, final int columnSize, final @NotNull CompressedStorage storage) {
+        super(rowSize, columnSize, storage);
+    }
+
+    /**
+     * Returns {@link CscMatrixBuilder}
+     *
+     * @param rowSize row size
+     * @param columnSize column size
+     * @return {@link CscMatrixBuilder}
+     * @throws IllegalArgumentException when {@code rowSize < 1}
+     * @throws IllegalArgumentException when {@code columnSize < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull CscMatrixBuilder ofSize(final int rowSize, final int columnSize) {
+        return new CscMatrixBuilder(rowSize, columnSize);
+    }
+
+    /**
+     * Calculates the transpose in {@code O(1)}
+     *
+     * @return transpose
+     * @since 0.0.1
+     */
+    @Override
+    public @NotNull CsrMatrix transpose() {
+        return new CsrMatrix(getColumnSize(), getRowSize(), getStorage());
+    }
+
+    /**
+     * Converts this to compressed sparse row format in
+     * {@code O(nonZeroCount + rowSize + columnSize)}
+     *
+     * @return {@link CsrMatrix}
+     * @since 0.0.1
+     */
+    public @NotNull CsrMatrix toCsr() {
+        return new CsrMatrix(getRowSize(), getColumnSize(), getStorage().convert(getRowSize()));
+    }
+
+    @Override
+    double getStoredElement(final int row, final int column) {
+        return getStorage().get(column, row);
+    }
+
+    @Override
+    double @NotNull [] product(final double @NotNull [] vector) {
+        final var pointers = getStorage().pointers();
+        final var indices = getStorage().indices();
+        final var values = getStorage().values();
+        final var product = new double[getRowSize()];
+        for (var j = 0; j < getColumnSize(); j++) {
+            final var element = vector[j];
+            for (var k = pointers[j]; k < pointers[j + 1]; k++) {
+                product[indices[k]] += values[k] * element;
+            }
+        }
+        return product;
+    }
+
+    @Override
+    @NotNull BigDecimal @NotNull [] product(final @NotNull BigDecimal @NotNull [] vector) {
+        final var pointers = getStorage().pointers();
+        final var indices = getStorage().indices();
+        final var values = getStorage().values();
+        final var product = new BigDecimal[getRowSize()];
+        Arrays.fill(product, BigDecimal.ZERO);
+        for (var j = 0; j < getColumnSize(); j++) {
+            final var element = vector[j];
+            for (var k = pointers[j]; k < pointers[j + 1]; k++) {
+                product[indices[k]] = product[indices[k]].add(BigDecimal.valueOf(values[k]).multiply(element));
+            }
+        }
+        return product;
+    }
+
+    /**
+     * Builder for {@link CscMatrix CscMatrices} from coordinates
+     * <p>
+     * Values with equal coordinates are summed.
+     *
+     * @since 0.0.1
+     */
+    public static final class CscMatrixBuilder implements Builder<@NotNull CscMatrix> {
+        private final @NotNull Coordinates coordinates;
+
+        CscMatrixBuilder(final int rowSize, final int columnSize) {
+            coordinates = new Coordinates(rowSize, columnSize);
+        }
+
+        /**
+         * Adds the value to the element on the row and column index
+         *
+         * @param rowIndex row index
+         * @param columnIndex column index
+         * @param value value
+         * @return {@code this}
+         * @throws IllegalArgumentException when {@code rowIndex < 1 || rowIndex > rowSize}
+         * @throws IllegalArgumentException when {@code columnIndex < 1 || columnIndex > columnSize}
+         * @since 0.0.1
+         */
+        public @NotNull CscMatrixBuilder add(final int rowIndex, final int columnIndex, final double value) {
+            coordinates.add(rowIndex, columnIndex, value);
+            return this;
+        }
+
+        @Override
+        public @NotNull CscMatrix build() {
+            return new CscMatrix(coordinates.getRowSize(), coordinates.getColumnSize(),
+                coordinates.compressColumns());
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "CscMatrixBuilder{coordinates=" + coordinates + "}";
+        }
+    }
+}
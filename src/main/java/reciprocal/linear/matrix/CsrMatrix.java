@@ -0,0 +1,176 @@
+package reciprocal.linear.matrix;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.builder.Builder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable sparse matrix in compressed sparse row format
+ * <p>
+ * The rows of matrix-vector products are independent, so that large products
+ * are calculated in parallel on ranges of rows with about equal numbers of
+ * non-zero elements.
+ *
+ * @since 0.0.1
+ */
+public final class CsrMatrix extends AbstractSparseMatrix {
+    /**
+     * Minimum number of non-zero elements for parallel products
+     *
+     * @since 0.0.1
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final int PARTS_PER_THREAD = 4;
+
+    CsrMatrix(final int rowSize, final int columnSize, final @NotNull CompressedStorage storage) {
+        super(rowSize, columnSize, storage);
+    }
+
+    /**
+     * Returns {@link CsrMatrixBuilder}
+     *
+     * @param rowSize row size
+     * @param columnSize column size
+     * @return {@link CsrMatrixBuilder}
+     * @throws IllegalArgumentException when {@code rowSize < 1}
+     * @throws IllegalArgumentException when {@code columnSize < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull CsrMatrixBuilder ofSize(final int rowSize, final int columnSize) {
+        return new CsrMatrixBuilder(rowSize, columnSize);
+    }
+
+    /**
+     * Calculates the transpose in {@code O(1)}
+     *
+     * @return transpose
+     * @since 0.0.1
+     */
+    @Override
+    public @NotNull CscMatrix transpose() {
+        return new CscMatrix(getColumnSize(), getRowSize(), getStorage());
+    }
+
+    /**
+     * Converts this to compressed sparse column format in
+     * {@code O(nonZeroCount + rowSize + columnSize)}
+     *
+     * @return {@link CscMatrix}
+     * @since 0.0.1
+     */
+    public @NotNull CscMatrix toCsc() {
+        return new CscMatrix(getRowSize(), getColumnSize(), getStorage().convert(getColumnSize()));
+    }
+
+    @Override
+    double getStoredElement(final int row, final int column) {
+        return getStorage().get(row, column);
+    }
+
+    @Override
+    double @NotNull [] product(final double @NotNull [] vector) {
+        final var pointers = getStorage().pointers();
+        final var indices = getStorage().indices();
+        final var values = getStorage().values();
+        final var product = new double[getRowSize()];
+        forEachRowRange((from, to) -> {
+            for (var i = from; i < to; i++) {
+                var sum = 0.0D;
+                for (var k = pointers[i]; k < pointers[i + 1]; k++) {
+                    sum += values[k] * vector[indices[k]];
+                }
+                product[i] = sum;
+            }
+        });
+        return product;
+    }
+
+    @Override
+    @NotNull BigDecimal @NotNull [] product(final @NotNull BigDecimal @NotNull [] vector) {
+        final var pointers = getStorage().pointers();
+        final var indices = getStorage().indices();
+        final var values = getStorage().values();
+        final var product = new BigDecimal[getRowSize()];
+        forEachRowRange((from, to) -> {
+            for (var i = from; i < to; i++) {
+                var sum = BigDecimal.ZERO;
+                for (var k = pointers[i]; k < pointers[i + 1]; k++) {
+                    sum = sum.add(BigDecimal.valueOf(values[k]).multiply(vector[indices[k]]));
+                }
+                product[i] = sum;
+            }
+        });
+        return product;
+    }
+
+    private void forEachRowRange(final @NotNull RowRangeConsumer consumer) {
+        if (getNonZeroCount() < PARALLEL_THRESHOLD) {
+            consumer.accept(0, getRowSize());
+            return;
+        }
+        // the rows are partitioned by the pointers, so that all parts have about equal numbers of non-zero elements
+        final var pointers = getStorage().pointers();
+        final var parts = Math.min(getRowSize(), ForkJoinPool.getCommonPoolParallelism() * PARTS_PER_THREAD);
+        final var bounds = new int[parts + 1];
+        for (var part = 1; part < parts; part++) {
+            final var target = (int) ((long) getNonZeroCount() * part / parts);
+            final var position = Arrays.binarySearch(pointers, target);
+            bounds[part] = Math.max(bounds[part - 1], position < 0 ? -position - 1 : position);
+        }
+        bounds[parts] = getRowSize();
+        IntStream.range(0, parts).parallel().forEach(part -> consumer.accept(bounds[part], bounds[part + 1]));
+    }
+
+    @FunctionalInterface
+    private interface RowRangeConsumer {
+        void accept(int from, int to);
+    }
+
+    /**
+     * Builder for {@link CsrMatrix CsrMatrices} from coordinates
+     * <p>
+     * Values with equal coordinates are summed.
+     *
+     * @since 0.0.1
+     */
+    public static final class CsrMatrixBuilder implements Builder<@NotNull CsrMatrix> {
+        private final @NotNull Coordinates coordinates;
+
+        CsrMatrixBuilder(final int rowSize, final int columnSize) {
+            coordinates = new Coordinates(rowSize, columnSize);
+        }
+
+        /**
+         * Adds the value to the element on the row and column index
+         *
+         * @param rowIndex row index
+         * @param columnIndex column index
+         * @param value value
+         * @return {@code this}
+         * @throws IllegalArgumentException when {@code rowIndex < 1 || rowIndex > rowSize}
+         * @throws IllegalArgumentException when {@code columnIndex < 1 || columnIndex > columnSize}
+         * @since 0.0.1
+         */
+        public @NotNull CsrMatrixBuilder add(final int rowIndex, final int columnIndex, final double value) {
+            coordinates.add(rowIndex, columnIndex, value);
+            return this;
+        }
+
+        @Override
+        public @NotNull CsrMatrix build() {
+            return new CsrMatrix(coordinates.getRowSize(), coordinates.getColumnSize(), coordinates.compressRows());
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "CsrMatrixBuilder{coordinates=" + coordinates + "}";
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package reciprocal.linear.matrix;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.linear.vector.DoubleVector;
+
+/**
+ * Immutable implementation of a matrix which uses {@link Double} as type for its elements
+ * <p>
+ * The matrix exponential is calculated by scaling and squaring with a diagonal
+ * Pade approximant as described by Moler and Van Loan.
+ *
+ * @since 0.0.1
+ */
+public final class DoubleMatrix extends AbstractMatrix<@NotNull Double, @NotNull DoubleVector,
+    @NotNull DoubleMatrix, @NotNull Double> {
+    /**
+     * Degree of the Pade approximant of the exponential
+     *
+     * @since 0.0.1
+     */
+    private static final int PADE_DEGREE = 6;
+
+    /**
+     * Max norm of the scaled matrix for the Pade approximant
+     *
+     * @since 0.0.1
+     */
+    private static final double MAX_SCALED_NORM = 0.5D;
+
+    DoubleMatrix(
+        final int rowSize,
+        final int columnSize,
+        final @NotNull List<@NotNull MatrixEntry<@NotNull Double>> entries
+    ) {
+        super(rowSize, columnSize, entries);
+    }
+
+    /**
+     * Returns {@link DoubleMatrixBuilder}
+     *
+     * @param rowSize row size
+     * @param columnSize column size
+     * @return {@link DoubleMatrixBuilder}
+     * @throws IllegalArgumentException when {@code rowSize < 1}
+     * @throws IllegalArgumentException when {@code columnSize < 1}
+     * @since 0.0.1
+     */
+    public static DoubleMatrixBuilder ofSize(final int rowSize, final int columnSize) {
+        return new DoubleMatrixBuilder(rowSize, columnSize);
+    }
+
+    @Override
+    public boolean isUpperTriangular() {
+        return getEntries().filter(e -> e.rowIndex() > e.columnIndex()).allMatch(e -> e.element() == 0.0D);
+    }
+
+    @Override
+    public boolean isLowerTriangular() {
+        return getEntries().filter(e -> e.rowIndex() < e.columnIndex()).allMatch(e -> e.element() == 0.0D);
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return isSquare() && getEntries().allMatch(e -> e.rowIndex() == e.columnIndex()
+            ? e.element() == 1.0D : e.element() == 0.0D);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return isSquare() && determinant() != 0.0D;
+    }
+
+    @Override
+    public @NotNull DoubleMatrix negate() {
+        return new DoubleMatrix(getRowSize(), getColumnSize(),
+            getEntries().map(e -> e.withElement(-e.element())).toList());
+    }
+
+    @Override
+    public @NotNull DoubleMatrix transpose() {
+        return new DoubleMatrix(getColumnSize(), getRowSize(),
+            getEntries().map(e -> new MatrixEntry<>(e.columnIndex(), e.rowIndex(), e.element())).toList());
+    }
+
+    @Override
+    public boolean equalsByComparing(final @NotNull DoubleMatrix other) {
+        requireNonNull(other, "other");
+        return getRowSize() == other.getRowSize() && getColumnSize() == other.getColumnSize()
+            && getEntries().allMatch(e -> Double.compare(e.element(), other.getElement(e.rowIndex(),
+            e.columnIndex())) == 0);
+    }
+
+    @Override
+    public @NotNull DoubleMatrix multiply(final @NotNull DoubleMatrix factor) {
+        requireNonNull(factor, "factor");
+        checkArgument(getColumnSize() == factor.getRowSize(), "columnSize == factor.rowSize expected but %s != %s",
+            getColumnSize(), factor.getRowSize());
+        return of(multiply(toArray(), factor.toArray()));
+    }
+
+    /**
+     * Calculates the determinant by Gaussian elimination with partial pivoting
+     *
+     * @return determinant
+     * @throws IllegalStateException when {@code this} is not square
+     * @since 0.0.1
+     */
+    public double determinant() {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        return eliminate(toArray(), getRowSize());
+    }
+
+    /**
+     * Calculates the matrix exponential
+     * <p>
+     * {@code this} is scaled by a power of two {@code 2^s} to a norm of at
+     * most 1 / 2, where the diagonal Pade approximant of degree 6 is accurate
+     * to the precision of doubles, and the approximant is squared {@code s}
+     * times.
+     *
+     * @return matrix exponential
+     * @throws IllegalStateException when {@code this} is not square
+     * @since 0.0.1
+     */
+    public @NotNull DoubleMatrix exp() {
+        checkState(isSquare(), "this expected to be square but this = %s", this);
+        final var n = getRowSize();
+        final var scaled = toArray();
+        final var norm = norm(scaled);
+        final var squarings = norm > MAX_SCALED_NORM ? Math.getExponent(norm / MAX_SCALED_NORM) + 1 : 0;
+        for (final var row : scaled) {
+            for (var j = 0; j < n; j++) {
+                row[j] = Math.scalb(row[j], -squarings);
+            }
+        }
+        // N(X) = sum(c(k) * X^k) and D(X) = N(-X) with c(k) = c(k - 1) * (q - k + 1) / (k * (2 * q - k + 1))
+        final var numerator = identity(n);
+        final var denominator = identity(n);
+        var power = identity(n);
+        var coefficient = 1.0D;
+        for (var k = 1; k <= PADE_DEGREE; k++) {
+            power = multiply(power, scaled);
+            coefficient *= (double) (PADE_DEGREE - k + 1) / (k * (2 * PADE_DEGREE - k + 1));
+            final var signedCoefficient = (k & 1) == 0 ? coefficient : -coefficient;
+            for (var i = 0; i < n; i++) {
+                for (var j = 0; j < n; j++) {
+                    numerator[i][j] += coefficient * power[i][j];
+                    denominator[i][j] += signedCoefficient * power[i][j];
+                }
+            }
+        }
+        var exp = solve(denominator, numerator);
+        for (var s = 0; s < squarings; s++) {
+            exp = multiply(exp, exp);
+        }
+        return of(exp);
+    }
+
+    @Override
+    protected @NotNull DoubleMatrix identity() {
+        return of(identity(getRowSize()));
+    }
+
+    private double @NotNull [] @NotNull [] toArray() {
+        final var array = new double[getRowSize()][getColumnSize()];
+        getEntries().forEach(e -> array[e.rowIndex() - 1][e.columnIndex() - 1] = e.element());
+        return array;
+    }
+
+    private static @NotNull DoubleMatrix of(final double @NotNull [] @NotNull [] array) {
+        return ofSize(array.length, array[0].length).computationOfAbsentees((i, j) -> array[i - 1][j - 1]).build();
+    }
+
+    private static double @NotNull [] @NotNull [] identity(final int n) {
+        final var identity = new double[n][n];
+        for (var i = 0; i < n; i++) {
+            identity[i][i] = 1.0D;
+        }
+        return identity;
+    }
+
+    private static double @NotNull [] @NotNull [] multiply(
+        final double @NotNull [] @NotNull [] a,
+        final double @NotNull [] @NotNull [] b
+    ) {
+        // i-k-j order, so that the inner loop runs along rows
+        final var product = new double[a.length][b[0].length];
+        for (var i = 0; i < a.length; i++) {
+            for (var k = 0; k < b.length; k++) {
+                final var element = a[i][k];
+                if (element == 0.0D) {
+                    continue;
+                }
+                for (var j = 0; j < product[i].length; j++) {
+                    product[i][j] += element * b[k][j];
+                }
+            }
+        }
+        return product;
+    }
+
+    private static double norm(final double @NotNull [] @NotNull [] a) {
+        // maximum absolute row sum
+        var norm = 0.0D;
+        for (final var row : a) {
+            var sum = 0.0D;
+            for (final var element : row) {
+                sum += Math.abs(element);
+            }
+            norm = Math.max(norm, sum);
+        }
+        return norm;
+    }
+
+    private static double eliminate(final double @NotNull [] @NotNull [] m, final int n) {
+        // Gaussian elimination with partial pivoting which returns the determinant
+        var determinant = 1.0D;
+        for (var k = 0; k < n; k++) {
+            var pivotRow = k;
+            for (var i = k + 1; i < n; i++) {
+                if (Math.abs(m[i][k]) > Math.abs(m[pivotRow][k])) {
+                    pivotRow = i;
+                }
+            }
+            if (m[pivotRow][k] == 0.0D) {
+                return 0.0D;
+            }
+            if (pivotRow != k) {
+                final var row = m[k];
+                m[k] = m[pivotRow];
+                m[pivotRow] = row;
+                determinant = -determinant;
+            }
+            determinant *= m[k][k];
+            for (var i = k + 1; i < n; i++) {
+                final var factor = m[i][k] / m[k][k];
+                if (factor == 0.0D) {
+                    continue;
+                }
+                for (var j = k; j < m[i].length; j++) {
+                    m[i][j] -= factor * m[k][j];
+                }
+            }
+        }
+        return determinant;
+    }
+
+    private static double @NotNull [] @NotNull [] solve(
+        final double @NotNull [] @NotNull [] a,
+        final double @NotNull [] @NotNull [] b
+    ) {
+        final var n = a.length;
+        final var m = new double[n][];
+        for (var i = 0; i < n; i++) {
+            m[i] = new double[n + b[i].length];
+            System.arraycopy(a[i], 0, m[i], 0, n);
+            System.arraycopy(b[i], 0, m[i], n, b[i].length);
+        }
+        eliminate(m, n);
+        final var x = new double[n][b[0].length];
+        for (var i = n - 1; i >= 0; i--) {
+            for (var j = 0; j < x[i].length; j++) {
+                var sum = m[i][n + j];
+                for (var k = i + 1; k < n; k++) {
+                    sum -= m[i][k] * x[k][j];
+                }
+                x[i][j] = sum / m[i][i];
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Builder for {@link DoubleMatrix DoubleMatrices}
+     *
+     * @since 0.0.1
+     */
+    public static final class DoubleMatrixBuilder extends
+        AbstractMatrixBuilder<@NotNull Double, @NotNull DoubleMatrix, @NotNull DoubleMatrixBuilder> {
+        DoubleMatrixBuilder(final int rowSize, final int columnSize) {
+            super(rowSize, columnSize, (i, j) -> 0.0D);
+        }
+
+        @Override
+        public @NotNull DoubleMatrix build() {
+            return new DoubleMatrix(getRowSize(), getColumnSize(), computeEntries());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package reciprocal.linear.matrix;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.number.fraction.BigFraction;
+
+/**
+ * Exact Gauss-Jordan elimination of square systems {@code A * X = B}
+ * <p>
+ * The pivot is chosen by Markowitz' rule among the non-zero elements of the
+ * remaining submatrix, which minimizes the product of the other non-zero
+ * elements in its row and column, so that sparse systems keep few non-zero
+ * elements. Ties are broken by the smallest bit length to limit the growth of
+ * the coefficients. Rows and columns are swapped for the pivot, and the column
+ * permutation is undone for the solution. Zero elements are skipped in the
+ * updates.
+ * <p>
+ * Fractions are reduced after every update. Integers are eliminated
+ * fraction-free by Bareiss' algorithm, where every update is divided exactly
+ * by the previous pivot. Then all diagonal elements equal the determinant up to
+ * the sign and a fraction is created once per element of the solution. The
+ * elements of the solution are normalized.
+ *
+ * @since 0.0.1
+ */
+final class Elimination {
+    private Elimination() {
+    }
+
+    /**
+     * Solves {@code A * X = B}
+     *
+     * @param a square matrix with at least one row in row-major order
+     * @param b matrix with as many rows as {@code a} in row-major order
+     * @return X or null when {@code a} is singular
+     * @since 0.0.1
+     */
+    static @NotNull BigFraction @Nullable [] @NotNull [] solve(
+        final @NotNull BigFraction @NotNull [] @NotNull [] a,
+        final @NotNull BigFraction @NotNull [] @NotNull [] b
+    ) {
+        final var n = a.length;
+        final var m = augment(a, b, new BigFraction[n][]);
+        final var permutation = identity(n);
+        if (eliminate(m, n, permutation).getSignum() == 0) {
+            return null;
+        }
+        final var x = new BigFraction[n][];
+        for (var k = 0; k < n; k++) {
+            x[permutation[k]] = Arrays.stream(m[k], n, m[k].length).map(BigFraction::normalize)
+                .toArray(BigFraction[]::new);
+        }
+        return x;
+    }
+
+    /**
+     * Calculates the determinant
+     *
+     * @param a square matrix in row-major order
+     * @return determinant
+     * @since 0.0.1
+     */
+    static @NotNull BigFraction determinant(final @NotNull BigFraction @NotNull [] @NotNull [] a) {
+        final var n = a.length;
+        return eliminate(augment(a, new BigFraction[n][0], new BigFraction[n][]), n, identity(n));
+    }
+
+    /**
+     * Solves {@code A * X = B} fraction-free
+     *
+     * @param a square matrix with at least one row in row-major order
+     * @param b matrix with as many rows as {@code a} in row-major order
+     * @return X or null when {@code a} is singular
+     * @since 0.0.1
+     */
+    static @NotNull BigFraction @Nullable [] @NotNull [] solve(
+        final @NotNull BigInteger @NotNull [] @NotNull [] a,
+        final @NotNull BigInteger @NotNull [] @NotNull [] b
+    ) {
+        final var n = a.length;
+        final var m = augment(a, b, new BigInteger[n][]);
+        final var permutation = identity(n);
+        if (eliminate(m, n, permutation).signum() == 0) {
+            return null;
+        }
+        // all diagonal elements equal the last pivot
+        final var pivot = m[n - 1][n - 1];
+        final var x = new BigFraction[n][b[0].length];
+        for (var k = 0; k < n; k++) {
+            for (var j = n; j < m[k].length; j++) {
+                x[permutation[k]][j - n] = new BigFraction(m[k][j], pivot).reduce().normalize();
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Calculates the determinant fraction-free
+     *
+     * @param a square matrix in row-major order
+     * @return determinant
+     * @since 0.0.1
+     */
+    static @NotNull BigInteger determinant(final @NotNull BigInteger @NotNull [] @NotNull [] a) {
+        final var n = a.length;
+        return eliminate(augment(a, new BigInteger[n][0], new BigInteger[n][]), n, identity(n));
+    }
+
+    private static @NotNull BigFraction eliminate(
+        final @NotNull BigFraction @NotNull [] @NotNull [] m,
+        final int n,
+        final int @NotNull [] permutation
+    ) {
+        var determinant = BigFraction.ONE;
+        for (var k = 0; k < n; k++) {
+            final var pivotPosition = pivot(m, n, k, f -> f.getSignum() == 0,
+                f -> f.getNumerator().bitLength() + f.getDenominator().bitLength());
+            if (pivotPosition == null) {
+                return BigFraction.ZERO;
+            }
+            if (swap(m, n, k, pivotPosition, permutation)) {
+                determinant = determinant.negate();
+            }
+            final var pivot = m[k][k];
+            determinant = determinant.multiply(pivot).reduce();
+            for (var j = k + 1; j < m[k].length; j++) {
+                if (m[k][j].getSignum() != 0) {
+                    m[k][j] = m[k][j].divide(pivot).reduce();
+                }
+            }
+            m[k][k] = BigFraction.ONE;
+            for (var i = 0; i < n; i++) {
+                final var factor = m[i][k];
+                if (i == k || factor.getSignum() == 0) {
+                    continue;
+                }
+                for (var j = k + 1; j < m[i].length; j++) {
+                    if (m[k][j].getSignum() != 0) {
+                        m[i][j] = m[i][j].subtract(factor.multiply(m[k][j])).reduce();
+                    }
+                }
+                m[i][k] = BigFraction.ZERO;
+            }
+        }
+        return determinant;
+    }
+
+    private static @NotNull BigInteger eliminate(
+        final @NotNull BigInteger @NotNull [] @NotNull [] m,
+        final int n,
+        final int @NotNull [] permutation
+    ) {
+        var previous = BigInteger.ONE;
+        var signum = 1;
+        for (var k = 0; k < n; k++) {
+            final var pivotPosition = pivot(m, n, k, i -> i.signum() == 0, BigInteger::bitLength);
+            if (pivotPosition == null) {
+                return BigInteger.ZERO;
+            }
+            if (swap(m, n, k, pivotPosition, permutation)) {
+                signum = -signum;
+            }
+            final var pivot = m[k][k];
+            for (var i = 0; i < n; i++) {
+                if (i == k) {
+                    continue;
+                }
+                final var factor = m[i][k];
+                for (var j = k + 1; j < m[i].length; j++) {
+                    // (pivot * m[i][j] - factor * m[k][j]) / previous is exact by Sylvester's identity
+                    final var product = m[i][j].signum() == 0 ? m[i][j] : pivot.multiply(m[i][j]);
+                    final var difference = factor.signum() == 0 || m[k][j].signum() == 0 ? product
+                        : product.subtract(factor.multiply(m[k][j]));
+                    m[i][j] = difference.signum() == 0 ? BigInteger.ZERO : difference.divide(previous);
+                }
+                m[i][k] = BigInteger.ZERO;
+                if (i < k) {
+                    m[i][i] = pivot;
+                }
+            }
+            previous = pivot;
+        }
+        return signum < 0 ? previous.negate() : previous;
+    }
+
+    private static <T> int @Nullable [] pivot(
+        final @NotNull T @NotNull [] @NotNull [] m,
+        final int n,
+        final int k,
+        final @NotNull Predicate<@NotNull T> isZero,
+        final @NotNull ToIntFunction<@NotNull T> size
+    ) {
+        final var rowCounts = new int[n];
+        final var columnCounts = new int[n];
+        for (var i = k; i < n; i++) {
+            for (var j = k; j < n; j++) {
+                if (!isZero.test(m[i][j])) {
+                    rowCounts[i]++;
+                    columnCounts[j]++;
+                }
+            }
+        }
+        int[] position = null;
+        var bestCost = Long.MAX_VALUE;
+        var bestSize = Integer.MAX_VALUE;
+        for (var i = k; i < n; i++) {
+            for (var j = k; j < n; j++) {
+                if (isZero.test(m[i][j])) {
+                    continue;
+                }
+                // fill-in is bounded by the other non-zero elements in the row times those in the column
+                final var cost = (long) (rowCounts[i] - 1) * (columnCounts[j] - 1);
+                final var elementSize = size.applyAsInt(m[i][j]);
+                if (cost < bestCost || cost == bestCost && elementSize < bestSize) {
+                    position = new int[]{i, j};
+                    bestCost = cost;
+                    bestSize = elementSize;
+                }
+            }
+        }
+        return position;
+    }
+
+    private static <T> boolean swap(
+        final @NotNull T @NotNull [] @NotNull [] m,
+        final int n,
+        final int k,
+        final int @NotNull [] position,
+        final int @NotNull [] permutation
+    ) {
+        var swapped = false;
+        if (position[0] != k) {
+            final var row = m[k];
+            m[k] = m[position[0]];
+            m[position[0]] = row;
+            swapped = true;
+        }
+        if (position[1] != k) {
+            for (var i = 0; i < n; i++) {
+                final var element = m[i][k];
+                m[i][k] = m[i][position[1]];
+                m[i][position[1]] = element;
+            }
+            final var index = permutation[k];
+            permutation[k] = permutation[position[1]];
+            permutation[position[1]] = index;
+            swapped = !swapped;
+        }
+        return swapped;
+    }
+
+    private static <T> @NotNull T @NotNull [] @NotNull [] augment(
+        final @NotNull T @NotNull [] @NotNull [] a,
+        final @NotNull T @NotNull [] @NotNull [] b,
+        final @NotNull T @NotNull [] @NotNull [] m
+    ) {
+        for (var i = 0; i < a.length; i++) {
+            m[i] = Arrays.copyOf(a[i], a[i].length + b[i].length);
+            System.arraycopy(b[i], 0, m[i], a[i].length, b[i].length);
+        }
+        return m;
+    }
+
+    private static int @NotNull [] identity(final int n) {
+        final var permutation = new int[n];
+        for (var i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+        return permutation;
+    }
+}
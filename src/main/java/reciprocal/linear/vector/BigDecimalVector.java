@@ -8,6 +8,7 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a vector that uses {@link BigDecimal} as type for its elements
@@ -158,7 +159,7 @@ public final class BigDecimalVector
 
     @Override
     public @NotNull BigDecimal euclideanNorm() {
-        return euclideanNormPow2().sqrt(MathContext.UNLIMITED);
+        return euclideanNormPow2().sqrt(ReciprocalContext.current().mathContext());
     }
 
     @Override
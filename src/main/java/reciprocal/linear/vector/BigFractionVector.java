@@ -0,0 +1,213 @@
+package reciprocal.linear.vector;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.ReciprocalContext;
+import reciprocal.number.fraction.BigFraction;
+import reciprocal.number.fraction.BigFractionArray;
+
+/**
+ * Immutable implementation of a vector which uses {@link BigFraction} as type for its elements
+ * <p>
+ * The dot product and the norms are calculated on the numerators and
+ * denominators in a {@link BigFractionArray}, so that they are exact without a
+ * {@link BigFraction} per step. The array is created once per vector.
+ * Elements with equal denominators are added without multiplying the
+ * denominators, so that a vector with a common denominator keeps it.
+ *
+ * @since 0.0.1
+ */
+public final class BigFractionVector
+    extends AbstractVector<@NotNull BigFraction, @NotNull BigFractionVector, @NotNull BigFraction> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private transient @Nullable BigFractionArray array;
+
+    BigFractionVector(final int size, final @NotNull List<@NotNull VectorEntry<@NotNull BigFraction>> entries) {
+        super(size, entries);
+    }
+
+    private BigFractionVector(final @NotNull BigFractionArray array) {
+        super(array.size(), IntStream.range(0, array.size()).mapToObj(i -> new VectorEntry<>(i + 1, array.get(i)))
+            .toList());
+        this.array = array;
+    }
+
+    /**
+     * Returns {@link BigFractionVectorBuilder}
+     *
+     * @param size size
+     * @return {@link BigFractionVectorBuilder}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @since 0.0.1
+     */
+    public static BigFractionVectorBuilder ofSize(final int size) {
+        return new BigFractionVectorBuilder(size);
+    }
+
+    @Override
+    public @NotNull BigFractionVector add(final @NotNull BigFractionVector summand) {
+        requireNonNull(summand, "summand");
+        checkArgument(getSize() == summand.getSize(), "equal sizes expected but %s != %s", getSize(),
+            summand.getSize());
+        return new BigFractionVector(getSize(),
+            getEntries().map(e -> e.withElement(add(e.element(), summand.getElement(e.index())))).toList());
+    }
+
+    @Override
+    public @NotNull BigFractionVector subtract(final @NotNull BigFractionVector subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        checkArgument(getSize() == subtrahend.getSize(), "equal sizes expected but %s != %s", getSize(),
+            subtrahend.getSize());
+        return new BigFractionVector(getSize(),
+            getEntries().map(e -> e.withElement(add(e.element(), subtrahend.getElement(e.index()).negate())))
+                .toList());
+    }
+
+    @Override
+    public @NotNull BigFraction dotProduct(final @NotNull BigFractionVector other) {
+        requireNonNull(other, "other");
+        checkArgument(getSize() == other.getSize(), "equal sizes expected but %s != %s", getSize(), other.getSize());
+        return toArray().dot(other.toArray());
+    }
+
+    @Override
+    public @NotNull BigFractionVector scalarMultiply(final @NotNull BigFraction scalar) {
+        requireNonNull(scalar, "scalar");
+        return new BigFractionVector(toArray().scale(scalar));
+    }
+
+    @Override
+    public @NotNull BigFractionVector negate() {
+        return new BigFractionVector(getSize(),
+            getEntries().map(e -> e.withElement(e.element().negate())).toList());
+    }
+
+    @Override
+    public boolean orthogonalTo(final @NotNull BigFractionVector other) {
+        requireNonNull(other, "other");
+        checkArgument(getSize() == other.getSize(), "equal sizes expected but %s != %s", getSize(), other.getSize());
+        return dotProduct(other).getSignum() == 0;
+    }
+
+    @Override
+    public @NotNull BigFraction taxicabNorm() {
+        return BigFractionArray.of(getElements().map(BigFraction::abs).toList()).sum();
+    }
+
+    /**
+     * Calculates the euclidean norm which is exact when it is rational and
+     * rounded to the {@link MathContext} of the current
+     * {@link ReciprocalContext} otherwise
+     *
+     * @return euclidean norm
+     * @since 0.0.1
+     */
+    @Override
+    public @NotNull BigFraction euclideanNorm() {
+        return euclideanNorm(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Calculates the euclidean norm which is exact when it is rational and
+     * rounded to the {@link MathContext} otherwise
+     *
+     * @param mathContext {@link MathContext}
+     * @return euclidean norm
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() == 0}
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction euclideanNorm(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(mathContext.getPrecision() > 0, "mathContext.getPrecision() > 0 expected but "
+            + "mathContext.getPrecision() = %s", mathContext.getPrecision());
+        final var pow2 = euclideanNormPow2();
+        final var numeratorRoot = pow2.getNumerator().sqrt();
+        final var denominatorRoot = pow2.getDenominator().sqrt();
+        if (numeratorRoot.pow(2).equals(pow2.getNumerator()) && denominatorRoot.pow(2).equals(pow2.getDenominator())) {
+            return new BigFraction(numeratorRoot, denominatorRoot);
+        }
+        return BigFraction.valueOf(pow2.toBigDecimal(mathContext).sqrt(mathContext));
+    }
+
+    @Override
+    public @NotNull BigFraction maxNorm() {
+        return getElements().map(BigFraction::abs).max(BigFraction::compareTo).map(BigFraction::reduce)
+            .orElseThrow();
+    }
+
+    /**
+     * Calculates the least common multiple of the denominators
+     *
+     * @return common denominator
+     * @since 0.0.1
+     */
+    public @NotNull BigInteger commonDenominator() {
+        return getElements().map(e -> e.getDenominator().abs()).reduce(BigInteger.ONE,
+            (a, b) -> a.divide(a.gcd(b)).multiply(b));
+    }
+
+    /**
+     * Expands all elements to the common denominator
+     *
+     * @return {@link BigFractionVector} with the common denominator
+     * @see #commonDenominator()
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionVector toCommonDenominator() {
+        final var commonDenominator = commonDenominator();
+        return new BigFractionVector(getSize(), getEntries().map(e -> e.withElement(new BigFraction(
+            e.element().getNumerator().multiply(commonDenominator.divide(e.element().getDenominator())),
+            commonDenominator))).toList());
+    }
+
+    @Override
+    protected @NotNull BigFraction euclideanNormPow2() {
+        final var array = toArray();
+        return array.dot(array);
+    }
+
+    private static @NotNull BigFraction add(final @NotNull BigFraction summand, final @NotNull BigFraction other) {
+        if (summand.getDenominator().equals(other.getDenominator())) {
+            return new BigFraction(summand.getNumerator().add(other.getNumerator()), summand.getDenominator());
+        }
+        return summand.add(other);
+    }
+
+    private @NotNull BigFractionArray toArray() {
+        // the array is immutable, so that a race only creates it more than once
+        var result = array;
+        if (result == null) {
+            result = BigFractionArray.of(getElements().toList());
+            array = result;
+        }
+        return result;
+    }
+
+    /**
+     * Builder for {@link BigFractionVector BigFractionVectors}
+     *
+     * @since 0.0.1
+     */
+    public static final class BigFractionVectorBuilder extends
+        AbstractVectorBuilder<@NotNull BigFraction, @NotNull BigFractionVector, @NotNull BigFractionVectorBuilder> {
+        BigFractionVectorBuilder(final int size) {
+            super(size, i -> BigFraction.ZERO);
+        }
+
+        @Override
+        public @NotNull BigFractionVector build() {
+            return new BigFractionVector(getSize(), computeEntries());
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a vector which uses {@link BigInteger} as type for its elements
@@ -91,7 +92,7 @@ public final class BigIntegerVector
 
     @Override
     public @NotNull BigDecimal euclideanNorm() {
-        return euclideanNormPow2().sqrt(MathContext.UNLIMITED);
+        return euclideanNormPow2().sqrt(ReciprocalContext.current().mathContext());
     }
 
     /**
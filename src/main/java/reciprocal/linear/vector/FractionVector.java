@@ -0,0 +1,196 @@
+package reciprocal.linear.vector;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.math.LongMath;
+import java.io.Serial;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.number.fraction.Fraction;
+import reciprocal.number.fraction.FractionArray;
+
+/**
+ * Immutable implementation of a vector which uses {@link Fraction} as type for its elements
+ * <p>
+ * The dot product and the norms are calculated on the numerators and
+ * denominators in a {@link FractionArray}, so that they are exact without a
+ * {@link Fraction} per step. The array is created once per vector. Elements
+ * with equal denominators are added without multiplying the denominators, so
+ * that a vector with a common denominator keeps it.
+ *
+ * @since 0.0.1
+ */
+public final class FractionVector
+    extends AbstractVector<@NotNull Fraction, @NotNull FractionVector, @NotNull Fraction> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private transient @Nullable FractionArray array;
+
+    FractionVector(final int size, final @NotNull List<@NotNull VectorEntry<@NotNull Fraction>> entries) {
+        super(size, entries);
+    }
+
+    private FractionVector(final @NotNull FractionArray array) {
+        super(array.size(), IntStream.range(0, array.size()).mapToObj(i -> new VectorEntry<>(i + 1, array.get(i)))
+            .toList());
+        this.array = array;
+    }
+
+    /**
+     * Returns {@link FractionVectorBuilder}
+     *
+     * @param size size
+     * @return {@link FractionVectorBuilder}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @since 0.0.1
+     */
+    public static FractionVectorBuilder ofSize(final int size) {
+        return new FractionVectorBuilder(size);
+    }
+
+    @Override
+    public @NotNull FractionVector add(final @NotNull FractionVector summand) {
+        requireNonNull(summand, "summand");
+        checkArgument(getSize() == summand.getSize(), "equal sizes expected but %s != %s", getSize(),
+            summand.getSize());
+        return new FractionVector(getSize(),
+            getEntries().map(e -> e.withElement(add(e.element(), summand.getElement(e.index())))).toList());
+    }
+
+    @Override
+    public @NotNull FractionVector subtract(final @NotNull FractionVector subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        checkArgument(getSize() == subtrahend.getSize(), "equal sizes expected but %s != %s", getSize(),
+            subtrahend.getSize());
+        return new FractionVector(getSize(),
+            getEntries().map(e -> e.withElement(add(e.element(), subtrahend.getElement(e.index()).negate())))
+                .toList());
+    }
+
+    @Override
+    public @NotNull Fraction dotProduct(final @NotNull FractionVector other) {
+        requireNonNull(other, "other");
+        checkArgument(getSize() == other.getSize(), "equal sizes expected but %s != %s", getSize(), other.getSize());
+        return toArray().dot(other.toArray());
+    }
+
+    @Override
+    public @NotNull FractionVector scalarMultiply(final @NotNull Fraction scalar) {
+        requireNonNull(scalar, "scalar");
+        return new FractionVector(toArray().scale(scalar));
+    }
+
+    @Override
+    public @NotNull FractionVector negate() {
+        return new FractionVector(getSize(), getEntries().map(e -> e.withElement(e.element().negate())).toList());
+    }
+
+    @Override
+    public boolean orthogonalTo(final @NotNull FractionVector other) {
+        requireNonNull(other, "other");
+        checkArgument(getSize() == other.getSize(), "equal sizes expected but %s != %s", getSize(), other.getSize());
+        return dotProduct(other).getSignum() == 0;
+    }
+
+    @Override
+    public @NotNull Fraction taxicabNorm() {
+        return FractionArray.of(getElements().map(Fraction::abs).toList()).sum();
+    }
+
+    /**
+     * Calculates the euclidean norm which is exact when it is rational and
+     * the closest double otherwise
+     *
+     * @return euclidean norm
+     * @since 0.0.1
+     */
+    @Override
+    public @NotNull Fraction euclideanNorm() {
+        final var pow2 = euclideanNormPow2();
+        final long numerator = pow2.getNumerator();
+        final long denominator = pow2.getDenominator();
+        final var numeratorRoot = LongMath.sqrt(numerator, RoundingMode.FLOOR);
+        final var denominatorRoot = LongMath.sqrt(denominator, RoundingMode.FLOOR);
+        if (numeratorRoot * numeratorRoot == numerator && denominatorRoot * denominatorRoot == denominator) {
+            return new Fraction(numeratorRoot, denominatorRoot);
+        }
+        return Fraction.approximate(Math.sqrt(pow2.doubleValue()), Long.MAX_VALUE);
+    }
+
+    @Override
+    public @NotNull Fraction maxNorm() {
+        return getElements().map(Fraction::abs).max(Fraction::compareTo).map(Fraction::reduce).orElseThrow();
+    }
+
+    /**
+     * Calculates the least common multiple of the denominators
+     *
+     * @return common denominator
+     * @throws ArithmeticException when the common denominator does not fit into a long
+     * @since 0.0.1
+     */
+    public long commonDenominator() {
+        return getElements().mapToLong(e -> Math.absExact(e.getDenominator())).reduce(1L,
+            (a, b) -> Math.multiplyExact(a / LongMath.gcd(a, b), b));
+    }
+
+    /**
+     * Expands all elements to the common denominator
+     *
+     * @return {@link FractionVector} with the common denominator
+     * @throws ArithmeticException when one expanded numerator does not fit into a long
+     * @see #commonDenominator()
+     * @since 0.0.1
+     */
+    public @NotNull FractionVector toCommonDenominator() {
+        final var commonDenominator = commonDenominator();
+        return new FractionVector(getSize(), getEntries().map(e -> e.withElement(new Fraction(
+            Math.multiplyExact(e.element().getNumerator(), commonDenominator / e.element().getDenominator()),
+            commonDenominator))).toList());
+    }
+
+    @Override
+    protected @NotNull Fraction euclideanNormPow2() {
+        final var array = toArray();
+        return array.dot(array);
+    }
+
+    private static @NotNull Fraction add(final @NotNull Fraction summand, final @NotNull Fraction other) {
+        if (summand.getDenominator().equals(other.getDenominator())) {
+            return new Fraction(Math.addExact(summand.getNumerator(), other.getNumerator()), summand.getDenominator());
+        }
+        return summand.add(other);
+    }
+
+    private @NotNull FractionArray toArray() {
+        // the array is immutable, so that a race only creates it more than once
+        var result = array;
+        if (result == null) {
+            result = FractionArray.of(getElements().toList());
+            array = result;
+        }
+        return result;
+    }
+
+    /**
+     * Builder for {@link FractionVector FractionVectors}
+     *
+     * @since 0.0.1
+     */
+    public static final class FractionVectorBuilder extends
+        AbstractVectorBuilder<@NotNull Fraction, @NotNull FractionVector, @NotNull FractionVectorBuilder> {
+        FractionVectorBuilder(final int size) {
+            super(size, i -> Fraction.ZERO);
+        }
+
+        @Override
+        public @NotNull FractionVector build() {
+            return new FractionVector(getSize(), computeEntries());
+        }
+    }
+}
@@ -26,6 +26,7 @@ public abstract class AbstractComplex<N extends Number, T extends AbstractComple
 
     private final @NotNull N real;
     private final @NotNull N imaginary;
+    private transient int hashCode;
 
     /**
      * Constructor
@@ -295,7 +296,13 @@ public abstract class AbstractComplex<N extends Number, T extends AbstractComple
 
     @Override
     public final int hashCode() {
-        return hash(real, imaginary);
+        // 0 is recalculated like in String
+        var result = hashCode;
+        if (result == 0) {
+            result = hash(real, imaginary);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -5,11 +5,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class for polar forms
+ * <p>
+ * Multiplications, divisions, powers and roots are calculated directly on the
+ * radial and the angular, so that a power takes constant time instead of
+ * repeated multiplications of the cartesian form. The angulars of the results
+ * are not reduced to {@code (-pi, pi]}, but roots reduce the angular of this
+ * first, so that the first root is the principal one.
  *
  * @param <N> number
  * @param <T> this
@@ -78,6 +85,47 @@ public abstract class AbstractPolarForm<N extends Number, T extends AbstractPola
         return !equalsByComparing(other);
     }
 
+    /**
+     * Multiplies this by the factor
+     *
+     * @param factor factor
+     * @return product
+     * @throws NullPointerException when {@code factor == null}
+     * @since 0.0.1
+     */
+    public abstract @NotNull T multiply(@NotNull T factor);
+
+    /**
+     * Divides this by the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when {@code divisor == null}
+     * @throws IllegalArgumentException when the radial of the divisor is 0
+     * @since 0.0.1
+     */
+    public abstract @NotNull T divide(@NotNull T divisor);
+
+    /**
+     * Calculates the power
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when {@code exponent < 0} and the radial of this is 0
+     * @since 0.0.1
+     */
+    public abstract @NotNull T pow(int exponent);
+
+    /**
+     * Calculates the n-th roots
+     *
+     * @param n n
+     * @return n-th roots ordered by their angulars starting with the principal root
+     * @throws IllegalArgumentException when {@code n < 1}
+     * @since 0.0.1
+     */
+    public abstract @NotNull List<@NotNull T> roots(int n);
+
     @Override
     public final int hashCode() {
         return hash(radial, angular);
@@ -0,0 +1,104 @@
+package reciprocal.number.complex;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalUtils;
+
+/**
+ * Two-argument arctangent of {@link BigDecimal BigDecimals}
+ * <p>
+ * The angle is reduced to the first octant by the symmetries of the
+ * arctangent, so that its argument {@code t} is the quotient of the smaller by
+ * the greater absolute value. {@code t} is halved with
+ * {@code atan(t) = 2 * atan(t / (1 + sqrt(1 + t^2)))} until it is at most
+ * {@code 1 / 8}, and the Taylor series is summed in binary fixed point, which
+ * replaces the divisions of {@link BigDecimal BigDecimals} by divisions of
+ * integers by small integers. Unlike {@code acos(x / |z|)} no
+ * absolute value is needed and angles near 0, pi / 2 and pi do not lose
+ * precision.
+ *
+ * @since 0.0.1
+ */
+final class Arctangent {
+    private static final int GUARD_DIGITS = 5;
+    private static final int GUARD_BITS = 16;
+    private static final int REDUCTION_SHIFT = 3;
+    private static final int SIGNIFICAND_BITS = 53;
+    private static final double LOG2_10 = Math.log(10.0D) / Math.log(2.0D);
+    private static final @NotNull BigDecimal TWO = BigDecimal.valueOf(2L);
+
+    private Arctangent() {
+    }
+
+    /**
+     * Returns the angle of the point {@code (x, y)} in {@code (-pi, pi]}
+     *
+     * @param y y
+     * @param x x
+     * @param mathContext {@link MathContext} with a precision greater than 0
+     * @return angle
+     * @since 0.0.1
+     */
+    static @NotNull BigDecimal atan2(
+        final @NotNull BigDecimal y,
+        final @NotNull BigDecimal x,
+        final @NotNull MathContext mathContext
+    ) {
+        final var working = new MathContext(mathContext.getPrecision() + GUARD_DIGITS, mathContext.getRoundingMode());
+        final var absX = x.abs();
+        final var absY = y.abs();
+        final BigDecimal angle;
+        if (y.signum() == 0) {
+            angle = BigDecimal.ZERO;
+        } else if (x.signum() == 0) {
+            angle = ReciprocalUtils.pi(working).divide(TWO, working);
+        } else if (absY.compareTo(absX) <= 0) {
+            angle = atan(absY.divide(absX, working), working);
+        } else {
+            angle = ReciprocalUtils.pi(working).divide(TWO, working)
+                .subtract(atan(absX.divide(absY, working), working), working);
+        }
+        final var upper = x.signum() < 0 ? ReciprocalUtils.pi(working).subtract(angle, working) : angle;
+        return (y.signum() < 0 ? upper.negate() : upper).round(mathContext);
+    }
+
+    private static @NotNull BigDecimal atan(final @NotNull BigDecimal t, final @NotNull MathContext working) {
+        // fixed point with enough bits for the precision relative to t
+        final var magnitude = t.precision() - t.scale();
+        final var bits = (int) Math.ceil((working.getPrecision() + Math.max(0, -magnitude)) * LOG2_10) + GUARD_BITS;
+        final var one = BigInteger.ONE.shiftLeft(bits);
+        var x = t.multiply(new BigDecimal(one)).toBigInteger();
+        final var threshold = one.shiftRight(REDUCTION_SHIFT);
+        var halvings = 0;
+        while (x.compareTo(threshold) > 0) {
+            final var root = sqrt(one.shiftLeft(bits).add(x.multiply(x)));
+            x = x.shiftLeft(bits).divide(one.add(root));
+            halvings++;
+        }
+        // atan(x) = x - x^3 / 3 + x^5 / 5 - ...
+        final var xPow2 = x.multiply(x).shiftRight(bits);
+        var power = x;
+        var sum = x;
+        for (var n = 3L; power.signum() != 0; n += 2L) {
+            power = power.multiply(xPow2).shiftRight(bits);
+            final var term = power.divide(BigInteger.valueOf(n));
+            sum = (n & 2L) == 0L ? sum.add(term) : sum.subtract(term);
+        }
+        return new BigDecimal(sum.shiftLeft(halvings)).divide(new BigDecimal(one), working);
+    }
+
+    private static @NotNull BigInteger sqrt(final @NotNull BigInteger n) {
+        // Newton's method from the square root of the leading bits which doubles the correct bits per step
+        final var shift = Math.max(0, n.bitLength() - 2 * SIGNIFICAND_BITS) & ~1;
+        var root = BigInteger.valueOf((long) Math.sqrt(n.shiftRight(shift).doubleValue())).shiftLeft(shift / 2);
+        while (true) {
+            final var next = root.add(n.divide(root)).shiftRight(1);
+            if (next.subtract(root).abs().compareTo(BigInteger.ONE) <= 0) {
+                return next;
+            }
+            root = next;
+        }
+    }
+}
@@ -4,12 +4,13 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
-import ch.obermuhlner.math.big.BigDecimalMath;
 import java.io.Serial;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a complex number that uses {@link BigDecimal} as
@@ -57,6 +58,9 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private transient @Nullable CachedValue<@NotNull BigDecimal> abs;
+    private transient @Nullable CachedValue<@NotNull BigDecimal> argument;
+
     /**
      * Constructor
      *
@@ -179,11 +183,12 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
     public @NotNull BigComplex divide(final @NotNull BigComplex divisor) {
         requireNonNull(divisor, "divisor");
         checkArgument(divisor.isInvertible(), "divisor expected to be invertible but divisor = %s", divisor);
+        final var mathContext = ReciprocalContext.current().mathContext();
         final var den = divisor.getReal().pow(2).add(divisor.getImaginary().pow(2));
         final var re = getReal().multiply(divisor.getReal()).add(getImaginary().multiply(divisor.getImaginary()))
-            .divide(den, MathContext.DECIMAL128);
+            .divide(den, mathContext);
         final var im = getImaginary().multiply(divisor.getReal()).subtract(getReal().multiply(divisor.getImaginary()))
-            .divide(den, MathContext.DECIMAL128);
+            .divide(den, mathContext);
         return new BigComplex(re, im);
     }
 
@@ -282,11 +287,13 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
 
     @Override
     public @NotNull BigDecimal abs() {
-        return absPow2().sqrt(MathContext.DECIMAL128);
+        return abs(ReciprocalContext.current().mathContext());
     }
 
     /**
      * Calculates the absolute value
+     * <p>
+     * The absolute value is cached for the last {@link MathContext}.
      *
      * @param mathContext {@link MathContext}
      * @return absolute value
@@ -295,7 +302,13 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
      */
     public @NotNull BigDecimal abs(final @NotNull MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return absPow2(mathContext).sqrt(mathContext);
+        final var cached = abs;
+        if (CachedValue.isFor(cached, mathContext)) {
+            return cached.value();
+        }
+        final var value = absPow2().sqrt(mathContext);
+        abs = new CachedValue<>(mathContext, value);
+        return value;
     }
 
     @Override
@@ -318,25 +331,33 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
 
     @Override
     public @NotNull BigDecimal argument() {
-        checkState(isInvertible(), "this expected to be invertible but this = %s", this);
-        final var acos = BigDecimalMath.acos(getReal().divide(abs(), MathContext.DECIMAL128), MathContext.DECIMAL128);
-        return getImaginary().compareTo(BigDecimal.ZERO) < 0 ? acos.negate() : acos;
+        return argument(ReciprocalContext.current().mathContext());
     }
 
     /**
      * Calculates the argument
+     * <p>
+     * The argument is cached for the last {@link MathContext}.
      *
-     * @param mathContext {@link MathContext}
+     * @param mathContext {@link MathContext} with a precision greater than 0
      * @return argument
      * @throws IllegalStateException when this is not invertible
      * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
      * @since 0.0.1
      */
     public @NotNull BigDecimal argument(final @NotNull MathContext mathContext) {
         checkState(isInvertible(), "this expected to be invertible but this = %s", this);
         requireNonNull(mathContext, "mathContext");
-        final var acos = BigDecimalMath.acos(getReal().divide(abs(), mathContext), mathContext);
-        return getImaginary().compareTo(BigDecimal.ZERO) < 0 ? acos.negate(mathContext) : acos;
+        checkArgument(mathContext.getPrecision() > 0,
+            "mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = %s", mathContext.getPrecision());
+        final var cached = argument;
+        if (CachedValue.isFor(cached, mathContext)) {
+            return cached.value();
+        }
+        final var value = Arctangent.atan2(getImaginary(), getReal(), mathContext);
+        argument = new CachedValue<>(mathContext, value);
+        return value;
     }
 
     @Override
@@ -362,7 +383,7 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
 
     @Override
     public @NotNull BigPolarForm toPolarForm() {
-        return new BigPolarForm(abs(), argument());
+        return toPolarForm(ReciprocalContext.current().mathContext());
     }
 
     /**
@@ -375,6 +396,8 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
      * @since 0.0.1
      */
     public @NotNull BigPolarForm toPolarForm(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkState(isInvertible(), "this expected to be invertible but this = %s", this);
         return new BigPolarForm(abs(mathContext), argument(mathContext));
     }
 
@@ -388,8 +411,4 @@ public final class BigComplex extends AbstractComplex<@NotNull BigDecimal, @NotN
     protected @NotNull BigDecimal absPow2() {
         return getReal().pow(2).add(getImaginary().pow(2));
     }
-
-    private BigDecimal absPow2(final MathContext mathContext) {
-        return getReal().pow(2, mathContext).add(getImaginary().pow(2, mathContext), mathContext);
-    }
 }
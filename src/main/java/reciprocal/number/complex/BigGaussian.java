@@ -4,13 +4,17 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
-import ch.obermuhlner.math.big.BigDecimalMath;
 import java.io.Serial;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a Gaussian integer that uses {@link BigInteger}
@@ -65,6 +69,9 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private transient @Nullable CachedValue<@NotNull BigDecimal> abs;
+    private transient @Nullable CachedValue<@NotNull BigDecimal> argument;
+
     /**
      * Constructor
      *
@@ -135,13 +142,14 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
     public @NotNull BigComplex divide(final @NotNull BigGaussian divisor) {
         requireNonNull(divisor, "divisor");
         checkArgument(divisor.isInvertible(), "divisor expected to be invertible but divisor = %s", divisor);
+        final var mathContext = ReciprocalContext.current().mathContext();
         final var den = new BigDecimal(divisor.getReal().pow(2).add(divisor.getImaginary().pow(2)));
         final var re = new BigDecimal(
             getReal().multiply(divisor.getReal()).add(getImaginary().multiply(divisor.getImaginary())))
-            .divide(den, MathContext.DECIMAL128);
+            .divide(den, mathContext);
         final var im = new BigDecimal(
             getImaginary().multiply(divisor.getReal()).subtract(getReal().multiply(divisor.getImaginary())))
-            .divide(den, MathContext.DECIMAL128);
+            .divide(den, mathContext);
         return new BigComplex(re, im);
     }
 
@@ -173,12 +181,9 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
     @Override
     public @NotNull BigComplex pow(final int exponent) {
         if (exponent < 0) {
-            return toBigComplex().multiply(pow(-exponent - 1)).invert();
+            return powExact(-(exponent + 1)).multiply(this).invert();
         }
-        if (exponent > 0) {
-            return toBigComplex().multiply(pow(exponent - 1));
-        }
-        return BigComplex.ONE;
+        return powExact(exponent).toBigComplex();
     }
 
     /**
@@ -193,12 +198,218 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
     public @NotNull BigComplex pow(final int exponent, final @NotNull MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
         if (exponent < 0) {
-            return toBigComplex().multiply(pow(-exponent - 1, mathContext), mathContext).invert(mathContext);
+            return powExact(-(exponent + 1)).multiply(this).invert(mathContext);
+        }
+        final var power = powExact(exponent);
+        return new BigComplex(new BigDecimal(power.getReal(), mathContext),
+            new BigDecimal(power.getImaginary(), mathContext));
+    }
+
+    /**
+     * Calculates the exact power by square and multiply
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalArgumentException when {@code exponent < 0}
+     * @since 0.0.1
+     */
+    public @NotNull BigGaussian powExact(final int exponent) {
+        checkArgument(exponent >= 0, "exponent >= 0 expected but exponent = %s", exponent);
+        var result = ONE;
+        var base = this;
+        for (var e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) == 1) {
+                result = result.multiply(base);
+            }
+            if (e > 1) {
+                base = base.multiply(base);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the quotient and the remainder of the Euclidean division
+     * <p>
+     * The quotient is the exact quotient with its parts rounded to the nearest
+     * integers, so that the norm of the remainder is at most half of the norm
+     * of the divisor.
+     *
+     * @param divisor divisor
+     * @return quotient and remainder
+     * @throws NullPointerException when {@code divisor == null}
+     * @throws IllegalArgumentException when divisor is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull BigGaussian @NotNull [] divideAndRemainder(final @NotNull BigGaussian divisor) {
+        requireNonNull(divisor, "divisor");
+        checkArgument(divisor.isInvertible(), "divisor expected to be invertible but divisor = %s", divisor);
+        final var norm = divisor.absPow2();
+        final var re = getReal().multiply(divisor.getReal()).add(getImaginary().multiply(divisor.getImaginary()));
+        final var im = getImaginary().multiply(divisor.getReal()).subtract(getReal().multiply(divisor.getImaginary()));
+        final var quotient = new BigGaussian(GaussianIntegers.roundedDivide(re, norm),
+            GaussianIntegers.roundedDivide(im, norm));
+        return new BigGaussian[]{quotient, subtract(quotient.multiply(divisor))};
+    }
+
+    /**
+     * Calculates the greatest common divisor in the first quadrant
+     *
+     * @param other other
+     * @return greatest common divisor
+     * @throws NullPointerException when {@code other == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigGaussian gcd(final @NotNull BigGaussian other) {
+        requireNonNull(other, "other");
+        var a = this;
+        var b = other;
+        while (b.isInvertible()) {
+            final var remainder = a.divideAndRemainder(b)[1];
+            a = b;
+            b = remainder;
+        }
+        return a.normalize();
+    }
+
+    /**
+     * Calculates the greatest common divisor {@code g} in the first quadrant
+     * and the coefficients {@code x} and {@code y} with
+     * {@code x * this + y * other = g}
+     *
+     * @param other other
+     * @return g, x and y
+     * @throws NullPointerException when {@code other == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigGaussian @NotNull [] extendedGcd(final @NotNull BigGaussian other) {
+        requireNonNull(other, "other");
+        var r0 = this;
+        var r1 = other;
+        var s0 = ONE;
+        var s1 = ZERO;
+        var t0 = ZERO;
+        var t1 = ONE;
+        while (r1.isInvertible()) {
+            final var quotientAndRemainder = r0.divideAndRemainder(r1);
+            final var s = s0.subtract(quotientAndRemainder[0].multiply(s1));
+            final var t = t0.subtract(quotientAndRemainder[0].multiply(t1));
+            r0 = r1;
+            r1 = quotientAndRemainder[1];
+            s0 = s1;
+            s1 = s;
+            t0 = t1;
+            t1 = t;
         }
-        if (exponent > 0) {
-            return toBigComplex().multiply(pow(exponent - 1, mathContext), mathContext);
+        final var unit = r0.normalizingUnit();
+        return new BigGaussian[]{r0.multiply(unit), s0.multiply(unit), t0.multiply(unit)};
+    }
+
+    /**
+     * Calculates the power modulo the modulus by square and multiply
+     * <p>
+     * The result is the remainder of the Euclidean division by the modulus.
+     *
+     * @param exponent exponent
+     * @param modulus modulus
+     * @return power modulo the modulus
+     * @throws NullPointerException when {@code exponent == null}
+     * @throws NullPointerException when {@code modulus == null}
+     * @throws IllegalArgumentException when {@code exponent < 0}
+     * @throws IllegalArgumentException when modulus is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull BigGaussian modPow(final @NotNull BigInteger exponent, final @NotNull BigGaussian modulus) {
+        requireNonNull(exponent, "exponent");
+        requireNonNull(modulus, "modulus");
+        checkArgument(exponent.signum() >= 0, "exponent >= 0 expected but exponent = %s", exponent);
+        checkArgument(modulus.isInvertible(), "modulus expected to be invertible but modulus = %s", modulus);
+        var result = ONE.divideAndRemainder(modulus)[1];
+        var base = divideAndRemainder(modulus)[1];
+        for (var i = 0; i < exponent.bitLength(); i++) {
+            if (exponent.testBit(i)) {
+                result = result.multiply(base).divideAndRemainder(modulus)[1];
+            }
+            base = base.multiply(base).divideAndRemainder(modulus)[1];
         }
-        return BigComplex.ONE;
+        return result;
+    }
+
+    /**
+     * Returns the associate in the first quadrant
+     * <p>
+     * The associate of a Gaussian integer other than 0 has a real part greater
+     * than 0 and an imaginary part greater than or equal to 0.
+     *
+     * @return associate in the first quadrant
+     * @since 0.0.1
+     */
+    public @NotNull BigGaussian normalize() {
+        return multiply(normalizingUnit());
+    }
+
+    /**
+     * Returns the prime factorization
+     * <p>
+     * The prime factors are normalized to the first quadrant and mapped to
+     * their multiplicities in ascending order of the rational primes they
+     * divide, like {@code 3} before {@code 2 + i} for {@code 6 + 3i}, and a
+     * prime {@code x + yi} over a rational prime {@code p = 1 (mod 4)} before
+     * the associate of its conjugate. A unit other than 1 is mapped to 1 last,
+     * so that the product of all powers is this.
+     *
+     * @return prime factors and their multiplicities
+     * @throws IllegalStateException when this is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull Map<@NotNull BigGaussian, @NotNull Integer> factorize() {
+        checkState(isInvertible(), "this expected to be invertible but this = %s", this);
+        final var factors = new LinkedHashMap<@NotNull BigGaussian, @NotNull Integer>();
+        var rest = this;
+        for (final var prime : GaussianIntegers.factorize(absPow2()).keySet()) {
+            if (prime.equals(BigInteger.TWO)) {
+                rest = divideOut(rest, new BigGaussian(BigInteger.ONE, BigInteger.ONE), factors);
+            } else if (prime.testBit(1)) {
+                // p = 3 (mod 4) is a Gaussian prime
+                rest = divideOut(rest, ofReal(prime), factors);
+            } else {
+                final var xy = GaussianIntegers.sumOfTwoSquares(prime);
+                final var pi = new BigGaussian(xy[0], xy[1]);
+                rest = divideOut(rest, pi, factors);
+                rest = divideOut(rest, pi.conjugate().normalize(), factors);
+            }
+        }
+        if (!rest.equals(ONE)) {
+            factors.put(rest, 1);
+        }
+        return Collections.unmodifiableMap(factors);
+    }
+
+    private static @NotNull BigGaussian divideOut(
+        final @NotNull BigGaussian dividend,
+        final @NotNull BigGaussian prime,
+        final @NotNull Map<@NotNull BigGaussian, @NotNull Integer> factors
+    ) {
+        var rest = dividend;
+        var quotientAndRemainder = rest.divideAndRemainder(prime);
+        while (quotientAndRemainder[1].equals(ZERO)) {
+            factors.merge(prime, 1, Integer::sum);
+            rest = quotientAndRemainder[0];
+            quotientAndRemainder = rest.divideAndRemainder(prime);
+        }
+        return rest;
+    }
+
+    private @NotNull BigGaussian normalizingUnit() {
+        final var re = getReal().signum();
+        final var im = getImaginary().signum();
+        if (re > 0 && im >= 0 || re == 0 && im == 0) {
+            return ONE;
+        }
+        if (re <= 0 && im > 0) {
+            return MINUS_I;
+        }
+        return re < 0 ? MINUS_ONE : I;
     }
 
     @Override
@@ -228,11 +439,13 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
 
     @Override
     public @NotNull BigDecimal abs() {
-        return new BigDecimal(absPow2()).sqrt(MathContext.DECIMAL128);
+        return abs(ReciprocalContext.current().mathContext());
     }
 
     /**
      * Calculates the absolute value
+     * <p>
+     * The absolute value is cached for the last {@link MathContext}.
      *
      * @param mathContext {@link MathContext}
      * @return absolute value
@@ -241,7 +454,13 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
      */
     public @NotNull BigDecimal abs(final @NotNull MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return new BigDecimal(absPow2()).sqrt(mathContext);
+        final var cached = abs;
+        if (CachedValue.isFor(cached, mathContext)) {
+            return cached.value();
+        }
+        final var value = new BigDecimal(absPow2()).sqrt(mathContext);
+        abs = new CachedValue<>(mathContext, value);
+        return value;
     }
 
     @Override
@@ -251,27 +470,33 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
 
     @Override
     public @NotNull BigDecimal argument() {
-        checkState(isInvertible(), "this expected to be invertible but this = %s", this);
-        final var acos = BigDecimalMath.acos(new BigDecimal(getReal()).divide(abs(), MathContext.DECIMAL128),
-            MathContext.DECIMAL128);
-        return getImaginary().compareTo(BigInteger.ZERO) < 0 ? acos.negate() : acos;
+        return argument(ReciprocalContext.current().mathContext());
     }
 
     /**
      * Calculates the argument
+     * <p>
+     * The argument is cached for the last {@link MathContext}.
      *
-     * @param mathContext {@link MathContext}
+     * @param mathContext {@link MathContext} with a precision greater than 0
      * @return argument
      * @throws IllegalStateException when this is not invertible
      * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
      * @since 0.0.1
      */
     public @NotNull BigDecimal argument(final @NotNull MathContext mathContext) {
         checkState(isInvertible(), "this expected to be invertible but this = %s", this);
         requireNonNull(mathContext, "mathContext");
-        final var acos =
-            BigDecimalMath.acos(new BigDecimal(getReal()).divide(abs(mathContext), mathContext), mathContext);
-        return getImaginary().compareTo(BigInteger.ZERO) < 0 ? acos.negate(mathContext) : acos;
+        checkArgument(mathContext.getPrecision() > 0,
+            "mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = %s", mathContext.getPrecision());
+        final var cached = argument;
+        if (CachedValue.isFor(cached, mathContext)) {
+            return cached.value();
+        }
+        final var value = Arctangent.atan2(new BigDecimal(getImaginary()), new BigDecimal(getReal()), mathContext);
+        argument = new CachedValue<>(mathContext, value);
+        return value;
     }
 
     @Override
@@ -296,7 +521,7 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
 
     @Override
     public @NotNull BigPolarForm toPolarForm() {
-        return new BigPolarForm(abs(), argument());
+        return toPolarForm(ReciprocalContext.current().mathContext());
     }
 
     /**
@@ -310,6 +535,7 @@ public final class BigGaussian extends AbstractComplex<@NotNull BigInteger, @Not
      */
     public @NotNull BigPolarForm toPolarForm(final @NotNull MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
+        checkState(isInvertible(), "this expected to be invertible but this = %s", this);
         return new BigPolarForm(abs(mathContext), argument(mathContext));
     }
 
@@ -1,10 +1,20 @@
 package reciprocal.number.complex;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import ch.obermuhlner.math.big.BigDecimalMath;
 import java.io.Serial;
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.ReciprocalContext;
+import reciprocal.ReciprocalUtils;
 
 /**
  * Immutable implementation of the polar form of a complex number that uses
@@ -16,6 +26,8 @@ public final class BigPolarForm extends AbstractPolarForm<@NotNull BigDecimal, @
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private transient @Nullable CachedValue<@NotNull BigComplex> bigComplex;
+
     /**
      * Constructor
      *
@@ -29,6 +41,152 @@ public final class BigPolarForm extends AbstractPolarForm<@NotNull BigDecimal, @
         super(radial, angular);
     }
 
+    @Override
+    public @NotNull BigPolarForm multiply(final @NotNull BigPolarForm factor) {
+        return multiply(factor, ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Multiplies this by the factor
+     *
+     * @param factor factor
+     * @param mathContext {@link MathContext}
+     * @return product
+     * @throws NullPointerException when {@code factor == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigPolarForm multiply(final @NotNull BigPolarForm factor, final @NotNull MathContext mathContext) {
+        requireNonNull(factor, "factor");
+        requireNonNull(mathContext, "mathContext");
+        return new BigPolarForm(getRadial().multiply(factor.getRadial(), mathContext),
+            getAngular().add(factor.getAngular(), mathContext));
+    }
+
+    @Override
+    public @NotNull BigPolarForm divide(final @NotNull BigPolarForm divisor) {
+        return divide(divisor, ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Divides this by the divisor
+     *
+     * @param divisor divisor
+     * @param mathContext {@link MathContext}
+     * @return quotient
+     * @throws NullPointerException when {@code divisor == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when the radial of the divisor is 0
+     * @since 0.0.1
+     */
+    public @NotNull BigPolarForm divide(final @NotNull BigPolarForm divisor, final @NotNull MathContext mathContext) {
+        requireNonNull(divisor, "divisor");
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(divisor.getRadial().signum() != 0, "divisor expected to be invertible but divisor = %s",
+            divisor);
+        return new BigPolarForm(getRadial().divide(divisor.getRadial(), mathContext),
+            getAngular().subtract(divisor.getAngular(), mathContext));
+    }
+
+    @Override
+    public @NotNull BigPolarForm pow(final int exponent) {
+        return pow(exponent, ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Calculates the power
+     *
+     * @param exponent exponent
+     * @param mathContext {@link MathContext}
+     * @return power
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalStateException when {@code exponent < 0} and the radial of this is 0
+     * @since 0.0.1
+     */
+    public @NotNull BigPolarForm pow(final int exponent, final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkState(exponent >= 0 || getRadial().signum() != 0, "this expected to be invertible but this = %s", this);
+        return new BigPolarForm(getRadial().pow(exponent, mathContext),
+            getAngular().multiply(BigDecimal.valueOf(exponent), mathContext));
+    }
+
+    @Override
+    public @NotNull List<@NotNull BigPolarForm> roots(final int n) {
+        return roots(n, ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Calculates the n-th roots
+     *
+     * @param n n
+     * @param mathContext {@link MathContext} with a precision greater than 0
+     * @return n-th roots ordered by their angulars starting with the principal root
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code n < 1}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull List<@NotNull BigPolarForm> roots(final int n, final @NotNull MathContext mathContext) {
+        checkArgument(n > 0, "n > 0 expected but n = %s", n);
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(mathContext.getPrecision() > 0,
+            "mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = %s",
+            mathContext.getPrecision());
+        final var bigN = BigDecimal.valueOf(n);
+        final var radial = n == 1 || getRadial().signum() == 0 ? getRadial().round(mathContext)
+            : BigDecimalMath.root(getRadial(), bigN, mathContext);
+        // the integer digits of the angular cancel in the reduction and must not take precision from its fraction
+        final var integerDigits = Math.max(0, getAngular().precision() - getAngular().scale() - 1);
+        final var working = new MathContext(mathContext.getPrecision() + 2 + integerDigits,
+            mathContext.getRoundingMode());
+        final var pi = ReciprocalUtils.pi(working);
+        final var twoPi = pi.multiply(BigDecimal.valueOf(2L), working);
+        final var remainder = getAngular().subtract(twoPi.multiply(getAngular().divide(twoPi, working)
+            .setScale(0, RoundingMode.HALF_EVEN)), working);
+        final var angular = remainder.compareTo(pi) > 0 ? remainder.subtract(twoPi, working)
+            : remainder.compareTo(pi.negate()) <= 0 ? remainder.add(twoPi, working) : remainder;
+        return IntStream.range(0, n).mapToObj(k -> new BigPolarForm(radial,
+            angular.add(twoPi.multiply(BigDecimal.valueOf(k)), working).divide(bigN, mathContext))).toList();
+    }
+
+    /**
+     * Returns this as {@link BigComplex}
+     *
+     * @return {@link BigComplex}
+     * @since 0.0.1
+     */
+    public @NotNull BigComplex toBigComplex() {
+        return toBigComplex(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Returns this as {@link BigComplex}
+     * <p>
+     * The cosine and the sine of the angular are calculated once for the last
+     * {@link MathContext}, so that the result is cached.
+     *
+     * @param mathContext {@link MathContext} with a precision greater than 0
+     * @return {@link BigComplex}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigComplex toBigComplex(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(mathContext.getPrecision() > 0,
+            "mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = %s",
+            mathContext.getPrecision());
+        final var cached = bigComplex;
+        if (CachedValue.isFor(cached, mathContext)) {
+            return cached.value();
+        }
+        final var value = new BigComplex(
+            getRadial().multiply(BigDecimalMath.cos(getAngular(), mathContext), mathContext),
+            getRadial().multiply(BigDecimalMath.sin(getAngular(), mathContext), mathContext));
+        bigComplex = new CachedValue<>(mathContext, value);
+        return value;
+    }
+
     @Override
     public boolean equalsByComparing(final @NotNull BigPolarForm other) {
         requireNonNull(other, "other");
@@ -0,0 +1,32 @@
+package reciprocal.number.complex;
+
+import java.math.MathContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Value which is calculated lazily and cached together with the
+ * {@link MathContext} it was calculated with
+ * <p>
+ * The fields of a record are final, so that a cached value is safely published
+ * through a plain field even when it is written by a racing thread. At worst
+ * another thread calculates the same value again.
+ *
+ * @param mathContext {@link MathContext}
+ * @param value value
+ * @param <V> type of the value
+ * @since 0.0.1
+ */
+record CachedValue<V>(@NotNull MathContext mathContext, @NotNull V value) {
+    /**
+     * Indicates if the cached value was calculated with the {@link MathContext}
+     *
+     * @param cachedValue cached value or null
+     * @param mathContext {@link MathContext}
+     * @return {@link Boolean}
+     * @since 0.0.1
+     */
+    static boolean isFor(final @Nullable CachedValue<?> cachedValue, final @NotNull MathContext mathContext) {
+        return cachedValue != null && cachedValue.mathContext().equals(mathContext);
+    }
+}
@@ -8,12 +8,23 @@ import com.google.common.math.LongMath;
 import java.io.Serial;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Immutable implementation of a Gaussian integer that uses {@link Long} as
  * type for its real and imaginary part
+ * <p>
+ * {@link #add(Gaussian)}, {@link #subtract(Gaussian)} and
+ * {@link #multiply(Gaussian)} overflow like the arithmetic of longs. The exact
+ * variants calculate the products in 128 bits with
+ * {@link Math#multiplyHigh(long, long)}, so that only results which do not fit
+ * into longs are overflows, and either throw an {@link ArithmeticException} or
+ * promote the result to {@link BigGaussian}.
  *
  * @since 0.0.1
  */
@@ -64,6 +75,10 @@ public final class Gaussian extends AbstractComplex<@NotNull Long, @NotNull Gaus
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private static final long SMALL_LIMIT = 1L << 30;
+    private static final long PRODUCT_LIMIT = 1L << 61;
+    private static final long MOD_POW_NORM_LIMIT = 1L << 40;
+
     /**
      * Constructor
      *
@@ -99,7 +114,7 @@ public final class Gaussian extends AbstractComplex<@NotNull Long, @NotNull Gaus
 
     @Override
     public boolean isInvertible() {
-        return toComplex().isInvertible();
+        return getReal() != 0L || getImaginary() != 0L;
     }
 
     @Override
@@ -126,6 +141,150 @@ public final class Gaussian extends AbstractComplex<@NotNull Long, @NotNull Gaus
         return new Gaussian(re, im);
     }
 
+    /**
+     * Calculates the exact sum
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when {@code summand == null}
+     * @throws ArithmeticException when the sum does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian addExact(final @NotNull Gaussian summand) {
+        requireNonNull(summand, "summand");
+        return exact(addOrNull(summand));
+    }
+
+    /**
+     * Calculates the sum and promotes it to {@link BigGaussian} when it does
+     * not fit into longs
+     *
+     * @param summand summand
+     * @return sum as {@link Gaussian} or {@link BigGaussian}
+     * @throws NullPointerException when {@code summand == null}
+     * @since 0.0.1
+     */
+    public @NotNull AbstractComplex<?, ?, ?, ?, ?> addPromoting(final @NotNull Gaussian summand) {
+        requireNonNull(summand, "summand");
+        final var sum = addOrNull(summand);
+        return sum != null ? sum : toBigGaussian().add(summand.toBigGaussian());
+    }
+
+    /**
+     * Calculates the exact difference
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when {@code subtrahend == null}
+     * @throws ArithmeticException when the difference does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian subtractExact(final @NotNull Gaussian subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return exact(subtractOrNull(subtrahend));
+    }
+
+    /**
+     * Calculates the difference and promotes it to {@link BigGaussian} when it
+     * does not fit into longs
+     *
+     * @param subtrahend subtrahend
+     * @return difference as {@link Gaussian} or {@link BigGaussian}
+     * @throws NullPointerException when {@code subtrahend == null}
+     * @since 0.0.1
+     */
+    public @NotNull AbstractComplex<?, ?, ?, ?, ?> subtractPromoting(final @NotNull Gaussian subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        final var difference = subtractOrNull(subtrahend);
+        return difference != null ? difference : toBigGaussian().subtract(subtrahend.toBigGaussian());
+    }
+
+    /**
+     * Calculates the exact product
+     *
+     * @param factor factor
+     * @return product
+     * @throws NullPointerException when {@code factor == null}
+     * @throws ArithmeticException when the product does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian multiplyExact(final @NotNull Gaussian factor) {
+        requireNonNull(factor, "factor");
+        return exact(multiplyOrNull(factor));
+    }
+
+    /**
+     * Calculates the product and promotes it to {@link BigGaussian} when it
+     * does not fit into longs
+     *
+     * @param factor factor
+     * @return product as {@link Gaussian} or {@link BigGaussian}
+     * @throws NullPointerException when {@code factor == null}
+     * @since 0.0.1
+     */
+    public @NotNull AbstractComplex<?, ?, ?, ?, ?> multiplyPromoting(final @NotNull Gaussian factor) {
+        requireNonNull(factor, "factor");
+        final var product = multiplyOrNull(factor);
+        return product != null ? product : toBigGaussian().multiply(factor.toBigGaussian());
+    }
+
+    private @Nullable Gaussian addOrNull(final @NotNull Gaussian summand) {
+        final long a = getReal();
+        final long b = getImaginary();
+        final long c = summand.getReal();
+        final long d = summand.getImaginary();
+        final var re = a + c;
+        final var im = b + d;
+        // a sum overflows when its sign differs from the signs of both summands
+        if (((a ^ re) & (c ^ re) | (b ^ im) & (d ^ im)) < 0L) {
+            return null;
+        }
+        return new Gaussian(re, im);
+    }
+
+    private @Nullable Gaussian subtractOrNull(final @NotNull Gaussian subtrahend) {
+        final long a = getReal();
+        final long b = getImaginary();
+        final long c = subtrahend.getReal();
+        final long d = subtrahend.getImaginary();
+        final var re = a - c;
+        final var im = b - d;
+        // a difference overflows when the signs of the operands differ and the sign of the minuend changes
+        if (((a ^ c) & (a ^ re) | (b ^ d) & (b ^ im)) < 0L) {
+            return null;
+        }
+        return new Gaussian(re, im);
+    }
+
+    private @Nullable Gaussian multiplyOrNull(final @NotNull Gaussian factor) {
+        final long a = getReal();
+        final long b = getImaginary();
+        final long c = factor.getReal();
+        final long d = factor.getImaginary();
+        // the products and the parts are exact in 128 bits of a high and a low long
+        final var acLow = a * c;
+        final var bdLow = b * d;
+        final var re = acLow - bdLow;
+        final var reHigh = Math.multiplyHigh(a, c) - Math.multiplyHigh(b, d)
+            - (Long.compareUnsigned(acLow, bdLow) < 0 ? 1L : 0L);
+        final var adLow = a * d;
+        final var im = adLow + b * c;
+        final var imHigh = Math.multiplyHigh(a, d) + Math.multiplyHigh(b, c)
+            + (Long.compareUnsigned(im, adLow) < 0 ? 1L : 0L);
+        // a part fits into a long when its high long is the sign extension of its low long
+        if (reHigh != re >> 63 || imHigh != im >> 63) {
+            return null;
+        }
+        return new Gaussian(re, im);
+    }
+
+    private static @NotNull Gaussian exact(final @Nullable Gaussian result) {
+        if (result == null) {
+            throw new ArithmeticException("long overflow");
+        }
+        return result;
+    }
+
     @Override
     public @NotNull Complex divide(final @NotNull Gaussian divisor) {
         requireNonNull(divisor, "divisor");
@@ -139,12 +298,263 @@ public final class Gaussian extends AbstractComplex<@NotNull Long, @NotNull Gaus
     @Override
     public @NotNull Complex pow(final int exponent) {
         if (exponent < 0) {
-            return toComplex().multiply(pow(-exponent - 1)).invert();
+            return toComplex().multiply(pow(-(exponent + 1))).invert();
         }
-        if (exponent > 0) {
-            return toComplex().multiply(pow(exponent - 1));
+        final var power = powOrNull(exponent);
+        return power != null ? power.toComplex() : powScaled(exponent);
+    }
+
+    private @NotNull Complex powScaled(final int exponent) {
+        // square and multiply in doubles scaled by a power of 2, so that the intermediate results do not overflow
+        // and a power beyond the range of doubles becomes infinite after O(log(exponent)) steps
+        var re = 1.0D;
+        var im = 0.0D;
+        var scale = 0L;
+        var baseRe = (double) getReal();
+        var baseIm = (double) getImaginary();
+        var baseScale = 0L;
+        for (var e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) == 1) {
+                final var newRe = re * baseRe - im * baseIm;
+                im = re * baseIm + im * baseRe;
+                re = newRe;
+                final var shift = Math.getExponent(Math.max(Math.abs(re), Math.abs(im)));
+                re = Math.scalb(re, -shift);
+                im = Math.scalb(im, -shift);
+                scale += baseScale + shift;
+            }
+            if (e > 1) {
+                final var newRe = baseRe * baseRe - baseIm * baseIm;
+                baseIm = 2.0D * baseRe * baseIm;
+                baseRe = newRe;
+                final var shift = Math.getExponent(Math.max(Math.abs(baseRe), Math.abs(baseIm)));
+                baseRe = Math.scalb(baseRe, -shift);
+                baseIm = Math.scalb(baseIm, -shift);
+                baseScale = 2L * baseScale + shift;
+            }
         }
-        return Complex.ONE;
+        final var shift = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, scale));
+        return new Complex(Math.scalb(re, shift), Math.scalb(im, shift));
+    }
+
+    /**
+     * Calculates the exact power by square and multiply
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalArgumentException when {@code exponent < 0}
+     * @throws ArithmeticException when the power does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian powExact(final int exponent) {
+        checkArgument(exponent >= 0, "exponent >= 0 expected but exponent = %s", exponent);
+        return exact(powOrNull(exponent));
+    }
+
+    /**
+     * Calculates the power and promotes it to {@link BigGaussian} when it does
+     * not fit into longs
+     *
+     * @param exponent exponent
+     * @return power as {@link Gaussian} or {@link BigGaussian}
+     * @throws IllegalArgumentException when {@code exponent < 0}
+     * @since 0.0.1
+     */
+    public @NotNull AbstractComplex<?, ?, ?, ?, ?> powPromoting(final int exponent) {
+        checkArgument(exponent >= 0, "exponent >= 0 expected but exponent = %s", exponent);
+        final var power = powOrNull(exponent);
+        return power != null ? power : toBigGaussian().powExact(exponent);
+    }
+
+    private @Nullable Gaussian powOrNull(final int exponent) {
+        var result = ONE;
+        var base = this;
+        for (var e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) == 1) {
+                result = result.multiplyOrNull(base);
+                if (result == null) {
+                    return null;
+                }
+            }
+            if (e > 1) {
+                base = base.multiplyOrNull(base);
+                if (base == null) {
+                    return null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the quotient and the remainder of the Euclidean division
+     * <p>
+     * The quotient is the exact quotient with its parts rounded to the nearest
+     * integers, so that the norm of the remainder is at most half of the norm
+     * of the divisor. It is calculated in longs when the parts of the divisor
+     * have at most 30 bits and the products of the parts have less than 61
+     * bits, and as {@link BigGaussian BigGaussians} otherwise to avoid
+     * overflows.
+     *
+     * @param divisor divisor
+     * @return quotient and remainder
+     * @throws NullPointerException when {@code divisor == null}
+     * @throws IllegalArgumentException when divisor is not invertible
+     * @throws ArithmeticException when the quotient does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian @NotNull [] divideAndRemainder(final @NotNull Gaussian divisor) {
+        requireNonNull(divisor, "divisor");
+        checkArgument(divisor.isInvertible(), "divisor expected to be invertible but divisor = %s", divisor);
+        if (!isLongDivision(divisor)) {
+            final var quotientAndRemainder = toBigGaussian().divideAndRemainder(divisor.toBigGaussian());
+            return new Gaussian[]{ofExact(quotientAndRemainder[0]), ofExact(quotientAndRemainder[1])};
+        }
+        final var norm = divisor.absPow2();
+        final var re = getReal() * divisor.getReal() + getImaginary() * divisor.getImaginary();
+        final var im = getImaginary() * divisor.getReal() - getReal() * divisor.getImaginary();
+        final var quotient = new Gaussian(GaussianIntegers.roundedDivide(re, norm),
+            GaussianIntegers.roundedDivide(im, norm));
+        return new Gaussian[]{quotient, subtract(quotient.multiply(divisor))};
+    }
+
+    /**
+     * Calculates the greatest common divisor in the first quadrant
+     *
+     * @param other other
+     * @return greatest common divisor
+     * @throws NullPointerException when {@code other == null}
+     * @throws ArithmeticException when the greatest common divisor does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian gcd(final @NotNull Gaussian other) {
+        requireNonNull(other, "other");
+        var a = this;
+        var b = other;
+        while (b.isInvertible()) {
+            final var remainder = a.divideAndRemainder(b)[1];
+            a = b;
+            b = remainder;
+        }
+        return a.normalize();
+    }
+
+    /**
+     * Calculates the greatest common divisor {@code g} in the first quadrant
+     * and the coefficients {@code x} and {@code y} with
+     * {@code x * this + y * other = g}
+     *
+     * @param other other
+     * @return g, x and y
+     * @throws NullPointerException when {@code other == null}
+     * @throws ArithmeticException when the results do not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian @NotNull [] extendedGcd(final @NotNull Gaussian other) {
+        requireNonNull(other, "other");
+        final var gxy = toBigGaussian().extendedGcd(other.toBigGaussian());
+        return new Gaussian[]{ofExact(gxy[0]), ofExact(gxy[1]), ofExact(gxy[2])};
+    }
+
+    /**
+     * Calculates the power modulo the modulus by square and multiply
+     * <p>
+     * The result is the remainder of the Euclidean division by the modulus.
+     * Moduli with norms less than {@code 2^40} are calculated in longs, because
+     * the products of their remainders are divided in longs, and other moduli
+     * as {@link BigGaussian BigGaussians}.
+     *
+     * @param exponent exponent
+     * @param modulus modulus
+     * @return power modulo the modulus
+     * @throws NullPointerException when {@code modulus == null}
+     * @throws IllegalArgumentException when {@code exponent < 0}
+     * @throws IllegalArgumentException when modulus is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian modPow(final long exponent, final @NotNull Gaussian modulus) {
+        requireNonNull(modulus, "modulus");
+        checkArgument(exponent >= 0L, "exponent >= 0 expected but exponent = %s", exponent);
+        checkArgument(modulus.isInvertible(), "modulus expected to be invertible but modulus = %s", modulus);
+        if (!modulus.isSmall() || modulus.absPow2() >= MOD_POW_NORM_LIMIT) {
+            return ofExact(toBigGaussian().modPow(BigInteger.valueOf(exponent), modulus.toBigGaussian()));
+        }
+        // the products of remainders have parts of at most n / 2 for the norm n of the modulus, so that the sums of
+        // the products of their parts with the parts of the modulus are at most n^(3 / 2) < 2^61
+        var result = ONE.divideAndRemainder(modulus)[1];
+        var base = divideAndRemainder(modulus)[1];
+        for (var e = exponent; e > 0L; e >>= 1) {
+            if ((e & 1L) == 1L) {
+                result = result.multiply(base).divideAndRemainder(modulus)[1];
+            }
+            base = base.multiply(base).divideAndRemainder(modulus)[1];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the associate in the first quadrant
+     * <p>
+     * The associate of a Gaussian integer other than 0 has a real part greater
+     * than 0 and an imaginary part greater than or equal to 0.
+     *
+     * @return associate in the first quadrant
+     * @throws ArithmeticException when the associate does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Gaussian normalize() {
+        final var re = getReal();
+        final var im = getImaginary();
+        if (re > 0L && im >= 0L || re == 0L && im == 0L) {
+            return this;
+        }
+        if (re <= 0L && im > 0L) {
+            return new Gaussian(im, Math.negateExact(re));
+        }
+        return re < 0L ? new Gaussian(Math.negateExact(re), Math.negateExact(im))
+            : new Gaussian(Math.negateExact(im), re);
+    }
+
+    /**
+     * Returns the prime factorization
+     * <p>
+     * The prime factors are normalized to the first quadrant and mapped to
+     * their multiplicities in ascending order of the rational primes they
+     * divide, like {@code 3} before {@code 2 + i} for {@code 6 + 3i}, and a
+     * prime {@code x + yi} over a rational prime {@code p = 1 (mod 4)} before
+     * the associate of its conjugate. A unit other than 1 is mapped to 1 last,
+     * so that the product of all powers is this.
+     *
+     * @return prime factors and their multiplicities
+     * @throws IllegalStateException when this is not invertible
+     * @since 0.0.1
+     */
+    public @NotNull Map<@NotNull Gaussian, @NotNull Integer> factorize() {
+        checkState(isInvertible(), "this expected to be invertible but this = %s", this);
+        final var factors = new LinkedHashMap<@NotNull Gaussian, @NotNull Integer>();
+        toBigGaussian().factorize().forEach((prime, multiplicity) -> factors.put(ofExact(prime), multiplicity));
+        return Collections.unmodifiableMap(factors);
+    }
+
+    private boolean isLongDivision(final @NotNull Gaussian divisor) {
+        // the norm of the divisor is less than 2^61 and |re| and |im| are at most (|a| + |b|) * (|c| + |d|), so
+        // that neither they nor the rounded quotients and the remainder overflow when this product is less than 2^61
+        if (!divisor.isSmall() || getReal() <= -PRODUCT_LIMIT || getReal() >= PRODUCT_LIMIT
+            || getImaginary() <= -PRODUCT_LIMIT || getImaginary() >= PRODUCT_LIMIT) {
+            return false;
+        }
+        final var sum = Math.abs(getReal()) + Math.abs(getImaginary());
+        final var divisorSum = Math.abs(divisor.getReal()) + Math.abs(divisor.getImaginary());
+        return sum < PRODUCT_LIMIT / divisorSum;
+    }
+
+    private boolean isSmall() {
+        return -SMALL_LIMIT < getReal() && getReal() < SMALL_LIMIT && -SMALL_LIMIT < getImaginary()
+            && getImaginary() < SMALL_LIMIT;
+    }
+
+    private static @NotNull Gaussian ofExact(final @NotNull BigGaussian bigGaussian) {
+        return new Gaussian(bigGaussian.getReal().longValueExact(), bigGaussian.getImaginary().longValueExact());
     }
 
     @Override
@@ -0,0 +1,153 @@
+package reciprocal.number.complex;
+
+import java.math.BigInteger;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Integer arithmetic for the number theory of Gaussian integers
+ * <p>
+ * The norm of a Gaussian integer is factorized by trial division by small
+ * primes and Pollard's rho method with Brent's cycle detection for the rest.
+ * A rational prime {@code p = 1 (mod 4)} splits into {@code x + y * i} and its
+ * conjugate, where {@code x^2 + y^2 = p} is found by Cornacchia's algorithm
+ * from a square root of -1 modulo {@code p}.
+ *
+ * @since 0.0.1
+ */
+final class GaussianIntegers {
+    private static final int TRIAL_DIVISION_LIMIT = 1000;
+    private static final int CERTAINTY = 100;
+    private static final int BATCH_SIZE = 128;
+    private static final @NotNull BigInteger TWO = BigInteger.TWO;
+    private static final @NotNull BigInteger FOUR = BigInteger.valueOf(4L);
+
+    private GaussianIntegers() {
+    }
+
+    /**
+     * Returns the quotient rounded to the nearest integer with halves rounded
+     * up
+     *
+     * @param dividend dividend
+     * @param divisor divisor greater than 0
+     * @return rounded quotient
+     * @since 0.0.1
+     */
+    static @NotNull BigInteger roundedDivide(final @NotNull BigInteger dividend, final @NotNull BigInteger divisor) {
+        // floor((2 * dividend + divisor) / (2 * divisor))
+        final var quotientAndRemainder = dividend.shiftLeft(1).add(divisor).divideAndRemainder(divisor.shiftLeft(1));
+        return quotientAndRemainder[1].signum() < 0 ? quotientAndRemainder[0].subtract(BigInteger.ONE)
+            : quotientAndRemainder[0];
+    }
+
+    /**
+     * Returns the rounded quotient of longs whose absolute values are less
+     * than {@code 2^62}
+     *
+     * @param dividend dividend
+     * @param divisor divisor greater than 0
+     * @return rounded quotient
+     * @since 0.0.1
+     */
+    static long roundedDivide(final long dividend, final long divisor) {
+        return Math.floorDiv(2L * dividend + divisor, 2L * divisor);
+    }
+
+    /**
+     * Returns the prime factors with their multiplicities
+     *
+     * @param n n greater than 0
+     * @return prime factors in ascending order
+     * @since 0.0.1
+     */
+    static @NotNull SortedMap<@NotNull BigInteger, @NotNull Integer> factorize(final @NotNull BigInteger n) {
+        final var factors = new TreeMap<@NotNull BigInteger, @NotNull Integer>();
+        var rest = n;
+        for (var p = 2; p < TRIAL_DIVISION_LIMIT && rest.compareTo(BigInteger.ONE) > 0; p++) {
+            final var prime = BigInteger.valueOf(p);
+            while (rest.mod(prime).signum() == 0) {
+                factors.merge(prime, 1, Integer::sum);
+                rest = rest.divide(prime);
+            }
+        }
+        if (rest.compareTo(BigInteger.ONE) > 0) {
+            factorizeLarge(rest, factors);
+        }
+        return factors;
+    }
+
+    private static void factorizeLarge(
+        final @NotNull BigInteger n,
+        final @NotNull SortedMap<@NotNull BigInteger, @NotNull Integer> factors
+    ) {
+        if (n.isProbablePrime(CERTAINTY)) {
+            factors.merge(n, 1, Integer::sum);
+            return;
+        }
+        var divisor = n;
+        for (var c = BigInteger.ONE; divisor.equals(n); c = c.add(BigInteger.ONE)) {
+            divisor = brent(n, c);
+        }
+        factorizeLarge(divisor, factors);
+        factorizeLarge(n.divide(divisor), factors);
+    }
+
+    private static @NotNull BigInteger brent(final @NotNull BigInteger n, final @NotNull BigInteger c) {
+        // x -> x^2 + c with the products of the differences accumulated in batches to save gcds
+        var y = TWO;
+        var x = y;
+        var ys = y;
+        var q = BigInteger.ONE;
+        var g = BigInteger.ONE;
+        for (var r = 1; g.equals(BigInteger.ONE); r <<= 1) {
+            x = y;
+            for (var i = 0; i < r; i++) {
+                y = y.multiply(y).add(c).mod(n);
+            }
+            for (var k = 0; k < r && g.equals(BigInteger.ONE); k += BATCH_SIZE) {
+                ys = y;
+                for (var i = 0; i < Math.min(BATCH_SIZE, r - k); i++) {
+                    y = y.multiply(y).add(c).mod(n);
+                    q = q.multiply(x.subtract(y).abs()).mod(n);
+                }
+                g = q.gcd(n);
+            }
+        }
+        if (g.equals(n)) {
+            // the batch overshot, so that the differences are checked one by one
+            do {
+                ys = ys.multiply(ys).add(c).mod(n);
+                g = x.subtract(ys).abs().gcd(n);
+            } while (g.equals(BigInteger.ONE));
+        }
+        return g;
+    }
+
+    /**
+     * Returns {@code x} and {@code y} with {@code x^2 + y^2 = p} and
+     * {@code x, y > 0}
+     *
+     * @param p prime with {@code p = 1 (mod 4)}
+     * @return x and y
+     * @since 0.0.1
+     */
+    static @NotNull BigInteger @NotNull [] sumOfTwoSquares(final @NotNull BigInteger p) {
+        final var minusOne = p.subtract(BigInteger.ONE);
+        final var exponent = minusOne.divide(FOUR);
+        var t = BigInteger.ONE;
+        for (var c = TWO; !t.multiply(t).mod(p).equals(minusOne); c = c.add(BigInteger.ONE)) {
+            // c^((p - 1) / 4) is a square root of -1 for every quadratic non-residue c
+            t = c.modPow(exponent, p);
+        }
+        var a = p;
+        var b = t.compareTo(p.shiftRight(1)) > 0 ? p.subtract(t) : t;
+        while (b.multiply(b).compareTo(p) > 0) {
+            final var r = a.mod(b);
+            a = b;
+            b = r;
+        }
+        return new BigInteger[]{b, p.subtract(b.multiply(b)).sqrt()};
+    }
+}
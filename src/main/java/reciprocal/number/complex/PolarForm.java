@@ -1,9 +1,14 @@
 package reciprocal.number.complex;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Serial;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Immutable implementation of the polar form of a complex number that uses
@@ -15,6 +20,8 @@ public final class PolarForm extends AbstractPolarForm<@NotNull Double, @NotNull
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private transient @Nullable Complex complex;
+
     /**
      * Constructor
      *
@@ -26,6 +33,54 @@ public final class PolarForm extends AbstractPolarForm<@NotNull Double, @NotNull
         super(radial, angular);
     }
 
+    @Override
+    public @NotNull PolarForm multiply(final @NotNull PolarForm factor) {
+        requireNonNull(factor, "factor");
+        return new PolarForm(getRadial() * factor.getRadial(), getAngular() + factor.getAngular());
+    }
+
+    @Override
+    public @NotNull PolarForm divide(final @NotNull PolarForm divisor) {
+        requireNonNull(divisor, "divisor");
+        checkArgument(divisor.getRadial() != 0.0D, "divisor expected to be invertible but divisor = %s", divisor);
+        return new PolarForm(getRadial() / divisor.getRadial(), getAngular() - divisor.getAngular());
+    }
+
+    @Override
+    public @NotNull PolarForm pow(final int exponent) {
+        checkState(exponent >= 0 || getRadial() != 0.0D, "this expected to be invertible but this = %s", this);
+        return new PolarForm(Math.pow(getRadial(), exponent), getAngular() * exponent);
+    }
+
+    @Override
+    public @NotNull List<@NotNull PolarForm> roots(final int n) {
+        checkArgument(n > 0, "n > 0 expected but n = %s", n);
+        final var radial = n == 1 ? getRadial() : Math.pow(getRadial(), 1.0D / n);
+        final var remainder = Math.IEEEremainder(getAngular(), 2.0D * Math.PI);
+        final var angular = remainder <= -Math.PI ? remainder + 2.0D * Math.PI : remainder;
+        return IntStream.range(0, n).mapToObj(k -> new PolarForm(radial, (angular + 2.0D * Math.PI * k) / n))
+            .toList();
+    }
+
+    /**
+     * Returns this as {@link Complex}
+     * <p>
+     * The cosine and the sine of the angular are calculated once, so that the
+     * result is cached.
+     *
+     * @return {@link Complex}
+     * @since 0.0.1
+     */
+    public @NotNull Complex toComplex() {
+        final var cached = complex;
+        if (cached != null) {
+            return cached;
+        }
+        final var value = new Complex(getRadial() * Math.cos(getAngular()), getRadial() * Math.sin(getAngular()));
+        complex = value;
+        return value;
+    }
+
     @Override
     public boolean equalsByComparing(final @NotNull PolarForm other) {
         requireNonNull(other, "other");
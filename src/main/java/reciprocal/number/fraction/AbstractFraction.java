@@ -7,14 +7,21 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serial;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import reciprocal.ReciprocalContext;
 import reciprocal.number.complex.BigComplex;
 import reciprocal.number.complex.Complex;
 
 /**
  * Base class for fractions
+ * <p>
+ * Fractions calculate their reduced form, double value and hash code on every
+ * call. An instance returned by {@link #cached()} calculates them once and
+ * keeps them, which pays off when the same fraction is queried many times.
  *
  * @param <N> {@link Number}
  * @param <T> {@link AbstractFraction}
@@ -28,6 +35,7 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
 
     private final @NotNull N numerator;
     private final @NotNull N denominator;
+    private transient @Nullable Cache<T> cache;
 
     /**
      * All arguments Constructor
@@ -99,11 +107,15 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
 
     /**
      * Indicates if this is irreducible
+     * <p>
+     * The default implementation checks if {@link #reduce()} returns this.
      *
      * @return {@link Boolean}
      * @since 0.0.1
      */
-    public abstract boolean isIrreducible();
+    public boolean isIrreducible() {
+        return reduce() == this;
+    }
 
     /**
      * Indicates if this is not reducible
@@ -356,6 +368,36 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
      */
     public abstract @NotNull T reduce();
 
+    /**
+     * Returns an equal fraction which caches its reduced form, double value
+     * and hash code
+     * <p>
+     * The values are calculated on first use. Concurrent first uses may
+     * calculate them more than once.
+     *
+     * @return this when this is cached, otherwise a new cached fraction
+     * @since 0.0.1
+     */
+    @SuppressWarnings("unchecked")
+    public final @NotNull T cached() {
+        if (cache != null) {
+            return (T) this;
+        }
+        final AbstractFraction<N, T, Q> result = getConstructor().apply(numerator, denominator);
+        result.cache = new Cache<>();
+        return (T) result;
+    }
+
+    /**
+     * Indicates if this caches its derived values
+     *
+     * @return {@link Boolean}
+     * @since 0.0.1
+     */
+    public final boolean isCached() {
+        return cache != null;
+    }
+
     /**
      * Returns if this is equivalent to other
      *
@@ -366,35 +408,40 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
      */
     public final boolean equivalent(final @NotNull T other) {
         requireNonNull(other, "other");
-        return normalize().reduce().equals(other.normalize().reduce());
+        return reduce().normalize().equals(other.reduce().normalize());
     }
 
     /**
-     * Returns this as {@link BigDecimal}
+     * Returns this as {@link BigDecimal} rounded to the {@link MathContext} of
+     * the current {@link ReciprocalContext}
      *
      * @return {@link BigDecimal}
      * @since 0.0.1
      */
     public abstract @NotNull BigDecimal toBigDecimal();
 
-    @Override
-    public final int intValue() {
-        return toBigDecimal().intValue();
-    }
-
-    @Override
-    public final long longValue() {
-        return toBigDecimal().longValue();
-    }
-
-    @Override
-    public final float floatValue() {
-        return toBigDecimal().floatValue();
-    }
+    /**
+     * Returns this as {@link BigDecimal}
+     *
+     * @param mathContext {@link MathContext}
+     * @return {@link BigDecimal}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public abstract @NotNull BigDecimal toBigDecimal(@NotNull MathContext mathContext);
 
     @Override
     public final double doubleValue() {
-        return toBigDecimal().doubleValue();
+        final var c = cache;
+        if (c == null) {
+            return calculateDoubleValue();
+        }
+        var result = c.doubleValue;
+        if (result == null) {
+            result = calculateDoubleValue();
+            c.doubleValue = result;
+        }
+        return result;
     }
 
     /**
@@ -433,6 +480,39 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
      */
     protected abstract @NotNull BiFunction<N, N, T> getConstructor();
 
+    /**
+     * Returns the cached reduced fraction or calculates it
+     *
+     * @param reduction calculation of the reduced fraction
+     * @return reduced
+     * @since 0.0.1
+     */
+    protected final @NotNull T cachedReduced(final @NotNull Supplier<@NotNull T> reduction) {
+        final var c = cache;
+        if (c == null) {
+            return reduction.get();
+        }
+        var result = c.reduced;
+        if (result == null) {
+            result = reduction.get();
+            c.reduced = result;
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the double of the quotient
+     * <p>
+     * The default implementation rounds the {@link BigDecimal} to
+     * {@link MathContext#DECIMAL128}.
+     *
+     * @return double
+     * @since 0.0.1
+     */
+    protected double calculateDoubleValue() {
+        return toBigDecimal(MathContext.DECIMAL128).doubleValue();
+    }
+
     /**
      * Binary + operator for Groovy and Kotlin
      *
@@ -505,7 +585,17 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
 
     @Override
     public final int hashCode() {
-        return hash(numerator, denominator);
+        final var c = cache;
+        if (c == null) {
+            return hash(numerator, denominator);
+        }
+        // 0 is recalculated like in String
+        var result = c.hashCode;
+        if (result == 0) {
+            result = hash(numerator, denominator);
+            c.hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -524,4 +614,10 @@ public abstract class AbstractFraction<N extends Number, T extends AbstractFract
     public final @NotNull String toString() {
         return getClass().getSimpleName() + "{numerator=" + numerator + ", denominator=" + denominator + "}";
     }
+
+    private static final class Cache<T> {
+        private @Nullable T reduced;
+        private @Nullable Double doubleValue;
+        private int hashCode;
+    }
 }
@@ -2,6 +2,7 @@ package reciprocal.number.fraction;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.noNullElements;
 
 import com.google.common.math.BigIntegerMath;
 import java.io.Serial;
@@ -9,10 +10,12 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a fraction that uses {@link BigFraction} as type
@@ -105,11 +108,6 @@ public final class BigFraction extends
         return BigIntegerMath.isPowerOfTwo(getDenominator());
     }
 
-    @Override
-    public boolean isIrreducible() {
-        return getNumerator().abs().gcd(getDenominator().abs()).compareTo(BigInteger.ONE) == 0;
-    }
-
     @Override
     public boolean isProper() {
         return getNumerator().abs().compareTo(getDenominator().abs()) < 0;
@@ -189,13 +187,156 @@ public final class BigFraction extends
 
     @Override
     public @NotNull BigFraction reduce() {
-        final var gcd = getNumerator().gcd(getDenominator()).abs();
-        return new BigFraction(getNumerator().divide(gcd), getDenominator().divide(gcd));
+        return cachedReduced(this::calculateReduced);
+    }
+
+    @Override
+    public int intValue() {
+        return getNumerator().divide(getDenominator()).intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return getNumerator().divide(getDenominator()).longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return Quotients.toFloat(getNumerator(), getDenominator());
     }
 
     @Override
     public @NotNull BigDecimal toBigDecimal() {
-        return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()), MathContext.DECIMAL128);
+        return toBigDecimal(ReciprocalContext.current().mathContext());
+    }
+
+    @Override
+    public @NotNull BigDecimal toBigDecimal(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()), mathContext);
+    }
+
+    /**
+     * Returns the terms of the continued fraction
+     * <p>
+     * The terms are calculated lazily by the Euclidean algorithm. The first
+     * term is the floor of this and all other terms are greater than 0.
+     *
+     * @return terms
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigInteger> continuedFraction() {
+        final var normalized = normalizeSigns();
+        return ContinuedFractions.terms(normalized.getNumerator(), normalized.getDenominator());
+    }
+
+    /**
+     * Returns the convergents of the continued fraction
+     * <p>
+     * The convergents are reduced and calculated lazily. The last convergent
+     * is the reduced fraction.
+     *
+     * @return convergents
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigFraction> convergents() {
+        final var normalized = normalizeSigns();
+        return ContinuedFractions.convergents(normalized.getNumerator(), normalized.getDenominator())
+            .map(pq -> new BigFraction(pq[0], pq[1]));
+    }
+
+    /**
+     * Returns the closest fraction whose denominator is at most the max
+     * denominator
+     *
+     * @param maxDenominator max denominator
+     * @return best rational approximation
+     * @throws NullPointerException when {@code maxDenominator == null}
+     * @throws IllegalArgumentException when {@code maxDenominator < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction limitDenominator(final @NotNull BigInteger maxDenominator) {
+        requireNonNull(maxDenominator, "maxDenominator");
+        checkArgument(maxDenominator.signum() > 0, "maxDenominator > 0 expected but maxDenominator = %s",
+            maxDenominator);
+        final var pq = ContinuedFractions.bestApproximation(getNumerator().abs(), getDenominator().abs(),
+            maxDenominator);
+        return new BigFraction(getSignum() < 0 ? pq[0].negate() : pq[0], pq[1]);
+    }
+
+    /**
+     * Returns the value as {@link BigFraction}
+     *
+     * @param value value
+     * @return unscaled value / 10^scale
+     * @throws NullPointerException when {@code value == null}
+     * @since 0.0.1
+     */
+    public static @NotNull BigFraction valueOf(final @NotNull BigDecimal value) {
+        requireNonNull(value, "value");
+        if (value.scale() <= 0) {
+            return ofNumerator(value.toBigIntegerExact());
+        }
+        return new BigFraction(value.unscaledValue(), BigInteger.TEN.pow(value.scale()));
+    }
+
+    /**
+     * Returns the closest fraction to the value whose denominator is at most
+     * the max denominator
+     *
+     * @param value value
+     * @param maxDenominator max denominator
+     * @return best rational approximation
+     * @throws NullPointerException when {@code value == null}
+     * @throws NullPointerException when {@code maxDenominator == null}
+     * @throws IllegalArgumentException when {@code maxDenominator < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull BigFraction approximate(
+        final @NotNull BigDecimal value,
+        final @NotNull BigInteger maxDenominator
+    ) {
+        return valueOf(value).limitDenominator(maxDenominator);
+    }
+
+    /**
+     * Calculates the sum of the fractions
+     * <p>
+     * The fractions are summed in a balanced binary tree in parallel and the
+     * partial sums are kept reduced by gcds of the common factors of their
+     * denominators, which is much faster than adding many fractions one by one.
+     *
+     * @param fractions fractions
+     * @return reduced sum with a positive denominator
+     * @throws NullPointerException when {@code fractions == null}
+     * @throws IllegalArgumentException when one fraction is null
+     * @since 0.0.1
+     */
+    public static @NotNull BigFraction sum(final @NotNull Collection<@NotNull BigFraction> fractions) {
+        requireNonNull(fractions, "fractions");
+        noNullElements(fractions, "all fractions expected not to be null but fractions = %s", fractions);
+        return FractionSums.sum(fractions.stream().map(BigFraction::getNumerator).toArray(BigInteger[]::new),
+            fractions.stream().map(BigFraction::getDenominator).toArray(BigInteger[]::new));
+    }
+
+    /**
+     * Calculates the sum of the fractions
+     *
+     * @param fractions fractions
+     * @return reduced sum
+     * @throws NullPointerException when {@code fractions == null}
+     * @throws IllegalArgumentException when one fraction is null
+     * @see #sum(Collection)
+     * @since 0.0.1
+     */
+    public static @NotNull BigFraction sum(final @NotNull Stream<@NotNull BigFraction> fractions) {
+        requireNonNull(fractions, "fractions");
+        return sum(fractions.toList());
+    }
+
+    private @NotNull BigFraction normalizeSigns() {
+        return getDenominator().signum() < 0 ? new BigFraction(getNumerator().negate(), getDenominator().negate())
+            : this;
     }
 
     @Override
@@ -213,6 +354,19 @@ public final class BigFraction extends
         return BigFraction::new;
     }
 
+    private @NotNull BigFraction calculateReduced() {
+        final var gcd = Gcds.gcd(getNumerator(), getDenominator());
+        if (gcd.equals(BigInteger.ONE)) {
+            return this;
+        }
+        return new BigFraction(getNumerator().divide(gcd), getDenominator().divide(gcd));
+    }
+
+    @Override
+    protected double calculateDoubleValue() {
+        return Quotients.toDouble(getNumerator(), getDenominator());
+    }
+
     /**
      * Comparator
      *
@@ -0,0 +1,265 @@
+package reciprocal.number.fraction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.noNullElements;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable array of fractions that stores the numerators and denominators of
+ * its elements in parallel arrays of {@link BigInteger BigIntegers}
+ * <p>
+ * The bulk operations work on the arrays without creating a
+ * {@link BigFraction} per element. Sums are calculated like
+ * {@link BigFraction#sum(Collection)} and products are cancelled crosswise, so
+ * that the intermediate results stay small.
+ *
+ * @since 0.0.1
+ */
+public final class BigFractionArray implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final @NotNull BigInteger @NotNull [] numerators;
+    private final @NotNull BigInteger @NotNull [] denominators;
+
+    private BigFractionArray(
+        final @NotNull BigInteger @NotNull [] numerators,
+        final @NotNull BigInteger @NotNull [] denominators
+    ) {
+        this.numerators = numerators;
+        this.denominators = denominators;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param numerators numerators
+     * @param denominators denominators
+     * @return {@link BigFractionArray}
+     * @throws NullPointerException when {@code numerators == null}
+     * @throws NullPointerException when {@code denominators == null}
+     * @throws IllegalArgumentException when one numerator or denominator is null
+     * @throws IllegalArgumentException when {@code numerators.length != denominators.length}
+     * @throws IllegalArgumentException when one denominator is 0
+     * @since 0.0.1
+     */
+    public static @NotNull BigFractionArray of(
+        final @NotNull BigInteger @NotNull [] numerators,
+        final @NotNull BigInteger @NotNull [] denominators
+    ) {
+        requireNonNull(numerators, "numerators");
+        requireNonNull(denominators, "denominators");
+        noNullElements(numerators, "all numerators expected not to be null but numerators = %s",
+            Arrays.toString(numerators));
+        noNullElements(denominators, "all denominators expected not to be null but denominators = %s",
+            Arrays.toString(denominators));
+        checkArgument(numerators.length == denominators.length, "equal lengths expected but %s != %s",
+            numerators.length, denominators.length);
+        checkArgument(Arrays.stream(denominators).noneMatch(d -> d.signum() == 0),
+            "all denominators expected not to be 0 but denominators = %s", Arrays.toString(denominators));
+        return new BigFractionArray(numerators.clone(), denominators.clone());
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param fractions fractions
+     * @return {@link BigFractionArray}
+     * @throws NullPointerException when {@code fractions == null}
+     * @throws IllegalArgumentException when one fraction is null
+     * @since 0.0.1
+     */
+    public static @NotNull BigFractionArray of(final @NotNull Collection<@NotNull BigFraction> fractions) {
+        requireNonNull(fractions, "fractions");
+        noNullElements(fractions, "all fractions expected not to be null but fractions = %s", fractions);
+        return new BigFractionArray(fractions.stream().map(BigFraction::getNumerator).toArray(BigInteger[]::new),
+            fractions.stream().map(BigFraction::getDenominator).toArray(BigInteger[]::new));
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return size
+     * @since 0.0.1
+     */
+    public int size() {
+        return numerators.length;
+    }
+
+    /**
+     * Returns the element at the index
+     *
+     * @param index index
+     * @return element
+     * @throws IndexOutOfBoundsException when {@code index < 0 || size() <= index}
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction get(final int index) {
+        Objects.checkIndex(index, size());
+        return new BigFraction(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Returns the elements
+     *
+     * @return elements
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigFraction> stream() {
+        return IntStream.range(0, size()).mapToObj(i -> new BigFraction(numerators[i], denominators[i]));
+    }
+
+    /**
+     * Calculates the reduced sum of all elements
+     *
+     * @return sum with a positive denominator
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction sum() {
+        return FractionSums.sum(numerators, denominators);
+    }
+
+    /**
+     * Calculates the reduced product of all elements
+     *
+     * @return product
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction product() {
+        var num = BigInteger.ONE;
+        var den = BigInteger.ONE;
+        for (var i = 0; i < size(); i++) {
+            // crosswise cancelling keeps the intermediate products small
+            final var g1 = num.gcd(denominators[i]);
+            final var g2 = numerators[i].gcd(den);
+            num = num.divide(g1).multiply(numerators[i].divide(g2));
+            den = den.divide(g2).multiply(denominators[i].divide(g1));
+        }
+        return new BigFraction(num, den).reduce();
+    }
+
+    /**
+     * Calculates the reduced dot product
+     *
+     * @param other other
+     * @return dot product with a positive denominator
+     * @throws NullPointerException when {@code other == null}
+     * @throws IllegalArgumentException when {@code size() != other.size()}
+     * @since 0.0.1
+     */
+    public @NotNull BigFraction dot(final @NotNull BigFractionArray other) {
+        requireNonNull(other, "other");
+        checkArgument(size() == other.size(), "equal sizes expected but %s != %s", size(), other.size());
+        final var nums = new BigInteger[size()];
+        final var dens = new BigInteger[size()];
+        for (var i = 0; i < size(); i++) {
+            final var g1 = numerators[i].gcd(other.denominators[i]);
+            final var g2 = other.numerators[i].gcd(denominators[i]);
+            nums[i] = numerators[i].divide(g1).multiply(other.numerators[i].divide(g2));
+            dens[i] = denominators[i].divide(g2).multiply(other.denominators[i].divide(g1));
+        }
+        return FractionSums.sum(nums, dens);
+    }
+
+    /**
+     * Multiplies all elements by the factor
+     *
+     * @param factor factor
+     * @return scaled {@link BigFractionArray}
+     * @throws NullPointerException when {@code factor == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionArray scale(final @NotNull BigFraction factor) {
+        requireNonNull(factor, "factor");
+        final var reduced = factor.reduce();
+        final var factorNumerator = reduced.getNumerator();
+        final var factorDenominator = reduced.getDenominator();
+        final var nums = new BigInteger[size()];
+        final var dens = new BigInteger[size()];
+        for (var i = 0; i < size(); i++) {
+            final var g1 = numerators[i].gcd(factorDenominator);
+            final var g2 = factorNumerator.gcd(denominators[i]);
+            nums[i] = numerators[i].divide(g1).multiply(factorNumerator.divide(g2));
+            dens[i] = denominators[i].divide(g2).multiply(factorDenominator.divide(g1));
+        }
+        return new BigFractionArray(nums, dens);
+    }
+
+    /**
+     * Reduces all elements
+     *
+     * @return reduced {@link BigFractionArray}
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionArray reduceAll() {
+        final var nums = numerators.clone();
+        final var dens = denominators.clone();
+        for (var i = 0; i < size(); i++) {
+            final var gcd = nums[i].gcd(dens[i]);
+            if (!gcd.equals(BigInteger.ONE)) {
+                nums[i] = nums[i].divide(gcd);
+                dens[i] = dens[i].divide(gcd);
+            }
+        }
+        return new BigFractionArray(nums, dens);
+    }
+
+    /**
+     * Sorts the elements in ascending order
+     *
+     * @return sorted {@link BigFractionArray}
+     * @since 0.0.1
+     */
+    public @NotNull BigFractionArray sort() {
+        final Comparator<@NotNull Integer> comparator = (i, j) -> {
+            // a / b < c / d if a * d < c * b for b * d > 0
+            final var comparison = numerators[i].multiply(denominators[j])
+                .compareTo(numerators[j].multiply(denominators[i]));
+            return denominators[i].signum() == denominators[j].signum() ? comparison : -comparison;
+        };
+        final var indices = IntStream.range(0, size()).boxed().sorted(comparator).mapToInt(Integer::intValue)
+            .toArray();
+        final var nums = new BigInteger[size()];
+        final var dens = new BigInteger[size()];
+        for (var i = 0; i < size(); i++) {
+            nums[i] = numerators[indices[i]];
+            dens[i] = denominators[indices[i]];
+        }
+        return new BigFractionArray(nums, dens);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(numerators) + Arrays.hashCode(denominators);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final var other = (BigFractionArray) obj;
+        return Arrays.equals(numerators, other.numerators) && Arrays.equals(denominators, other.denominators);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "BigFractionArray{numerators=" + Arrays.toString(numerators) + ", denominators="
+            + Arrays.toString(denominators) + "}";
+    }
+}
@@ -0,0 +1,304 @@
+package reciprocal.number.fraction;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Continued fractions of quotients of integers
+ * <p>
+ * The terms are the quotients of the Euclidean algorithm and are calculated
+ * lazily. The convergents {@code p(n) / q(n)} follow from the recurrences
+ * {@code p(n) = a(n) * p(n - 1) + p(n - 2)} and
+ * {@code q(n) = a(n) * q(n - 1) + q(n - 2)}. The best rational approximation
+ * with a bounded denominator is either the last convergent or the greatest
+ * semiconvergent whose denominator is within the bound, so that it takes a
+ * logarithmic number of steps instead of a search over all denominators.
+ *
+ * @since 0.0.1
+ */
+final class ContinuedFractions {
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private ContinuedFractions() {
+    }
+
+    /**
+     * Returns the terms of the continued fraction
+     *
+     * @param numerator numerator
+     * @param denominator denominator greater than 0
+     * @return terms
+     * @since 0.0.1
+     */
+    static @NotNull LongStream terms(final long numerator, final long denominator) {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(new LongTerms(numerator, denominator),
+            CHARACTERISTICS), false);
+    }
+
+    /**
+     * Returns the terms of the continued fraction
+     *
+     * @param numerator numerator
+     * @param denominator denominator greater than 0
+     * @return terms
+     * @since 0.0.1
+     */
+    static @NotNull Stream<@NotNull BigInteger> terms(
+        final @NotNull BigInteger numerator,
+        final @NotNull BigInteger denominator
+    ) {
+        return stream(new BigTerms(numerator, denominator));
+    }
+
+    /**
+     * Returns the convergents as pairs of numerator and denominator
+     *
+     * @param numerator numerator
+     * @param denominator denominator greater than 0
+     * @return convergents
+     * @since 0.0.1
+     */
+    static @NotNull Stream<long @NotNull []> convergents(final long numerator, final long denominator) {
+        final var terms = new LongTerms(numerator, denominator);
+        return stream(new Iterator<>() {
+            private long p0;
+            private long q0 = 1L;
+            private long p1 = 1L;
+            private long q1;
+
+            @Override
+            public boolean hasNext() {
+                return terms.hasNext();
+            }
+
+            @Override
+            public long @NotNull [] next() {
+                final var a = terms.nextLong();
+                final var p = a * p1 + p0;
+                final var q = a * q1 + q0;
+                p0 = p1;
+                q0 = q1;
+                p1 = p;
+                q1 = q;
+                return new long[]{p, q};
+            }
+        });
+    }
+
+    /**
+     * Returns the convergents as pairs of numerator and denominator
+     *
+     * @param numerator numerator
+     * @param denominator denominator greater than 0
+     * @return convergents
+     * @since 0.0.1
+     */
+    static @NotNull Stream<@NotNull BigInteger @NotNull []> convergents(
+        final @NotNull BigInteger numerator,
+        final @NotNull BigInteger denominator
+    ) {
+        final var terms = new BigTerms(numerator, denominator);
+        return stream(new Iterator<>() {
+            private BigInteger p0 = BigInteger.ZERO;
+            private BigInteger q0 = BigInteger.ONE;
+            private BigInteger p1 = BigInteger.ONE;
+            private BigInteger q1 = BigInteger.ZERO;
+
+            @Override
+            public boolean hasNext() {
+                return terms.hasNext();
+            }
+
+            @Override
+            public @NotNull BigInteger @NotNull [] next() {
+                final var a = terms.next();
+                final var p = a.multiply(p1).add(p0);
+                final var q = a.multiply(q1).add(q0);
+                p0 = p1;
+                q0 = q1;
+                p1 = p;
+                q1 = q;
+                return new BigInteger[]{p, q};
+            }
+        });
+    }
+
+    /**
+     * Returns the best rational approximation with a bounded denominator
+     *
+     * @param numerator numerator greater than or equal to 0
+     * @param denominator denominator greater than 0
+     * @param maxDenominator max denominator greater than 0
+     * @return numerator and denominator of the best rational approximation
+     * @throws ArithmeticException when the numerator of the approximation does not fit into a long
+     * @since 0.0.1
+     */
+    static long @NotNull [] bestApproximation(
+        final long numerator,
+        final long denominator,
+        final long maxDenominator
+    ) {
+        var p0 = 0L;
+        var q0 = 1L;
+        var p1 = 1L;
+        var q1 = 0L;
+        var n = numerator;
+        var d = denominator;
+        while (d != 0L) {
+            final var a = n / d;
+            if (q1 != 0L && a > (maxDenominator - q0) / q1) {
+                // the next convergent exceeds the bound, so that the greatest semiconvergent is the other candidate
+                final var k = (maxDenominator - q0) / q1;
+                final var p = Math.addExact(Math.multiplyExact(k, p1), p0);
+                final var q = k * q1 + q0;
+                return isCloser(numerator, denominator, p, q, p1, q1) ? new long[]{p, q} : new long[]{p1, q1};
+            }
+            final var p = Math.addExact(Math.multiplyExact(a, p1), p0);
+            final var q = a * q1 + q0;
+            p0 = p1;
+            q0 = q1;
+            p1 = p;
+            q1 = q;
+            final var r = n - a * d;
+            n = d;
+            d = r;
+        }
+        return new long[]{p1, q1};
+    }
+
+    /**
+     * Returns the best rational approximation with a bounded denominator
+     *
+     * @param numerator numerator greater than or equal to 0
+     * @param denominator denominator greater than 0
+     * @param maxDenominator max denominator greater than 0
+     * @return numerator and denominator of the best rational approximation
+     * @since 0.0.1
+     */
+    static @NotNull BigInteger @NotNull [] bestApproximation(
+        final @NotNull BigInteger numerator,
+        final @NotNull BigInteger denominator,
+        final @NotNull BigInteger maxDenominator
+    ) {
+        var p0 = BigInteger.ZERO;
+        var q0 = BigInteger.ONE;
+        var p1 = BigInteger.ONE;
+        var q1 = BigInteger.ZERO;
+        var n = numerator;
+        var d = denominator;
+        while (d.signum() != 0) {
+            final var quotientAndRemainder = n.divideAndRemainder(d);
+            final var a = quotientAndRemainder[0];
+            final var q = a.multiply(q1).add(q0);
+            if (q.compareTo(maxDenominator) > 0) {
+                final var k = maxDenominator.subtract(q0).divide(q1);
+                final var semiconvergent = new BigInteger[]{k.multiply(p1).add(p0), k.multiply(q1).add(q0)};
+                return distance(numerator, denominator, semiconvergent[0], semiconvergent[1]).multiply(q1)
+                    .compareTo(distance(numerator, denominator, p1, q1).multiply(semiconvergent[1])) < 0
+                    ? semiconvergent : new BigInteger[]{p1, q1};
+            }
+            final var p = a.multiply(p1).add(p0);
+            p0 = p1;
+            q0 = q1;
+            p1 = p;
+            q1 = q;
+            n = d;
+            d = quotientAndRemainder[1];
+        }
+        return new BigInteger[]{p1, q1};
+    }
+
+    private static boolean isCloser(
+        final long numerator,
+        final long denominator,
+        final long p,
+        final long q,
+        final long otherP,
+        final long otherQ
+    ) {
+        // |x - p / q| < |x - p' / q'| if |n * q - d * p| * q' < |n * q' - d * p'| * q
+        final var n = BigInteger.valueOf(numerator);
+        final var d = BigInteger.valueOf(denominator);
+        return distance(n, d, BigInteger.valueOf(p), BigInteger.valueOf(q)).multiply(BigInteger.valueOf(otherQ))
+            .compareTo(distance(n, d, BigInteger.valueOf(otherP), BigInteger.valueOf(otherQ))
+                .multiply(BigInteger.valueOf(q))) < 0;
+    }
+
+    private static @NotNull BigInteger distance(
+        final @NotNull BigInteger numerator,
+        final @NotNull BigInteger denominator,
+        final @NotNull BigInteger p,
+        final @NotNull BigInteger q
+    ) {
+        return numerator.multiply(q).subtract(denominator.multiply(p)).abs();
+    }
+
+    private static <T> @NotNull Stream<T> stream(final @NotNull Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, CHARACTERISTICS), false);
+    }
+
+    private static final class LongTerms implements PrimitiveIterator.OfLong {
+        private long n;
+        private long d;
+
+        private LongTerms(final long numerator, final long denominator) {
+            n = numerator;
+            d = denominator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return d != 0L;
+        }
+
+        @Override
+        public long nextLong() {
+            if (d == 0L) {
+                throw new NoSuchElementException();
+            }
+            final var a = Math.floorDiv(n, d);
+            final var r = Math.floorMod(n, d);
+            n = d;
+            d = r;
+            return a;
+        }
+    }
+
+    private static final class BigTerms implements Iterator<@NotNull BigInteger> {
+        private @NotNull BigInteger n;
+        private @NotNull BigInteger d;
+
+        private BigTerms(final @NotNull BigInteger numerator, final @NotNull BigInteger denominator) {
+            n = numerator;
+            d = denominator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return d.signum() != 0;
+        }
+
+        @Override
+        public @NotNull BigInteger next() {
+            if (d.signum() == 0) {
+                throw new NoSuchElementException();
+            }
+            final var quotientAndRemainder = n.divideAndRemainder(d);
+            // floor instead of truncation, so that all remainders are not negative
+            final var negative = quotientAndRemainder[1].signum() < 0;
+            final var a = negative ? quotientAndRemainder[0].subtract(BigInteger.ONE) : quotientAndRemainder[0];
+            final var r = negative ? quotientAndRemainder[1].add(d) : quotientAndRemainder[1];
+            n = d;
+            d = r;
+            return a;
+        }
+    }
+}
@@ -11,8 +11,10 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.Comparator;
 import java.util.function.BiFunction;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
 
 /**
  * Immutable implementation of a fraction that uses {@link Long} as type for
@@ -47,6 +49,12 @@ public final class Fraction extends AbstractFraction<@NotNull Long, @NotNull Fra
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private static final double TWO_POW_63 = 0x1.0p63D;
+    private static final int SIGNIFICAND_BITS = 52;
+    private static final long SIGNIFICAND_MASK = (1L << SIGNIFICAND_BITS) - 1L;
+    private static final int BIASED_EXPONENT_MASK = 0x7FF;
+    private static final int EXPONENT_BIAS = 1023;
+
     /**
      * Constructor
      *
@@ -97,11 +105,6 @@ public final class Fraction extends AbstractFraction<@NotNull Long, @NotNull Fra
         return LongMath.isPowerOfTwo(getDenominator());
     }
 
-    @Override
-    public boolean isIrreducible() {
-        return LongMath.gcd(Math.abs(getNumerator()), Math.abs(getDenominator())) == 1L;
-    }
-
     @Override
     public boolean isProper() {
         return Math.abs(getNumerator()) < Math.abs(getDenominator());
@@ -180,13 +183,33 @@ public final class Fraction extends AbstractFraction<@NotNull Long, @NotNull Fra
 
     @Override
     public @NotNull Fraction reduce() {
-        final var gcd = LongMath.gcd(Math.abs(getNumerator()), Math.abs(getDenominator()));
-        return new Fraction(getNumerator() / gcd, getDenominator() / gcd);
+        return cachedReduced(this::calculateReduced);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return getNumerator() / getDenominator();
+    }
+
+    @Override
+    public float floatValue() {
+        return Quotients.toFloat(getNumerator(), getDenominator());
     }
 
     @Override
     public @NotNull BigDecimal toBigDecimal() {
-        return BigDecimal.valueOf(getNumerator()).divide(BigDecimal.valueOf(getDenominator()), MathContext.DECIMAL128);
+        return toBigDecimal(ReciprocalContext.current().mathContext());
+    }
+
+    @Override
+    public @NotNull BigDecimal toBigDecimal(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return BigDecimal.valueOf(getNumerator()).divide(BigDecimal.valueOf(getDenominator()), mathContext);
     }
 
     /**
@@ -198,6 +221,108 @@ public final class Fraction extends AbstractFraction<@NotNull Long, @NotNull Fra
         return new BigFraction(BigInteger.valueOf(getNumerator()), BigInteger.valueOf(getDenominator()));
     }
 
+    /**
+     * Returns the terms of the continued fraction
+     * <p>
+     * The terms are calculated lazily by the Euclidean algorithm. The first
+     * term is the floor of this and all other terms are greater than 0.
+     *
+     * @return terms
+     * @throws ArithmeticException when {@code numerator == Long.MIN_VALUE} and {@code denominator < 0}
+     * @since 0.0.1
+     */
+    public @NotNull LongStream continuedFraction() {
+        final var signum = Long.signum(getDenominator());
+        return ContinuedFractions.terms(Math.multiplyExact(signum, getNumerator()),
+            Math.multiplyExact(signum, getDenominator()));
+    }
+
+    /**
+     * Returns the convergents of the continued fraction
+     * <p>
+     * The convergents are reduced and calculated lazily. The last convergent
+     * is the reduced fraction.
+     *
+     * @return convergents
+     * @throws ArithmeticException when {@code numerator == Long.MIN_VALUE} and {@code denominator < 0}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull Fraction> convergents() {
+        final var signum = Long.signum(getDenominator());
+        return ContinuedFractions.convergents(Math.multiplyExact(signum, getNumerator()),
+            Math.multiplyExact(signum, getDenominator())).map(pq -> new Fraction(pq[0], pq[1]));
+    }
+
+    /**
+     * Returns the closest fraction whose denominator is at most the max
+     * denominator
+     *
+     * @param maxDenominator max denominator
+     * @return best rational approximation
+     * @throws IllegalArgumentException when {@code maxDenominator < 1}
+     * @throws ArithmeticException when {@code numerator == Long.MIN_VALUE}
+     * @since 0.0.1
+     */
+    public @NotNull Fraction limitDenominator(final long maxDenominator) {
+        checkArgument(maxDenominator > 0L, "maxDenominator > 0 expected but maxDenominator = %s", maxDenominator);
+        return approximate(Math.absExact(getNumerator()), Math.absExact(getDenominator()), getSignum(),
+            maxDenominator);
+    }
+
+    /**
+     * Returns the closest fraction to the value whose denominator is at most
+     * the max denominator
+     * <p>
+     * The value is expanded exactly into a continued fraction, so that no
+     * rounding errors of doubles accumulate. Values whose binary representation
+     * needs a denominator of more than 62 bits are expanded as
+     * {@link BigFraction}.
+     *
+     * @param value value
+     * @param maxDenominator max denominator
+     * @return best rational approximation
+     * @throws IllegalArgumentException when value is not finite
+     * @throws IllegalArgumentException when {@code |value| >= 2^63}
+     * @throws IllegalArgumentException when {@code maxDenominator < 1}
+     * @since 0.0.1
+     */
+    public static @NotNull Fraction approximate(final double value, final long maxDenominator) {
+        checkArgument(Double.isFinite(value), "value expected to be finite but value = %s", value);
+        checkArgument(Math.abs(value) < TWO_POW_63, "|value| < 2^63 expected but value = %s", value);
+        checkArgument(maxDenominator > 0L, "maxDenominator > 0 expected but maxDenominator = %s", maxDenominator);
+        if (value == 0.0D) {
+            return ZERO;
+        }
+        // |value| = significand * 2^exponent exactly
+        final var bits = Double.doubleToRawLongBits(value);
+        final var biased = (int) (bits >>> SIGNIFICAND_BITS & BIASED_EXPONENT_MASK);
+        final var fraction = bits & SIGNIFICAND_MASK;
+        final var significand = biased == 0 ? fraction : fraction | 1L << SIGNIFICAND_BITS;
+        final var exponent = (biased == 0 ? 1 : biased) - EXPONENT_BIAS - SIGNIFICAND_BITS;
+        final var signum = value < 0.0D ? -1 : 1;
+        if (exponent >= 0) {
+            return ofNumerator(signum * (significand << exponent));
+        }
+        final var shift = Math.min(Long.numberOfTrailingZeros(significand), -exponent);
+        final var denominatorBits = -exponent - shift;
+        if (denominatorBits < Long.SIZE - 1) {
+            return approximate(significand >>> shift, 1L << denominatorBits, signum, maxDenominator);
+        }
+        final var approximation = BigFraction.approximate(new BigDecimal(value), BigInteger.valueOf(maxDenominator));
+        return new Fraction(approximation.getNumerator().longValueExact(),
+            approximation.getDenominator().longValueExact());
+    }
+
+    private static @NotNull Fraction approximate(
+        final long numerator,
+        final long denominator,
+        final int signum,
+        final long maxDenominator
+    ) {
+        final var pq = ContinuedFractions.bestApproximation(numerator, denominator, maxDenominator);
+        return new Fraction(signum * pq[0], pq[1]);
+    }
+
     @Override
     protected @NotNull Fraction getOne() {
         return ONE;
@@ -208,6 +333,19 @@ public final class Fraction extends AbstractFraction<@NotNull Long, @NotNull Fra
         return Fraction::new;
     }
 
+    private @NotNull Fraction calculateReduced() {
+        final var gcd = LongMath.gcd(Math.abs(getNumerator()), Math.abs(getDenominator()));
+        if (gcd == 1L) {
+            return this;
+        }
+        return new Fraction(getNumerator() / gcd, getDenominator() / gcd);
+    }
+
+    @Override
+    protected double calculateDoubleValue() {
+        return Quotients.toDouble(getNumerator(), getDenominator());
+    }
+
     @Override
     public int compareTo(final @NotNull Fraction o) {
         return FractionComparator.INSTANCE.compare(this, o);
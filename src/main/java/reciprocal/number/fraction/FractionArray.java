@@ -0,0 +1,325 @@
+package reciprocal.number.fraction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.noNullElements;
+
+import com.google.common.math.LongMath;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable array of fractions that stores the numerators and denominators of
+ * its elements in parallel arrays of longs
+ * <p>
+ * The bulk operations work on the arrays without creating a {@link Fraction}
+ * per element. Sums are accumulated over the least common multiple of the
+ * denominators, so that equal denominators need no gcd at all, and reduced
+ * only when the next step would overflow. Products are cancelled crosswise,
+ * so that the intermediate results stay small. All operations are exact and
+ * throw an {@link ArithmeticException} when a result or, for sums, a reduced
+ * partial sum does not fit into longs.
+ *
+ * @since 0.0.1
+ */
+public final class FractionArray implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long @NotNull [] numerators;
+    private final long @NotNull [] denominators;
+
+    private FractionArray(final long @NotNull [] numerators, final long @NotNull [] denominators) {
+        this.numerators = numerators;
+        this.denominators = denominators;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param numerators numerators
+     * @param denominators denominators
+     * @return {@link FractionArray}
+     * @throws NullPointerException when {@code numerators == null}
+     * @throws NullPointerException when {@code denominators == null}
+     * @throws IllegalArgumentException when {@code numerators.length != denominators.length}
+     * @throws IllegalArgumentException when one denominator is 0
+     * @since 0.0.1
+     */
+    public static @NotNull FractionArray of(final long @NotNull [] numerators, final long @NotNull [] denominators) {
+        requireNonNull(numerators, "numerators");
+        requireNonNull(denominators, "denominators");
+        checkArgument(numerators.length == denominators.length, "equal lengths expected but %s != %s",
+            numerators.length, denominators.length);
+        checkArgument(Arrays.stream(denominators).noneMatch(d -> d == 0L),
+            "all denominators expected not to be 0 but denominators = %s", Arrays.toString(denominators));
+        return new FractionArray(numerators.clone(), denominators.clone());
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param fractions fractions
+     * @return {@link FractionArray}
+     * @throws NullPointerException when {@code fractions == null}
+     * @throws IllegalArgumentException when one fraction is null
+     * @since 0.0.1
+     */
+    public static @NotNull FractionArray of(final @NotNull Collection<@NotNull Fraction> fractions) {
+        requireNonNull(fractions, "fractions");
+        noNullElements(fractions, "all fractions expected not to be null but fractions = %s", fractions);
+        return new FractionArray(fractions.stream().mapToLong(Fraction::getNumerator).toArray(),
+            fractions.stream().mapToLong(Fraction::getDenominator).toArray());
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return size
+     * @since 0.0.1
+     */
+    public int size() {
+        return numerators.length;
+    }
+
+    /**
+     * Returns the element at the index
+     *
+     * @param index index
+     * @return element
+     * @throws IndexOutOfBoundsException when {@code index < 0 || size() <= index}
+     * @since 0.0.1
+     */
+    public @NotNull Fraction get(final int index) {
+        Objects.checkIndex(index, size());
+        return new Fraction(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Returns the elements
+     *
+     * @return elements
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull Fraction> stream() {
+        return IntStream.range(0, size()).mapToObj(i -> new Fraction(numerators[i], denominators[i]));
+    }
+
+    /**
+     * Calculates the reduced sum of all elements
+     *
+     * @return sum
+     * @throws ArithmeticException when the sum or a reduced partial sum does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Fraction sum() {
+        final var sum = new Sum();
+        for (var i = 0; i < size(); i++) {
+            sum.add(numerators[i], denominators[i]);
+        }
+        return sum.toFraction();
+    }
+
+    /**
+     * Calculates the reduced product of all elements
+     *
+     * @return product
+     * @throws ArithmeticException when the product does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Fraction product() {
+        var num = 1L;
+        var den = 1L;
+        for (var i = 0; i < size(); i++) {
+            // crosswise cancelling keeps the intermediate products small
+            final var g1 = gcd(num, denominators[i]);
+            final var g2 = gcd(numerators[i], den);
+            num = Math.multiplyExact(num / g1, numerators[i] / g2);
+            den = Math.multiplyExact(den / g2, denominators[i] / g1);
+        }
+        return new Fraction(num, den).reduce();
+    }
+
+    /**
+     * Calculates the reduced dot product
+     *
+     * @param other other
+     * @return dot product
+     * @throws NullPointerException when {@code other == null}
+     * @throws IllegalArgumentException when {@code size() != other.size()}
+     * @throws ArithmeticException when the dot product or a reduced partial sum does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull Fraction dot(final @NotNull FractionArray other) {
+        requireNonNull(other, "other");
+        checkArgument(size() == other.size(), "equal sizes expected but %s != %s", size(), other.size());
+        final var sum = new Sum();
+        for (var i = 0; i < size(); i++) {
+            final var g1 = gcd(numerators[i], other.denominators[i]);
+            final var g2 = gcd(other.numerators[i], denominators[i]);
+            sum.add(Math.multiplyExact(numerators[i] / g1, other.numerators[i] / g2),
+                Math.multiplyExact(denominators[i] / g2, other.denominators[i] / g1));
+        }
+        return sum.toFraction();
+    }
+
+    /**
+     * Multiplies all elements by the factor
+     *
+     * @param factor factor
+     * @return scaled {@link FractionArray}
+     * @throws NullPointerException when {@code factor == null}
+     * @throws ArithmeticException when one product does not fit into longs
+     * @since 0.0.1
+     */
+    public @NotNull FractionArray scale(final @NotNull Fraction factor) {
+        requireNonNull(factor, "factor");
+        final var reduced = factor.reduce();
+        final long factorNumerator = reduced.getNumerator();
+        final long factorDenominator = reduced.getDenominator();
+        final var nums = new long[size()];
+        final var dens = new long[size()];
+        for (var i = 0; i < size(); i++) {
+            final var g1 = gcd(numerators[i], factorDenominator);
+            final var g2 = gcd(factorNumerator, denominators[i]);
+            nums[i] = Math.multiplyExact(numerators[i] / g1, factorNumerator / g2);
+            dens[i] = Math.multiplyExact(denominators[i] / g2, factorDenominator / g1);
+        }
+        return new FractionArray(nums, dens);
+    }
+
+    /**
+     * Reduces all elements
+     *
+     * @return reduced {@link FractionArray}
+     * @since 0.0.1
+     */
+    public @NotNull FractionArray reduceAll() {
+        final var nums = numerators.clone();
+        final var dens = denominators.clone();
+        for (var i = 0; i < size(); i++) {
+            final var gcd = gcd(nums[i], dens[i]);
+            if (gcd != 1L) {
+                nums[i] /= gcd;
+                dens[i] /= gcd;
+            }
+        }
+        return new FractionArray(nums, dens);
+    }
+
+    /**
+     * Sorts the elements in ascending order
+     * <p>
+     * The elements are compared exactly by their cross products in 128 bits.
+     *
+     * @return sorted {@link FractionArray}
+     * @since 0.0.1
+     */
+    public @NotNull FractionArray sort() {
+        final var indices = IntStream.range(0, size()).boxed().sorted((i, j) -> compare(numerators[i],
+            denominators[i], numerators[j], denominators[j])).mapToInt(Integer::intValue).toArray();
+        final var nums = new long[size()];
+        final var dens = new long[size()];
+        for (var i = 0; i < size(); i++) {
+            nums[i] = numerators[indices[i]];
+            dens[i] = denominators[indices[i]];
+        }
+        return new FractionArray(nums, dens);
+    }
+
+    private static long gcd(final long a, final long b) {
+        return LongMath.gcd(Math.absExact(a), Math.absExact(b));
+    }
+
+    private static int compare(final long a, final long b, final long c, final long d) {
+        // a / b < c / d if a * d < c * b for b * d > 0
+        final var high = Math.multiplyHigh(a, d);
+        final var otherHigh = Math.multiplyHigh(c, b);
+        final var comparison = high != otherHigh ? Long.compare(high, otherHigh)
+            : Long.compareUnsigned(a * d, c * b);
+        return Long.signum(b) == Long.signum(d) ? comparison : -comparison;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(numerators) + Arrays.hashCode(denominators);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final var other = (FractionArray) obj;
+        return Arrays.equals(numerators, other.numerators) && Arrays.equals(denominators, other.denominators);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "FractionArray{numerators=" + Arrays.toString(numerators) + ", denominators="
+            + Arrays.toString(denominators) + "}";
+    }
+
+    private static final class Sum {
+        private long numerator;
+        private long denominator = 1L;
+
+        private void add(final long num, final long den) {
+            if (addUnreduced(num, den)) {
+                return;
+            }
+            // the running sum and the summand are only reduced when the least common multiple overflows
+            final var g = gcd(numerator, denominator);
+            numerator /= g;
+            denominator /= g;
+            final var summandGcd = gcd(num, den);
+            if (!addUnreduced(num / summandGcd, den / summandGcd)) {
+                throw new ArithmeticException("long overflow");
+            }
+        }
+
+        private boolean addUnreduced(final long num, final long den) {
+            if (den == denominator) {
+                final var sum = numerator + num;
+                if (((numerator ^ sum) & (num ^ sum)) < 0L) {
+                    return false;
+                }
+                numerator = sum;
+                return true;
+            }
+            // the denominator of the sum is the least common multiple of the denominators
+            final var gcd = gcd(denominator, den);
+            final var factor = den / gcd;
+            final var otherFactor = denominator / gcd;
+            final var left = numerator * factor;
+            final var right = num * otherFactor;
+            final var sum = left + right;
+            final var newDenominator = denominator * factor;
+            // a product fits into a long when its high half only extends the sign of its low half
+            final var overflow = Math.multiplyHigh(numerator, factor) != left >> 63
+                || Math.multiplyHigh(num, otherFactor) != right >> 63
+                || Math.multiplyHigh(denominator, factor) != newDenominator >> 63
+                || ((left ^ sum) & (right ^ sum)) < 0L;
+            if (overflow) {
+                return false;
+            }
+            numerator = sum;
+            denominator = newDenominator;
+            return true;
+        }
+
+        private @NotNull Fraction toFraction() {
+            return new Fraction(numerator, denominator).reduce();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package reciprocal.number.fraction;
+
+import java.io.Serial;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Exact sums of many fractions
+ * <p>
+ * The fractions are summed pairwise in a balanced binary tree, so that the
+ * partial sums of subtrees of about equal size have denominators of similar
+ * length. The multiplications of large numbers then happen at the few top
+ * levels only, where they are fast for numbers of similar length, instead of
+ * once per summand as in a left-to-right sum. The subtrees are summed in
+ * parallel by fork-join.
+ * <p>
+ * Every partial sum is kept reduced, so that its denominator is the least
+ * common multiple of the denominators instead of their product. For reduced
+ * {@code a / b} and {@code c / d} with {@code g = gcd(b, d)} the sum
+ * {@code t / (b / g * d)} with {@code t = a * (d / g) + c * (b / g)} can only
+ * be reduced by {@code gcd(t, g)}, so that the gcds are taken of the common
+ * factors of the denominators only and never of the full sum, and the gcds of
+ * large numbers take subquadratic time by {@link Gcds}.
+ *
+ * @since 0.0.1
+ */
+final class FractionSums {
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private FractionSums() {
+    }
+
+    /**
+     * Returns the sum of the fractions
+     *
+     * @param numerators numerators
+     * @param denominators denominators other than 0
+     * @return reduced sum with a positive denominator
+     * @since 0.0.1
+     */
+    static @NotNull BigFraction sum(
+        final @NotNull BigInteger @NotNull [] numerators,
+        final @NotNull BigInteger @NotNull [] denominators
+    ) {
+        if (numerators.length == 0) {
+            return BigFraction.ZERO;
+        }
+        final var task = new PartialSum(numerators, denominators, 0, numerators.length);
+        final var sum = numerators.length < PARALLEL_THRESHOLD ? task.compute() : ForkJoinPool.commonPool()
+            .invoke(task);
+        return sum[0].signum() == 0 ? BigFraction.ZERO : new BigFraction(sum[0], sum[1]);
+    }
+
+    private static final class PartialSum extends RecursiveTask<@NotNull BigInteger @NotNull []> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final @NotNull BigInteger @NotNull [] numerators;
+        private final @NotNull BigInteger @NotNull [] denominators;
+        private final int from;
+        private final int to;
+
+        private PartialSum(
+            final @NotNull BigInteger @NotNull [] numerators,
+            final @NotNull BigInteger @NotNull [] denominators,
+            final int from,
+            final int to
+        ) {
+            this.numerators = numerators;
+            this.denominators = denominators;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected @NotNull BigInteger @NotNull [] compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                return sum(from, to);
+            }
+            final var middle = (from + to) >>> 1;
+            final var left = new PartialSum(numerators, denominators, from, middle);
+            left.fork();
+            final var right = new PartialSum(numerators, denominators, middle, to).compute();
+            return add(left.join(), right);
+        }
+
+        private @NotNull BigInteger @NotNull [] sum(final int start, final int end) {
+            if (end - start == 1) {
+                return reduce(numerators[start], denominators[start]);
+            }
+            final var middle = (start + end) >>> 1;
+            return add(sum(start, middle), sum(middle, end));
+        }
+
+        private static @NotNull BigInteger @NotNull [] reduce(
+            final @NotNull BigInteger numerator,
+            final @NotNull BigInteger denominator
+        ) {
+            final var gcd = Gcds.gcd(numerator, denominator);
+            final var divisor = denominator.signum() < 0 ? gcd.negate() : gcd;
+            return divisor.equals(BigInteger.ONE) ? new BigInteger[]{numerator, denominator}
+                : new BigInteger[]{numerator.divide(divisor), denominator.divide(divisor)};
+        }
+
+        private static @NotNull BigInteger @NotNull [] add(
+            final @NotNull BigInteger @NotNull [] left,
+            final @NotNull BigInteger @NotNull [] right
+        ) {
+            final var g = Gcds.gcd(left[1], right[1]);
+            if (g.equals(BigInteger.ONE)) {
+                return new BigInteger[]{left[0].multiply(right[1]).add(right[0].multiply(left[1])),
+                    left[1].multiply(right[1])};
+            }
+            final var leftFactor = right[1].divide(g);
+            final var rightFactor = left[1].divide(g);
+            final var t = left[0].multiply(leftFactor).add(right[0].multiply(rightFactor));
+            // t / (b / g * d) can only be reduced by the common factors of t and g
+            final var g2 = Gcds.gcd(t, g);
+            return g2.equals(BigInteger.ONE) ? new BigInteger[]{t, rightFactor.multiply(right[1])}
+                : new BigInteger[]{t.divide(g2), rightFactor.multiply(right[1].divide(g2))};
+        }
+    }
+}
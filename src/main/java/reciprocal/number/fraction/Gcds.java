@@ -0,0 +1,218 @@
+package reciprocal.number.fraction;
+
+import java.math.BigInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Greatest common divisors of large integers
+ * <p>
+ * {@link BigInteger#gcd(BigInteger)} takes quadratic time, so that the gcds of
+ * numbers with millions of bits take minutes. Above a threshold the gcd is
+ * calculated by the half-gcd algorithm instead: the leading halves of two
+ * numbers determine the first half of the quotient sequence of the Euclidean
+ * algorithm, which is calculated recursively as a unimodular matrix and applied
+ * to the whole numbers by few multiplications. Two such reductions halve the
+ * length of the numbers, so that the gcd takes {@code O(M(n) log(n))} for the
+ * time {@code M(n)} of a multiplication. The last quotients of the leading
+ * halves may differ from those of the whole numbers, which is repaired by signs
+ * and swaps, as every unimodular matrix preserves the gcd.
+ * <p>
+ * Small numbers and the base cases are reduced by Lehmer's algorithm, which
+ * determines several quotients from the leading 62 bits in longs and applies
+ * them at once.
+ *
+ * @since 0.0.1
+ */
+final class Gcds {
+    private static final int THRESHOLD = 2048;
+    private static final int DIGIT_BITS = 62;
+
+    private Gcds() {
+    }
+
+    /**
+     * Returns the greatest common divisor
+     *
+     * @param a a
+     * @param b b
+     * @return gcd greater than or equal to 0
+     * @since 0.0.1
+     */
+    static @NotNull BigInteger gcd(final @NotNull BigInteger a, final @NotNull BigInteger b) {
+        var x = a.abs();
+        var y = b.abs();
+        if (x.compareTo(y) < 0) {
+            final var z = x;
+            x = y;
+            y = z;
+        }
+        while (y.bitLength() > THRESHOLD) {
+            final var reduction = reduce(x, y);
+            if (reduction.y.signum() == 0) {
+                return reduction.x;
+            }
+            // a division step makes progress even when the quotients are too large for the reduction
+            x = reduction.y;
+            y = reduction.x.mod(reduction.y);
+        }
+        while (y.signum() != 0) {
+            final var cofactors = cofactors(x, y);
+            if (cofactors == null) {
+                final var remainder = x.mod(y);
+                x = y;
+                y = remainder;
+            } else {
+                final var newX = x.multiply(BigInteger.valueOf(cofactors[0]))
+                    .add(y.multiply(BigInteger.valueOf(cofactors[1])));
+                y = x.multiply(BigInteger.valueOf(cofactors[2])).add(y.multiply(BigInteger.valueOf(cofactors[3])));
+                x = newX;
+            }
+        }
+        return x;
+    }
+
+    private static long @Nullable [] cofactors(final @NotNull BigInteger x, final @NotNull BigInteger y) {
+        // Knuth's condition guarantees that the quotients of the leading bits are those of x and y
+        final var shift = Math.max(0, x.bitLength() - DIGIT_BITS);
+        var u = x.shiftRight(shift).longValue();
+        var v = y.shiftRight(shift).longValue();
+        var a = 1L;
+        var b = 0L;
+        var c = 0L;
+        var d = 1L;
+        while (v + c != 0L && v + d != 0L) {
+            final var q = (u + a) / (v + c);
+            if (q != (u + b) / (v + d)) {
+                break;
+            }
+            var t = a - q * c;
+            a = c;
+            c = t;
+            t = b - q * d;
+            b = d;
+            d = t;
+            t = u - q * v;
+            u = v;
+            v = t;
+        }
+        return b == 0L ? null : new long[]{a, b, c, d};
+    }
+
+    private static @NotNull Reduction reduce(final @NotNull BigInteger a, final @NotNull BigInteger b) {
+        final var n = a.bitLength();
+        final var s = n / 2 + 1;
+        var reduction = new Reduction(a, b);
+        if (b.bitLength() <= s) {
+            return reduction;
+        }
+        if (n <= THRESHOLD) {
+            while (reduction.y.bitLength() > s) {
+                reduction = reduction.y.bitLength() > s + DIGIT_BITS ? reduction.lehmerStep() : reduction.step();
+            }
+            return reduction;
+        }
+        final var p = n / 2;
+        reduction = reduction.apply(reduce(a.shiftRight(p), b.shiftRight(p)));
+        if (reduction.y.bitLength() <= s) {
+            return reduction;
+        }
+        reduction = reduction.step();
+        if (reduction.y.bitLength() <= s) {
+            return reduction;
+        }
+        // the second half of the quotient sequence follows from the leading bits of the remainders
+        final var q = Math.max(0, 2 * s - reduction.x.bitLength());
+        return reduction.apply(reduce(reduction.x.shiftRight(q), reduction.y.shiftRight(q)));
+    }
+
+    /**
+     * Pair {@code x >= y >= 0} with {@code (a, b) = M * (x, y)} for a
+     * unimodular matrix {@code M}
+     *
+     * @since 0.0.1
+     */
+    private static final class Reduction {
+        private final @NotNull BigInteger x;
+        private final @NotNull BigInteger y;
+        private final @NotNull BigInteger m00;
+        private final @NotNull BigInteger m01;
+        private final @NotNull BigInteger m10;
+        private final @NotNull BigInteger m11;
+        private final int determinant;
+
+        private Reduction(final @NotNull BigInteger a, final @NotNull BigInteger b) {
+            this(a, b, BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE, 1);
+        }
+
+        private Reduction(
+            final @NotNull BigInteger x,
+            final @NotNull BigInteger y,
+            final @NotNull BigInteger m00,
+            final @NotNull BigInteger m01,
+            final @NotNull BigInteger m10,
+            final @NotNull BigInteger m11,
+            final int determinant
+        ) {
+            this.x = x;
+            this.y = y;
+            this.m00 = m00;
+            this.m01 = m01;
+            this.m10 = m10;
+            this.m11 = m11;
+            this.determinant = determinant;
+        }
+
+        private @NotNull Reduction step() {
+            // M * (q, 1; 1, 0) for the quotient q
+            final var quotientAndRemainder = x.divideAndRemainder(y);
+            final var q = quotientAndRemainder[0];
+            return new Reduction(y, quotientAndRemainder[1], m00.multiply(q).add(m01), m00, m10.multiply(q).add(m11),
+                m10, -determinant);
+        }
+
+        private @NotNull Reduction lehmerStep() {
+            final var cofactors = cofactors(x, y);
+            if (cofactors == null) {
+                return step();
+            }
+            // L = (a, b; c, d) maps (x, y) to the new pair, so that C = L^-1 = det(L) * (d, -b; -c, a), and
+            // a * d - b * c = +-1 is exact even when the products overflow
+            final var determinant = cofactors[0] * cofactors[3] - cofactors[1] * cofactors[2];
+            return apply(new Reduction(x, y, BigInteger.valueOf(determinant * cofactors[3]),
+                BigInteger.valueOf(-determinant * cofactors[1]), BigInteger.valueOf(-determinant * cofactors[2]),
+                BigInteger.valueOf(determinant * cofactors[0]), (int) determinant));
+        }
+
+        private @NotNull Reduction apply(final @NotNull Reduction other) {
+            // (x', y') = C^-1 * (x, y) with C^-1 = det(C) * (c11, -c01; -c10, c00)
+            var newX = other.m11.multiply(x).subtract(other.m01.multiply(y));
+            var newY = other.m00.multiply(y).subtract(other.m10.multiply(x));
+            if (other.determinant < 0) {
+                newX = newX.negate();
+                newY = newY.negate();
+            }
+            var n00 = m00.multiply(other.m00).add(m01.multiply(other.m10));
+            var n01 = m00.multiply(other.m01).add(m01.multiply(other.m11));
+            var n10 = m10.multiply(other.m00).add(m11.multiply(other.m10));
+            var n11 = m10.multiply(other.m01).add(m11.multiply(other.m11));
+            var newDeterminant = determinant * other.determinant;
+            if (newX.signum() < 0) {
+                newX = newX.negate();
+                n00 = n00.negate();
+                n10 = n10.negate();
+                newDeterminant = -newDeterminant;
+            }
+            if (newY.signum() < 0) {
+                newY = newY.negate();
+                n01 = n01.negate();
+                n11 = n11.negate();
+                newDeterminant = -newDeterminant;
+            }
+            if (newX.compareTo(newY) < 0) {
+                return new Reduction(newY, newX, n01, n00, n11, n10, -newDeterminant);
+            }
+            return new Reduction(newX, newY, n00, n01, n10, n11, newDeterminant);
+        }
+    }
+}
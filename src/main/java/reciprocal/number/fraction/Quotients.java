@@ -0,0 +1,123 @@
+package reciprocal.number.fraction;
+
+import java.math.BigInteger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Correctly rounded floating-point quotients of integers
+ * <p>
+ * The quotient of the absolute values is scaled by a power of two so that its
+ * integer part has at least two bits more than the significand and still
+ * fits into a long. The integer part is rounded half to even to the significand, where
+ * the remainder of the division decides ties, and the significand is scaled
+ * back. Subnormal results keep fewer bits of the significand, so that they are
+ * rounded once only.
+ *
+ * @since 0.0.1
+ */
+final class Quotients {
+    private static final int DOUBLE_SIGNIFICAND_BITS = 53;
+    private static final int DOUBLE_MIN_EXPONENT = Double.MIN_EXPONENT;
+    private static final int FLOAT_SIGNIFICAND_BITS = 24;
+    private static final int FLOAT_MIN_EXPONENT = Float.MIN_EXPONENT;
+    private static final long MAX_EXACT_DOUBLE = 1L << DOUBLE_SIGNIFICAND_BITS;
+    private static final long MAX_EXACT_FLOAT = 1L << FLOAT_SIGNIFICAND_BITS;
+
+    private Quotients() {
+    }
+
+    /**
+     * Returns the correctly rounded double of the quotient
+     *
+     * @param numerator numerator
+     * @param denominator denominator other than 0
+     * @return double
+     * @since 0.0.1
+     */
+    static double toDouble(final long numerator, final long denominator) {
+        if (isExact(numerator, MAX_EXACT_DOUBLE) && isExact(denominator, MAX_EXACT_DOUBLE)) {
+            // both are exact doubles, so that the division rounds once
+            return (double) numerator / denominator;
+        }
+        return toDouble(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    /**
+     * Returns the correctly rounded double of the quotient
+     *
+     * @param numerator numerator
+     * @param denominator denominator other than 0
+     * @return double
+     * @since 0.0.1
+     */
+    static double toDouble(final @NotNull BigInteger numerator, final @NotNull BigInteger denominator) {
+        return quotient(numerator, denominator, DOUBLE_SIGNIFICAND_BITS, DOUBLE_MIN_EXPONENT);
+    }
+
+    /**
+     * Returns the correctly rounded float of the quotient
+     *
+     * @param numerator numerator
+     * @param denominator denominator other than 0
+     * @return float
+     * @since 0.0.1
+     */
+    static float toFloat(final long numerator, final long denominator) {
+        if (isExact(numerator, MAX_EXACT_FLOAT) && isExact(denominator, MAX_EXACT_FLOAT)) {
+            return (float) numerator / denominator;
+        }
+        return toFloat(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    /**
+     * Returns the correctly rounded float of the quotient
+     *
+     * @param numerator numerator
+     * @param denominator denominator other than 0
+     * @return float
+     * @since 0.0.1
+     */
+    static float toFloat(final @NotNull BigInteger numerator, final @NotNull BigInteger denominator) {
+        // the rounded significand is an exact float, so that the cast does not round again
+        return (float) quotient(numerator, denominator, FLOAT_SIGNIFICAND_BITS, FLOAT_MIN_EXPONENT);
+    }
+
+    private static boolean isExact(final long value, final long max) {
+        return -max <= value && value <= max;
+    }
+
+    private static double quotient(
+        final @NotNull BigInteger numerator,
+        final @NotNull BigInteger denominator,
+        final int significandBits,
+        final int minExponent
+    ) {
+        final var signum = numerator.signum() * denominator.signum();
+        if (signum == 0) {
+            return 0.0D;
+        }
+        final var a = numerator.abs();
+        final var b = denominator.abs();
+        // a / b is in [2^(d - 1), 2^(d + 1)), so that the scaled quotient has 2 or 3 bits more than the significand
+        final var shift = significandBits + 2 - (a.bitLength() - b.bitLength());
+        final var quotientAndRemainder = shift >= 0 ? a.shiftLeft(shift).divideAndRemainder(b)
+            : a.divideAndRemainder(b.shiftLeft(-shift));
+        final var quotient = quotientAndRemainder[0].longValueExact();
+        final var sticky = quotientAndRemainder[1].signum() != 0;
+        final var bits = 64 - Long.numberOfLeadingZeros(quotient);
+        final var exponent = bits - 1 - shift;
+        final var keep = exponent < minExponent ? significandBits - (minExponent - exponent) : significandBits;
+        if (keep < 0) {
+            // below half of the smallest subnormal
+            return signum * 0.0D;
+        }
+        final var drop = bits - keep;
+        var significand = quotient >>> drop;
+        final var remainder = quotient & (1L << drop) - 1L;
+        final var half = 1L << drop - 1;
+        if (remainder > half || remainder == half && (sticky || (significand & 1L) == 1L)) {
+            significand++;
+        }
+        return signum * Math.scalb((double) significand, drop - shift);
+    }
+}
@@ -0,0 +1,365 @@
+package reciprocal.polynomial;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reciprocal.number.complex.BigComplex;
+import reciprocal.number.complex.Complex;
+
+/**
+ * Simultaneous approximation of all roots of a polynomial with the
+ * Aberth-Ehrlich method
+ * <p>
+ * Every iteration corrects each approximation {@code z} by
+ * {@code w / (1 - w * s)} where {@code w} is the Newton correction
+ * {@code p(z) / p'(z)} and {@code s} the sum of {@code 1 / (z - y)} over all
+ * other approximations {@code y}. The corrections of one iteration only depend
+ * on the approximations of the previous one, so that they are calculated in
+ * parallel for polynomials of large degree. Roots at 0 are split off exactly
+ * before the iteration. An approximation whose correction is not defined, for
+ * example because it coincides with another one, is perturbed and corrected
+ * again in the next iteration.
+ *
+ * @since 0.0.1
+ */
+final class AberthEhrlich {
+    /**
+     * Degree from which on the corrections are calculated in parallel
+     *
+     * @since 0.0.1
+     */
+    static final int PARALLEL_THRESHOLD = 128;
+
+    /**
+     * Maximum number of iterations
+     *
+     * @since 0.0.1
+     */
+    static final int MAX_ITERATIONS = 500;
+
+    private static final double ANGLE_OFFSET = 0.4D;
+    private static final double PERTURBATION = 0x1.0p-20;
+
+    private AberthEhrlich() {
+    }
+
+    /**
+     * Approximates the roots of the polynomial with the coefficients
+     *
+     * @param coefficients coefficients which are not all 0
+     * @return roots
+     * @throws ArithmeticException when the approximations do not converge in
+     *     {@link #MAX_ITERATIONS} iterations
+     * @since 0.0.1
+     */
+    static @NotNull List<@NotNull Complex> roots(final double @NotNull [] coefficients) {
+        var low = 0;
+        while (coefficients[low] == 0.0D) {
+            low++;
+        }
+        var high = coefficients.length - 1;
+        while (coefficients[high] == 0.0D) {
+            high--;
+        }
+        final var result = new ArrayList<Complex>(high);
+        for (var i = 0; i < low; i++) {
+            result.add(Complex.ZERO);
+        }
+        final var a = Arrays.copyOfRange(coefficients, low, high + 1);
+        final var degree = a.length - 1;
+        if (degree == 0) {
+            return List.copyOf(result);
+        }
+        final var re = new double[degree];
+        final var im = new double[degree];
+        start(a, re, im);
+        if (!approximate(a, re, im)) {
+            throw new ArithmeticException("roots did not converge in " + MAX_ITERATIONS + " iterations");
+        }
+        for (var i = 0; i < degree; i++) {
+            result.add(new Complex(re[i], im[i]));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Approximates the roots of the polynomial with the coefficients
+     * <p>
+     * The iteration starts at the roots of the polynomial with the
+     * coefficients converted to double and stops when the corrections are
+     * smaller than the precision of the {@link MathContext}.
+     *
+     * @param coefficients coefficients which are not all 0
+     * @param mathContext {@link MathContext} with a precision greater than 0
+     * @return roots
+     * @throws ArithmeticException when the approximations do not converge in
+     *     {@link #MAX_ITERATIONS} iterations
+     * @since 0.0.1
+     */
+    static @NotNull List<@NotNull BigComplex> roots(
+        final @NotNull List<@NotNull BigDecimal> coefficients,
+        final @NotNull MathContext mathContext
+    ) {
+        var low = 0;
+        while (coefficients.get(low).signum() == 0) {
+            low++;
+        }
+        var high = coefficients.size() - 1;
+        while (coefficients.get(high).signum() == 0) {
+            high--;
+        }
+        final var result = new ArrayList<BigComplex>(high);
+        for (var i = 0; i < low; i++) {
+            result.add(BigComplex.ZERO);
+        }
+        final var a = coefficients.subList(low, high + 1);
+        final var degree = a.size() - 1;
+        if (degree == 0) {
+            return List.copyOf(result);
+        }
+        // the double approximations are only the start, so that they need not converge
+        final var re = new double[degree];
+        final var im = new double[degree];
+        final var values = a.stream().mapToDouble(BigDecimal::doubleValue).toArray();
+        start(values, re, im);
+        approximate(values, re, im);
+        final var z = new BigComplex[degree];
+        for (var i = 0; i < degree; i++) {
+            final var finite = Double.isFinite(re[i]) && Double.isFinite(im[i]);
+            final var angle = angle(i, degree);
+            z[i] = finite ? new BigComplex(BigDecimal.valueOf(re[i]), BigDecimal.valueOf(im[i]))
+                : new BigComplex(BigDecimal.valueOf(Math.cos(angle)), BigDecimal.valueOf(Math.sin(angle)));
+        }
+        final var converged = new boolean[degree];
+        final var corrections = new BigComplex[degree];
+        final var sizes = new BigDecimal[degree];
+        for (var iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            range(degree).forEach(i -> correct(a, z, converged, corrections, sizes, i, mathContext));
+            var done = true;
+            for (var i = 0; i < degree; i++) {
+                z[i] = z[i].subtract(corrections[i], mathContext);
+                done &= converged[i];
+            }
+            if (done) {
+                result.addAll(Arrays.asList(z));
+                return List.copyOf(result);
+            }
+        }
+        throw new ArithmeticException("roots did not converge in " + MAX_ITERATIONS + " iterations");
+    }
+
+    /**
+     * Improves the approximations of the roots of the polynomial with the
+     * coefficients
+     *
+     * @param a coefficients with a non-zero first and last coefficient
+     * @param re real parts of the approximations
+     * @param im imaginary parts of the approximations
+     * @return {@code true} when all approximations converged in
+     *     {@link #MAX_ITERATIONS} iterations
+     * @since 0.0.1
+     */
+    static boolean approximate(final double @NotNull [] a, final double @NotNull [] re, final double @NotNull [] im) {
+        final var degree = a.length - 1;
+        final var converged = new boolean[degree];
+        final var correctionRe = new double[degree];
+        final var correctionIm = new double[degree];
+        for (var iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            range(degree).forEach(i -> correct(a, re, im, converged, correctionRe, correctionIm, i));
+            var done = true;
+            for (var i = 0; i < degree; i++) {
+                re[i] -= correctionRe[i];
+                im[i] -= correctionIm[i];
+                done &= converged[i];
+            }
+            if (done) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void start(final double @NotNull [] a, final double @NotNull [] re, final double @NotNull [] im) {
+        final var degree = a.length - 1;
+        final var radius = Math.pow(Math.abs(a[0] / a[degree]), 1.0D / degree);
+        for (var i = 0; i < degree; i++) {
+            final var angle = angle(i, degree);
+            re[i] = radius * Math.cos(angle);
+            im[i] = radius * Math.sin(angle);
+        }
+    }
+
+    private static void correct(
+        final double @NotNull [] a,
+        final double @NotNull [] re,
+        final double @NotNull [] im,
+        final boolean @NotNull [] converged,
+        final double @NotNull [] correctionRe,
+        final double @NotNull [] correctionIm,
+        final int i
+    ) {
+        if (converged[i]) {
+            correctionRe[i] = 0.0D;
+            correctionIm[i] = 0.0D;
+            return;
+        }
+        final var degree = a.length - 1;
+        final var x = re[i];
+        final var y = im[i];
+        final var modulusPow2 = x * x + y * y;
+        final double ratioRe;
+        final double ratioIm;
+        final boolean root;
+        if (modulusPow2 <= 1.0D) {
+            var pRe = 0.0D;
+            var pIm = 0.0D;
+            var dRe = 0.0D;
+            var dIm = 0.0D;
+            for (var k = degree; k >= 0; k--) {
+                final var t = dRe * x - dIm * y + pRe;
+                dIm = dRe * y + dIm * x + pIm;
+                dRe = t;
+                final var u = pRe * x - pIm * y + a[k];
+                pIm = pRe * y + pIm * x;
+                pRe = u;
+            }
+            root = pRe == 0.0D && pIm == 0.0D;
+            final var den = dRe * dRe + dIm * dIm;
+            ratioRe = (pRe * dRe + pIm * dIm) / den;
+            ratioIm = (pIm * dRe - pRe * dIm) / den;
+        } else {
+            // p(z) / p'(z) = z / (d - v q'(v) / q(v)) with v = 1 / z and the reversed polynomial q
+            final var vRe = x / modulusPow2;
+            final var vIm = -y / modulusPow2;
+            var qRe = 0.0D;
+            var qIm = 0.0D;
+            var dRe = 0.0D;
+            var dIm = 0.0D;
+            for (var k = 0; k <= degree; k++) {
+                final var t = dRe * vRe - dIm * vIm + qRe;
+                dIm = dRe * vIm + dIm * vRe + qIm;
+                dRe = t;
+                final var u = qRe * vRe - qIm * vIm + a[k];
+                qIm = qRe * vIm + qIm * vRe;
+                qRe = u;
+            }
+            root = qRe == 0.0D && qIm == 0.0D;
+            final var qPow2 = qRe * qRe + qIm * qIm;
+            final var sRe = (dRe * qRe + dIm * qIm) / qPow2;
+            final var sIm = (dIm * qRe - dRe * qIm) / qPow2;
+            final var denRe = degree - (vRe * sRe - vIm * sIm);
+            final var denIm = -(vRe * sIm + vIm * sRe);
+            final var den = denRe * denRe + denIm * denIm;
+            ratioRe = (x * denRe + y * denIm) / den;
+            ratioIm = (y * denRe - x * denIm) / den;
+        }
+        var sumRe = 0.0D;
+        var sumIm = 0.0D;
+        for (var j = 0; j < degree; j++) {
+            if (j != i) {
+                final var diffRe = x - re[j];
+                final var diffIm = y - im[j];
+                final var den = diffRe * diffRe + diffIm * diffIm;
+                sumRe += diffRe / den;
+                sumIm -= diffIm / den;
+            }
+        }
+        final var denRe = 1.0D - (ratioRe * sumRe - ratioIm * sumIm);
+        final var denIm = -(ratioRe * sumIm + ratioIm * sumRe);
+        final var den = denRe * denRe + denIm * denIm;
+        final var wRe = (ratioRe * denRe + ratioIm * denIm) / den;
+        final var wIm = (ratioIm * denRe - ratioRe * denIm) / den;
+        if (Double.isFinite(wRe) && Double.isFinite(wIm)) {
+            correctionRe[i] = wRe;
+            correctionIm[i] = wIm;
+            final var epsilon = 4.0D * Math.ulp(1.0D);
+            converged[i] = wRe * wRe + wIm * wIm <= epsilon * epsilon * Math.max(modulusPow2, Double.MIN_NORMAL);
+        } else if (root) {
+            correctionRe[i] = 0.0D;
+            correctionIm[i] = 0.0D;
+            converged[i] = true;
+        } else {
+            // moves the approximation off a critical point or another approximation in a direction of its own
+            // relative to the radius of the start when it is close to 0
+            final var radius = Math.pow(Math.abs(a[0] / a[degree]), 1.0D / degree);
+            final var size = PERTURBATION * Math.max(Math.sqrt(modulusPow2), Math.max(radius, Double.MIN_NORMAL));
+            final var angle = angle(i, degree);
+            correctionRe[i] = -size * Math.cos(angle);
+            correctionIm[i] = -size * Math.sin(angle);
+        }
+    }
+
+    private static void correct(
+        final @NotNull List<@NotNull BigDecimal> a,
+        final @NotNull BigComplex @NotNull [] z,
+        final boolean @NotNull [] converged,
+        final @NotNull BigComplex @NotNull [] corrections,
+        final @Nullable BigDecimal @NotNull [] sizes,
+        final int i,
+        final @NotNull MathContext mathContext
+    ) {
+        if (converged[i]) {
+            corrections[i] = BigComplex.ZERO;
+            return;
+        }
+        var p = BigComplex.ZERO;
+        var d = BigComplex.ZERO;
+        for (var k = a.size() - 1; k >= 0; k--) {
+            d = d.multiply(z[i], mathContext).add(p, mathContext);
+            p = p.multiply(z[i], mathContext).add(BigComplex.ofReal(a.get(k)), mathContext);
+        }
+        if (p.equalsByComparing(BigComplex.ZERO)) {
+            corrections[i] = BigComplex.ZERO;
+            converged[i] = true;
+            return;
+        }
+        if (!d.isInvertible()) {
+            final var size = BigDecimal.ONE.movePointLeft(mathContext.getPrecision() / 2)
+                .multiply(absPow2(z[i], mathContext).sqrt(mathContext).max(BigDecimal.ONE), mathContext);
+            final var angle = angle(i, z.length);
+            corrections[i] = new BigComplex(BigDecimal.valueOf(Math.cos(angle)), BigDecimal.valueOf(Math.sin(angle)))
+                .multiply(BigComplex.ofReal(size.negate()), mathContext);
+            return;
+        }
+        final var ratio = p.divide(d, mathContext);
+        var sum = BigComplex.ZERO;
+        for (var j = 0; j < z.length; j++) {
+            if (j != i) {
+                final var difference = z[i].subtract(z[j], mathContext);
+                if (difference.isInvertible()) {
+                    sum = sum.add(difference.invert(mathContext), mathContext);
+                }
+            }
+        }
+        final var denominator = BigComplex.ONE.subtract(ratio.multiply(sum, mathContext), mathContext);
+        final var correction = denominator.isInvertible() ? ratio.divide(denominator, mathContext) : ratio;
+        corrections[i] = correction;
+        final var size = absPow2(correction, mathContext).divide(absPow2(z[i], mathContext).max(BigDecimal.ONE),
+            mathContext);
+        final var precision = mathContext.getPrecision();
+        final var previous = sizes[i];
+        sizes[i] = size;
+        // converged when the correction is below the precision or stagnates in the rounding errors
+        converged[i] = size.compareTo(BigDecimal.ONE.movePointLeft(2 * precision - 2)) <= 0
+            || previous != null && size.compareTo(previous) >= 0
+            && previous.compareTo(BigDecimal.ONE.movePointLeft(precision)) <= 0;
+    }
+
+    private static @NotNull BigDecimal absPow2(final @NotNull BigComplex z, final @NotNull MathContext mathContext) {
+        return z.getReal().pow(2, mathContext).add(z.getImaginary().pow(2, mathContext), mathContext);
+    }
+
+    private static double angle(final int i, final int degree) {
+        return 2.0D * Math.PI * i / degree + ANGLE_OFFSET;
+    }
+
+    private static @NotNull IntStream range(final int degree) {
+        final var range = IntStream.range(0, degree);
+        return degree < PARALLEL_THRESHOLD ? range : range.parallel();
+    }
+}
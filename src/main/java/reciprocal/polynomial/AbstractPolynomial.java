@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.Validate.noNullElements;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -17,7 +18,7 @@ import org.jetbrains.annotations.Nullable;
  * @since 0.0.1
  */
 public abstract class AbstractPolynomial<C extends Number, P extends AbstractPolynomial<C, P>> {
-    private final @NotNull List<@NotNull C> coefficients;
+    private final @Nullable List<@NotNull C> coefficients;
 
     /**
      * Constructor
@@ -33,6 +34,16 @@ public abstract class AbstractPolynomial<C extends Number, P extends AbstractPol
         this.coefficients = List.copyOf(coefficients);
     }
 
+    /**
+     * Constructor for subclasses which store the coefficients themselves and
+     * override {@link #coefficientCount()} and {@link #coefficient(int)}
+     *
+     * @since 0.0.1
+     */
+    protected AbstractPolynomial() {
+        coefficients = null;
+    }
+
     /**
      * Degree
      *
@@ -40,7 +51,7 @@ public abstract class AbstractPolynomial<C extends Number, P extends AbstractPol
      * @since 0.0.1
      */
     public final int getDegree() {
-        return coefficients.size();
+        return coefficientCount();
     }
 
     /**
@@ -101,6 +112,73 @@ public abstract class AbstractPolynomial<C extends Number, P extends AbstractPol
         return getDegree() == 4;
     }
 
+    /**
+     * Evaluates {@code this} at the argument
+     *
+     * @param argument argument
+     * @return value
+     * @throws NullPointerException when {@code argument == null}
+     * @since 0.0.1
+     */
+    public abstract @NotNull C evaluate(@NotNull C argument);
+
+    /**
+     * Evaluates {@code this} at all arguments
+     *
+     * @param arguments arguments
+     * @return values
+     * @throws NullPointerException when {@code arguments == null}
+     * @throws IllegalArgumentException when {@code argument == null} for one argument in arguments
+     * @since 0.0.1
+     */
+    public final @NotNull List<@NotNull C> evaluate(final @NotNull List<@NotNull C> arguments) {
+        requireNonNull(arguments, "arguments");
+        noNullElements(arguments, "all arguments expected not to be null but arguments = %s", arguments);
+        return evaluateAll(arguments);
+    }
+
+    /**
+     * Evaluates {@code this} at all arguments which are not null
+     *
+     * @param arguments arguments
+     * @return values
+     * @since 0.0.1
+     */
+    protected abstract @NotNull List<@NotNull C> evaluateAll(@NotNull List<@NotNull C> arguments);
+
+    /**
+     * Calculates the sum
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when {@code summand == null}
+     * @since 0.0.1
+     */
+    public abstract @NotNull P add(@NotNull P summand);
+
+    /**
+     * Calculates the difference
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when {@code subtrahend == null}
+     * @since 0.0.1
+     */
+    public abstract @NotNull P subtract(@NotNull P subtrahend);
+
+    /**
+     * Calculates the product
+     * <p>
+     * Schoolbook multiplication is used for small and Karatsuba multiplication
+     * for large polynomials.
+     *
+     * @param factor factor
+     * @return product
+     * @throws NullPointerException when {@code factor == null}
+     * @since 0.0.1
+     */
+    public abstract @NotNull P multiply(@NotNull P factor);
+
     /**
      * Derivative
      *
@@ -119,7 +197,7 @@ public abstract class AbstractPolynomial<C extends Number, P extends AbstractPol
      */
     public final @NotNull C get(final int index) {
         checkArgument(index > -1, "expected index > -1 but index = %s", index);
-        return coefficients.get(index);
+        return coefficient(index);
     }
 
     /**
@@ -129,12 +207,37 @@ public abstract class AbstractPolynomial<C extends Number, P extends AbstractPol
      * @since 0.0.1
      */
     public final @NotNull List<@NotNull C> getCoefficients() {
-        return List.copyOf(coefficients);
+        if (coefficients != null) {
+            return coefficients;
+        }
+        return IntStream.range(0, coefficientCount()).mapToObj(this::coefficient).toList();
+    }
+
+    /**
+     * Returns the number of coefficients
+     *
+     * @return number of coefficients
+     * @since 0.0.1
+     */
+    protected int coefficientCount() {
+        return requireNonNull(coefficients, "coefficients").size();
+    }
+
+    /**
+     * Returns the coefficient of a given index
+     *
+     * @param index index greater than -1
+     * @return coefficient
+     * @throws IndexOutOfBoundsException when {@code index >= coefficientCount()}
+     * @since 0.0.1
+     */
+    protected @NotNull C coefficient(final int index) {
+        return requireNonNull(coefficients, "coefficients").get(index);
     }
 
     @Override
     public final int hashCode() {
-        return hash(coefficients);
+        return hash(getCoefficients());
     }
 
     @Override
@@ -146,11 +249,11 @@ public abstract class AbstractPolynomial<C extends Number, P extends AbstractPol
             return false;
         }
         final var that = (AbstractPolynomial<?, ?>) obj;
-        return coefficients.equals(that.getCoefficients());
+        return getCoefficients().equals(that.getCoefficients());
     }
 
     @Override
     public final @NotNull String toString() {
-        return getClass().getSimpleName() + "{coefficients=" + coefficients + "}";
+        return getClass().getSimpleName() + "{coefficients=" + getCoefficients() + "}";
     }
 }
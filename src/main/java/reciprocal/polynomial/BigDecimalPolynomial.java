@@ -0,0 +1,215 @@
+package reciprocal.polynomial;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.noNullElements;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
+import reciprocal.number.complex.BigComplex;
+
+/**
+ * Immutable implementation of a polynomial that uses {@link BigDecimal} as
+ * type for its coefficients
+ *
+ * @since 0.0.1
+ */
+public final class BigDecimalPolynomial
+    extends AbstractPolynomial<@NotNull BigDecimal, @NotNull BigDecimalPolynomial> {
+    private static final @NotNull PolynomialArithmetic<@NotNull BigDecimal> ARITHMETIC =
+        new PolynomialArithmetic<>(BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract, BigDecimal::multiply,
+            BigDecimal::valueOf);
+
+    /**
+     * Constructor
+     *
+     * @param coefficients coefficients
+     * @throws NullPointerException when {@code coefficients == null}
+     * @throws IllegalArgumentException when {@code coefficient == null} for one coefficient in coefficients
+     * @since 0.0.1
+     */
+    public BigDecimalPolynomial(final @NotNull List<@NotNull BigDecimal> coefficients) {
+        super(coefficients);
+    }
+
+    @Override
+    public boolean isZero() {
+        return getCoefficients().stream().allMatch(c -> c.signum() == 0);
+    }
+
+    @Override
+    public @NotNull BigDecimal evaluate(final @NotNull BigDecimal argument) {
+        requireNonNull(argument, "argument");
+        return ARITHMETIC.evaluate(getCoefficients(), argument);
+    }
+
+    /**
+     * Evaluates {@code this} at the argument
+     *
+     * @param argument argument
+     * @param mathContext {@link MathContext}
+     * @return value
+     * @throws NullPointerException when {@code argument == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal evaluate(final @NotNull BigDecimal argument, final @NotNull MathContext mathContext) {
+        requireNonNull(argument, "argument");
+        requireNonNull(mathContext, "mathContext");
+        return arithmetic(mathContext).evaluate(getCoefficients(), argument);
+    }
+
+    /**
+     * Evaluates {@code this} at all arguments
+     *
+     * @param arguments arguments
+     * @param mathContext {@link MathContext}
+     * @return values
+     * @throws NullPointerException when {@code arguments == null}
+     * @throws IllegalArgumentException when {@code argument == null} for one argument in arguments
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public @NotNull List<@NotNull BigDecimal> evaluate(
+        final @NotNull List<@NotNull BigDecimal> arguments,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(arguments, "arguments");
+        noNullElements(arguments, "all arguments expected not to be null but arguments = %s", arguments);
+        requireNonNull(mathContext, "mathContext");
+        final var arithmetic = arithmetic(mathContext);
+        final var coefficients = getCoefficients();
+        return arguments.stream().map(a -> arithmetic.evaluate(coefficients, a)).toList();
+    }
+
+    @Override
+    protected @NotNull List<@NotNull BigDecimal> evaluateAll(final @NotNull List<@NotNull BigDecimal> arguments) {
+        return arguments.stream().map(this::evaluate).toList();
+    }
+
+    @Override
+    public @NotNull BigDecimalPolynomial add(final @NotNull BigDecimalPolynomial summand) {
+        requireNonNull(summand, "summand");
+        return new BigDecimalPolynomial(ARITHMETIC.add(getCoefficients(), summand.getCoefficients()));
+    }
+
+    /**
+     * Calculates the sum
+     *
+     * @param summand summand
+     * @param mathContext {@link MathContext}
+     * @return sum
+     * @throws NullPointerException when {@code summand == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimalPolynomial add(
+        final @NotNull BigDecimalPolynomial summand,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(summand, "summand");
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimalPolynomial(arithmetic(mathContext).add(getCoefficients(), summand.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull BigDecimalPolynomial subtract(final @NotNull BigDecimalPolynomial subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new BigDecimalPolynomial(ARITHMETIC.subtract(getCoefficients(), subtrahend.getCoefficients()));
+    }
+
+    /**
+     * Calculates the difference
+     *
+     * @param subtrahend subtrahend
+     * @param mathContext {@link MathContext}
+     * @return difference
+     * @throws NullPointerException when {@code subtrahend == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimalPolynomial subtract(
+        final @NotNull BigDecimalPolynomial subtrahend,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(subtrahend, "subtrahend");
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimalPolynomial(
+            arithmetic(mathContext).subtract(getCoefficients(), subtrahend.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull BigDecimalPolynomial multiply(final @NotNull BigDecimalPolynomial factor) {
+        requireNonNull(factor, "factor");
+        return new BigDecimalPolynomial(ARITHMETIC.multiply(getCoefficients(), factor.getCoefficients()));
+    }
+
+    /**
+     * Calculates the product
+     *
+     * @param factor factor
+     * @param mathContext {@link MathContext}
+     * @return product
+     * @throws NullPointerException when {@code factor == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimalPolynomial multiply(
+        final @NotNull BigDecimalPolynomial factor,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(factor, "factor");
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimalPolynomial(
+            arithmetic(mathContext).multiply(getCoefficients(), factor.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull List<@NotNull BigDecimal> getDerivative() {
+        return ARITHMETIC.derivative(getCoefficients());
+    }
+
+    /**
+     * Approximates all roots with the Aberth-Ehrlich method to the precision of
+     * the current {@link ReciprocalContext}
+     *
+     * @return roots repeated according to their multiplicity
+     * @throws IllegalStateException when {@code this} is zero
+     * @throws ArithmeticException when the approximations do not converge
+     * @since 0.0.1
+     */
+    public @NotNull List<@NotNull BigComplex> getRoots() {
+        return getRoots(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Approximates all roots with the Aberth-Ehrlich method to the precision of
+     * the {@link MathContext}
+     *
+     * @param mathContext {@link MathContext}
+     * @return roots repeated according to their multiplicity
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() == 0}
+     * @throws IllegalStateException when {@code this} is zero
+     * @throws ArithmeticException when the approximations do not converge
+     * @since 0.0.1
+     */
+    public @NotNull List<@NotNull BigComplex> getRoots(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(mathContext.getPrecision() > 0, "mathContext.getPrecision() > 0 expected but "
+            + "mathContext.getPrecision() = %s", mathContext.getPrecision());
+        checkState(!isZero(), "this expected not to be zero but this = %s", this);
+        return AberthEhrlich.roots(getCoefficients(), mathContext);
+    }
+
+    private static @NotNull PolynomialArithmetic<@NotNull BigDecimal> arithmetic(
+        final @NotNull MathContext mathContext
+    ) {
+        return new PolynomialArithmetic<>(BigDecimal.ZERO, (a, b) -> a.add(b, mathContext),
+            (a, b) -> a.subtract(b, mathContext), (a, b) -> a.multiply(b, mathContext), BigDecimal::valueOf);
+    }
+}
@@ -0,0 +1,177 @@
+package reciprocal.polynomial;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.noNullElements;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.fraction.BigFraction;
+
+/**
+ * Immutable implementation of a polynomial that uses {@link BigFraction} as type
+ * for its coefficients
+ * <p>
+ * The coefficients of the returned polynomials are normalized and reduced.
+ * Products, multipoint evaluation and interpolation are calculated on the
+ * numerators over a common denominator, so that the coefficients are reduced
+ * only once.
+ *
+ * @since 0.0.1
+ */
+public final class BigFractionPolynomial
+    extends AbstractPolynomial<@NotNull BigFraction, @NotNull BigFractionPolynomial> {
+    private static final @NotNull PolynomialArithmetic<@NotNull BigFraction> ARITHMETIC =
+        new PolynomialArithmetic<>(BigFraction.ZERO, (a, b) -> a.add(b).normalize().reduce(),
+            (a, b) -> a.subtract(b).normalize().reduce(), (a, b) -> a.multiply(b).normalize().reduce(),
+            i -> BigFraction.ofNumerator(BigInteger.valueOf(i)));
+
+    /**
+     * Constructor
+     *
+     * @param coefficients coefficients
+     * @throws NullPointerException when {@code coefficients == null}
+     * @throws IllegalArgumentException when {@code coefficient == null} for one coefficient in coefficients
+     * @since 0.0.1
+     */
+    public BigFractionPolynomial(final @NotNull List<@NotNull BigFraction> coefficients) {
+        super(coefficients);
+    }
+
+    /**
+     * Returns the polynomial of least degree which takes the values at the
+     * points
+     * <p>
+     * The polynomial is interpolated with a subproduct tree of the points.
+     *
+     * @param points points
+     * @param values values
+     * @return polynomial
+     * @throws NullPointerException when {@code points == null} or {@code values == null}
+     * @throws IllegalArgumentException when {@code point == null} for one point in points, when
+     *     {@code value == null} for one value in values, when {@code points.isEmpty()}, when
+     *     {@code points.size() != values.size()} or when points are not distinct
+     * @since 0.0.1
+     */
+    public static @NotNull BigFractionPolynomial interpolate(
+        final @NotNull List<@NotNull BigFraction> points,
+        final @NotNull List<@NotNull BigFraction> values
+    ) {
+        requireNonNull(points, "points");
+        requireNonNull(values, "values");
+        noNullElements(points, "all points expected not to be null but points = %s", points);
+        noNullElements(values, "all values expected not to be null but values = %s", values);
+        checkArgument(!points.isEmpty(), "points expected not to be empty");
+        checkArgument(points.size() == values.size(), "points.size() == values.size() expected but %s != %s",
+            points.size(), values.size());
+        final var pointDenominator = commonDenominator(points);
+        final var integerPoints = numerators(points, pointDenominator);
+        checkArgument(integerPoints.stream().distinct().count() == integerPoints.size(),
+            "distinct points expected but points = %s", points);
+        final var tree = BigIntegerPolynomial.subproductTree(integerPoints);
+        final var derivative = new BigIntegerPolynomial(new BigIntegerPolynomial(tree.getProduct()).getDerivative());
+        final var derivatives = derivative.evaluate(integerPoints);
+        final var weights = new ArrayList<BigFraction>(values.size());
+        for (var i = 0; i < values.size(); i++) {
+            final var value = values.get(i).normalize();
+            weights.add(new BigFraction(value.getNumerator(), value.getDenominator().multiply(derivatives.get(i)))
+                .normalize());
+        }
+        final var weightDenominator = commonDenominator(weights);
+        final var combined = tree.combine(numerators(weights, weightDenominator));
+        final var coefficients = new ArrayList<BigFraction>(combined.size());
+        var power = BigInteger.ONE;
+        for (final var coefficient : combined) {
+            coefficients.add(new BigFraction(coefficient.multiply(power), weightDenominator).reduce());
+            power = power.multiply(pointDenominator);
+        }
+        return new BigFractionPolynomial(coefficients);
+    }
+
+    @Override
+    public boolean isZero() {
+        return getCoefficients().stream().allMatch(c -> c.getSignum() == 0);
+    }
+
+    @Override
+    public @NotNull BigFraction evaluate(final @NotNull BigFraction argument) {
+        requireNonNull(argument, "argument");
+        return ARITHMETIC.evaluate(getCoefficients(), argument);
+    }
+
+    @Override
+    protected @NotNull List<@NotNull BigFraction> evaluateAll(final @NotNull List<@NotNull BigFraction> arguments) {
+        final var coefficients = getCoefficients();
+        if (arguments.size() < PolynomialArithmetic.PARALLEL_THRESHOLD || coefficients.isEmpty()) {
+            return arguments.stream().map(this::evaluate).toList();
+        }
+        final var pointDenominator = commonDenominator(arguments);
+        final var coefficientDenominator = commonDenominator(coefficients);
+        final var numerators = numerators(coefficients, coefficientDenominator);
+        final var scaled = new BigInteger[numerators.size()];
+        var power = BigInteger.ONE;
+        for (var i = scaled.length - 1; i >= 0; i--) {
+            scaled[i] = numerators.get(i).multiply(power);
+            power = power.multiply(pointDenominator);
+        }
+        final var denominator = coefficientDenominator.multiply(power.divide(pointDenominator));
+        return new BigIntegerPolynomial(List.of(scaled)).evaluate(numerators(arguments, pointDenominator))
+            .parallelStream().map(v -> new BigFraction(v, denominator).reduce()).toList();
+    }
+
+    @Override
+    public @NotNull BigFractionPolynomial add(final @NotNull BigFractionPolynomial summand) {
+        requireNonNull(summand, "summand");
+        return new BigFractionPolynomial(ARITHMETIC.add(getCoefficients(), summand.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull BigFractionPolynomial subtract(final @NotNull BigFractionPolynomial subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new BigFractionPolynomial(ARITHMETIC.subtract(getCoefficients(), subtrahend.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull BigFractionPolynomial multiply(final @NotNull BigFractionPolynomial factor) {
+        requireNonNull(factor, "factor");
+        return new BigFractionPolynomial(product(getCoefficients(), factor.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull List<@NotNull BigFraction> getDerivative() {
+        return ARITHMETIC.derivative(getCoefficients());
+    }
+
+    private static @NotNull List<@NotNull BigFraction> product(
+        final @NotNull List<@NotNull BigFraction> left,
+        final @NotNull List<@NotNull BigFraction> right
+    ) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return List.of();
+        }
+        final var leftDenominator = commonDenominator(left);
+        final var rightDenominator = commonDenominator(right);
+        final var denominator = leftDenominator.multiply(rightDenominator);
+        return BigIntegerPolynomial.product(numerators(left, leftDenominator), numerators(right, rightDenominator))
+            .stream().map(n -> new BigFraction(n, denominator).reduce()).toList();
+    }
+
+    private static @NotNull BigInteger commonDenominator(final @NotNull List<@NotNull BigFraction> coefficients) {
+        var result = BigInteger.ONE;
+        for (final var coefficient : coefficients) {
+            final var denominator = coefficient.getDenominator().abs();
+            result = result.divide(result.gcd(denominator)).multiply(denominator);
+        }
+        return result;
+    }
+
+    private static @NotNull List<@NotNull BigInteger> numerators(
+        final @NotNull List<@NotNull BigFraction> coefficients,
+        final @NotNull BigInteger denominator
+    ) {
+        return coefficients.stream().map(BigFraction::normalize)
+            .map(c -> c.getNumerator().multiply(denominator.divide(c.getDenominator()))).toList();
+    }
+}
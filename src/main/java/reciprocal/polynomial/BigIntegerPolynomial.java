@@ -0,0 +1,109 @@
+package reciprocal.polynomial;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable implementation of a polynomial that uses {@link BigInteger} as
+ * type for its coefficients
+ * <p>
+ * Products of large polynomials are calculated with the number theoretic
+ * transform or, for very large coefficients, with Kronecker substitution.
+ *
+ * @since 0.0.1
+ */
+public final class BigIntegerPolynomial
+    extends AbstractPolynomial<@NotNull BigInteger, @NotNull BigIntegerPolynomial> {
+    private static final @NotNull PolynomialArithmetic<@NotNull BigInteger> ARITHMETIC =
+        new PolynomialArithmetic<>(BigInteger.ZERO, BigInteger::add, BigInteger::subtract, BigInteger::multiply,
+            BigInteger::valueOf);
+
+    /**
+     * Constructor
+     *
+     * @param coefficients coefficients
+     * @throws NullPointerException when {@code coefficients == null}
+     * @throws IllegalArgumentException when {@code coefficient == null} for one coefficient in coefficients
+     * @since 0.0.1
+     */
+    public BigIntegerPolynomial(final @NotNull List<@NotNull BigInteger> coefficients) {
+        super(coefficients);
+    }
+
+    @Override
+    public boolean isZero() {
+        return getCoefficients().stream().allMatch(c -> c.signum() == 0);
+    }
+
+    @Override
+    public @NotNull BigInteger evaluate(final @NotNull BigInteger argument) {
+        requireNonNull(argument, "argument");
+        return ARITHMETIC.evaluate(getCoefficients(), argument);
+    }
+
+    @Override
+    protected @NotNull List<@NotNull BigInteger> evaluateAll(final @NotNull List<@NotNull BigInteger> arguments) {
+        if (arguments.size() < PolynomialArithmetic.PARALLEL_THRESHOLD) {
+            return arguments.stream().map(this::evaluate).toList();
+        }
+        return arguments.parallelStream().map(this::evaluate).toList();
+    }
+
+    @Override
+    public @NotNull BigIntegerPolynomial add(final @NotNull BigIntegerPolynomial summand) {
+        requireNonNull(summand, "summand");
+        return new BigIntegerPolynomial(ARITHMETIC.add(getCoefficients(), summand.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull BigIntegerPolynomial subtract(final @NotNull BigIntegerPolynomial subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new BigIntegerPolynomial(ARITHMETIC.subtract(getCoefficients(), subtrahend.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull BigIntegerPolynomial multiply(final @NotNull BigIntegerPolynomial factor) {
+        requireNonNull(factor, "factor");
+        return new BigIntegerPolynomial(product(getCoefficients(), factor.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull List<@NotNull BigInteger> getDerivative() {
+        return ARITHMETIC.derivative(getCoefficients());
+    }
+
+    /**
+     * Returns the subproduct tree of the points
+     *
+     * @param points points
+     * @return subproduct tree
+     * @since 0.0.1
+     */
+    static @NotNull SubproductTree<@NotNull BigInteger> subproductTree(
+        final @NotNull List<@NotNull BigInteger> points
+    ) {
+        return new SubproductTree<>(ARITHMETIC, BigIntegerPolynomial::product, points);
+    }
+
+    /**
+     * Calculates the product of the coefficients
+     *
+     * @param left left coefficients
+     * @param right right coefficients
+     * @return product
+     * @since 0.0.1
+     */
+    static @NotNull List<@NotNull BigInteger> product(
+        final @NotNull List<@NotNull BigInteger> left,
+        final @NotNull List<@NotNull BigInteger> right
+    ) {
+        if (Math.min(left.size(), right.size()) >= NumberTheoreticTransform.THRESHOLD) {
+            return NumberTheoreticTransform.multiply(left, right)
+                .orElseGet(() -> KroneckerSubstitution.multiply(left, right));
+        }
+        return ARITHMETIC.multiply(left, right);
+    }
+}
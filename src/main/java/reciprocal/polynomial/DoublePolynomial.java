@@ -0,0 +1,224 @@
+package reciprocal.polynomial;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.noNullElements;
+
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.complex.Complex;
+
+/**
+ * Immutable implementation of a polynomial that uses {@link Double} as type
+ * for its coefficients
+ * <p>
+ * The coefficients are only held in a primitive array so that evaluation and
+ * arithmetic do not unbox. {@link #getCoefficients()} boxes them on every call.
+ *
+ * @since 0.0.1
+ */
+public final class DoublePolynomial extends AbstractPolynomial<@NotNull Double, @NotNull DoublePolynomial> {
+    private static final @NotNull PolynomialArithmetic<@NotNull Double> ARITHMETIC =
+        new PolynomialArithmetic<>(0.0D, Double::sum, (a, b) -> a - b, (a, b) -> a * b, i -> (double) i);
+
+    private final double @NotNull [] values;
+
+    /**
+     * Constructor
+     *
+     * @param coefficients coefficients
+     * @throws NullPointerException when {@code coefficients == null}
+     * @throws IllegalArgumentException when {@code coefficient == null} for one coefficient in coefficients
+     * @since 0.0.1
+     */
+    public DoublePolynomial(final @NotNull List<@NotNull Double> coefficients) {
+        requireNonNull(coefficients, "coefficients");
+        noNullElements(coefficients, "all coefficients expected not to be null but coefficients = %s", coefficients);
+        values = coefficients.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private DoublePolynomial(final double @NotNull [] values) {
+        this.values = values;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param coefficients coefficients
+     * @return polynomial
+     * @throws NullPointerException when {@code coefficients == null}
+     * @since 0.0.1
+     */
+    public static @NotNull DoublePolynomial ofCoefficients(final double @NotNull ... coefficients) {
+        requireNonNull(coefficients, "coefficients");
+        return new DoublePolynomial(Arrays.copyOf(coefficients, coefficients.length));
+    }
+
+    /**
+     * Returns the polynomial of least degree which takes the values at the
+     * points
+     * <p>
+     * The polynomial is interpolated with a subproduct tree of the points.
+     * Like every interpolation in the monomial basis it is ill-conditioned for
+     * many points far away from the unit circle.
+     *
+     * @param points points
+     * @param values values
+     * @return polynomial
+     * @throws NullPointerException when {@code points == null} or {@code values == null}
+     * @throws IllegalArgumentException when {@code points.length == 0}, when
+     *     {@code points.length != values.length} or when points are not distinct
+     * @since 0.0.1
+     */
+    public static @NotNull DoublePolynomial interpolate(
+        final double @NotNull [] points,
+        final double @NotNull [] values
+    ) {
+        requireNonNull(points, "points");
+        requireNonNull(values, "values");
+        checkArgument(points.length > 0, "points expected not to be empty");
+        checkArgument(points.length == values.length, "points.length == values.length expected but %s != %s",
+            points.length, values.length);
+        checkArgument(Arrays.stream(points).distinct().count() == points.length,
+            "distinct points expected but points = %s", Arrays.toString(points));
+        final var tree = new SubproductTree<>(ARITHMETIC, DoublePolynomial::product, Arrays.stream(points).boxed()
+            .toList());
+        return new DoublePolynomial(tree.interpolate(Arrays.stream(values).boxed().toList(), (a, b) -> a / b));
+    }
+
+    @Override
+    public boolean isZero() {
+        return Arrays.stream(values).allMatch(c -> c == 0.0D);
+    }
+
+    @Override
+    public @NotNull Double evaluate(final @NotNull Double argument) {
+        requireNonNull(argument, "argument");
+        return evaluate(argument.doubleValue());
+    }
+
+    /**
+     * Evaluates {@code this} at the argument with Horner's method
+     *
+     * @param argument argument
+     * @return value
+     * @since 0.0.1
+     */
+    public double evaluate(final double argument) {
+        var result = 0.0D;
+        for (var i = values.length - 1; i >= 0; i--) {
+            result = result * argument + values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates {@code this} at all arguments with Horner's method
+     * <p>
+     * The arguments are processed in the inner loop so that the JIT compiler
+     * is able to vectorize the evaluation.
+     *
+     * @param arguments arguments
+     * @return values
+     * @throws NullPointerException when {@code arguments == null}
+     * @since 0.0.1
+     */
+    public double @NotNull [] evaluate(final double @NotNull [] arguments) {
+        requireNonNull(arguments, "arguments");
+        final var result = new double[arguments.length];
+        for (var i = values.length - 1; i >= 0; i--) {
+            final var coefficient = values[i];
+            for (var j = 0; j < arguments.length; j++) {
+                result[j] = result[j] * arguments[j] + coefficient;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected @NotNull List<@NotNull Double> evaluateAll(final @NotNull List<@NotNull Double> arguments) {
+        return Arrays.stream(evaluate(arguments.stream().mapToDouble(Double::doubleValue).toArray())).boxed().toList();
+    }
+
+    @Override
+    public @NotNull DoublePolynomial add(final @NotNull DoublePolynomial summand) {
+        requireNonNull(summand, "summand");
+        final var result = Arrays.copyOf(values, Math.max(values.length, summand.values.length));
+        for (var i = 0; i < summand.values.length; i++) {
+            result[i] += summand.values[i];
+        }
+        return new DoublePolynomial(result);
+    }
+
+    @Override
+    public @NotNull DoublePolynomial subtract(final @NotNull DoublePolynomial subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        final var result = Arrays.copyOf(values, Math.max(values.length, subtrahend.values.length));
+        for (var i = 0; i < subtrahend.values.length; i++) {
+            result[i] -= subtrahend.values[i];
+        }
+        return new DoublePolynomial(result);
+    }
+
+    @Override
+    public @NotNull DoublePolynomial multiply(final @NotNull DoublePolynomial factor) {
+        requireNonNull(factor, "factor");
+        return new DoublePolynomial(PolynomialArithmetic.multiply(values, factor.values));
+    }
+
+    @Override
+    public @NotNull List<@NotNull Double> getDerivative() {
+        if (values.length < 2) {
+            return List.of(0.0D);
+        }
+        final var result = new double[values.length - 1];
+        for (var i = 1; i < values.length; i++) {
+            result[i - 1] = i * values[i];
+        }
+        return Arrays.stream(result).boxed().toList();
+    }
+
+    /**
+     * Approximates all roots with the Aberth-Ehrlich method
+     *
+     * @return roots repeated according to their multiplicity
+     * @throws IllegalStateException when {@code this} is zero
+     * @throws ArithmeticException when the approximations do not converge
+     * @since 0.0.1
+     */
+    public @NotNull List<@NotNull Complex> getRoots() {
+        checkState(!isZero(), "this expected not to be zero but this = %s", this);
+        return AberthEhrlich.roots(values);
+    }
+
+    /**
+     * Returns the coefficients as array
+     *
+     * @return coefficients
+     * @since 0.0.1
+     */
+    public double @NotNull [] toArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    @Override
+    protected int coefficientCount() {
+        return values.length;
+    }
+
+    @Override
+    protected @NotNull Double coefficient(final int index) {
+        return values[index];
+    }
+
+    private static @NotNull List<@NotNull Double> product(
+        final @NotNull List<@NotNull Double> left,
+        final @NotNull List<@NotNull Double> right
+    ) {
+        final var product = PolynomialArithmetic.multiply(left.stream().mapToDouble(Double::doubleValue).toArray(),
+            right.stream().mapToDouble(Double::doubleValue).toArray());
+        return Arrays.stream(product).boxed().toList();
+    }
+}
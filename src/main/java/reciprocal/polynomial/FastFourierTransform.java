@@ -0,0 +1,104 @@
+package reciprocal.polynomial;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Multiplication of floating point coefficients with the fast Fourier
+ * transform
+ * <p>
+ * Both factors are packed into one complex sequence {@code a + i * b}. Its
+ * square is {@code a * a - b * b + 2 * i * a * b}, so one forward and one
+ * inverse transform are sufficient for the product.
+ *
+ * @since 0.0.1
+ */
+final class FastFourierTransform {
+    /**
+     * Number of coefficients of the smaller factor from which on the fast
+     * Fourier transform is used
+     *
+     * @since 0.0.1
+     */
+    static final int THRESHOLD = 64;
+
+    private FastFourierTransform() {
+    }
+
+    /**
+     * Calculates the product of the coefficients
+     *
+     * @param a left coefficients
+     * @param b right coefficients
+     * @return product
+     * @since 0.0.1
+     */
+    static double @NotNull [] multiply(final double @NotNull [] a, final double @NotNull [] b) {
+        final var length = a.length + b.length - 1;
+        final var size = Integer.highestOneBit(length) == length ? length : Integer.highestOneBit(length) << 1;
+        final var re = new double[size];
+        final var im = new double[size];
+        System.arraycopy(a, 0, re, 0, a.length);
+        System.arraycopy(b, 0, im, 0, b.length);
+        transform(re, im, false);
+        for (var i = 0; i < size; i++) {
+            final var r = re[i];
+            final var j = im[i];
+            re[i] = r * r - j * j;
+            im[i] = 2.0D * r * j;
+        }
+        transform(re, im, true);
+        final var result = new double[length];
+        for (var i = 0; i < length; i++) {
+            result[i] = im[i] / (2.0D * size);
+        }
+        return result;
+    }
+
+    private static void transform(final double @NotNull [] re, final double @NotNull [] im, final boolean inverse) {
+        final var n = re.length;
+        var j = 0;
+        for (var i = 1; i < n; i++) {
+            var bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                swap(re, i, j);
+                swap(im, i, j);
+            }
+        }
+        final var cos = new double[n / 2];
+        final var sin = new double[n / 2];
+        final var sign = inverse ? 1.0D : -1.0D;
+        for (var i = 0; i < n / 2; i++) {
+            final var angle = 2.0D * Math.PI * i / n;
+            cos[i] = Math.cos(angle);
+            sin[i] = sign * Math.sin(angle);
+        }
+        for (var length = 2; length <= n; length <<= 1) {
+            final var half = length >> 1;
+            final var step = n / length;
+            for (var start = 0; start < n; start += length) {
+                for (var k = 0; k < half; k++) {
+                    final var wr = cos[k * step];
+                    final var wi = sin[k * step];
+                    final var u = start + k;
+                    final var v = u + half;
+                    final var tr = re[v] * wr - im[v] * wi;
+                    final var ti = re[v] * wi + im[v] * wr;
+                    re[v] = re[u] - tr;
+                    im[v] = im[u] - ti;
+                    re[u] += tr;
+                    im[u] += ti;
+                }
+            }
+        }
+    }
+
+    private static void swap(final double @NotNull [] array, final int i, final int j) {
+        final var tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+}
@@ -0,0 +1,73 @@
+package reciprocal.polynomial;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.fraction.Fraction;
+
+/**
+ * Immutable implementation of a polynomial that uses {@link Fraction} as type
+ * for its coefficients
+ * <p>
+ * The coefficients of the returned polynomials are normalized and reduced.
+ *
+ * @since 0.0.1
+ */
+public final class FractionPolynomial extends AbstractPolynomial<@NotNull Fraction, @NotNull FractionPolynomial> {
+    private static final @NotNull PolynomialArithmetic<@NotNull Fraction> ARITHMETIC =
+        new PolynomialArithmetic<>(Fraction.ZERO, (a, b) -> a.add(b).normalize().reduce(),
+            (a, b) -> a.subtract(b).normalize().reduce(), (a, b) -> a.multiply(b).normalize().reduce(),
+            Fraction::ofNumerator);
+
+    /**
+     * Constructor
+     *
+     * @param coefficients coefficients
+     * @throws NullPointerException when {@code coefficients == null}
+     * @throws IllegalArgumentException when {@code coefficient == null} for one coefficient in coefficients
+     * @since 0.0.1
+     */
+    public FractionPolynomial(final @NotNull List<@NotNull Fraction> coefficients) {
+        super(coefficients);
+    }
+
+    @Override
+    public boolean isZero() {
+        return getCoefficients().stream().allMatch(c -> c.getSignum() == 0);
+    }
+
+    @Override
+    public @NotNull Fraction evaluate(final @NotNull Fraction argument) {
+        requireNonNull(argument, "argument");
+        return ARITHMETIC.evaluate(getCoefficients(), argument);
+    }
+
+    @Override
+    protected @NotNull List<@NotNull Fraction> evaluateAll(final @NotNull List<@NotNull Fraction> arguments) {
+        return arguments.stream().map(this::evaluate).toList();
+    }
+
+    @Override
+    public @NotNull FractionPolynomial add(final @NotNull FractionPolynomial summand) {
+        requireNonNull(summand, "summand");
+        return new FractionPolynomial(ARITHMETIC.add(getCoefficients(), summand.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull FractionPolynomial subtract(final @NotNull FractionPolynomial subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new FractionPolynomial(ARITHMETIC.subtract(getCoefficients(), subtrahend.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull FractionPolynomial multiply(final @NotNull FractionPolynomial factor) {
+        requireNonNull(factor, "factor");
+        return new FractionPolynomial(ARITHMETIC.multiply(getCoefficients(), factor.getCoefficients()));
+    }
+
+    @Override
+    public @NotNull List<@NotNull Fraction> getDerivative() {
+        return ARITHMETIC.derivative(getCoefficients());
+    }
+}
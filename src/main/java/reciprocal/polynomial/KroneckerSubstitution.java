@@ -0,0 +1,78 @@
+package reciprocal.polynomial;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Exact multiplication of integer coefficients with Kronecker substitution
+ * <p>
+ * Both factors are evaluated at a power of 2 that is large enough to hold
+ * every coefficient of the product, the resulting integers are multiplied by
+ * {@link BigInteger#multiply(BigInteger)} and the product is split into its
+ * coefficients again. It is used for coefficients too large for the number
+ * theoretic transform.
+ *
+ * @since 0.0.1
+ */
+final class KroneckerSubstitution {
+    private KroneckerSubstitution() {
+    }
+
+    /**
+     * Calculates the product of the coefficients
+     *
+     * @param a left coefficients
+     * @param b right coefficients
+     * @return product
+     * @since 0.0.1
+     */
+    static @NotNull List<@NotNull BigInteger> multiply(
+        final @NotNull List<@NotNull BigInteger> a,
+        final @NotNull List<@NotNull BigInteger> b
+    ) {
+        final var bits = maxBitLength(a) + maxBitLength(b) + 32 - Integer.numberOfLeadingZeros(Math.min(a.size(),
+            b.size())) + 1;
+        final var slot = bits / Byte.SIZE + 1;
+        final var product = pack(a, slot).multiply(pack(b, slot)).toByteArray();
+        final var length = a.size() + b.size() - 1;
+        final var half = BigInteger.ONE.shiftLeft(slot * Byte.SIZE - 1);
+        final var modulus = half.shiftLeft(1);
+        final var sign = product[0] < 0 ? (byte) -1 : (byte) 0;
+        final var result = new ArrayList<BigInteger>(length);
+        var carry = BigInteger.ZERO;
+        for (var i = 0; i < length; i++) {
+            final var bytes = new byte[slot];
+            Arrays.fill(bytes, sign);
+            final var end = product.length - i * slot;
+            final var start = Math.max(0, end - slot);
+            if (end > 0) {
+                System.arraycopy(product, start, bytes, slot - (end - start), end - start);
+            }
+            final var digit = new BigInteger(1, bytes).add(carry);
+            final var negative = digit.compareTo(half) >= 0;
+            result.add(negative ? digit.subtract(modulus) : digit);
+            carry = negative ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        return List.copyOf(result);
+    }
+
+    private static @NotNull BigInteger pack(final @NotNull List<@NotNull BigInteger> coefficients, final int slot) {
+        final var positive = new byte[coefficients.size() * slot];
+        final var negative = new byte[coefficients.size() * slot];
+        for (var i = 0; i < coefficients.size(); i++) {
+            final var coefficient = coefficients.get(i);
+            final var magnitude = coefficient.abs().toByteArray();
+            final var target = coefficient.signum() < 0 ? negative : positive;
+            System.arraycopy(magnitude, 0, target, (coefficients.size() - i) * slot - magnitude.length,
+                magnitude.length);
+        }
+        return new BigInteger(1, positive).subtract(new BigInteger(1, negative));
+    }
+
+    private static int maxBitLength(final @NotNull List<@NotNull BigInteger> coefficients) {
+        return coefficients.stream().mapToInt(BigInteger::bitLength).max().orElse(0);
+    }
+}
@@ -0,0 +1,219 @@
+package reciprocal.polynomial;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Exact multiplication of integer coefficients with the number theoretic
+ * transform
+ * <p>
+ * The product is computed modulo as many primes of the form
+ * {@code c * 2^21 + 1} as the size of its coefficients requires and is
+ * reconstructed with the Chinese remainder theorem by Garner's algorithm. The
+ * convolutions modulo the primes are independent and computed in parallel.
+ *
+ * @since 0.0.1
+ */
+final class NumberTheoreticTransform {
+    /**
+     * Number of coefficients of the smaller factor from which on the number
+     * theoretic transform is used
+     *
+     * @since 0.0.1
+     */
+    static final int THRESHOLD = 64;
+
+    private static final int LOG_MAX_SIZE = 21;
+    private static final int BITS_PER_PRIME = 30;
+    private static final long @NotNull [] PRIMES;
+    private static final long @NotNull [] ROOTS;
+
+    static {
+        final var primes = new ArrayList<Long>();
+        final var roots = new ArrayList<Long>();
+        for (var c = (long) Integer.MAX_VALUE >> LOG_MAX_SIZE; (c << LOG_MAX_SIZE) > 1L << BITS_PER_PRIME; c--) {
+            final var p = (c << LOG_MAX_SIZE) + 1L;
+            if (BigInteger.valueOf(p).isProbablePrime(64)) {
+                primes.add(p);
+                roots.add(primitiveRoot(p, c));
+            }
+        }
+        PRIMES = primes.stream().mapToLong(Long::longValue).toArray();
+        ROOTS = roots.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private NumberTheoreticTransform() {
+    }
+
+    /**
+     * Calculates the product of the coefficients
+     *
+     * @param a left coefficients
+     * @param b right coefficients
+     * @return product or empty when the product is too large for the available primes
+     * @since 0.0.1
+     */
+    static @NotNull Optional<@NotNull List<@NotNull BigInteger>> multiply(
+        final @NotNull List<@NotNull BigInteger> a,
+        final @NotNull List<@NotNull BigInteger> b
+    ) {
+        final var length = a.size() + b.size() - 1;
+        final var size = Integer.highestOneBit(length) == length ? length : Integer.highestOneBit(length) << 1;
+        final var bits = maxBitLength(a) + maxBitLength(b) + 32 - Integer.numberOfLeadingZeros(Math.min(a.size(),
+            b.size())) + 1;
+        final var count = bits / BITS_PER_PRIME + 1;
+        if (size > 1 << LOG_MAX_SIZE || count > PRIMES.length) {
+            return Optional.empty();
+        }
+        final var residues = IntStream.range(0, count).parallel()
+            .mapToObj(i -> convolution(a, b, size, PRIMES[i], ROOTS[i])).toArray(long[][]::new);
+        final var inverses = new long[count][count];
+        for (var i = 0; i < count; i++) {
+            for (var j = 0; j < i; j++) {
+                inverses[j][i] = pow(PRIMES[j] % PRIMES[i], PRIMES[i] - 2L, PRIMES[i]);
+            }
+        }
+        final var modulus = IntStream.range(0, count).mapToObj(i -> BigInteger.valueOf(PRIMES[i]))
+            .reduce(BigInteger.ONE, BigInteger::multiply);
+        final var halfModulus = modulus.shiftRight(1);
+        return Optional.of(IntStream.range(0, length).parallel()
+            .mapToObj(t -> reconstruct(residues, inverses, t, count, modulus, halfModulus)).toList());
+    }
+
+    private static @NotNull BigInteger reconstruct(
+        final long @NotNull [] @NotNull [] residues,
+        final long @NotNull [] @NotNull [] inverses,
+        final int index,
+        final int count,
+        final @NotNull BigInteger modulus,
+        final @NotNull BigInteger halfModulus
+    ) {
+        final var digits = new long[count];
+        for (var i = 0; i < count; i++) {
+            final var p = PRIMES[i];
+            var v = residues[i][index];
+            for (var j = 0; j < i; j++) {
+                v = Math.floorMod(v - digits[j], p) * inverses[j][i] % p;
+            }
+            digits[i] = v;
+        }
+        var result = BigInteger.valueOf(digits[count - 1]);
+        for (var i = count - 2; i >= 0; i--) {
+            result = result.multiply(BigInteger.valueOf(PRIMES[i])).add(BigInteger.valueOf(digits[i]));
+        }
+        return result.compareTo(halfModulus) > 0 ? result.subtract(modulus) : result;
+    }
+
+    private static long @NotNull [] convolution(
+        final @NotNull List<@NotNull BigInteger> a,
+        final @NotNull List<@NotNull BigInteger> b,
+        final int size,
+        final long p,
+        final long root
+    ) {
+        final var left = residues(a, size, p);
+        final var right = residues(b, size, p);
+        transform(left, p, root, false);
+        transform(right, p, root, false);
+        for (var i = 0; i < size; i++) {
+            left[i] = left[i] * right[i] % p;
+        }
+        transform(left, p, root, true);
+        return left;
+    }
+
+    private static long @NotNull [] residues(final @NotNull List<@NotNull BigInteger> coefficients, final int size,
+        final long p) {
+        final var result = new long[size];
+        final var modulus = BigInteger.valueOf(p);
+        for (var i = 0; i < coefficients.size(); i++) {
+            final var coefficient = coefficients.get(i);
+            result[i] = coefficient.bitLength() < Long.SIZE ? Math.floorMod(coefficient.longValue(), p)
+                : coefficient.mod(modulus).longValue();
+        }
+        return result;
+    }
+
+    private static void transform(final long @NotNull [] a, final long p, final long root, final boolean inverse) {
+        final var n = a.length;
+        var j = 0;
+        for (var i = 1; i < n; i++) {
+            var bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                final var tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+        }
+        final var twiddles = new long[n / 2 + 1];
+        for (var length = 2; length <= n; length <<= 1) {
+            final var half = length >> 1;
+            final var w = pow(root, inverse ? p - 1L - (p - 1L) / length : (p - 1L) / length, p);
+            twiddles[0] = 1L;
+            for (var k = 1; k < half; k++) {
+                twiddles[k] = twiddles[k - 1] * w % p;
+            }
+            for (var start = 0; start < n; start += length) {
+                for (var k = 0; k < half; k++) {
+                    final var u = a[start + k];
+                    final var v = a[start + k + half] * twiddles[k] % p;
+                    a[start + k] = u + v < p ? u + v : u + v - p;
+                    a[start + k + half] = u - v >= 0L ? u - v : u - v + p;
+                }
+            }
+        }
+        if (inverse) {
+            final var nInverse = pow(n, p - 2L, p);
+            for (var i = 0; i < n; i++) {
+                a[i] = a[i] * nInverse % p;
+            }
+        }
+    }
+
+    private static int maxBitLength(final @NotNull List<@NotNull BigInteger> coefficients) {
+        return coefficients.stream().mapToInt(BigInteger::bitLength).max().orElse(0);
+    }
+
+    private static long primitiveRoot(final long p, final long c) {
+        final var factors = new ArrayList<Long>();
+        factors.add(2L);
+        var rest = c;
+        for (var f = 3L; f * f <= rest; f += 2L) {
+            if (rest % f == 0L) {
+                factors.add(f);
+                while (rest % f == 0L) {
+                    rest /= f;
+                }
+            }
+        }
+        if (rest > 1L && rest % 2L == 1L) {
+            factors.add(rest);
+        }
+        for (var g = 2L; ; g++) {
+            final var candidate = g;
+            if (factors.stream().allMatch(q -> pow(candidate, (p - 1L) / q, p) != 1L)) {
+                return g;
+            }
+        }
+    }
+
+    private static long pow(final long base, final long exponent, final long modulus) {
+        var result = 1L;
+        var b = base % modulus;
+        for (var e = exponent; e > 0L; e >>= 1) {
+            if ((e & 1L) == 1L) {
+                result = result * b % modulus;
+            }
+            b = b * b % modulus;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,420 @@
+package reciprocal.polynomial;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Arithmetic on coefficient lists which is shared by all polynomials
+ * <p>
+ * Coefficients are expected in ascending order of their powers. Products are
+ * calculated by schoolbook multiplication for small and by Karatsuba
+ * multiplication for large polynomials. Products of floating point
+ * coefficients of very large polynomials are calculated with the fast Fourier
+ * transform.
+ *
+ * @param <C> coefficient
+ * @since 0.0.1
+ */
+final class PolynomialArithmetic<C extends Number> {
+    /**
+     * Number of coefficients of the smaller factor from which on Karatsuba
+     * multiplication is used
+     *
+     * @since 0.0.1
+     */
+    static final int KARATSUBA_THRESHOLD = 32;
+
+    /**
+     * Number of arguments from which on exact polynomials are evaluated in
+     * parallel
+     *
+     * @since 0.0.1
+     */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    private final @NotNull C zero;
+    private final @NotNull BinaryOperator<@NotNull C> addition;
+    private final @NotNull BinaryOperator<@NotNull C> subtraction;
+    private final @NotNull BinaryOperator<@NotNull C> multiplication;
+    private final @NotNull IntFunction<@NotNull C> conversion;
+
+    /**
+     * Constructor
+     *
+     * @param zero 0
+     * @param addition addition of coefficients
+     * @param subtraction subtraction of coefficients
+     * @param multiplication multiplication of coefficients
+     * @param conversion conversion of an int to a coefficient
+     * @throws NullPointerException when one argument is null
+     * @since 0.0.1
+     */
+    PolynomialArithmetic(
+        final @NotNull C zero,
+        final @NotNull BinaryOperator<@NotNull C> addition,
+        final @NotNull BinaryOperator<@NotNull C> subtraction,
+        final @NotNull BinaryOperator<@NotNull C> multiplication,
+        final @NotNull IntFunction<@NotNull C> conversion
+    ) {
+        this.zero = requireNonNull(zero, "zero");
+        this.addition = requireNonNull(addition, "addition");
+        this.subtraction = requireNonNull(subtraction, "subtraction");
+        this.multiplication = requireNonNull(multiplication, "multiplication");
+        this.conversion = requireNonNull(conversion, "conversion");
+    }
+
+    /**
+     * Evaluates the coefficients at the argument with Horner's method
+     *
+     * @param coefficients coefficients
+     * @param argument argument
+     * @return value
+     * @since 0.0.1
+     */
+    @NotNull C evaluate(final @NotNull List<@NotNull C> coefficients, final @NotNull C argument) {
+        var result = zero;
+        for (var i = coefficients.size() - 1; i >= 0; i--) {
+            result = addition.apply(multiplication.apply(result, argument), coefficients.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the sum of the coefficients
+     *
+     * @param left left coefficients
+     * @param right right coefficients
+     * @return sum
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> add(final @NotNull List<@NotNull C> left, final @NotNull List<@NotNull C> right) {
+        return combine(left, right, addition);
+    }
+
+    /**
+     * Calculates the difference of the coefficients
+     *
+     * @param left left coefficients
+     * @param right right coefficients
+     * @return difference
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> subtract(final @NotNull List<@NotNull C> left, final @NotNull List<@NotNull C> right) {
+        return combine(left, right, subtraction);
+    }
+
+    /**
+     * Calculates the product of the coefficients
+     *
+     * @param left left coefficients
+     * @param right right coefficients
+     * @return product
+     * @since 0.0.1
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull List<@NotNull C> multiply(final @NotNull List<@NotNull C> left, final @NotNull List<@NotNull C> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return List.of();
+        }
+        final var a = (C[]) left.toArray(new Number[0]);
+        final var b = (C[]) right.toArray(new Number[0]);
+        return List.of(product(a, b));
+    }
+
+    /**
+     * Calculates the product of the coefficients
+     *
+     * @param a left coefficients
+     * @param b right coefficients
+     * @return product
+     * @since 0.0.1
+     */
+    static double @NotNull [] multiply(final double @NotNull [] a, final double @NotNull [] b) {
+        if (a.length == 0 || b.length == 0) {
+            return new double[0];
+        }
+        if (Math.min(a.length, b.length) >= FastFourierTransform.THRESHOLD) {
+            return FastFourierTransform.multiply(a, b);
+        }
+        if (Math.min(a.length, b.length) < KARATSUBA_THRESHOLD) {
+            final var result = new double[a.length + b.length - 1];
+            for (var i = 0; i < a.length; i++) {
+                for (var j = 0; j < b.length; j++) {
+                    result[i + j] += a[i] * b[j];
+                }
+            }
+            return result;
+        }
+        final var half = Math.max(a.length, b.length) / 2;
+        final var a0 = Arrays.copyOf(a, Math.min(half, a.length));
+        final var a1 = a.length > half ? Arrays.copyOfRange(a, half, a.length) : new double[0];
+        final var b0 = Arrays.copyOf(b, Math.min(half, b.length));
+        final var b1 = b.length > half ? Arrays.copyOfRange(b, half, b.length) : new double[0];
+        final var z0 = multiply(a0, b0);
+        final var z2 = multiply(a1, b1);
+        final var z1 = multiply(sum(a0, a1), sum(b0, b1));
+        final var result = new double[a.length + b.length - 1];
+        System.arraycopy(z0, 0, result, 0, z0.length);
+        System.arraycopy(z2, 0, result, 2 * half, z2.length);
+        for (var i = 0; i < z0.length; i++) {
+            z1[i] -= z0[i];
+        }
+        for (var i = 0; i < z2.length; i++) {
+            z1[i] -= z2[i];
+        }
+        for (var i = 0; i < z1.length && i + half < result.length; i++) {
+            result[i + half] += z1[i];
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the remainder of the division by a monic divisor
+     * <p>
+     * Small quotients are calculated by long division. Large quotients are
+     * calculated from the reciprocal of the reversed divisor, so that the
+     * division is as fast as the multiplication.
+     *
+     * @param dividend dividend
+     * @param divisor monic divisor
+     * @param product multiplication of coefficients
+     * @return remainder
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> remainder(
+        final @NotNull List<@NotNull C> dividend,
+        final @NotNull List<@NotNull C> divisor,
+        final @NotNull BinaryOperator<@NotNull List<@NotNull C>> product
+    ) {
+        final var quotientSize = dividend.size() - divisor.size() + 1;
+        if (quotientSize < KARATSUBA_THRESHOLD) {
+            return remainder(dividend, divisor, List.of(), product);
+        }
+        return remainder(dividend, divisor, reciprocal(divisor, quotientSize, product), product);
+    }
+
+    /**
+     * Calculates the remainder of the division by a monic divisor with the
+     * precomputed reciprocal of the reversed divisor
+     * <p>
+     * Small quotients are calculated by long division. Large quotients are the
+     * reversed product of the reversed dividend and the reciprocal, so that
+     * the division needs two truncated products. A reciprocal with fewer
+     * coefficients than the quotient is extended by Newton iteration.
+     *
+     * @param dividend dividend
+     * @param divisor monic divisor
+     * @param reciprocal reciprocal of the reversed divisor
+     * @param product multiplication of coefficients
+     * @return remainder
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> remainder(
+        final @NotNull List<@NotNull C> dividend,
+        final @NotNull List<@NotNull C> divisor,
+        final @NotNull List<@NotNull C> reciprocal,
+        final @NotNull BinaryOperator<@NotNull List<@NotNull C>> product
+    ) {
+        final var degree = divisor.size() - 1;
+        if (dividend.size() <= degree) {
+            return dividend;
+        }
+        final var quotientSize = dividend.size() - degree;
+        if (quotientSize < KARATSUBA_THRESHOLD) {
+            final var result = filled(dividend.size());
+            for (var i = 0; i < result.length; i++) {
+                result[i] = dividend.get(i);
+            }
+            for (var i = result.length - 1; i >= degree; i--) {
+                for (var j = 0; j < degree; j++) {
+                    final var k = i - degree + j;
+                    result[k] = subtraction.apply(result[k], multiplication.apply(result[i], divisor.get(j)));
+                }
+            }
+            return List.of(Arrays.copyOf(result, degree));
+        }
+        final var inverse = reciprocal.size() < quotientSize ? reciprocal(divisor, quotientSize, product)
+            : truncate(reciprocal, quotientSize);
+        final var quotient =
+            reverse(truncate(product.apply(truncate(reverse(dividend), quotientSize), inverse), quotientSize));
+        // only the coefficients below the degree of the divisor are left in the remainder
+        return subtract(truncate(dividend, degree),
+            truncate(product.apply(truncate(divisor, degree), truncate(quotient, degree)), degree));
+    }
+
+    /**
+     * Calculates the reciprocal of the reversed monic divisor as power series
+     * by Newton iteration
+     *
+     * @param divisor monic divisor
+     * @param size number of coefficients of the reciprocal
+     * @param product multiplication of coefficients
+     * @return reciprocal
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> reciprocal(
+        final @NotNull List<@NotNull C> divisor,
+        final int size,
+        final @NotNull BinaryOperator<@NotNull List<@NotNull C>> product
+    ) {
+        final var coefficients = reverse(divisor);
+        var result = List.of(conversion.apply(1));
+        var length = 1;
+        while (length < size) {
+            final var previous = length;
+            length = Math.min(2 * length, size);
+            // the error vanishes below the previous length, so that only its upper part is multiplied
+            final var error = product.apply(truncate(coefficients, length), result);
+            final var upper = filled(length - previous);
+            for (var i = 0; i < upper.length && previous + i < error.size(); i++) {
+                upper[i] = error.get(previous + i);
+            }
+            final var correction = product.apply(truncate(result, length - previous), List.of(upper));
+            final var next = filled(length);
+            for (var i = 0; i < result.size(); i++) {
+                next[i] = result.get(i);
+            }
+            for (var i = 0; i < length - previous && i < correction.size(); i++) {
+                next[previous + i] = subtraction.apply(next[previous + i], correction.get(i));
+            }
+            result = List.of(next);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the coefficients of {@code X - point}
+     *
+     * @param point point
+     * @return coefficients
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> linearFactor(final @NotNull C point) {
+        return List.of(subtraction.apply(zero, point), conversion.apply(1));
+    }
+
+    /**
+     * Calculates the derivative of the coefficients
+     *
+     * @param coefficients coefficients
+     * @return derivative
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> derivative(final @NotNull List<@NotNull C> coefficients) {
+        if (coefficients.size() < 2) {
+            return List.of(zero);
+        }
+        final var result = filled(coefficients.size() - 1);
+        for (var i = 1; i < coefficients.size(); i++) {
+            result[i - 1] = multiplication.apply(conversion.apply(i), coefficients.get(i));
+        }
+        return List.of(result);
+    }
+
+    /**
+     * 0
+     *
+     * @return 0
+     * @since 0.0.1
+     */
+    @NotNull C getZero() {
+        return zero;
+    }
+
+    private @NotNull List<@NotNull C> combine(
+        final @NotNull List<@NotNull C> left,
+        final @NotNull List<@NotNull C> right,
+        final @NotNull BinaryOperator<@NotNull C> operator
+    ) {
+        final var result = filled(Math.max(left.size(), right.size()));
+        for (var i = 0; i < result.length; i++) {
+            final var l = i < left.size() ? left.get(i) : zero;
+            final var r = i < right.size() ? right.get(i) : zero;
+            result[i] = operator.apply(l, r);
+        }
+        return List.of(result);
+    }
+
+    private @NotNull List<@NotNull C> truncate(final @NotNull List<@NotNull C> coefficients, final int size) {
+        final var result = filled(size);
+        for (var i = 0; i < Math.min(size, coefficients.size()); i++) {
+            result[i] = coefficients.get(i);
+        }
+        return List.of(result);
+    }
+
+    private @NotNull List<@NotNull C> reverse(final @NotNull List<@NotNull C> coefficients) {
+        final var result = filled(coefficients.size());
+        for (var i = 0; i < result.length; i++) {
+            result[i] = coefficients.get(result.length - 1 - i);
+        }
+        return List.of(result);
+    }
+
+    private @NotNull C[] product(final @NotNull C[] a, final @NotNull C[] b) {
+        if (Math.min(a.length, b.length) < KARATSUBA_THRESHOLD) {
+            return schoolbook(a, b);
+        }
+        final var half = Math.max(a.length, b.length) / 2;
+        final var a0 = Arrays.copyOf(a, Math.min(half, a.length));
+        final var a1 = a.length > half ? Arrays.copyOfRange(a, half, a.length) : Arrays.copyOf(a, 0);
+        final var b0 = Arrays.copyOf(b, Math.min(half, b.length));
+        final var b1 = b.length > half ? Arrays.copyOfRange(b, half, b.length) : Arrays.copyOf(b, 0);
+        final var z0 = product(a0, b0);
+        final var z2 = a1.length == 0 || b1.length == 0 ? Arrays.copyOf(a, 0) : product(a1, b1);
+        final var z1 = product(sum(a0, a1), sum(b0, b1));
+        final var result = filled(a.length + b.length - 1);
+        for (var i = 0; i < z0.length; i++) {
+            result[i] = z0[i];
+            z1[i] = subtraction.apply(z1[i], z0[i]);
+        }
+        for (var i = 0; i < z2.length; i++) {
+            result[i + 2 * half] = z2[i];
+            z1[i] = subtraction.apply(z1[i], z2[i]);
+        }
+        for (var i = 0; i < z1.length && i + half < result.length; i++) {
+            result[i + half] = addition.apply(result[i + half], z1[i]);
+        }
+        return result;
+    }
+
+    private @NotNull C[] schoolbook(final @NotNull C[] a, final @NotNull C[] b) {
+        final var result = filled(a.length + b.length - 1);
+        for (var i = 0; i < a.length; i++) {
+            for (var j = 0; j < b.length; j++) {
+                result[i + j] = addition.apply(result[i + j], multiplication.apply(a[i], b[j]));
+            }
+        }
+        return result;
+    }
+
+    private static double @NotNull [] sum(final double @NotNull [] a, final double @NotNull [] b) {
+        final var result = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (var i = 0; i < b.length; i++) {
+            result[i] += b[i];
+        }
+        return result;
+    }
+
+    private @NotNull C[] sum(final @NotNull C[] a, final @NotNull C[] b) {
+        final var longer = a.length < b.length ? b : a;
+        final var shorter = a.length < b.length ? a : b;
+        final var result = Arrays.copyOf(longer, longer.length);
+        for (var i = 0; i < shorter.length; i++) {
+            result[i] = addition.apply(result[i], shorter[i]);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull C[] filled(final int length) {
+        final var result = (C[]) new Number[length];
+        Arrays.fill(result, zero);
+        return result;
+    }
+}
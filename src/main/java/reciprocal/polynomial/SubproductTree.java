@@ -0,0 +1,191 @@
+package reciprocal.polynomial;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Subproduct tree of points for multipoint evaluation and interpolation
+ * <p>
+ * The leaves hold the linear factors {@code X - x} of the points and every
+ * inner node the product of its children. A polynomial is evaluated at all
+ * points by reducing it modulo the nodes from the root down to the leaves and
+ * an interpolating polynomial is combined from the leaves up to the root. With
+ * fast multiplication and division by Newton iteration both need
+ * {@code O(M(n) log(n))} operations where {@code M(n)} is the cost of a
+ * multiplication. Every node computes the reciprocal of its reversed product
+ * once and keeps it, so that each remainder needs two truncated products.
+ *
+ * @param <C> coefficient
+ * @since 0.0.1
+ */
+final class SubproductTree<C extends Number> {
+    private static final int LEAF_SIZE = 16;
+
+    private final @NotNull PolynomialArithmetic<@NotNull C> arithmetic;
+    private final @NotNull BinaryOperator<@NotNull List<@NotNull C>> product;
+    private final @NotNull Node<C> root;
+
+    /**
+     * Constructor
+     *
+     * @param arithmetic arithmetic
+     * @param product multiplication of coefficients
+     * @param points points
+     * @throws NullPointerException when one argument is null
+     * @since 0.0.1
+     */
+    SubproductTree(
+        final @NotNull PolynomialArithmetic<@NotNull C> arithmetic,
+        final @NotNull BinaryOperator<@NotNull List<@NotNull C>> product,
+        final @NotNull List<@NotNull C> points
+    ) {
+        this.arithmetic = requireNonNull(arithmetic, "arithmetic");
+        this.product = requireNonNull(product, "product");
+        root = build(List.copyOf(requireNonNull(points, "points")));
+    }
+
+    /**
+     * Evaluates the coefficients at all points
+     *
+     * @param coefficients coefficients
+     * @return values
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> evaluate(final @NotNull List<@NotNull C> coefficients) {
+        final var result = new ArrayList<C>(root.points().size());
+        evaluate(root, coefficients, result);
+        return List.copyOf(result);
+    }
+
+    private void evaluate(
+        final @NotNull Node<C> node,
+        final @NotNull List<@NotNull C> coefficients,
+        final @NotNull List<@NotNull C> result
+    ) {
+        final var remainder = arithmetic.remainder(coefficients, node.product(), reciprocal(node), product);
+        if (node.points().size() <= LEAF_SIZE) {
+            node.points().forEach(point -> result.add(arithmetic.evaluate(remainder, point)));
+            return;
+        }
+        evaluate(requireNonNull(node.left()), remainder, result);
+        evaluate(requireNonNull(node.right()), remainder, result);
+    }
+
+    /**
+     * Calculates the coefficients of the polynomial which takes the values at
+     * the points
+     *
+     * @param values values
+     * @param division division of coefficients
+     * @return coefficients
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> interpolate(
+        final @NotNull List<@NotNull C> values,
+        final @NotNull BinaryOperator<@NotNull C> division
+    ) {
+        final var derivatives = evaluate(arithmetic.derivative(root.product()));
+        final var weights = new ArrayList<C>(values.size());
+        for (var i = 0; i < values.size(); i++) {
+            weights.add(division.apply(values.get(i), derivatives.get(i)));
+        }
+        return combine(weights);
+    }
+
+    /**
+     * Returns the product of all linear factors
+     *
+     * @return coefficients
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> getProduct() {
+        return root.product();
+    }
+
+    /**
+     * Calculates the sum of the weighted products of all linear factors but
+     * the one of the point of the weight
+     *
+     * @param weights weights
+     * @return coefficients
+     * @since 0.0.1
+     */
+    @NotNull List<@NotNull C> combine(final @NotNull List<@NotNull C> weights) {
+        return combine(root, weights);
+    }
+
+    private @NotNull List<@NotNull C> combine(final @NotNull Node<C> node, final @NotNull List<@NotNull C> weights) {
+        if (node.left() == null || node.right() == null) {
+            return weights;
+        }
+        final var half = node.left().points().size();
+        final var left = combine(node.left(), weights.subList(0, half));
+        final var right = combine(node.right(), weights.subList(half, weights.size()));
+        return arithmetic.add(product.apply(left, node.right().product()),
+            product.apply(right, node.left().product()));
+    }
+
+    private @NotNull List<@NotNull C> reciprocal(final @NotNull Node<C> node) {
+        if (node == root || node.points().size() < PolynomialArithmetic.KARATSUBA_THRESHOLD) {
+            return List.of();
+        }
+        // the remainder of the parent has at most one coefficient more than the node has points, so that the
+        // reciprocal is computed once per node and reused by every evaluation
+        var reciprocal = node.reciprocal;
+        if (reciprocal == null) {
+            reciprocal = arithmetic.reciprocal(node.product(), node.points().size() + 1, product);
+            node.reciprocal = reciprocal;
+        }
+        return reciprocal;
+    }
+
+    private @NotNull Node<C> build(final @NotNull List<@NotNull C> points) {
+        if (points.size() == 1) {
+            return new Node<>(points, arithmetic.linearFactor(points.get(0)), null, null);
+        }
+        final var left = build(points.subList(0, points.size() / 2));
+        final var right = build(points.subList(points.size() / 2, points.size()));
+        return new Node<>(points, product.apply(left.product(), right.product()), left, right);
+    }
+
+    private static final class Node<C> {
+        private final @NotNull List<@NotNull C> points;
+        private final @NotNull List<@NotNull C> product;
+        private final @Nullable Node<C> left;
+        private final @Nullable Node<C> right;
+        private volatile @Nullable List<@NotNull C> reciprocal;
+
+        private Node(
+            final @NotNull List<@NotNull C> points,
+            final @NotNull List<@NotNull C> product,
+            final @Nullable Node<C> left,
+            final @Nullable Node<C> right
+        ) {
+            this.points = points;
+            this.product = product;
+            this.left = left;
+            this.right = right;
+        }
+
+        private @NotNull List<@NotNull C> points() {
+            return points;
+        }
+
+        private @NotNull List<@NotNull C> product() {
+            return product;
+        }
+
+        private @Nullable Node<C> left() {
+            return left;
+        }
+
+        private @Nullable Node<C> right() {
+            return right;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for pseudorandom generators
+ * <p>
+ * The values are generated by a {@link RandomGenerator}. By default it is a
+ * {@link SecureRandom} but any algorithm like {@code L64X128MixRandom} or
+ * {@code Xoshiro256PlusPlus} can be used when cryptographic strength is not
+ * needed. The streams of a {@link SplittableGenerator} split the generator
+ * when they are processed in parallel, so that the threads do not share one
+ * state.
+ *
+ * @since 0.0.1
+ */
+public abstract class AbstractGenerator {
+    /**
+     * {@link RandomGenerator}
+     *
+     * @since 0.0.1
+     */
+    private final @NotNull RandomGenerator randomGenerator;
+
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    protected AbstractGenerator() {
+        randomGenerator = new SecureRandom();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    protected AbstractGenerator(final byte[] seed) {
+        requireNonNull(seed, "seed");
+        randomGenerator = new SecureRandom(Arrays.copyOf(seed, seed.length));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param secureRandom {@link SecureRandom}
+     * @throws NullPointerException if {@code secureRandom == null}
+     * @since 0.0.1
+     */
+    protected AbstractGenerator(final @NotNull SecureRandom secureRandom) {
+        randomGenerator = requireNonNull(secureRandom, "secureRandom");
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException if {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    protected AbstractGenerator(final @NotNull RandomGenerator randomGenerator) {
+        this.randomGenerator = requireNonNull(randomGenerator, "randomGenerator");
+    }
+
+    /**
+     * Returns a new pseudorandom generator with a {@link RandomGenerator} split
+     * off from the one of this
+     * <p>
+     * Subclasses which support splitting override this method. The default
+     * implementation does not.
+     *
+     * @return new pseudorandom generator
+     * @throws IllegalStateException if {@code !isSplittable()}
+     * @throws UnsupportedOperationException if the subclass does not support
+     *     splitting
+     * @since 0.0.1
+     */
+    public @NotNull AbstractGenerator split() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support split()");
+    }
+
+    /**
+     * Returns an unlimited {@link LongStream} of pseudorandom longs
+     *
+     * @return {@link LongStream}
+     * @since 0.0.1
+     */
+    public final @NotNull LongStream longs() {
+        return randomGenerator.longs();
+    }
+
+    /**
+     * Returns a {@link LongStream} of pseudorandom longs
+     *
+     * @param limit limit
+     * @return {@link LongStream}
+     * @throws IllegalArgumentException if {@code limit < 0}
+     * @since 0.0.1
+     */
+    public final @NotNull LongStream longs(final long limit) {
+        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
+        return randomGenerator.longs(limit);
+    }
+
+    /**
+     * Returns an unlimited {@link LongStream} of pseudorandom longs
+     *
+     * @param origin origin
+     * @param bound bound
+     * @return {@link LongStream}
+     * @throws IllegalArgumentException if {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public final @NotNull LongStream longs(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return randomGenerator.longs(origin, bound);
+    }
+
+    /**
+     * Returns a {@link LongStream} of pseudorandom longs
+     *
+     * @param limit limit
+     * @param origin origin
+     * @param bound bound
+     * @return {@link LongStream}
+     * @throws IllegalArgumentException if {@code limit < 0}
+     * @throws IllegalArgumentException if {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public final @NotNull LongStream longs(final long limit, final long origin, final long bound) {
+        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return randomGenerator.longs(limit, origin, bound);
+    }
+
+    /**
+     * Returns an unlimited {@link DoubleStream} of pseudorandom doubles between
+     * 0 inclusive and 1 exclusive
+     *
+     * @return {@link DoubleStream}
+     * @since 0.0.1
+     */
+    public final @NotNull DoubleStream doubles() {
+        return randomGenerator.doubles();
+    }
+
+    /**
+     * Returns a {@link DoubleStream} of pseudorandom doubles between 0
+     * inclusive and 1 exclusive
+     *
+     * @param limit limit
+     * @return {@link DoubleStream}
+     * @throws IllegalArgumentException if {@code limit < 0}
+     * @since 0.0.1
+     */
+    public final @NotNull DoubleStream doubles(final long limit) {
+        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
+        return randomGenerator.doubles(limit);
+    }
+
+    /**
+     * Returns an unlimited {@link DoubleStream} of pseudorandom doubles
+     *
+     * @param origin origin
+     * @param bound bound
+     * @return {@link DoubleStream}
+     * @throws IllegalArgumentException if {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public final @NotNull DoubleStream doubles(final double origin, final double bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return randomGenerator.doubles(origin, bound);
+    }
+
+    /**
+     * Returns a {@link DoubleStream} of pseudorandom doubles
+     *
+     * @param limit limit
+     * @param origin origin
+     * @param bound bound
+     * @return {@link DoubleStream}
+     * @throws IllegalArgumentException if {@code limit < 0}
+     * @throws IllegalArgumentException if {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public final @NotNull DoubleStream doubles(final long limit, final double origin, final double bound) {
+        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return randomGenerator.doubles(limit, origin, bound);
+    }
+
+    /**
+     * Indicates if the {@link RandomGenerator} is a {@link SplittableGenerator}
+     *
+     * @return {@code true} if the {@link RandomGenerator} is splittable
+     * @since 0.0.1
+     */
+    public final boolean isSplittable() {
+        return randomGenerator instanceof SplittableGenerator;
+    }
+
+    /**
+     * {@link RandomGenerator}
+     *
+     * @return {@link RandomGenerator}
+     * @since 0.0.1
+     */
+    protected final @NotNull RandomGenerator getRandomGenerator() {
+        return randomGenerator;
+    }
+
+    /**
+     * Returns a {@link Stream} of values generated by the function of the
+     * {@link RandomGenerator}
+     * <p>
+     * The {@link Stream} splits a {@link SplittableGenerator} when it is
+     * processed in parallel.
+     *
+     * @param limit limit
+     * @param generator function which generates a value
+     * @param <T> type of the values
+     * @return {@link Stream}
+     * @throws NullPointerException if {@code generator == null}
+     * @throws IllegalArgumentException if {@code limit < 0}
+     * @since 0.0.1
+     */
+    protected final <T> @NotNull Stream<@NotNull T> stream(
+        final long limit,
+        final @NotNull Function<@NotNull RandomGenerator, @NotNull T> generator
+    ) {
+        requireNonNull(generator, "generator");
+        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
+        return StreamSupport.stream(new RandomSpliterator<>(randomGenerator, generator, 0L, limit), false);
+    }
+
+    /**
+     * Splits off a new {@link RandomGenerator}
+     *
+     * @return new {@link RandomGenerator}
+     * @throws IllegalStateException if {@code !isSplittable()}
+     * @since 0.0.1
+     */
+    protected final @NotNull RandomGenerator splitRandomGenerator() {
+        checkState(isSplittable(), "splittable randomGenerator expected but randomGenerator = %s", randomGenerator);
+        return ((SplittableGenerator) randomGenerator).split();
+    }
+
+    /**
+     * Creates a seeded {@link RandomGenerator} of the algorithm
+     *
+     * @param algorithm name of the algorithm
+     * @param seed seed
+     * @return {@link RandomGenerator}
+     * @throws NullPointerException if {@code algorithm == null}
+     * @throws IllegalArgumentException if the algorithm is not available
+     * @since 0.0.1
+     */
+    protected static @NotNull RandomGenerator randomGenerator(final @NotNull String algorithm, final long seed) {
+        requireNonNull(algorithm, "algorithm");
+        return RandomGeneratorFactory.of(algorithm).create(seed);
+    }
+
+    @Override
+    public final @NotNull String toString() {
+        return getClass().getSimpleName() + "{randomGenerator=" + randomGenerator + "}";
+    }
+}
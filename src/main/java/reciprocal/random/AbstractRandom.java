@@ -1,9 +1,9 @@
 package reciprocal.random;
 
-import static java.util.Objects.requireNonNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.security.SecureRandom;
-import java.util.Arrays;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,21 +13,13 @@ import org.jetbrains.annotations.NotNull;
  * @param <N> {@link Number}
  * @since 0.0.1
  */
-public abstract class AbstractRandom<N extends Number> {
-    /**
-     * {@link SecureRandom}
-     *
-     * @since 0.0.1
-     */
-    private final @NotNull SecureRandom secureRandom;
-
+public abstract class AbstractRandom<N extends Number> extends AbstractGenerator {
     /**
      * Constructor
      *
      * @since 0.0.1
      */
     protected AbstractRandom() {
-        secureRandom = new SecureRandom();
     }
 
     /**
@@ -38,8 +30,7 @@ public abstract class AbstractRandom<N extends Number> {
      * @since 0.0.1
      */
     protected AbstractRandom(final byte[] seed) {
-        requireNonNull(seed, "seed");
-        secureRandom = new SecureRandom(Arrays.copyOf(seed, seed.length));
+        super(seed);
     }
 
     /**
@@ -50,7 +41,18 @@ public abstract class AbstractRandom<N extends Number> {
      * @since 0.0.1
      */
     protected AbstractRandom(final @NotNull SecureRandom secureRandom) {
-        this.secureRandom = requireNonNull(secureRandom, "secureRandom");
+        super(secureRandom);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException if {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    protected AbstractRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
     }
 
     /**
@@ -128,14 +130,22 @@ public abstract class AbstractRandom<N extends Number> {
      * {@link SecureRandom}
      *
      * @return {@link SecureRandom}
+     * @throws IllegalStateException if the {@link RandomGenerator} is not a
+     *     {@link SecureRandom}
      * @since 0.0.1
+     * @deprecated use {@link #getRandomGenerator()} which returns the
+     *     generator of every constructor
      */
+    @Deprecated(since = "0.0.1")
     protected final @NotNull SecureRandom getSecureRandom() {
-        return secureRandom;
+        final var randomGenerator = getRandomGenerator();
+        checkState(randomGenerator instanceof SecureRandom,
+            "secureRandom expected but randomGenerator = %s", randomGenerator);
+        return (SecureRandom) randomGenerator;
     }
 
     @Override
-    public final @NotNull String toString() {
-        return getClass().getSimpleName() + "{secureRandom=" + secureRandom + "}";
+    public @NotNull AbstractRandom<N> split() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support split()");
     }
 }
@@ -0,0 +1,122 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.math.BigDecimal;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.complex.BigComplex;
+
+/**
+ * Pseudorandom number generator for {@link BigComplex BigComplexes}
+ * <p>
+ * The real and the imaginary part are drawn independently and uniformly from
+ * the range as doubles. Without a range both parts are between 0 inclusive and
+ * 1 exclusive.
+ *
+ * @since 0.0.1
+ */
+public final class BigComplexRandom extends AbstractRandom<@NotNull BigComplex> {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public BigComplexRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public BigComplexRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public BigComplexRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link BigComplexRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull BigComplexRandom of(final @NotNull String algorithm, final long seed) {
+        return new BigComplexRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull BigComplex next() {
+        return next(getRandomGenerator());
+    }
+
+    @Override
+    public @NotNull BigComplex next(final long bound) {
+        checkArgument(bound > 0L, "bound > 0 expected but bound = %s", bound);
+        return next(getRandomGenerator(), 0L, bound);
+    }
+
+    @Override
+    public @NotNull BigComplex next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return next(getRandomGenerator(), origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigComplex> numbers() {
+        return stream(Long.MAX_VALUE, BigComplexRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigComplex> numbers(final long limit) {
+        return stream(limit, BigComplexRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigComplex> numbers(final long origin, final long bound) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigComplex> numbers(final long limit, final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return stream(limit, randomGenerator -> next(randomGenerator, origin, bound));
+    }
+
+    @Override
+    public @NotNull BigComplexRandom split() {
+        return new BigComplexRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull BigComplex next(final @NotNull RandomGenerator randomGenerator) {
+        return new BigComplex(BigDecimal.valueOf(randomGenerator.nextDouble()),
+            BigDecimal.valueOf(randomGenerator.nextDouble()));
+    }
+
+    private static @NotNull BigComplex next(
+        final @NotNull RandomGenerator randomGenerator,
+        final long origin,
+        final long bound
+    ) {
+        return new BigComplex(BigDecimal.valueOf(randomGenerator.nextDouble(origin, bound)),
+            BigDecimal.valueOf(randomGenerator.nextDouble(origin, bound)));
+    }
+}
@@ -0,0 +1,399 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.ReciprocalContext;
+import reciprocal.ReciprocalUtils;
+
+/**
+ * Pseudorandom number generator for {@link BigDecimal BigDecimals}
+ * <p>
+ * A uniformly distributed number between 0 and 1 is an integer drawn uniformly
+ * below {@code 10^p} by rejection sampling and scaled by {@code 10^-p} where
+ * {@code p} is the precision of the {@link MathContext}. Exponentially
+ * distributed numbers are calculated by inversion and normally distributed
+ * numbers by the Box-Muller transform from uniformly distributed numbers with
+ * two additional digits, so that they are correct to the precision. Methods
+ * without {@link MathContext} use the {@link MathContext} of the current
+ * {@link ReciprocalContext}.
+ *
+ * @since 0.0.1
+ */
+public final class BigDecimalRandom extends AbstractRandom<@NotNull BigDecimal> {
+    private static final int GUARD_DIGITS = 2;
+
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public BigDecimalRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public BigDecimalRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public BigDecimalRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link BigDecimalRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull BigDecimalRandom of(final @NotNull String algorithm, final long seed) {
+        return new BigDecimalRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull BigDecimal next() {
+        return uniform(getRandomGenerator(), ReciprocalContext.current().mathContext());
+    }
+
+    @Override
+    public @NotNull BigDecimal next(final long bound) {
+        checkArgument(bound > 0L, "bound > 0 expected but bound = %s", bound);
+        return next(getRandomGenerator(), 0L, bound, ReciprocalContext.current().mathContext());
+    }
+
+    @Override
+    public @NotNull BigDecimal next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return next(getRandomGenerator(), origin, bound, ReciprocalContext.current().mathContext());
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigDecimal> numbers() {
+        return numbers(Long.MAX_VALUE);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigDecimal> numbers(final long limit) {
+        final var mathContext = ReciprocalContext.current().mathContext();
+        return stream(limit, randomGenerator -> uniform(randomGenerator, mathContext));
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigDecimal> numbers(final long origin, final long bound) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigDecimal> numbers(final long limit, final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        final var mathContext = ReciprocalContext.current().mathContext();
+        return stream(limit, randomGenerator -> next(randomGenerator, origin, bound, mathContext));
+    }
+
+    /**
+     * Returns the next uniformly distributed number between 0 inclusive and 1
+     * exclusive with as many decimal places as the precision
+     *
+     * @param mathContext {@link MathContext}
+     * @return next number
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal next(final @NotNull MathContext mathContext) {
+        requirePrecision(mathContext);
+        return uniform(getRandomGenerator(), mathContext);
+    }
+
+    /**
+     * Returns the next standard normally distributed number
+     *
+     * @return next number
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal nextGaussian() {
+        return nextGaussian(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Returns the next standard normally distributed number
+     *
+     * @param mathContext {@link MathContext}
+     * @return next number
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal nextGaussian(final @NotNull MathContext mathContext) {
+        return nextGaussian(BigDecimal.ZERO, BigDecimal.ONE, mathContext);
+    }
+
+    /**
+     * Returns the next normally distributed number
+     *
+     * @param mean mean
+     * @param standardDeviation standard deviation
+     * @param mathContext {@link MathContext}
+     * @return next number
+     * @throws NullPointerException when {@code mean == null}
+     * @throws NullPointerException when {@code standardDeviation == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code standardDeviation < 0}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal nextGaussian(
+        final @NotNull BigDecimal mean,
+        final @NotNull BigDecimal standardDeviation,
+        final @NotNull MathContext mathContext
+    ) {
+        requireGaussian(mean, standardDeviation, mathContext);
+        final var working = working(mathContext);
+        final var radius = radius(getRandomGenerator(), working);
+        final var angle = angle(getRandomGenerator(), twoPi(working), working);
+        return scale(radius.multiply(BigDecimalMath.cos(angle, working), working), mean, standardDeviation,
+            mathContext);
+    }
+
+    /**
+     * Returns the next exponentially distributed number with mean 1
+     *
+     * @return next number
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal nextExponential() {
+        return nextExponential(ReciprocalContext.current().mathContext());
+    }
+
+    /**
+     * Returns the next exponentially distributed number with mean 1
+     *
+     * @param mathContext {@link MathContext}
+     * @return next number
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal nextExponential(final @NotNull MathContext mathContext) {
+        return nextExponential(BigDecimal.ONE, mathContext);
+    }
+
+    /**
+     * Returns the next exponentially distributed number
+     *
+     * @param mean mean
+     * @param mathContext {@link MathContext}
+     * @return next number
+     * @throws NullPointerException when {@code mean == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mean <= 0}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimal nextExponential(final @NotNull BigDecimal mean, final @NotNull MathContext mathContext) {
+        requireExponential(mean, mathContext);
+        return exponential(getRandomGenerator(), mean, mathContext);
+    }
+
+    /**
+     * Fills the array with uniformly distributed numbers between 0 inclusive
+     * and 1 exclusive with as many decimal places as the precision
+     *
+     * @param array array
+     * @param mathContext {@link MathContext}
+     * @throws NullPointerException when {@code array == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public void fill(final @NotNull BigDecimal @NotNull [] array, final @NotNull MathContext mathContext) {
+        requireNonNull(array, "array");
+        requirePrecision(mathContext);
+        final var integers = new BigInteger[array.length];
+        new BigIntegerRandom(getRandomGenerator()).fill(integers, BigInteger.TEN.pow(mathContext.getPrecision()));
+        for (var i = 0; i < array.length; i++) {
+            array[i] = new BigDecimal(integers[i], mathContext.getPrecision());
+        }
+    }
+
+    /**
+     * Fills the array with normally distributed numbers
+     * <p>
+     * Every transformation of two uniformly distributed numbers fills two
+     * elements.
+     *
+     * @param array array
+     * @param mean mean
+     * @param standardDeviation standard deviation
+     * @param mathContext {@link MathContext}
+     * @throws NullPointerException when {@code array == null}
+     * @throws NullPointerException when {@code mean == null}
+     * @throws NullPointerException when {@code standardDeviation == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code standardDeviation < 0}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public void fillGaussian(
+        final @NotNull BigDecimal @NotNull [] array,
+        final @NotNull BigDecimal mean,
+        final @NotNull BigDecimal standardDeviation,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(array, "array");
+        requireGaussian(mean, standardDeviation, mathContext);
+        final var working = working(mathContext);
+        final var twoPi = twoPi(working);
+        for (var i = 0; i < array.length; i += 2) {
+            final var radius = radius(getRandomGenerator(), working);
+            final var angle = angle(getRandomGenerator(), twoPi, working);
+            array[i] = scale(radius.multiply(BigDecimalMath.cos(angle, working), working), mean, standardDeviation,
+                mathContext);
+            if (i + 1 < array.length) {
+                array[i + 1] = scale(radius.multiply(BigDecimalMath.sin(angle, working), working), mean,
+                    standardDeviation, mathContext);
+            }
+        }
+    }
+
+    /**
+     * Fills the array with exponentially distributed numbers
+     *
+     * @param array array
+     * @param mean mean
+     * @param mathContext {@link MathContext}
+     * @throws NullPointerException when {@code array == null}
+     * @throws NullPointerException when {@code mean == null}
+     * @throws NullPointerException when {@code mathContext == null}
+     * @throws IllegalArgumentException when {@code mean <= 0}
+     * @throws IllegalArgumentException when {@code mathContext.getPrecision() < 1}
+     * @since 0.0.1
+     */
+    public void fillExponential(
+        final @NotNull BigDecimal @NotNull [] array,
+        final @NotNull BigDecimal mean,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(array, "array");
+        requireExponential(mean, mathContext);
+        for (var i = 0; i < array.length; i++) {
+            array[i] = exponential(getRandomGenerator(), mean, mathContext);
+        }
+    }
+
+    @Override
+    public @NotNull BigDecimalRandom split() {
+        return new BigDecimalRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull BigDecimal next(
+        final @NotNull RandomGenerator randomGenerator,
+        final long origin,
+        final long bound,
+        final @NotNull MathContext mathContext
+    ) {
+        final var range = BigDecimal.valueOf(bound).subtract(BigDecimal.valueOf(origin));
+        return uniform(randomGenerator, mathContext).multiply(range, mathContext)
+            .add(BigDecimal.valueOf(origin), mathContext);
+    }
+
+    private static @NotNull BigDecimal uniform(
+        final @NotNull RandomGenerator randomGenerator,
+        final @NotNull MathContext mathContext
+    ) {
+        final var digits = mathContext.getPrecision();
+        return new BigDecimal(BigIntegerRandom.next(randomGenerator, BigInteger.TEN.pow(digits)), digits);
+    }
+
+    private static @NotNull BigDecimal exponential(
+        final @NotNull RandomGenerator randomGenerator,
+        final @NotNull BigDecimal mean,
+        final @NotNull MathContext mathContext
+    ) {
+        final var working = working(mathContext);
+        final var u = BigDecimal.ONE.subtract(uniform(randomGenerator, working));
+        return BigDecimalMath.log(u, working).negate().multiply(mean, mathContext);
+    }
+
+    private static @NotNull BigDecimal radius(
+        final @NotNull RandomGenerator randomGenerator,
+        final @NotNull MathContext working
+    ) {
+        final var u = BigDecimal.ONE.subtract(uniform(randomGenerator, working));
+        return BigDecimalMath.sqrt(BigDecimalMath.log(u, working).multiply(BigDecimal.valueOf(-2L)), working);
+    }
+
+    private static @NotNull BigDecimal angle(
+        final @NotNull RandomGenerator randomGenerator,
+        final @NotNull BigDecimal twoPi,
+        final @NotNull MathContext working
+    ) {
+        return twoPi.multiply(uniform(randomGenerator, working), working);
+    }
+
+    private static @NotNull BigDecimal twoPi(final @NotNull MathContext working) {
+        return ReciprocalUtils.pi(working).multiply(BigDecimal.valueOf(2L));
+    }
+
+    private static @NotNull BigDecimal scale(
+        final @NotNull BigDecimal z,
+        final @NotNull BigDecimal mean,
+        final @NotNull BigDecimal standardDeviation,
+        final @NotNull MathContext mathContext
+    ) {
+        return standardDeviation.multiply(z).add(mean, mathContext);
+    }
+
+    private static @NotNull MathContext working(final @NotNull MathContext mathContext) {
+        return new MathContext(mathContext.getPrecision() + GUARD_DIGITS, mathContext.getRoundingMode());
+    }
+
+    private static void requirePrecision(final @NotNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(mathContext.getPrecision() > 0, "mathContext.getPrecision() > 0 expected but "
+            + "mathContext.getPrecision() = %s", mathContext.getPrecision());
+    }
+
+    private static void requireGaussian(
+        final @NotNull BigDecimal mean,
+        final @NotNull BigDecimal standardDeviation,
+        final @NotNull MathContext mathContext
+    ) {
+        requireNonNull(mean, "mean");
+        requireNonNull(standardDeviation, "standardDeviation");
+        checkArgument(standardDeviation.signum() >= 0, "standardDeviation >= 0 expected but standardDeviation = %s",
+            standardDeviation);
+        requirePrecision(mathContext);
+    }
+
+    private static void requireExponential(final @NotNull BigDecimal mean, final @NotNull MathContext mathContext) {
+        requireNonNull(mean, "mean");
+        checkArgument(mean.signum() > 0, "mean > 0 expected but mean = %s", mean);
+        requirePrecision(mathContext);
+    }
+}
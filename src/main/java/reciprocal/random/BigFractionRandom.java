@@ -0,0 +1,126 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.math.BigInteger;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.fraction.BigFraction;
+
+/**
+ * Pseudorandom number generator for {@link BigFraction BigFractions}
+ * <p>
+ * The numerator and the denominator of a fraction are drawn independently and
+ * uniformly from the range. The denominator is never 0, so that a range must
+ * contain another number than 0 and a bound without origin must be greater
+ * than 1. The fractions are not reduced.
+ *
+ * @since 0.0.1
+ */
+public final class BigFractionRandom extends AbstractRandom<@NotNull BigFraction> {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public BigFractionRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public BigFractionRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public BigFractionRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link BigFractionRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull BigFractionRandom of(final @NotNull String algorithm, final long seed) {
+        return new BigFractionRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull BigFraction next() {
+        return next(getRandomGenerator());
+    }
+
+    @Override
+    public @NotNull BigFraction next(final long bound) {
+        checkArgument(bound > 1L, "bound > 1 expected but bound = %s", bound);
+        return next(getRandomGenerator(), 0L, bound);
+    }
+
+    @Override
+    public @NotNull BigFraction next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        checkArgument(origin != 0L || bound != 1L,
+            "range expected to contain a number other than 0 but range = [0, 1)");
+        return next(getRandomGenerator(), origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigFraction> numbers() {
+        return stream(Long.MAX_VALUE, BigFractionRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigFraction> numbers(final long limit) {
+        return stream(limit, BigFractionRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigFraction> numbers(final long origin, final long bound) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull BigFraction> numbers(final long limit, final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        checkArgument(origin != 0L || bound != 1L,
+            "range expected to contain a number other than 0 but range = [0, 1)");
+        return stream(limit, randomGenerator -> next(randomGenerator, origin, bound));
+    }
+
+    @Override
+    public @NotNull BigFractionRandom split() {
+        return new BigFractionRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull BigFraction next(final @NotNull RandomGenerator randomGenerator) {
+        return next(randomGenerator, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static @NotNull BigFraction next(
+        final @NotNull RandomGenerator randomGenerator,
+        final long origin,
+        final long bound
+    ) {
+        return new BigFraction(BigInteger.valueOf(randomGenerator.nextLong(origin, bound)),
+            BigInteger.valueOf(FractionRandom.denominator(randomGenerator, origin, bound)));
+    }
+}
@@ -1,14 +1,24 @@
 package reciprocal.random;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Pseudorandom number generator for {@link BigInteger BigIntegers}
+ * <p>
+ * The streams of numbers between longs are backed by the primitive
+ * {@link java.util.stream.LongStream} of the {@link RandomGenerator} without
+ * boxing. Numbers of arbitrary bit length are drawn from random bytes by
+ * rejection sampling: the bytes are masked to the bit length of the bound and
+ * drawn again when the number is not less than the bound, which happens with a
+ * probability of less than one half, so that the numbers are uniformly
+ * distributed.
  *
  * @since 0.0.1
  */
@@ -43,44 +53,281 @@ public final class BigIntegerRandom extends AbstractRandom<@NotNull BigInteger>
         super(secureRandom);
     }
 
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public BigIntegerRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom number generator with a seeded
+     * {@link RandomGenerator} of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link BigIntegerRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull BigIntegerRandom of(final @NotNull String algorithm, final long seed) {
+        return new BigIntegerRandom(randomGenerator(algorithm, seed));
+    }
+
     @Override
     public @NotNull BigInteger next() {
-        return BigInteger.valueOf(getSecureRandom().nextLong());
+        return BigInteger.valueOf(getRandomGenerator().nextLong());
     }
 
     @Override
     public @NotNull BigInteger next(final long bound) {
         checkArgument(bound > 0, "bound > 0 expected but bound = %s", bound);
-        return BigInteger.valueOf(getSecureRandom().nextLong(bound));
+        return BigInteger.valueOf(getRandomGenerator().nextLong(bound));
     }
 
     @Override
     public @NotNull BigInteger next(final long origin, final long bound) {
-        checkArgument(bound > 0, "origin < bound expected but %s >= %s", origin, bound);
-        return BigInteger.valueOf(getSecureRandom().nextLong(origin, bound));
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return BigInteger.valueOf(getRandomGenerator().nextLong(origin, bound));
     }
 
     @Override
     public @NotNull Stream<@NotNull BigInteger> numbers() {
-        return getSecureRandom().longs().boxed().map(BigInteger::valueOf);
+        return longs().mapToObj(BigInteger::valueOf);
     }
 
     @Override
     public @NotNull Stream<@NotNull BigInteger> numbers(final long limit) {
-        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
-        return getSecureRandom().longs(limit).boxed().map(BigInteger::valueOf);
+        return longs(limit).mapToObj(BigInteger::valueOf);
     }
 
     @Override
     public @NotNull Stream<@NotNull BigInteger> numbers(final long origin, final long bound) {
-        checkArgument(bound > 0, "origin < bound expected but %s >= %s", origin, bound);
-        return getSecureRandom().longs(origin, bound).boxed().map(BigInteger::valueOf);
+        return longs(origin, bound).mapToObj(BigInteger::valueOf);
     }
 
     @Override
     public @NotNull Stream<@NotNull BigInteger> numbers(final long limit, final long origin, final long bound) {
-        checkArgument(limit > -1, "limit > -1 expected but limit = %s", limit);
-        checkArgument(bound > 0, "origin < bound expected but %s >= %s", origin, bound);
-        return getSecureRandom().longs(limit, origin, bound).boxed().map(BigInteger::valueOf);
+        return longs(limit, origin, bound).mapToObj(BigInteger::valueOf);
+    }
+
+    /**
+     * Returns the next pseudorandom number between 0 inclusive and the bound
+     * exclusive
+     *
+     * @param bound bound
+     * @return next number
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code bound < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigInteger next(final @NotNull BigInteger bound) {
+        requireBound(bound);
+        return next(getRandomGenerator(), bound);
+    }
+
+    /**
+     * Returns the next pseudorandom number between the origin inclusive and
+     * the bound exclusive
+     *
+     * @param origin origin
+     * @param bound bound
+     * @return next number
+     * @throws NullPointerException when {@code origin == null}
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull BigInteger next(final @NotNull BigInteger origin, final @NotNull BigInteger bound) {
+        requireRange(origin, bound);
+        return origin.add(next(getRandomGenerator(), bound.subtract(origin)));
+    }
+
+    /**
+     * Returns an unlimited {@link Stream} of pseudorandom numbers between 0
+     * inclusive and the bound exclusive
+     *
+     * @param bound bound
+     * @return {@link Stream} of pseudorandom numbers
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code bound < 1}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigInteger> numbers(final @NotNull BigInteger bound) {
+        return numbers(Long.MAX_VALUE, bound);
+    }
+
+    /**
+     * Returns a {@link Stream} of pseudorandom numbers between 0 inclusive and
+     * the bound exclusive
+     *
+     * @param limit limit
+     * @param bound bound
+     * @return {@link Stream} of pseudorandom numbers
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code limit < 0}
+     * @throws IllegalArgumentException when {@code bound < 1}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigInteger> numbers(final long limit, final @NotNull BigInteger bound) {
+        requireBound(bound);
+        return stream(limit, randomGenerator -> next(randomGenerator, bound));
+    }
+
+    /**
+     * Returns an unlimited {@link Stream} of pseudorandom numbers between the
+     * origin inclusive and the bound exclusive
+     *
+     * @param origin origin
+     * @param bound bound
+     * @return {@link Stream} of pseudorandom numbers
+     * @throws NullPointerException when {@code origin == null}
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigInteger> numbers(
+        final @NotNull BigInteger origin,
+        final @NotNull BigInteger bound
+    ) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    /**
+     * Returns a {@link Stream} of pseudorandom numbers between the origin
+     * inclusive and the bound exclusive
+     *
+     * @param limit limit
+     * @param origin origin
+     * @param bound bound
+     * @return {@link Stream} of pseudorandom numbers
+     * @throws NullPointerException when {@code origin == null}
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code limit < 0}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigInteger> numbers(
+        final long limit,
+        final @NotNull BigInteger origin,
+        final @NotNull BigInteger bound
+    ) {
+        requireRange(origin, bound);
+        final var range = bound.subtract(origin);
+        return stream(limit, randomGenerator -> origin.add(next(randomGenerator, range)));
+    }
+
+    /**
+     * Fills the array with pseudorandom numbers between 0 inclusive and the
+     * bound exclusive
+     * <p>
+     * The random bytes of all numbers are drawn at once.
+     *
+     * @param array array
+     * @param bound bound
+     * @throws NullPointerException when {@code array == null}
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code bound < 1}
+     * @since 0.0.1
+     */
+    public void fill(final @NotNull BigInteger @NotNull [] array, final @NotNull BigInteger bound) {
+        requireBound(bound);
+        fill(array, BigInteger.ZERO, bound);
+    }
+
+    /**
+     * Fills the array with pseudorandom numbers between the origin inclusive
+     * and the bound exclusive
+     * <p>
+     * The random bytes of all numbers are drawn at once.
+     *
+     * @param array array
+     * @param origin origin
+     * @param bound bound
+     * @throws NullPointerException when {@code array == null}
+     * @throws NullPointerException when {@code origin == null}
+     * @throws NullPointerException when {@code bound == null}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public void fill(
+        final @NotNull BigInteger @NotNull [] array,
+        final @NotNull BigInteger origin,
+        final @NotNull BigInteger bound
+    ) {
+        requireNonNull(array, "array");
+        requireRange(origin, bound);
+        final var range = bound.subtract(origin);
+        final var bitLength = range.subtract(BigInteger.ONE).bitLength();
+        final var length = (bitLength + Byte.SIZE - 1) / Byte.SIZE;
+        final var bytes = new byte[array.length * length];
+        getRandomGenerator().nextBytes(bytes);
+        for (var i = 0; i < array.length; i++) {
+            final var offset = i * length;
+            var number = length == 0 ? BigInteger.ZERO : candidate(bytes, offset, length, bitLength);
+            if (number.compareTo(range) >= 0) {
+                number = next(getRandomGenerator(), range);
+            }
+            array[i] = origin.add(number);
+        }
+    }
+
+    @Override
+    public @NotNull BigIntegerRandom split() {
+        return new BigIntegerRandom(splitRandomGenerator());
+    }
+
+    /**
+     * Returns a pseudorandom number between 0 inclusive and the bound
+     * exclusive
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @param bound positive bound
+     * @return number
+     * @since 0.0.1
+     */
+    static @NotNull BigInteger next(
+        final @NotNull RandomGenerator randomGenerator,
+        final @NotNull BigInteger bound
+    ) {
+        final var bitLength = bound.subtract(BigInteger.ONE).bitLength();
+        if (bitLength == 0) {
+            return BigInteger.ZERO;
+        }
+        final var length = (bitLength + Byte.SIZE - 1) / Byte.SIZE;
+        final var bytes = new byte[length];
+        while (true) {
+            randomGenerator.nextBytes(bytes);
+            final var candidate = candidate(bytes, 0, length, bitLength);
+            if (candidate.compareTo(bound) < 0) {
+                return candidate;
+            }
+        }
+    }
+
+    private static @NotNull BigInteger candidate(
+        final byte @NotNull [] bytes,
+        final int offset,
+        final int length,
+        final int bitLength
+    ) {
+        bytes[offset] &= (byte) (0xFF >>> (length * Byte.SIZE - bitLength));
+        return new BigInteger(1, bytes, offset, length);
+    }
+
+    private static void requireBound(final @NotNull BigInteger bound) {
+        requireNonNull(bound, "bound");
+        checkArgument(bound.signum() > 0, "bound > 0 expected but bound = %s", bound);
+    }
+
+    private static void requireRange(final @NotNull BigInteger origin, final @NotNull BigInteger bound) {
+        requireNonNull(origin, "origin");
+        requireNonNull(bound, "bound");
+        checkArgument(origin.compareTo(bound) < 0, "origin < bound expected but %s >= %s", origin, bound);
     }
 }
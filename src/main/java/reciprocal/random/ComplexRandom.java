@@ -0,0 +1,119 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.complex.Complex;
+
+/**
+ * Pseudorandom number generator for {@link Complex Complexes}
+ * <p>
+ * The real and the imaginary part are drawn independently and uniformly from
+ * the range. Without a range both parts are between 0 inclusive and 1
+ * exclusive.
+ *
+ * @since 0.0.1
+ */
+public final class ComplexRandom extends AbstractRandom<@NotNull Complex> {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public ComplexRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public ComplexRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public ComplexRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link ComplexRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull ComplexRandom of(final @NotNull String algorithm, final long seed) {
+        return new ComplexRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull Complex next() {
+        return next(getRandomGenerator());
+    }
+
+    @Override
+    public @NotNull Complex next(final long bound) {
+        checkArgument(bound > 0L, "bound > 0 expected but bound = %s", bound);
+        return next(getRandomGenerator(), 0L, bound);
+    }
+
+    @Override
+    public @NotNull Complex next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return next(getRandomGenerator(), origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Complex> numbers() {
+        return stream(Long.MAX_VALUE, ComplexRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Complex> numbers(final long limit) {
+        return stream(limit, ComplexRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Complex> numbers(final long origin, final long bound) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Complex> numbers(final long limit, final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return stream(limit, randomGenerator -> next(randomGenerator, origin, bound));
+    }
+
+    @Override
+    public @NotNull ComplexRandom split() {
+        return new ComplexRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull Complex next(final @NotNull RandomGenerator randomGenerator) {
+        return new Complex(randomGenerator.nextDouble(), randomGenerator.nextDouble());
+    }
+
+    private static @NotNull Complex next(
+        final @NotNull RandomGenerator randomGenerator,
+        final long origin,
+        final long bound
+    ) {
+        return new Complex(randomGenerator.nextDouble(origin, bound), randomGenerator.nextDouble(origin, bound));
+    }
+}
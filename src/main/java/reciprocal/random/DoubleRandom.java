@@ -0,0 +1,208 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pseudorandom number generator for {@link Double Doubles}
+ * <p>
+ * Besides uniformly distributed doubles it samples normally and exponentially
+ * distributed doubles with the ziggurat method, which only needs one long of
+ * the {@link RandomGenerator} for almost all numbers.
+ *
+ * @since 0.0.1
+ */
+public final class DoubleRandom extends AbstractRandom<@NotNull Double> {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public DoubleRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public DoubleRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public DoubleRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link DoubleRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull DoubleRandom of(final @NotNull String algorithm, final long seed) {
+        return new DoubleRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull Double next() {
+        return getRandomGenerator().nextDouble();
+    }
+
+    @Override
+    public @NotNull Double next(final long bound) {
+        checkArgument(bound > 0L, "bound > 0 expected but bound = %s", bound);
+        return getRandomGenerator().nextDouble(bound);
+    }
+
+    @Override
+    public @NotNull Double next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return getRandomGenerator().nextDouble(origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Double> numbers() {
+        return doubles().boxed();
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Double> numbers(final long limit) {
+        return doubles(limit).boxed();
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Double> numbers(final long origin, final long bound) {
+        return doubles(origin, bound).boxed();
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Double> numbers(final long limit, final long origin, final long bound) {
+        return doubles(limit, origin, bound).boxed();
+    }
+
+    /**
+     * Returns the next standard normally distributed double
+     *
+     * @return next double
+     * @since 0.0.1
+     */
+    public double nextGaussian() {
+        return Ziggurat.normal(getRandomGenerator());
+    }
+
+    /**
+     * Returns the next normally distributed double
+     *
+     * @param mean mean
+     * @param standardDeviation standard deviation
+     * @return next double
+     * @throws IllegalArgumentException when {@code standardDeviation < 0}
+     * @since 0.0.1
+     */
+    public double nextGaussian(final double mean, final double standardDeviation) {
+        checkArgument(standardDeviation >= 0.0D, "standardDeviation >= 0 expected but standardDeviation = %s",
+            standardDeviation);
+        return mean + standardDeviation * Ziggurat.normal(getRandomGenerator());
+    }
+
+    /**
+     * Returns the next exponentially distributed double with mean 1
+     *
+     * @return next double
+     * @since 0.0.1
+     */
+    public double nextExponential() {
+        return Ziggurat.exponential(getRandomGenerator());
+    }
+
+    /**
+     * Returns the next exponentially distributed double
+     *
+     * @param mean mean
+     * @return next double
+     * @throws IllegalArgumentException when {@code mean <= 0}
+     * @since 0.0.1
+     */
+    public double nextExponential(final double mean) {
+        checkArgument(mean > 0.0D, "mean > 0 expected but mean = %s", mean);
+        return mean * Ziggurat.exponential(getRandomGenerator());
+    }
+
+    /**
+     * Fills the array with uniformly distributed doubles between 0 inclusive
+     * and 1 exclusive
+     *
+     * @param array array
+     * @throws NullPointerException when {@code array == null}
+     * @since 0.0.1
+     */
+    public void fill(final double @NotNull [] array) {
+        requireNonNull(array, "array");
+        final var randomGenerator = getRandomGenerator();
+        for (var i = 0; i < array.length; i++) {
+            array[i] = randomGenerator.nextDouble();
+        }
+    }
+
+    /**
+     * Fills the array with normally distributed doubles
+     *
+     * @param array array
+     * @param mean mean
+     * @param standardDeviation standard deviation
+     * @throws NullPointerException when {@code array == null}
+     * @throws IllegalArgumentException when {@code standardDeviation < 0}
+     * @since 0.0.1
+     */
+    public void fillGaussian(final double @NotNull [] array, final double mean, final double standardDeviation) {
+        requireNonNull(array, "array");
+        checkArgument(standardDeviation >= 0.0D, "standardDeviation >= 0 expected but standardDeviation = %s",
+            standardDeviation);
+        final var randomGenerator = getRandomGenerator();
+        for (var i = 0; i < array.length; i++) {
+            array[i] = mean + standardDeviation * Ziggurat.normal(randomGenerator);
+        }
+    }
+
+    /**
+     * Fills the array with exponentially distributed doubles
+     *
+     * @param array array
+     * @param mean mean
+     * @throws NullPointerException when {@code array == null}
+     * @throws IllegalArgumentException when {@code mean <= 0}
+     * @since 0.0.1
+     */
+    public void fillExponential(final double @NotNull [] array, final double mean) {
+        requireNonNull(array, "array");
+        checkArgument(mean > 0.0D, "mean > 0 expected but mean = %s", mean);
+        final var randomGenerator = getRandomGenerator();
+        for (var i = 0; i < array.length; i++) {
+            array[i] = mean * Ziggurat.exponential(randomGenerator);
+        }
+    }
+
+    @Override
+    public @NotNull DoubleRandom split() {
+        return new DoubleRandom(splitRandomGenerator());
+    }
+}
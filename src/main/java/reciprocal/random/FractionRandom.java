@@ -0,0 +1,142 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.fraction.Fraction;
+
+/**
+ * Pseudorandom number generator for {@link Fraction Fractions}
+ * <p>
+ * The numerator and the denominator of a fraction are drawn independently and
+ * uniformly from the range. The denominator is never 0, so that a range must
+ * contain another number than 0 and a bound without origin must be greater
+ * than 1. The fractions are not reduced.
+ *
+ * @since 0.0.1
+ */
+public final class FractionRandom extends AbstractRandom<@NotNull Fraction> {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public FractionRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public FractionRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public FractionRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link FractionRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull FractionRandom of(final @NotNull String algorithm, final long seed) {
+        return new FractionRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull Fraction next() {
+        return next(getRandomGenerator());
+    }
+
+    @Override
+    public @NotNull Fraction next(final long bound) {
+        checkArgument(bound > 1L, "bound > 1 expected but bound = %s", bound);
+        return next(getRandomGenerator(), 0L, bound);
+    }
+
+    @Override
+    public @NotNull Fraction next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        checkArgument(origin != 0L || bound != 1L,
+            "range expected to contain a number other than 0 but range = [0, 1)");
+        return next(getRandomGenerator(), origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Fraction> numbers() {
+        return stream(Long.MAX_VALUE, FractionRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Fraction> numbers(final long limit) {
+        return stream(limit, FractionRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Fraction> numbers(final long origin, final long bound) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Fraction> numbers(final long limit, final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        checkArgument(origin != 0L || bound != 1L,
+            "range expected to contain a number other than 0 but range = [0, 1)");
+        return stream(limit, randomGenerator -> next(randomGenerator, origin, bound));
+    }
+
+    @Override
+    public @NotNull FractionRandom split() {
+        return new FractionRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull Fraction next(final @NotNull RandomGenerator randomGenerator) {
+        return next(randomGenerator, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static @NotNull Fraction next(
+        final @NotNull RandomGenerator randomGenerator,
+        final long origin,
+        final long bound
+    ) {
+        return new Fraction(randomGenerator.nextLong(origin, bound), denominator(randomGenerator, origin, bound));
+    }
+
+    /**
+     * Returns a pseudorandom long other than 0 between the origin inclusive and
+     * the bound exclusive
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @param origin origin
+     * @param bound bound
+     * @return denominator
+     * @since 0.0.1
+     */
+    static long denominator(final @NotNull RandomGenerator randomGenerator, final long origin, final long bound) {
+        if (origin > 0L || bound <= 0L) {
+            return randomGenerator.nextLong(origin, bound);
+        }
+        final var denominator = randomGenerator.nextLong(origin, bound - 1L);
+        return denominator < 0L ? denominator : denominator + 1L;
+    }
+}
@@ -0,0 +1,118 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.number.complex.Gaussian;
+
+/**
+ * Pseudorandom number generator for {@link Gaussian Gaussians}
+ * <p>
+ * The real and the imaginary part are drawn independently and uniformly from
+ * the range. Without a range both parts are arbitrary longs.
+ *
+ * @since 0.0.1
+ */
+public final class GaussianRandom extends AbstractRandom<@NotNull Gaussian> {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public GaussianRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public GaussianRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public GaussianRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link GaussianRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull GaussianRandom of(final @NotNull String algorithm, final long seed) {
+        return new GaussianRandom(randomGenerator(algorithm, seed));
+    }
+
+    @Override
+    public @NotNull Gaussian next() {
+        return next(getRandomGenerator());
+    }
+
+    @Override
+    public @NotNull Gaussian next(final long bound) {
+        checkArgument(bound > 0L, "bound > 0 expected but bound = %s", bound);
+        return next(getRandomGenerator(), 0L, bound);
+    }
+
+    @Override
+    public @NotNull Gaussian next(final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return next(getRandomGenerator(), origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Gaussian> numbers() {
+        return stream(Long.MAX_VALUE, GaussianRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Gaussian> numbers(final long limit) {
+        return stream(limit, GaussianRandom::next);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Gaussian> numbers(final long origin, final long bound) {
+        return numbers(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Gaussian> numbers(final long limit, final long origin, final long bound) {
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return stream(limit, randomGenerator -> next(randomGenerator, origin, bound));
+    }
+
+    @Override
+    public @NotNull GaussianRandom split() {
+        return new GaussianRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull Gaussian next(final @NotNull RandomGenerator randomGenerator) {
+        return new Gaussian(randomGenerator.nextLong(), randomGenerator.nextLong());
+    }
+
+    private static @NotNull Gaussian next(
+        final @NotNull RandomGenerator randomGenerator,
+        final long origin,
+        final long bound
+    ) {
+        return new Gaussian(randomGenerator.nextLong(origin, bound), randomGenerator.nextLong(origin, bound));
+    }
+}
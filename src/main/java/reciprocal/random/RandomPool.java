@@ -0,0 +1,113 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pool of pseudorandom generators with one stream per thread or per index
+ * <p>
+ * {@link #create(long)} returns a new generator for the stream of an index
+ * chosen by the caller, like the index of a task. It is seeded with a seed
+ * derived from the master seed and the index and the pool keeps no state of
+ * it, so its sequence is reproducible per master seed and index no matter
+ * which thread creates it, and the caller owns it. Such a generator is the
+ * reproducible choice for tasks that run on pools or virtual threads.
+ * <p>
+ * {@link #get()} hands each thread its own stream for callers that need
+ * distinct but not reproducible numbers, like random ids. The first call of a
+ * thread assigns it the next unused thread stream of the pool and the thread
+ * keeps its generator, so no two threads ever share a sequence. Which thread
+ * gets which stream depends on the order of their first calls, so these
+ * sequences are not reproducible. Thread streams and index streams never
+ * overlap.
+ * <p>
+ * Concurrent callers neither share the state of one {@link RandomGenerator}
+ * nor contend on a lock.
+ *
+ * @param <G> {@link AbstractGenerator}
+ * @since 0.0.1
+ */
+public final class RandomPool<G extends AbstractGenerator> {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final @NotNull Function<@NotNull RandomGenerator, @NotNull G> constructor;
+    private final @NotNull RandomGeneratorFactory<@NotNull RandomGenerator> factory;
+    private final long seed;
+    private final @NotNull AtomicLong threadStreams = new AtomicLong();
+    private final @NotNull ThreadLocal<@NotNull G> threadGenerators;
+
+    /**
+     * Constructor
+     *
+     * @param constructor constructor of the generators
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed master seed
+     * @throws NullPointerException when {@code constructor == null}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public RandomPool(
+        final @NotNull Function<@NotNull RandomGenerator, @NotNull G> constructor,
+        final @NotNull String algorithm,
+        final long seed
+    ) {
+        this.constructor = requireNonNull(constructor, "constructor");
+        requireNonNull(algorithm, "algorithm");
+        factory = RandomGeneratorFactory.of(algorithm);
+        this.seed = seed;
+        threadGenerators = ThreadLocal.withInitial(() -> newGenerator(-1L - threadStreams.getAndIncrement()));
+    }
+
+    /**
+     * Returns the generator of the stream of the current thread
+     * <p>
+     * The sequence is not reproducible, because the stream depends on the
+     * order in which the threads call this first.
+     *
+     * @return generator
+     * @since 0.0.1
+     */
+    public @NotNull G get() {
+        return threadGenerators.get();
+    }
+
+    /**
+     * Creates a new generator for the stream of the index
+     * <p>
+     * Every call returns a new generator at the start of the sequence of the
+     * stream. The pool keeps no reference to it.
+     *
+     * @param streamIndex index of the stream
+     * @return generator
+     * @throws IllegalArgumentException when {@code streamIndex < 0}
+     * @since 0.0.1
+     */
+    public @NotNull G create(final long streamIndex) {
+        checkArgument(streamIndex >= 0L, "streamIndex >= 0 expected but streamIndex = %s", streamIndex);
+        return newGenerator(streamIndex);
+    }
+
+    private @NotNull G newGenerator(final long i) {
+        return constructor.apply(factory.create(seed(i)));
+    }
+
+    private long seed(final long i) {
+        // SplitMix64 finalizer of the i-th element of the Weyl sequence of the master seed, thread streams use i < 0
+        var z = seed + (i + 1L) * GOLDEN_GAMMA;
+        z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+        return z ^ z >>> 31;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "RandomPool{algorithm=" + factory.name() + "}";
+    }
+}
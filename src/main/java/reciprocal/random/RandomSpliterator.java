@@ -0,0 +1,92 @@
+package reciprocal.random;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link Spliterator} of pseudorandom values
+ * <p>
+ * Every value is generated by a function of a {@link RandomGenerator}. When
+ * the {@link RandomGenerator} is a {@link SplittableGenerator} the
+ * {@link Spliterator} splits it together with its range, so that parallel
+ * streams do not share the state of one generator. Otherwise it is not split
+ * at all.
+ *
+ * @param <T> type of the values
+ * @since 0.0.1
+ */
+final class RandomSpliterator<T> implements Spliterator<T> {
+    private final @NotNull RandomGenerator randomGenerator;
+    private final @NotNull Function<@NotNull RandomGenerator, @NotNull T> generator;
+    private final long fence;
+    private long index;
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @param generator function which generates a value
+     * @param index index of the first value
+     * @param fence index after the last value
+     * @throws NullPointerException when one argument is null
+     * @since 0.0.1
+     */
+    RandomSpliterator(
+        final @NotNull RandomGenerator randomGenerator,
+        final @NotNull Function<@NotNull RandomGenerator, @NotNull T> generator,
+        final long index,
+        final long fence
+    ) {
+        this.randomGenerator = requireNonNull(randomGenerator, "randomGenerator");
+        this.generator = requireNonNull(generator, "generator");
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final @NotNull Consumer<? super T> action) {
+        requireNonNull(action, "action");
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(generator.apply(randomGenerator));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final @NotNull Consumer<? super T> action) {
+        requireNonNull(action, "action");
+        for (; index < fence; index++) {
+            action.accept(generator.apply(randomGenerator));
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        final var middle = index + (fence - index >>> 1);
+        if (middle <= index || !(randomGenerator instanceof SplittableGenerator splittableGenerator)) {
+            return null;
+        }
+        final var prefix = new RandomSpliterator<>(splittableGenerator.split(), generator, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,269 @@
+package reciprocal.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.math.BigDecimal;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import reciprocal.linear.vector.BigDecimalVector;
+import reciprocal.linear.vector.DoubleVector;
+import reciprocal.linear.vector.LongVector;
+
+/**
+ * Pseudorandom generator for vectors
+ * <p>
+ * The elements of a vector are drawn at once from a primitive stream of the
+ * {@link RandomGenerator} and uniformly from the range. Without a range the
+ * elements of {@link DoubleVector DoubleVectors} and
+ * {@link BigDecimalVector BigDecimalVectors} are between 0 inclusive and 1
+ * exclusive and the elements of {@link LongVector LongVectors} are arbitrary
+ * longs.
+ *
+ * @since 0.0.1
+ */
+public final class VectorRandom extends AbstractGenerator {
+    /**
+     * Constructor
+     *
+     * @since 0.0.1
+     */
+    public VectorRandom() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param seed seed
+     * @throws NullPointerException when {@code seed == null}
+     * @since 0.0.1
+     */
+    public VectorRandom(final byte[] seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @throws NullPointerException when {@code randomGenerator == null}
+     * @since 0.0.1
+     */
+    public VectorRandom(final @NotNull RandomGenerator randomGenerator) {
+        super(randomGenerator);
+    }
+
+    /**
+     * Returns a pseudorandom generator with a seeded {@link RandomGenerator}
+     * of the algorithm
+     *
+     * @param algorithm name of the algorithm like {@code L64X128MixRandom}
+     * @param seed seed
+     * @return {@link VectorRandom}
+     * @throws NullPointerException when {@code algorithm == null}
+     * @throws IllegalArgumentException when the algorithm is not available
+     * @since 0.0.1
+     */
+    public static @NotNull VectorRandom of(final @NotNull String algorithm, final long seed) {
+        return new VectorRandom(randomGenerator(algorithm, seed));
+    }
+
+    /**
+     * Returns the next pseudorandom {@link DoubleVector}
+     *
+     * @param size size
+     * @return next {@link DoubleVector}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @since 0.0.1
+     */
+    public @NotNull DoubleVector nextDoubleVector(final int size) {
+        return nextDoubleVector(size, 0.0D, 1.0D);
+    }
+
+    /**
+     * Returns the next pseudorandom {@link DoubleVector}
+     *
+     * @param size size
+     * @param origin origin
+     * @param bound bound
+     * @return next {@link DoubleVector}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull DoubleVector nextDoubleVector(final int size, final double origin, final double bound) {
+        requireRange(size, origin, bound);
+        return doubleVector(getRandomGenerator(), size, origin, bound);
+    }
+
+    /**
+     * Returns a {@link Stream} of pseudorandom {@link DoubleVector DoubleVectors}
+     *
+     * @param limit limit
+     * @param size size
+     * @param origin origin
+     * @param bound bound
+     * @return {@link Stream} of {@link DoubleVector DoubleVectors}
+     * @throws IllegalArgumentException when {@code limit < 0}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull DoubleVector> doubleVectors(
+        final long limit,
+        final int size,
+        final double origin,
+        final double bound
+    ) {
+        requireRange(size, origin, bound);
+        return stream(limit, randomGenerator -> doubleVector(randomGenerator, size, origin, bound));
+    }
+
+    /**
+     * Returns the next pseudorandom {@link LongVector}
+     *
+     * @param size size
+     * @return next {@link LongVector}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @since 0.0.1
+     */
+    public @NotNull LongVector nextLongVector(final int size) {
+        checkArgument(size > 0, "size > 0 expected but size = %s", size);
+        final var elements = getRandomGenerator().longs(size).toArray();
+        return LongVector.ofSize(size).computationOfAbsentees(i -> elements[i - 1]).build();
+    }
+
+    /**
+     * Returns the next pseudorandom {@link LongVector}
+     *
+     * @param size size
+     * @param origin origin
+     * @param bound bound
+     * @return next {@link LongVector}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull LongVector nextLongVector(final int size, final long origin, final long bound) {
+        checkArgument(size > 0, "size > 0 expected but size = %s", size);
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return longVector(getRandomGenerator(), size, origin, bound);
+    }
+
+    /**
+     * Returns a {@link Stream} of pseudorandom {@link LongVector LongVectors}
+     *
+     * @param limit limit
+     * @param size size
+     * @param origin origin
+     * @param bound bound
+     * @return {@link Stream} of {@link LongVector LongVectors}
+     * @throws IllegalArgumentException when {@code limit < 0}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull LongVector> longVectors(
+        final long limit,
+        final int size,
+        final long origin,
+        final long bound
+    ) {
+        checkArgument(size > 0, "size > 0 expected but size = %s", size);
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+        return stream(limit, randomGenerator -> longVector(randomGenerator, size, origin, bound));
+    }
+
+    /**
+     * Returns the next pseudorandom {@link BigDecimalVector}
+     *
+     * @param size size
+     * @return next {@link BigDecimalVector}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimalVector nextBigDecimalVector(final int size) {
+        return nextBigDecimalVector(size, 0.0D, 1.0D);
+    }
+
+    /**
+     * Returns the next pseudorandom {@link BigDecimalVector}
+     *
+     * @param size size
+     * @param origin origin
+     * @param bound bound
+     * @return next {@link BigDecimalVector}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull BigDecimalVector nextBigDecimalVector(final int size, final double origin, final double bound) {
+        requireRange(size, origin, bound);
+        return bigDecimalVector(getRandomGenerator(), size, origin, bound);
+    }
+
+    /**
+     * Returns a {@link Stream} of pseudorandom
+     * {@link BigDecimalVector BigDecimalVectors}
+     *
+     * @param limit limit
+     * @param size size
+     * @param origin origin
+     * @param bound bound
+     * @return {@link Stream} of {@link BigDecimalVector BigDecimalVectors}
+     * @throws IllegalArgumentException when {@code limit < 0}
+     * @throws IllegalArgumentException when {@code size < 1}
+     * @throws IllegalArgumentException when {@code origin >= bound}
+     * @since 0.0.1
+     */
+    public @NotNull Stream<@NotNull BigDecimalVector> bigDecimalVectors(
+        final long limit,
+        final int size,
+        final double origin,
+        final double bound
+    ) {
+        requireRange(size, origin, bound);
+        return stream(limit, randomGenerator -> bigDecimalVector(randomGenerator, size, origin, bound));
+    }
+
+    @Override
+    public @NotNull VectorRandom split() {
+        return new VectorRandom(splitRandomGenerator());
+    }
+
+    private static @NotNull DoubleVector doubleVector(
+        final @NotNull RandomGenerator randomGenerator,
+        final int size,
+        final double origin,
+        final double bound
+    ) {
+        final var elements = randomGenerator.doubles(size, origin, bound).toArray();
+        return DoubleVector.ofSize(size).computationOfAbsentees(i -> elements[i - 1]).build();
+    }
+
+    private static @NotNull LongVector longVector(
+        final @NotNull RandomGenerator randomGenerator,
+        final int size,
+        final long origin,
+        final long bound
+    ) {
+        final var elements = randomGenerator.longs(size, origin, bound).toArray();
+        return LongVector.ofSize(size).computationOfAbsentees(i -> elements[i - 1]).build();
+    }
+
+    private static @NotNull BigDecimalVector bigDecimalVector(
+        final @NotNull RandomGenerator randomGenerator,
+        final int size,
+        final double origin,
+        final double bound
+    ) {
+        final var elements = randomGenerator.doubles(size, origin, bound).toArray();
+        return BigDecimalVector.ofSize(size).computationOfAbsentees(i -> BigDecimal.valueOf(elements[i - 1]))
+            .build();
+    }
+
+    private static void requireRange(final int size, final double origin, final double bound) {
+        checkArgument(size > 0, "size > 0 expected but size = %s", size);
+        checkArgument(origin < bound, "origin < bound expected but %s >= %s", origin, bound);
+    }
+}
@@ -0,0 +1,121 @@
+package reciprocal.random;
+
+import java.util.random.RandomGenerator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ziggurat method of Marsaglia and Tsang for normally and exponentially
+ * distributed doubles
+ * <p>
+ * The area under the density is covered by layers of equal area. A point is
+ * drawn uniformly from a random layer and accepted without evaluating the
+ * density when it lies in the rectangle below the next layer, which is the
+ * case for more than 98 % of all points. Only the wedges and the tail need the
+ * exponential function or the logarithm. The layer and the point are taken
+ * from independent bits of one long as proposed by Doornik.
+ *
+ * @since 0.0.1
+ */
+final class Ziggurat {
+    private static final int NORMAL_LAYERS = 128;
+    private static final double NORMAL_R = 3.442619855899D;
+    private static final double NORMAL_V = 9.91256303526217e-3D;
+    private static final int EXPONENTIAL_LAYERS = 256;
+    private static final double EXPONENTIAL_R = 7.69711747013104972D;
+    private static final double EXPONENTIAL_V = 3.949659822581572e-3D;
+    private static final double DOUBLE_UNIT = 0x1.0p-53D;
+    private static final double @NotNull [] NORMAL_X = new double[NORMAL_LAYERS + 1];
+    private static final double @NotNull [] NORMAL_F = new double[NORMAL_LAYERS + 1];
+    private static final double @NotNull [] EXPONENTIAL_X = new double[EXPONENTIAL_LAYERS + 1];
+    private static final double @NotNull [] EXPONENTIAL_F = new double[EXPONENTIAL_LAYERS + 1];
+
+    static {
+        NORMAL_X[0] = NORMAL_V / normalDensity(NORMAL_R);
+        NORMAL_X[1] = NORMAL_R;
+        for (var i = 1; i < NORMAL_LAYERS - 1; i++) {
+            NORMAL_X[i + 1] = Math.sqrt(-2.0D * Math.log(NORMAL_V / NORMAL_X[i] + normalDensity(NORMAL_X[i])));
+        }
+        for (var i = 0; i < NORMAL_LAYERS; i++) {
+            NORMAL_F[i] = normalDensity(NORMAL_X[i]);
+        }
+        NORMAL_F[NORMAL_LAYERS] = 1.0D;
+        EXPONENTIAL_X[0] = EXPONENTIAL_V / Math.exp(-EXPONENTIAL_R);
+        EXPONENTIAL_X[1] = EXPONENTIAL_R;
+        for (var i = 1; i < EXPONENTIAL_LAYERS - 1; i++) {
+            EXPONENTIAL_X[i + 1] = -Math.log(EXPONENTIAL_V / EXPONENTIAL_X[i] + Math.exp(-EXPONENTIAL_X[i]));
+        }
+        for (var i = 0; i < EXPONENTIAL_LAYERS; i++) {
+            EXPONENTIAL_F[i] = Math.exp(-EXPONENTIAL_X[i]);
+        }
+        EXPONENTIAL_F[EXPONENTIAL_LAYERS] = 1.0D;
+    }
+
+    private Ziggurat() {
+    }
+
+    /**
+     * Returns a standard normally distributed double
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @return double
+     * @since 0.0.1
+     */
+    static double normal(final @NotNull RandomGenerator randomGenerator) {
+        while (true) {
+            final var bits = randomGenerator.nextLong();
+            final var i = (int) (bits & NORMAL_LAYERS - 1);
+            final var u = 2.0D * (bits >>> 11) * DOUBLE_UNIT - 1.0D;
+            final var x = u * NORMAL_X[i];
+            if (Math.abs(x) < NORMAL_X[i + 1]) {
+                return x;
+            }
+            if (i == 0) {
+                return u < 0.0D ? -normalTail(randomGenerator) : normalTail(randomGenerator);
+            }
+            final var y = NORMAL_F[i] + randomGenerator.nextDouble() * (NORMAL_F[i + 1] - NORMAL_F[i]);
+            if (y < normalDensity(x)) {
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Returns a standard exponentially distributed double
+     *
+     * @param randomGenerator {@link RandomGenerator}
+     * @return double
+     * @since 0.0.1
+     */
+    static double exponential(final @NotNull RandomGenerator randomGenerator) {
+        while (true) {
+            final var bits = randomGenerator.nextLong();
+            final var i = (int) (bits & EXPONENTIAL_LAYERS - 1);
+            final var x = (bits >>> 11) * DOUBLE_UNIT * EXPONENTIAL_X[i];
+            if (x < EXPONENTIAL_X[i + 1]) {
+                return x;
+            }
+            if (i == 0) {
+                // the exponential distribution is memoryless
+                return EXPONENTIAL_R - Math.log(1.0D - randomGenerator.nextDouble());
+            }
+            final var y = EXPONENTIAL_F[i] + randomGenerator.nextDouble() * (EXPONENTIAL_F[i + 1] - EXPONENTIAL_F[i]);
+            if (y < Math.exp(-x)) {
+                return x;
+            }
+        }
+    }
+
+    private static double normalTail(final @NotNull RandomGenerator randomGenerator) {
+        while (true) {
+            final var x = -Math.log(1.0D - randomGenerator.nextDouble()) / NORMAL_R;
+            final var y = -Math.log(1.0D - randomGenerator.nextDouble());
+            if (2.0D * y >= x * x) {
+                return NORMAL_R + x;
+            }
+        }
+    }
+
+    private static double normalDensity(final double x) {
+        return Math.exp(-0.5D * x * x);
+    }
+}
@@ -1,7 +1,12 @@
 package reciprocal;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import java.math.MathContext;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 
 final class ReciprocalContextTests {
@@ -10,4 +15,76 @@ final class ReciprocalContextTests {
         assertThatNullPointerException().isThrownBy(() -> new ReciprocalContext(0, null)).withMessage("mathContext")
             .withNoCause();
     }
+
+    @Test
+    void ofPrecision_should_throw_Exception_when_precision_is_less_than_1() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ReciprocalContext.ofPrecision(0))
+            .withMessage("precision > 0 expected but precision = 0").withNoCause();
+    }
+
+    @Test
+    void ofPrecision_should_return_context() {
+        assertThat(ReciprocalContext.ofPrecision(10)).isEqualTo(new ReciprocalContext(10, new MathContext(10)));
+    }
+
+    @Test
+    void current_should_return_DEFAULT_when_no_context_is_bound() {
+        assertThat(ReciprocalContext.current()).isSameAs(ReciprocalContext.DEFAULT);
+        assertThat(ReciprocalContext.DEFAULT.mathContext()).isEqualTo(MathContext.DECIMAL128);
+    }
+
+    @Test
+    void call_should_throw_Exception_when_supplier_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> ReciprocalContext.DEFAULT.call(null))
+            .withMessage("supplier").withNoCause();
+    }
+
+    @Test
+    void call_should_bind_context_and_restore_previous_one() {
+        final var outer = ReciprocalContext.ofPrecision(10);
+        final var inner = ReciprocalContext.ofPrecision(5);
+
+        final var actual = outer.call(() -> {
+            assertThat(ReciprocalContext.current()).isSameAs(outer);
+            assertThat(inner.call(ReciprocalContext::current)).isSameAs(inner);
+            return ReciprocalContext.current();
+        });
+
+        assertThat(actual).isSameAs(outer);
+        assertThat(ReciprocalContext.current()).isSameAs(ReciprocalContext.DEFAULT);
+    }
+
+    @Test
+    void call_should_restore_previous_context_when_supplier_throws_Exception() {
+        assertThatIllegalStateException().isThrownBy(() -> ReciprocalContext.ofPrecision(5).call(() -> {
+            throw new IllegalStateException();
+        }));
+
+        assertThat(ReciprocalContext.current()).isSameAs(ReciprocalContext.DEFAULT);
+    }
+
+    @Test
+    void call_should_not_bind_context_in_other_threads() {
+        final var actual = ReciprocalContext.ofPrecision(5)
+            .call(() -> CompletableFuture.supplyAsync(ReciprocalContext::current).join());
+
+        assertThat(actual).isSameAs(ReciprocalContext.DEFAULT);
+    }
+
+    @Test
+    void run_should_throw_Exception_when_action_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> ReciprocalContext.DEFAULT.run(null)).withMessage("action")
+            .withNoCause();
+    }
+
+    @Test
+    void run_should_bind_context_and_restore_previous_one() {
+        final var context = ReciprocalContext.ofPrecision(5);
+        final var actual = new ReciprocalContext[1];
+
+        context.run(() -> actual[0] = ReciprocalContext.current());
+
+        assertThat(actual[0]).isSameAs(context);
+        assertThat(ReciprocalContext.current()).isSameAs(ReciprocalContext.DEFAULT);
+    }
 }
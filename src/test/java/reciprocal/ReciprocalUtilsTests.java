@@ -0,0 +1,95 @@
+package reciprocal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class ReciprocalUtilsTests {
+    @Test
+    void BIG_PI_should_be_pi_to_precision_of_DECIMAL128() {
+        assertThat(ReciprocalUtils.BIG_PI).isEqualTo("3.141592653589793238462643383279503");
+    }
+
+    @Test
+    void BIG_E_should_be_e_to_precision_of_DECIMAL128() {
+        assertThat(ReciprocalUtils.BIG_E).isEqualTo("2.718281828459045235360287471352662");
+    }
+
+    @Test
+    void pi_should_throw_Exception_when_mathContext_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> ReciprocalUtils.pi(null)).withMessage("mathContext")
+            .withNoCause();
+    }
+
+    @Test
+    void pi_should_throw_Exception_when_precision_is_less_than_1() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ReciprocalUtils.pi(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0")
+            .withNoCause();
+    }
+
+    @Test
+    void pi_should_return_pi_to_precision() {
+        IntStream.of(1, 2, 16, 50, 1000, 3, 500).forEach(precision -> {
+            final var mathContext = new MathContext(precision);
+            assertThat(ReciprocalUtils.pi(mathContext)).isEqualTo(BigDecimalMath.pi(mathContext));
+        });
+    }
+
+    @Test
+    void pi_should_round_with_rounding_mode() {
+        assertThat(ReciprocalUtils.pi(new MathContext(5, RoundingMode.UP))).isEqualTo("3.1416");
+        assertThat(ReciprocalUtils.pi(new MathContext(5, RoundingMode.DOWN))).isEqualTo("3.1415");
+    }
+
+    @Test
+    void pi_should_round_once_with_rounding_mode_FLOOR() {
+        // the digits 762 to 767 of pi are 9
+        final var pi = BigDecimalMath.pi(new MathContext(800));
+
+        IntStream.rangeClosed(755, 770).forEach(precision -> {
+            final var mathContext = new MathContext(precision, RoundingMode.FLOOR);
+            assertThat(ReciprocalUtils.pi(mathContext)).isEqualTo(pi.round(mathContext));
+        });
+    }
+
+    @Test
+    void e_should_throw_Exception_when_mathContext_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> ReciprocalUtils.e(null)).withMessage("mathContext")
+            .withNoCause();
+    }
+
+    @Test
+    void e_should_throw_Exception_when_precision_is_less_than_1() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ReciprocalUtils.e(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0")
+            .withNoCause();
+    }
+
+    @Test
+    void e_should_return_e_to_precision() {
+        IntStream.of(1, 2, 16, 50, 1000, 3, 500).forEach(precision -> {
+            final var mathContext = new MathContext(precision);
+            assertThat(ReciprocalUtils.e(mathContext)).isEqualTo(BigDecimalMath.e(mathContext));
+        });
+    }
+
+    @Test
+    void pi_and_e_should_be_thread_safe() {
+        final var mathContext = new MathContext(200);
+        final var pi = BigDecimalMath.pi(mathContext);
+        final var e = BigDecimalMath.e(mathContext);
+
+        IntStream.rangeClosed(1, 200).parallel().forEach(precision -> {
+            final var current = new MathContext(precision);
+            assertThat(ReciprocalUtils.pi(current)).isEqualTo(pi.round(current));
+            assertThat(ReciprocalUtils.e(current)).isEqualTo(e.round(current));
+        });
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import reciprocal.geometry.circle.BigCircle.BigCircleComparator;
@@ -21,12 +22,37 @@ final class BigCircleTests {
 
     @Test
     void getCircumference_should_return_circumference() {
-        assertThat(new BigCircle(BigDecimal.ONE).getCircumference()).isEqualByComparingTo("6.283185307179586");
+        assertThat(new BigCircle(BigDecimal.ONE).getCircumference())
+            .isEqualByComparingTo("6.283185307179586476925286766559006");
+    }
+
+    @Test
+    void getCircumference_should_throw_Exception_when_mathContext_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new BigCircle(BigDecimal.ONE).getCircumference(null))
+            .withMessage("mathContext").withNoCause();
+    }
+
+    @Test
+    void getCircumference_should_return_circumference_to_precision() {
+        assertThat(new BigCircle(BigDecimal.ONE).getCircumference(new MathContext(50)))
+            .isEqualByComparingTo("6.2831853071795864769252867665590057683943387987502");
     }
 
     @Test
     void getArea_should_return_area() {
-        assertThat(new BigCircle(BigDecimal.ONE).getArea()).isEqualByComparingTo("3.141592653589793");
+        assertThat(new BigCircle(BigDecimal.ONE).getArea()).isEqualByComparingTo("3.141592653589793238462643383279503");
+    }
+
+    @Test
+    void getArea_should_throw_Exception_when_mathContext_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new BigCircle(BigDecimal.ONE).getArea(null))
+            .withMessage("mathContext").withNoCause();
+    }
+
+    @Test
+    void getArea_should_return_area_to_precision() {
+        assertThat(new BigCircle(BigDecimal.ONE).getArea(new MathContext(50)))
+            .isEqualByComparingTo("3.1415926535897932384626433832795028841971693993751");
     }
 
     @Test
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 
 final class BigRectangleTests {
     @Test
@@ -43,6 +44,15 @@ final class BigRectangleTests {
             .isEqualByComparingTo("10.04987562112089027021926491275958");
     }
 
+    @Test
+    void getDiagonal_should_round_to_current_context() {
+        final var rectangle = new BigRectangle(BigDecimal.ONE, BigDecimal.TEN);
+
+        final var actual = ReciprocalContext.ofPrecision(5).call(rectangle::getDiagonal);
+
+        assertThat(actual).isEqualTo("10.05");
+    }
+
     @Test
     void getDiagonal_should_throw_Exception_when_mathContext_is_null() {
         assertThatNullPointerException()
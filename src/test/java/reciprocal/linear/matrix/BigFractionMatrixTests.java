@@ -0,0 +1,125 @@
+package reciprocal.linear.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import reciprocal.linear.vector.BigFractionVector;
+import reciprocal.number.fraction.BigFraction;
+
+final class BigFractionMatrixTests {
+    @Test
+    void isIdentity_should_compare_elements() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+        final var identity = BigFractionMatrix.ofSize(2, 2)
+            .computationOfAbsentees((i, j) -> i.equals(j) ? new BigFraction(BigInteger.TWO, BigInteger.TWO)
+                : new BigFraction(BigInteger.ZERO, BigInteger.valueOf(3L))).build();
+
+        assertThat(identity.isIdentity()).isTrue();
+        assertThat(identity.isDiagonal()).isTrue();
+        assertThat(matrix.isIdentity()).isFalse();
+        assertThat(matrix.isTriangular()).isFalse();
+    }
+
+    @Test
+    void determinant_should_calculate_determinant() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+
+        assertThat(matrix.determinant()).isEqualTo(new BigFraction(BigInteger.ONE, BigInteger.valueOf(60L)));
+    }
+
+    @Test
+    void solve_should_throw_Exception_when_sizes_are_not_equal() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+        final var b = BigFractionVector.ofSize(3).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> matrix.solve(b))
+            .withMessage("equal sizes expected but 2 != 3").withNoCause();
+    }
+
+    @Test
+    void solve_should_throw_Exception_when_singular() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2).computationOfAbsentees((i, j) -> BigFraction.ONE).build();
+        final var b = BigFractionVector.ofSize(2).build();
+
+        assertThatIllegalStateException().isThrownBy(() -> matrix.solve(b))
+            .withMessage("this expected to be invertible but this = %s", matrix).withNoCause();
+    }
+
+    @Test
+    void solve_should_solve_system_exactly() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+        final var b = BigFractionVector.ofSize(2).set(1, BigFraction.ONE).set(2, BigFraction.ZERO).build();
+
+        assertThat(matrix.solve(b).getElements()).containsExactly(BigFraction.ofNumerator(BigInteger.valueOf(12L)),
+            BigFraction.ofNumerator(BigInteger.valueOf(-15L)));
+    }
+
+    @Test
+    void invert_should_calculate_inverse() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+        final var expected = BigFractionMatrix.ofSize(2, 2).set(1, 1, BigFraction.ofNumerator(BigInteger.valueOf(12L)))
+            .set(1, 2, BigFraction.ofNumerator(BigInteger.valueOf(-20L)))
+            .set(2, 1, BigFraction.ofNumerator(BigInteger.valueOf(-15L)))
+            .set(2, 2, BigFraction.ofNumerator(BigInteger.valueOf(30L))).build();
+
+        assertThat(matrix.invert().equalsByComparing(expected)).isTrue();
+        assertThat(matrix.invert().invert().equalsByComparing(matrix)).isTrue();
+    }
+
+    @Test
+    void multiply_should_multiply_exactly() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+        final var expected = BigFractionMatrix.ofSize(2, 2).set(1, 1, BigFraction.ONE).set(1, 2, BigFraction.ZERO)
+            .set(2, 1, BigFraction.ZERO).set(2, 2, BigFraction.ONE).build();
+
+        assertThat(matrix.multiply(matrix.invert())).isEqualTo(expected);
+    }
+
+    @Test
+    void pow_should_invert_when_exponent_is_negative() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2)
+            .set(1, 1, new BigFraction(BigInteger.ONE, BigInteger.TWO))
+            .set(1, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)))
+            .set(2, 1, new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)))
+            .set(2, 2, new BigFraction(BigInteger.ONE, BigInteger.valueOf(5L))).build();
+
+        assertThat(matrix.pow(-1).equalsByComparing(matrix.invert())).isTrue();
+        assertThat(matrix.pow(-3).multiply(matrix.pow(3)).isIdentity()).isTrue();
+        assertThat(matrix.pow(-2).equalsByComparing(matrix.invert().multiply(matrix.invert()))).isTrue();
+    }
+
+    @Test
+    void pow_should_throw_Exception_when_exponent_is_negative_and_not_invertible() {
+        final var matrix = BigFractionMatrix.ofSize(2, 2).computationOfAbsentees((i, j) -> BigFraction.ONE).build();
+
+        assertThatIllegalStateException().isThrownBy(() -> matrix.pow(-1))
+            .withMessage("this expected to be invertible but this = %s", matrix).withNoCause();
+    }
+}
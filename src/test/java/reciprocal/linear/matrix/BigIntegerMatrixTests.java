@@ -0,0 +1,207 @@
+package reciprocal.linear.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import reciprocal.linear.vector.BigIntegerVector;
+import reciprocal.number.fraction.BigFraction;
+
+final class BigIntegerMatrixTests {
+    @Test
+    void constructor_should_accept_non_square_matrix() {
+        final var matrix = new BigIntegerMatrix(2, 3, List.of(new MatrixEntry<>(2, 3, BigInteger.ONE),
+            new MatrixEntry<>(1, 1, BigInteger.ONE), new MatrixEntry<>(1, 2, BigInteger.ONE),
+            new MatrixEntry<>(1, 3, BigInteger.ONE), new MatrixEntry<>(2, 1, BigInteger.ONE),
+            new MatrixEntry<>(2, 2, BigInteger.TWO)));
+
+        assertThat(matrix.getRowSize()).isEqualTo(2);
+        assertThat(matrix.getColumnSize()).isEqualTo(3);
+        assertThat(matrix.getElement(2, 2)).isEqualTo(BigInteger.TWO);
+        assertThat(matrix.getEntries().map(MatrixEntry::columnIndex)).containsExactly(1, 2, 3, 1, 2, 3);
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_entry_is_duplicated() {
+        final var entries = List.of(new MatrixEntry<>(1, 1, BigInteger.ONE), new MatrixEntry<>(1, 1, BigInteger.ONE));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigIntegerMatrix(1, 2, entries))
+            .withMessage("entry with rowIndex = 1 and columnIndex = 2 expected but entry = "
+                + "MatrixEntry[rowIndex=1, columnIndex=1, element=1]").withNoCause();
+    }
+
+    @Test
+    void set_should_throw_Exception_when_index_already_exists() {
+        final var builder = BigIntegerMatrix.ofSize(1, 1).set(1, 1, BigInteger.ONE);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.set(1, 1, BigInteger.ONE))
+            .withMessage("row and column index already exist").withNoCause();
+    }
+
+    @Test
+    void isSymmetric_and_isSkewSymmetric_should_compare_with_transpose() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+        final var skewSymmetric = BigIntegerMatrix.ofSize(2, 2).set(1, 2, BigInteger.TWO)
+            .set(2, 1, BigInteger.TWO.negate()).build();
+
+        assertThat(matrix.isSymmetric()).isTrue();
+        assertThat(matrix.isSkewSymmetric()).isFalse();
+        assertThat(skewSymmetric.isSymmetric()).isFalse();
+        assertThat(skewSymmetric.isSkewSymmetric()).isTrue();
+    }
+
+    @Test
+    void determinant_should_throw_Exception_when_not_square() {
+        final var matrix = BigIntegerMatrix.ofSize(1, 2).build();
+
+        assertThatIllegalStateException().isThrownBy(matrix::determinant)
+            .withMessage("this expected to be square but this = %s", matrix).withNoCause();
+    }
+
+    @Test
+    void determinant_should_calculate_determinant() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+        final var permutation = BigIntegerMatrix.ofSize(2, 2).set(1, 2, BigInteger.ONE).set(2, 1, BigInteger.ONE)
+            .build();
+        final var singular = BigIntegerMatrix.ofSize(2, 2).set(1, 1, BigInteger.ONE).set(1, 2, BigInteger.TWO)
+            .set(2, 1, BigInteger.TWO).set(2, 2, BigInteger.valueOf(4L)).build();
+
+        assertThat(matrix.determinant()).isEqualTo(BigInteger.valueOf(4L));
+        assertThat(permutation.determinant()).isEqualTo(BigInteger.ONE.negate());
+        assertThat(singular.determinant()).isZero();
+    }
+
+    @Test
+    void solve_should_throw_Exception_when_singular() {
+        final var matrix = BigIntegerMatrix.ofSize(2, 2).set(1, 1, BigInteger.ONE).set(1, 2, BigInteger.TWO)
+            .set(2, 1, BigInteger.TWO).set(2, 2, BigInteger.valueOf(4L)).build();
+        final var b = BigIntegerVector.ofSize(2).set(1, BigInteger.ONE).set(2, BigInteger.TWO).build();
+
+        assertThatIllegalStateException().isThrownBy(() -> matrix.solve(b))
+            .withMessage("this expected to be invertible but this = %s", matrix).withNoCause();
+    }
+
+    @Test
+    void solve_should_solve_system_exactly() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+        final var b = BigIntegerVector.ofSize(3).set(1, BigInteger.ONE).build();
+
+        assertThat(matrix.solve(b).getElements()).containsExactly(
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)), BigFraction.ofDenominator(BigInteger.TWO),
+            new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)));
+    }
+
+    @Test
+    void solve_should_solve_sparse_random_systems() {
+        final var random = new Random(42L);
+        for (var run = 0; run < 20; run++) {
+            final var matrix = BigIntegerMatrix.ofSize(6, 6).computationOfAbsentees((i, j) -> BigInteger.valueOf(
+                random.nextInt(3) == 0 ? random.nextInt(19) - 9 : 0L)).build();
+            final var b = BigIntegerVector.ofSize(6)
+                .computationOfAbsentees(i -> BigInteger.valueOf(random.nextInt(19) - 9L)).build();
+            if (!matrix.isInvertible()) {
+                continue;
+            }
+
+            final var x = matrix.solve(b);
+
+            for (var i = 1; i <= 6; i++) {
+                var sum = BigFraction.ZERO;
+                for (var j = 1; j <= 6; j++) {
+                    sum = sum.add(BigFraction.ofNumerator(matrix.getElement(i, j)).multiply(x.getElement(j)));
+                }
+                assertThat(sum.compareTo(BigFraction.ofNumerator(b.getElement(i)))).isZero();
+            }
+        }
+    }
+
+    @Test
+    void invert_should_calculate_inverse() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+
+        final var inverse = matrix.invert();
+
+        assertThat(inverse.getElements()).containsExactly(
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)), BigFraction.ofDenominator(BigInteger.TWO),
+            new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)), BigFraction.ofDenominator(BigInteger.TWO),
+            BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO),
+            new BigFraction(BigInteger.ONE, BigInteger.valueOf(4L)), BigFraction.ofDenominator(BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)));
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_sizes_do_not_match() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+        final var factor = BigIntegerMatrix.ofSize(1, 2).set(1, 1, BigInteger.ONE).set(1, 2, BigInteger.TWO).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> matrix.multiply(factor))
+            .withMessage("columnSize == factor.rowSize expected but 3 != 1").withNoCause();
+    }
+
+    @Test
+    void multiply_should_multiply_non_square_matrices() {
+        final var a = BigIntegerMatrix.ofSize(2, 3)
+            .computationOfAbsentees((i, j) -> BigInteger.valueOf(3L * i + j - 3L)).build();
+        final var b = BigIntegerMatrix.ofSize(3, 2)
+            .computationOfAbsentees((i, j) -> BigInteger.valueOf(2L * i + j + 4L)).build();
+        final var product = BigIntegerMatrix.ofSize(2, 2).set(1, 1, BigInteger.valueOf(58L))
+            .set(1, 2, BigInteger.valueOf(64L)).set(2, 1, BigInteger.valueOf(139L)).set(2, 2, BigInteger.valueOf(154L))
+            .build();
+
+        assertThat(a.multiply(b)).isEqualTo(product);
+    }
+
+    @Test
+    void pow_should_throw_Exception_when_not_square() {
+        final var matrix = BigIntegerMatrix.ofSize(1, 2).set(1, 1, BigInteger.ONE).set(1, 2, BigInteger.TWO).build();
+
+        assertThatIllegalStateException().isThrownBy(() -> matrix.pow(2))
+            .withMessage("this expected to be square but this = %s", matrix).withNoCause();
+    }
+
+    @Test
+    void pow_should_throw_Exception_when_exponent_is_negative() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> matrix.pow(-1))
+            .withMessage("exponent >= 0 expected but exponent = -1").withNoCause();
+    }
+
+    @Test
+    void pow_should_return_identity_when_exponent_is_0() {
+        final var matrix = BigIntegerMatrix.ofSize(3, 3).set(1, 1, BigInteger.TWO).set(1, 2, BigInteger.ONE.negate())
+            .set(2, 1, BigInteger.ONE.negate()).set(2, 2, BigInteger.TWO).set(2, 3, BigInteger.ONE.negate())
+            .set(3, 2, BigInteger.ONE.negate()).set(3, 3, BigInteger.TWO).build();
+
+        assertThat(matrix.pow(0).isIdentity()).isTrue();
+    }
+
+    @Test
+    void pow_should_equal_repeated_multiplication() {
+        final var fibonacci = BigIntegerMatrix.ofSize(2, 2).set(1, 1, BigInteger.ONE).set(1, 2, BigInteger.ONE)
+            .set(2, 1, BigInteger.ONE).build();
+        var expected = fibonacci;
+        for (var exponent = 1; exponent <= 100; exponent++) {
+            assertThat(fibonacci.pow(exponent)).isEqualTo(expected);
+            expected = expected.multiply(fibonacci);
+        }
+        assertThat(fibonacci.pow(300).getElement(1, 2)).isEqualTo(new BigInteger(
+            "222232244629420445529739893461909967206666939096499764990979600"));
+    }
+}
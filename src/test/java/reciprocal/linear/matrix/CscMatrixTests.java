@@ -0,0 +1,86 @@
+package reciprocal.linear.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import reciprocal.linear.vector.BigDecimalVector;
+import reciprocal.linear.vector.DoubleVector;
+
+final class CscMatrixTests {
+    @Test
+    void build_should_sort_and_sum_coordinates() {
+        final var matrix = CscMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.getStorage()).isEqualTo(new CompressedStorage(new int[]{0, 1, 2, 3}, new int[]{0, 0, 1},
+            new double[]{1.0D, 2.0D, 5.0D}));
+        assertThat(matrix.getElement(2, 3)).isEqualTo(5.0D);
+        assertThat(matrix.getElement(2, 2)).isZero();
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_array() {
+        final var matrix = CscMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.multiply(new double[]{1.0D, 0.0D, -1.0D})).containsExactly(1.0D, -5.0D);
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_DoubleVector() {
+        final var matrix = CscMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var vector = DoubleVector.ofSize(3).set(1, 1.0D).set(2, 0.0D).set(3, -1.0D).build();
+
+        assertThat(matrix.multiply(vector).getElements()).containsExactly(1.0D, -5.0D);
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_element_is_not_finite_and_vector_is_BigDecimalVector() {
+        final var matrix = CscMatrix.ofSize(1, 2).add(1, 1, Double.NaN).add(1, 2, Double.POSITIVE_INFINITY).build();
+        final var vector = BigDecimalVector.ofSize(2).set(1, BigDecimal.ONE).set(2, BigDecimal.ONE).build();
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> matrix.multiply(vector))
+            .withMessage("finite elements expected but this contains NaN").withNoCause();
+    }
+
+    @Test
+    void multiply_should_calculate_exact_product_with_BigDecimalVector() {
+        final var matrix = CscMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var vector = BigDecimalVector.ofSize(3).set(1, BigDecimal.ONE).set(2, new BigDecimal("0.5"))
+            .set(3, BigDecimal.ONE).build();
+
+        assertThat(matrix.multiply(vector).getElements()).containsExactly(new BigDecimal("2.00"),
+            new BigDecimal("5.0"));
+    }
+
+    @Test
+    void multiply_should_equal_CsrMatrix_when_infinity_is_multiplied_by_0() {
+        final var matrix = CscMatrix.ofSize(2, 2).add(1, 1, Double.POSITIVE_INFINITY).add(2, 2, 1.0D).build();
+
+        assertThat(matrix.multiply(new double[]{0.0D, 1.0D})).containsExactly(matrix.toCsr()
+            .multiply(new double[]{0.0D, 1.0D}));
+        assertThat(matrix.multiply(new double[]{0.0D, 1.0D})[0]).isNaN();
+    }
+
+    @Test
+    void transpose_should_share_storage() {
+        final var matrix = CscMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.transpose().getStorage()).isSameAs(matrix.getStorage());
+        assertThat(matrix.transpose().toCsc()).isEqualTo(matrix.toCsr().transpose());
+    }
+
+    @Test
+    void toCsr_should_convert_format() {
+        final var matrix = CscMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.toCsr()).isEqualTo(CsrMatrix.ofSize(2, 3).add(1, 1, 1.0D).add(1, 2, 2.0D)
+            .add(2, 3, 5.0D).build());
+    }
+}
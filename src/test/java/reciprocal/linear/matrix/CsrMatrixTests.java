@@ -0,0 +1,180 @@
+package reciprocal.linear.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import reciprocal.linear.vector.BigDecimalVector;
+import reciprocal.linear.vector.DoubleVector;
+import reciprocal.linear.vector.LongVector;
+
+final class CsrMatrixTests {
+    @Test
+    void add_should_throw_Exception_when_rowIndex_is_out_of_bounds() {
+        final var builder = CsrMatrix.ofSize(2, 3);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.add(3, 1, 1.0D))
+            .withMessage("0 < rowIndex <= 2 expected but rowIndex = 3").withNoCause();
+    }
+
+    @Test
+    void build_should_sort_and_sum_coordinates() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.getNonZeroCount()).isEqualTo(3);
+        assertThat(matrix.getStorage()).isEqualTo(new CompressedStorage(new int[]{0, 2, 3}, new int[]{0, 1, 2},
+            new double[]{1.0D, 2.0D, 5.0D}));
+    }
+
+    @Test
+    void build_should_drop_zeros_and_sums_equal_to_0() {
+        final var matrix = CsrMatrix.ofSize(2, 2).add(1, 1, 0.0D).add(1, 2, 1.0D).add(2, 1, 2.0D).add(2, 1, -2.0D)
+            .build();
+
+        assertThat(matrix.getNonZeroCount()).isOne();
+        assertThat(matrix.getStorage()).isEqualTo(new CompressedStorage(new int[]{0, 1, 1}, new int[]{1},
+            new double[]{1.0D}));
+    }
+
+    @Test
+    void getElement_should_return_0_when_not_stored() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.getElement(1, 2)).isEqualTo(2.0D);
+        assertThat(matrix.getElement(2, 3)).isEqualTo(5.0D);
+        assertThat(matrix.getElement(2, 1)).isZero();
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_vector_is_null() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThatNullPointerException().isThrownBy(() -> matrix.multiply((DoubleVector) null))
+            .withMessage("vector").withNoCause();
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_sizes_are_not_equal() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var vector = DoubleVector.ofSize(2).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> matrix.multiply(vector))
+            .withMessage("equal sizes expected but 3 != 2").withNoCause();
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_array_is_null() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThatNullPointerException().isThrownBy(() -> matrix.multiply((double[]) null)).withMessage("vector")
+            .withNoCause();
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_sizes_of_array_are_not_equal() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var vector = new double[2];
+
+        assertThatIllegalArgumentException().isThrownBy(() -> matrix.multiply(vector))
+            .withMessage("equal sizes expected but 3 != 2").withNoCause();
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_array() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix.multiply(new double[]{1.0D, 0.5D, -1.0D})).containsExactly(2.0D, -5.0D);
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_DoubleVector() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var vector = DoubleVector.ofSize(3).set(1, 1.0D).set(2, 0.5D).set(3, -1.0D).build();
+
+        assertThat(matrix.multiply(vector).getElements()).containsExactly(2.0D, -5.0D);
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_LongVector() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var vector = LongVector.ofSize(3).set(1, 1L).set(2, 2L).set(3, 3L).build();
+
+        assertThat(matrix.multiply(vector).getElements()).containsExactly(5.0D, 15.0D);
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_element_is_not_finite_and_vector_is_BigDecimalVector() {
+        final var matrix = CsrMatrix.ofSize(1, 2).add(1, 1, Double.NaN).add(1, 2, Double.POSITIVE_INFINITY).build();
+        final var vector = BigDecimalVector.ofSize(2).set(1, BigDecimal.ONE).set(2, BigDecimal.ONE).build();
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> matrix.multiply(vector))
+            .withMessage("finite elements expected but this contains NaN").withNoCause();
+    }
+
+    @Test
+    void multiply_should_calculate_exact_product_with_BigDecimalVector() {
+        final var matrix = CsrMatrix.ofSize(1, 2).add(1, 1, 0.1D).add(1, 2, 0.2D).build();
+        final var vector = BigDecimalVector.ofSize(2).set(1, BigDecimal.ONE).set(2, BigDecimal.ONE).build();
+
+        assertThat(matrix.multiply(vector).getElements()).containsExactly(new BigDecimal("0.3"));
+    }
+
+    @Test
+    void multiply_should_equal_sequential_product_when_parallel() {
+        final var random = new Random(3L);
+        final var size = 1000;
+        final var builder = CsrMatrix.ofSize(size, size);
+        for (var k = 0; k < 2 * CsrMatrix.PARALLEL_THRESHOLD; k++) {
+            builder.add(random.nextInt(size) + 1, random.nextInt(size) + 1, random.nextDouble());
+        }
+        final var matrix = builder.build();
+        final var vector = DoubleVector.ofSize(size).computationOfAbsentees(i -> random.nextDouble()).build();
+
+        assertThat(matrix.multiply(vector)).isEqualTo(matrix.toCsc().multiply(vector));
+    }
+
+    @Test
+    void transpose_should_share_storage() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var transpose = matrix.transpose();
+
+        assertThat(transpose.getRowSize()).isEqualTo(3);
+        assertThat(transpose.getColumnSize()).isEqualTo(2);
+        assertThat(transpose.getElement(3, 2)).isEqualTo(5.0D);
+        assertThat(transpose.getStorage()).isSameAs(matrix.getStorage());
+    }
+
+    @Test
+    void toCsc_should_convert_format() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+        final var csc = matrix.toCsc();
+
+        assertThat(csc.getStorage()).isEqualTo(new CompressedStorage(new int[]{0, 1, 2, 3}, new int[]{0, 0, 1},
+            new double[]{1.0D, 2.0D, 5.0D}));
+        assertThat(csc.toCsr()).isEqualTo(matrix);
+    }
+
+    @Test
+    void toString_should_return_String() {
+        final var matrix = CsrMatrix.ofSize(2, 3).add(2, 3, 4.0D).add(1, 2, 2.0D)
+            .add(1, 1, 1.0D).add(2, 3, 1.0D).build();
+
+        assertThat(matrix).hasToString("CsrMatrix{rowSize=2, columnSize=3, storage=CompressedStorage{pointers=[0, 2, "
+            + "3], indices=[0, 1, 2], values=[1.0, 2.0, 5.0]}}");
+    }
+}
@@ -0,0 +1,106 @@
+package reciprocal.linear.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+final class DoubleMatrixTests {
+    @Test
+    void determinant_should_calculate_determinant() {
+        final var matrix = DoubleMatrix.ofSize(3, 3).set(1, 2, 2.0D).set(1, 3, 1.0D).set(2, 1, 1.0D).set(2, 2, 1.0D)
+            .set(3, 1, 3.0D).set(3, 3, 1.0D).build();
+        final var singular = DoubleMatrix.ofSize(2, 2).set(1, 1, 1.0D).set(1, 2, 2.0D).set(2, 1, 2.0D)
+            .set(2, 2, 4.0D).build();
+
+        assertThat(matrix.determinant()).isCloseTo(-5.0D, within(1.0E-12D));
+        assertThat(matrix.isInvertible()).isTrue();
+        assertThat(singular.isInvertible()).isFalse();
+    }
+
+    @Test
+    void pow_should_converge_to_stationary_distribution() {
+        final var markov = DoubleMatrix.ofSize(2, 2).set(1, 1, 0.9D).set(1, 2, 0.1D).set(2, 1, 0.5D).set(2, 2, 0.5D)
+            .build();
+
+        final var power = markov.pow(1_000_000_000);
+
+        assertThat(markov.pow(0).isIdentity()).isTrue();
+        // rounding errors of the row sums grow linearly with the exponent
+        assertThat(power.getElement(1, 1)).isCloseTo(5.0D / 6.0D, within(1.0E-6D));
+        assertThat(power.getElement(1, 2)).isCloseTo(1.0D / 6.0D, within(1.0E-6D));
+        assertThat(power.getElement(2, 1)).isCloseTo(5.0D / 6.0D, within(1.0E-6D));
+        assertThat(power.getElement(2, 2)).isCloseTo(1.0D / 6.0D, within(1.0E-6D));
+    }
+
+    @Test
+    void exp_should_throw_Exception_when_not_square() {
+        final var matrix = DoubleMatrix.ofSize(1, 2).build();
+
+        assertThatIllegalStateException().isThrownBy(matrix::exp)
+            .withMessage("this expected to be square but this = %s", matrix).withNoCause();
+    }
+
+    @Test
+    void exp_should_return_identity_when_zero() {
+        assertThat(DoubleMatrix.ofSize(3, 3).build().exp().isIdentity()).isTrue();
+    }
+
+    @Test
+    void exp_should_exponentiate_diagonal_elements() {
+        final var diagonal = DoubleMatrix.ofSize(2, 2).set(1, 1, 1.0D).set(2, 2, -2.0D).build();
+
+        final var exp = diagonal.exp();
+
+        assertThat(exp.getElement(1, 1)).isCloseTo(Math.E, within(1.0E-12D));
+        assertThat(exp.getElement(1, 2)).isCloseTo(0.0D, within(1.0E-12D));
+        assertThat(exp.getElement(2, 1)).isCloseTo(0.0D, within(1.0E-12D));
+        assertThat(exp.getElement(2, 2)).isCloseTo(Math.exp(-2.0D), within(1.0E-12D));
+    }
+
+    @Test
+    void exp_should_return_rotation() {
+        final var generator = DoubleMatrix.ofSize(2, 2).set(1, 2, 1.0D).set(2, 1, -1.0D).build();
+
+        final var rotation = generator.exp();
+        final var identityExp = generator.pow(0).exp();
+
+        assertThat(rotation.getElement(1, 1)).isCloseTo(Math.cos(1.0D), within(1.0E-12D));
+        assertThat(rotation.getElement(1, 2)).isCloseTo(Math.sin(1.0D), within(1.0E-12D));
+        assertThat(rotation.getElement(2, 1)).isCloseTo(-Math.sin(1.0D), within(1.0E-12D));
+        assertThat(rotation.getElement(2, 2)).isCloseTo(Math.cos(1.0D), within(1.0E-12D));
+        assertThat(identityExp.getElement(1, 1)).isCloseTo(Math.E, within(1.0E-12D));
+        assertThat(identityExp.getElement(1, 2)).isCloseTo(0.0D, within(1.0E-12D));
+        assertThat(identityExp.getElement(2, 1)).isCloseTo(0.0D, within(1.0E-12D));
+        assertThat(identityExp.getElement(2, 2)).isCloseTo(Math.E, within(1.0E-12D));
+    }
+
+    @Test
+    void exp_should_truncate_series_when_nilpotent() {
+        final var nilpotent = DoubleMatrix.ofSize(2, 2).set(1, 2, 3.0D).build();
+
+        final var exp = nilpotent.exp();
+
+        assertThat(exp.getElement(1, 1)).isCloseTo(1.0D, within(1.0E-12D));
+        assertThat(exp.getElement(1, 2)).isCloseTo(3.0D, within(1.0E-12D));
+        assertThat(exp.getElement(2, 1)).isCloseTo(0.0D, within(1.0E-12D));
+        assertThat(exp.getElement(2, 2)).isCloseTo(1.0D, within(1.0E-12D));
+    }
+
+    @Test
+    void exp_should_be_accurate_when_norm_is_large() {
+        // example of Moler and Van Loan with eigenvalues -1 and -17
+        final var matrix = DoubleMatrix.ofSize(2, 2).set(1, 1, -49.0D).set(1, 2, 24.0D).set(2, 1, -64.0D)
+            .set(2, 2, 31.0D).build();
+        final var e1 = Math.exp(-1.0D);
+        final var e17 = Math.exp(-17.0D);
+
+        final var exp = matrix.exp();
+
+        assertThat(exp.getElement(1, 1)).isCloseTo(-2.0D * e1 + 3.0D * e17, within(1.0E-10D));
+        assertThat(exp.getElement(1, 2)).isCloseTo(1.5D * e1 - 1.5D * e17, within(1.0E-10D));
+        assertThat(exp.getElement(2, 1)).isCloseTo(-4.0D * e1 + 4.0D * e17, within(1.0E-10D));
+        assertThat(exp.getElement(2, 2)).isCloseTo(3.0D * e1 - 2.0D * e17, within(1.0E-10D));
+    }
+}
@@ -9,6 +9,7 @@ import java.math.MathContext;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 import reciprocal.linear.vector.BigDecimalVector.BigDecimalVectorBuilder;
 
 final class BigDecimalVectorTests {
@@ -382,6 +383,16 @@ final class BigDecimalVectorTests {
         assertThat(vector.euclideanNorm()).isEqualByComparingTo(BigDecimal.valueOf(2L));
     }
 
+    @Test
+    void euclideanNorm_should_round_to_current_context() {
+        final var vector = new BigDecimalVector(2,
+            List.of(new VectorEntry<>(1, BigDecimal.ONE), new VectorEntry<>(2, BigDecimal.ONE)));
+
+        final var actual = ReciprocalContext.ofPrecision(5).call(vector::euclideanNorm);
+
+        assertThat(actual).isEqualTo("1.4142");
+    }
+
     @Test
     void euclideanNorm_with_MathContext_should_throw_Exception_when_mathContext_is_null() {
         final var vector = new BigDecimalVector(1, List.of(new VectorEntry<>(1, BigDecimal.ZERO)));
@@ -0,0 +1,155 @@
+package reciprocal.linear.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reciprocal.number.fraction.BigFraction;
+
+final class BigFractionVectorTests {
+    @Test
+    void ofSize_should_return_Builder() {
+        assertThat(BigFractionVector.ofSize(2).build().getElements()).containsExactly(BigFraction.ZERO,
+            BigFraction.ZERO);
+    }
+
+    @Test
+    void add_should_throw_Exception_when_sizes_are_unequal() {
+        final var vector = new BigFractionVector(1, List.of(new VectorEntry<>(1, BigFraction.ZERO)));
+        final var other = BigFractionVector.ofSize(2).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> vector.add(other))
+            .withMessage("equal sizes expected but 1 != 2").withNoCause();
+    }
+
+    @Test
+    void add_should_calculate_and_return_sum() {
+        final var vector = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)))));
+        final var summand = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.ONE, BigInteger.TWO))));
+
+        assertThat(vector.add(summand).getElements()).containsExactly(new BigFraction(BigInteger.TWO, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-1L), BigInteger.valueOf(6L)));
+    }
+
+    @Test
+    void subtract_should_calculate_and_return_difference() {
+        final var vector = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)))));
+
+        assertThat(vector.subtract(vector).getElements()).containsExactly(
+            new BigFraction(BigInteger.ZERO, BigInteger.TWO), new BigFraction(BigInteger.ZERO, BigInteger.valueOf(3L)));
+    }
+
+    @Test
+    void dotProduct_should_throw_Exception_when_other_is_null() {
+        final var vector = new BigFractionVector(1, List.of(new VectorEntry<>(1, BigFraction.ZERO)));
+
+        assertThatNullPointerException().isThrownBy(() -> vector.dotProduct(null)).withMessage("other")
+            .withNoCause();
+    }
+
+    @Test
+    void dotProduct_should_calculate_and_return_reduced_dot_product() {
+        final var vector = new BigFractionVector(3,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L))),
+                new VectorEntry<>(3, new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)))));
+
+        assertThat(vector.dotProduct(vector)).isEqualTo(
+            new BigFraction(BigInteger.valueOf(181L), BigInteger.valueOf(144L)));
+    }
+
+    @Test
+    void scalarMultiply_should_calculate_and_return_scalar_product() {
+        final var vector = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)))));
+        final var scalar = new BigFraction(BigInteger.TWO, BigInteger.valueOf(3L));
+
+        assertThat(vector.scalarMultiply(scalar).getElements()).containsExactly(
+            new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(-4L), BigInteger.valueOf(9L)));
+    }
+
+    @Test
+    void orthogonalTo_should_return_true_when_dot_product_is_0() {
+        final var vector = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)))));
+        final var other = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.valueOf(4L), BigInteger.valueOf(3L))),
+                new VectorEntry<>(2, BigFraction.ONE)));
+
+        assertThat(vector.orthogonalTo(other)).isTrue();
+    }
+
+    @Test
+    void taxicabNorm_should_calculate_exact_norm() {
+        final var vector = new BigFractionVector(3,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L))),
+                new VectorEntry<>(3, new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)))));
+
+        assertThat(vector.taxicabNorm()).isEqualTo(new BigFraction(BigInteger.valueOf(23L), BigInteger.valueOf(12L)));
+    }
+
+    @Test
+    void euclideanNorm_should_be_exact_when_rational() {
+        final var vector = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(5L))),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-4L), BigInteger.valueOf(5L)))));
+
+        assertThat(vector.euclideanNorm()).isEqualTo(BigFraction.ONE);
+    }
+
+    @Test
+    void euclideanNorm_should_round_when_irrational() {
+        final var vector = new BigFractionVector(2, List.of(new VectorEntry<>(1, BigFraction.ONE),
+            new VectorEntry<>(2, BigFraction.ONE)));
+
+        assertThat(vector.euclideanNorm(new MathContext(5))).isEqualTo(BigFraction.valueOf(new BigDecimal("1.4142")));
+    }
+
+    @Test
+    void euclideanNorm_should_throw_Exception_when_precision_is_0() {
+        final var vector = new BigFractionVector(2, List.of(new VectorEntry<>(1, BigFraction.ONE),
+            new VectorEntry<>(2, BigFraction.ONE)));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> vector.euclideanNorm(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0")
+            .withNoCause();
+    }
+
+    @Test
+    void maxNorm_should_calculate_exact_norm() {
+        final var vector = new BigFractionVector(2,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)))));
+
+        assertThat(vector.maxNorm()).isEqualTo(new BigFraction(BigInteger.TWO, BigInteger.valueOf(3L)));
+    }
+
+    @Test
+    void toCommonDenominator_should_expand_elements() {
+        final var vector = new BigFractionVector(3,
+            List.of(new VectorEntry<>(1, new BigFraction(BigInteger.ONE, BigInteger.TWO)),
+                new VectorEntry<>(2, new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L))),
+                new VectorEntry<>(3, new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)))));
+
+        assertThat(vector.commonDenominator()).isEqualTo(BigInteger.valueOf(12L));
+        assertThat(vector.toCommonDenominator().getElements()).containsExactly(
+            new BigFraction(BigInteger.valueOf(6L), BigInteger.valueOf(12L)),
+            new BigFraction(BigInteger.valueOf(-8L), BigInteger.valueOf(12L)),
+            new BigFraction(BigInteger.valueOf(9L), BigInteger.valueOf(12L)));
+    }
+}
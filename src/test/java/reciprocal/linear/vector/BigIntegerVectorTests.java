@@ -10,6 +10,7 @@ import java.math.MathContext;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 import reciprocal.linear.vector.BigIntegerVector.BigIntegerVectorBuilder;
 
 final class BigIntegerVectorTests {
@@ -176,6 +177,16 @@ final class BigIntegerVectorTests {
         assertThat(vector.euclideanNorm()).isEqualByComparingTo(BigDecimal.valueOf(2L));
     }
 
+    @Test
+    void euclideanNorm_should_round_to_current_context() {
+        final var vector = new BigIntegerVector(2,
+            List.of(new VectorEntry<>(1, BigInteger.ONE), new VectorEntry<>(2, BigInteger.ONE)));
+
+        final var actual = ReciprocalContext.ofPrecision(5).call(vector::euclideanNorm);
+
+        assertThat(actual).isEqualTo("1.4142");
+    }
+
     @Test
     void euclideanNorm_with_MathContext_should_throw_Exception_when_mathContext_is_null() {
         final var vector = new BigIntegerVector(1, List.of(new VectorEntry<>(1, BigInteger.ZERO)));
@@ -0,0 +1,183 @@
+package reciprocal.linear.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reciprocal.number.fraction.Fraction;
+
+final class FractionVectorTests {
+    @Test
+    void ofSize_should_return_Builder() {
+        assertThat(FractionVector.ofSize(2).build().getElements()).containsExactly(Fraction.ZERO, Fraction.ZERO);
+    }
+
+    @Test
+    void add_should_throw_Exception_when_summand_is_null() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThatNullPointerException().isThrownBy(() -> vector.add(null)).withMessage("summand").withNoCause();
+    }
+
+    @Test
+    void add_should_throw_Exception_when_sizes_are_unequal() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+        final var other = FractionVector.ofSize(2).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> vector.add(other))
+            .withMessage("equal sizes expected but 3 != 2").withNoCause();
+    }
+
+    @Test
+    void add_should_calculate_and_return_sum() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+        final var summand = new FractionVector(3, List.of(new VectorEntry<>(1, new Fraction(1L, 2L)),
+            new VectorEntry<>(2, new Fraction(1L, 2L)), new VectorEntry<>(3, new Fraction(-3L, 4L))));
+        final var expected = new FractionVector(3, List.of(new VectorEntry<>(1, new Fraction(2L, 2L)),
+            new VectorEntry<>(2, new Fraction(-1L, 6L)), new VectorEntry<>(3, new Fraction(0L, 4L))));
+
+        assertThat(vector.add(summand)).isEqualTo(expected);
+    }
+
+    @Test
+    void subtract_should_calculate_and_return_difference() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+        final var expected = new FractionVector(3, List.of(new VectorEntry<>(1, new Fraction(0L, 2L)),
+            new VectorEntry<>(2, new Fraction(0L, 3L)), new VectorEntry<>(3, new Fraction(0L, 4L))));
+
+        assertThat(vector.subtract(vector)).isEqualTo(expected);
+    }
+
+    @Test
+    void dotProduct_should_throw_Exception_when_other_is_null() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThatNullPointerException().isThrownBy(() -> vector.dotProduct(null)).withMessage("other")
+            .withNoCause();
+    }
+
+    @Test
+    void dotProduct_should_calculate_and_return_reduced_dot_product() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.dotProduct(vector)).isEqualTo(new Fraction(181L, 144L));
+    }
+
+    @Test
+    void scalarMultiply_should_calculate_and_return_scalar_product() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.scalarMultiply(new Fraction(2L, 3L)).getElements()).containsExactly(
+            new Fraction(1L, 3L), new Fraction(-4L, 9L), new Fraction(1L, 2L));
+    }
+
+    @Test
+    void negate_should_negate_elements() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.negate().getElements()).containsExactly(new Fraction(-1L, 2L), new Fraction(2L, 3L),
+            new Fraction(-3L, 4L));
+    }
+
+    @Test
+    void orthogonalTo_should_return_true_when_dot_product_is_0() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+        final var other = new FractionVector(3, List.of(new VectorEntry<>(1, new Fraction(4L, 3L)),
+            new VectorEntry<>(2, Fraction.ONE), new VectorEntry<>(3, Fraction.ZERO)));
+
+        assertThat(vector.orthogonalTo(other)).isTrue();
+        assertThat(vector.orthogonalTo(vector)).isFalse();
+    }
+
+    @Test
+    void taxicabNorm_should_calculate_exact_norm() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.taxicabNorm()).isEqualTo(new Fraction(23L, 12L));
+    }
+
+    @Test
+    void euclideanNorm_should_be_exact_when_rational() {
+        final var vector = new FractionVector(2, List.of(new VectorEntry<>(1, new Fraction(3L, 5L)),
+            new VectorEntry<>(2, new Fraction(-4L, 5L))));
+
+        assertThat(vector.euclideanNorm()).isEqualTo(Fraction.ONE);
+    }
+
+    @Test
+    void euclideanNorm_should_approximate_when_irrational() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.euclideanNorm().doubleValue()).isEqualTo(Math.sqrt(181.0D / 144.0D));
+    }
+
+    @Test
+    void maxNorm_should_calculate_exact_norm() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.maxNorm()).isEqualTo(new Fraction(3L, 4L));
+    }
+
+    @Test
+    void commonDenominator_should_return_least_common_multiple() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L))));
+
+        assertThat(vector.commonDenominator()).isEqualTo(12L);
+    }
+
+    @Test
+    void commonDenominator_should_throw_Exception_when_overflowing() {
+        final var vector = new FractionVector(2, List.of(new VectorEntry<>(1, new Fraction(1L, Long.MAX_VALUE)),
+            new VectorEntry<>(2, new Fraction(1L, Long.MAX_VALUE - 1L))));
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(vector::commonDenominator);
+    }
+
+    @Test
+    void toCommonDenominator_should_expand_elements() {
+        final var vector = new FractionVector(2, List.of(new VectorEntry<>(1, new Fraction(1L, 2L)),
+            new VectorEntry<>(2, new Fraction(1L, -3L))));
+
+        assertThat(vector.toCommonDenominator().getElements()).containsExactly(new Fraction(3L, 6L),
+            new Fraction(-2L, 6L));
+    }
+
+    @Test
+    void add_should_keep_common_denominator() {
+        final var vector = new FractionVector(3, List.of(
+            new VectorEntry<>(1, new Fraction(1L, 2L)), new VectorEntry<>(2, new Fraction(-2L, 3L)),
+            new VectorEntry<>(3, new Fraction(3L, 4L)))).toCommonDenominator();
+
+        assertThat(vector.add(vector).getElements()).containsExactly(new Fraction(12L, 12L),
+            new Fraction(-16L, 12L), new Fraction(18L, 12L));
+    }
+}
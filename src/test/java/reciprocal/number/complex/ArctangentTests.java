@@ -0,0 +1,55 @@
+package reciprocal.number.complex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class ArctangentTests {
+    private static final MathContext REFERENCE = new MathContext(120);
+
+    @Test
+    void atan2_should_return_angle_on_axes() {
+        final var mathContext = new MathContext(40);
+        final var pi = BigDecimalMath.pi(mathContext);
+        final var halfPi = BigDecimalMath.pi(REFERENCE).divide(BigDecimal.valueOf(2L), mathContext);
+
+        assertThat(Arctangent.atan2(BigDecimal.ZERO, BigDecimal.TEN, mathContext)).isZero();
+        assertThat(Arctangent.atan2(BigDecimal.ZERO, BigDecimal.TEN.negate(), mathContext)).isEqualByComparingTo(pi);
+        assertThat(Arctangent.atan2(BigDecimal.TEN, BigDecimal.ZERO, mathContext)).isEqualByComparingTo(halfPi);
+        assertThat(Arctangent.atan2(BigDecimal.TEN.negate(), BigDecimal.ZERO, mathContext))
+            .isEqualByComparingTo(halfPi.negate());
+    }
+
+    @Test
+    void atan2_should_return_angle_in_all_octants() {
+        final var random = new Random(42L);
+        for (var i = 0; i < 200; i++) {
+            final var y = BigDecimal.valueOf(random.nextGaussian());
+            final var x = BigDecimal.valueOf(random.nextGaussian());
+            final var mathContext = new MathContext(1 + random.nextInt(80));
+
+            assertThat(Arctangent.atan2(y, x, mathContext)).isEqualByComparingTo(expected(y, x, mathContext));
+        }
+    }
+
+    @Test
+    void atan2_should_not_lose_precision_near_0_and_pi() {
+        final var mathContext = new MathContext(34);
+        final var tiny = new BigDecimal("1e-30");
+
+        assertThat(Arctangent.atan2(tiny, BigDecimal.ONE, mathContext))
+            .isEqualByComparingTo(expected(tiny, BigDecimal.ONE, mathContext));
+        assertThat(Arctangent.atan2(tiny, BigDecimal.ONE.negate(), mathContext))
+            .isEqualByComparingTo(expected(tiny, BigDecimal.ONE.negate(), mathContext));
+        assertThat(Arctangent.atan2(BigDecimal.ONE, tiny, mathContext))
+            .isEqualByComparingTo(expected(BigDecimal.ONE, tiny, mathContext));
+    }
+
+    private static BigDecimal expected(final BigDecimal y, final BigDecimal x, final MathContext mathContext) {
+        return BigDecimalMath.atan2(y, x, REFERENCE).round(mathContext);
+    }
+}
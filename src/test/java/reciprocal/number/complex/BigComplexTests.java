@@ -2,12 +2,14 @@ package reciprocal.number.complex;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 
 final class BigComplexTests {
     @Test
@@ -184,6 +186,17 @@ final class BigComplexTests {
         assertThat(actual.getImaginary()).isEqualByComparingTo("0.08");
     }
 
+    @Test
+    void divide_should_round_to_current_context() {
+        final var complex = new BigComplex(BigDecimal.ONE, BigDecimal.ZERO);
+        final var divisor = new BigComplex(BigDecimal.valueOf(3L), BigDecimal.ZERO);
+
+        final var actual = ReciprocalContext.ofPrecision(5).call(() -> complex.divide(divisor));
+
+        assertThat(actual.getReal()).isEqualTo("0.33333");
+        assertThat(actual.getImaginary()).isZero();
+    }
+
     @Test
     void divide_with_MathContext_should_throw_Exception_when_divisor_is_null() {
         assertThatNullPointerException().isThrownBy(() -> BigComplex.ZERO.divide(null, MathContext.DECIMAL32))
@@ -324,6 +337,26 @@ final class BigComplexTests {
         assertThat(actual).isEqualByComparingTo("2.236067977499789696409173668731276");
     }
 
+    @Test
+    void abs_should_round_to_current_context() {
+        final var complex = new BigComplex(BigDecimal.ONE, BigDecimal.valueOf(2L));
+
+        final var actual = ReciprocalContext.ofPrecision(5).call(complex::abs);
+
+        assertThat(actual).isEqualTo("2.2361");
+    }
+
+    @Test
+    void abs_should_return_cached_absolute_value() {
+        final var complex = new BigComplex(BigDecimal.ONE, BigDecimal.valueOf(2L));
+
+        final var actual = complex.abs();
+
+        assertThat(complex.abs()).isSameAs(actual);
+        assertThat(complex.abs(MathContext.DECIMAL128)).isSameAs(actual);
+        assertThat(complex.abs(MathContext.DECIMAL32)).isEqualTo("2.236068");
+    }
+
     @Test
     void abs_with_MathContext_should_throw_Exception_when_mathContext_is_null() {
         assertThatNullPointerException().isThrownBy(() -> BigComplex.ZERO.abs(null)).withMessage("mathContext")
@@ -366,17 +399,27 @@ final class BigComplexTests {
     }
 
     @Test
-    void argument_should_return_minus_acos_when_imaginary_is_less_than_0() {
+    void argument_should_return_negative_angle_when_imaginary_is_less_than_0() {
         final var actual = new BigComplex(BigDecimal.ONE, BigDecimal.ONE.negate()).argument();
 
-        assertThat(actual).isEqualByComparingTo("-0.7853981633974483096156608458198756");
+        assertThat(actual).isEqualByComparingTo("-0.7853981633974483096156608458198757");
     }
 
     @Test
-    void argument_should_return_acos_when_imaginary_is_greater_than_0() {
+    void argument_should_return_positive_angle_when_imaginary_is_greater_than_0() {
         final var actual = new BigComplex(BigDecimal.ONE, BigDecimal.ONE).argument();
 
-        assertThat(actual).isEqualByComparingTo("0.7853981633974483096156608458198756");
+        assertThat(actual).isEqualByComparingTo("0.7853981633974483096156608458198757");
+    }
+
+    @Test
+    void argument_should_return_cached_argument() {
+        final var complex = new BigComplex(BigDecimal.ONE, BigDecimal.ONE);
+
+        final var actual = complex.argument();
+
+        assertThat(complex.argument()).isSameAs(actual);
+        assertThat(ReciprocalContext.ofPrecision(5).call(() -> complex.argument()).precision()).isEqualTo(5);
     }
 
     @Test
@@ -392,17 +435,23 @@ final class BigComplexTests {
     }
 
     @Test
-    void argument_with_MathContext_should_return_minus_acos_when_imaginary_is_less_than_0() {
+    void argument_with_MathContext_should_throw_Exception_when_precision_is_0() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigComplex.ONE.argument(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0").withNoCause();
+    }
+
+    @Test
+    void argument_with_MathContext_should_return_negative_angle_when_imaginary_is_less_than_0() {
         final var actual = new BigComplex(BigDecimal.ONE, BigDecimal.ONE.negate()).argument(MathContext.DECIMAL32);
 
-        assertThat(actual).isEqualByComparingTo("-0.7853981");
+        assertThat(actual).isEqualByComparingTo("-0.7853982");
     }
 
     @Test
-    void argument_with_MathContext_should_return_acos_when_imaginary_is_greater_than_0() {
+    void argument_with_MathContext_should_return_positive_angle_when_imaginary_is_greater_than_0() {
         final var actual = new BigComplex(BigDecimal.ONE, BigDecimal.ONE).argument(MathContext.DECIMAL32);
 
-        assertThat(actual).isEqualByComparingTo("0.7853981");
+        assertThat(actual).isEqualByComparingTo("0.7853982");
     }
 
     @Test
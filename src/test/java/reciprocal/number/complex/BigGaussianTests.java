@@ -1,13 +1,16 @@
 package reciprocal.number.complex;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 
 final class BigGaussianTests {
     @Test
@@ -192,6 +195,184 @@ final class BigGaussianTests {
         assertThat(actual.getImaginary()).isZero();
     }
 
+    @Test
+    void pow_with_MathContext_should_round_power() {
+        final var actual = new BigGaussian(BigInteger.ONE, BigInteger.TWO).pow(5, new MathContext(1));
+
+        assertThat(actual).isEqualTo(new BigComplex(new BigDecimal("4E+1"), new BigDecimal("-4E+1")));
+    }
+
+    @Test
+    void powExact_should_throw_Exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigGaussian.ONE.powExact(-1))
+            .withMessage("exponent >= 0 expected but exponent = -1").withNoCause();
+    }
+
+    @Test
+    void powExact_should_calculate_exact_power() {
+        final var actual = new BigGaussian(BigInteger.ONE, BigInteger.TWO).powExact(5);
+
+        assertThat(actual).isEqualTo(new BigGaussian(BigInteger.valueOf(41L), BigInteger.valueOf(-38L)));
+    }
+
+    @Test
+    void powExact_should_return_1_when_exponent_is_0() {
+        assertThat(new BigGaussian(BigInteger.ONE, BigInteger.TWO).powExact(0)).isEqualTo(BigGaussian.ONE);
+    }
+
+    @Test
+    void powExact_should_calculate_power_when_it_does_not_fit_into_longs() {
+        final var actual = new BigGaussian(BigInteger.ONE, BigInteger.ONE).powExact(128);
+
+        assertThat(actual).isEqualTo(BigGaussian.ofReal(BigInteger.ONE.shiftLeft(64)));
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_Exception_when_divisor_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigGaussian.ONE.divideAndRemainder(null))
+            .withMessage("divisor").withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_Exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigGaussian.ONE.divideAndRemainder(BigGaussian.ZERO))
+            .withMessage("divisor expected to be invertible but divisor = %s", BigGaussian.ZERO).withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_calculate_quotient_and_remainder() {
+        final var actual = new BigGaussian(BigInteger.valueOf(7L), BigInteger.TWO)
+            .divideAndRemainder(new BigGaussian(BigInteger.TWO, BigInteger.ONE.negate()));
+
+        assertThat(actual).containsExactly(new BigGaussian(BigInteger.TWO, BigInteger.TWO), BigGaussian.ONE);
+    }
+
+    @Test
+    void divideAndRemainder_should_return_remainder_with_at_most_half_of_norm() {
+        final var divisor = new BigGaussian(BigInteger.valueOf(-17L), BigInteger.valueOf(5L));
+        for (var re = -20L; re <= 20L; re++) {
+            for (var im = -20L; im <= 20L; im++) {
+                final var gaussian = new BigGaussian(BigInteger.valueOf(re), BigInteger.valueOf(im));
+
+                final var actual = gaussian.divideAndRemainder(divisor);
+
+                assertThat(actual[0].multiply(divisor).add(actual[1])).isEqualTo(gaussian);
+                assertThat(actual[1].absPow2().shiftLeft(1)).isLessThanOrEqualTo(divisor.absPow2());
+            }
+        }
+    }
+
+    @Test
+    void gcd_should_throw_Exception_when_other_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigGaussian.ONE.gcd(null)).withMessage("other")
+            .withNoCause();
+    }
+
+    @Test
+    void gcd_should_calculate_greatest_common_divisor_in_first_quadrant() {
+        final var actual = BigGaussian.ofReal(BigInteger.valueOf(5L)).gcd(new BigGaussian(BigInteger.valueOf(3L),
+            BigInteger.ONE));
+
+        assertThat(actual).isEqualTo(new BigGaussian(BigInteger.ONE, BigInteger.TWO));
+    }
+
+    @Test
+    void extendedGcd_should_throw_Exception_when_other_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigGaussian.ONE.extendedGcd(null)).withMessage("other")
+            .withNoCause();
+    }
+
+    @Test
+    void extendedGcd_should_calculate_greatest_common_divisor_and_coefficients() {
+        final var gaussian = new BigGaussian(new BigInteger("123456789012345678901"), BigInteger.valueOf(-42L));
+        final var other = new BigGaussian(BigInteger.valueOf(98765L), new BigInteger("43210987654321"));
+
+        final var actual = gaussian.extendedGcd(other);
+
+        assertThat(actual[0]).isEqualTo(gaussian.gcd(other));
+        assertThat(actual[1].multiply(gaussian).add(actual[2].multiply(other))).isEqualTo(actual[0]);
+    }
+
+    @Test
+    void modPow_should_throw_Exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigGaussian.ONE.modPow(BigInteger.ONE.negate(),
+            BigGaussian.ONE)).withMessage("exponent >= 0 expected but exponent = -1").withNoCause();
+    }
+
+    @Test
+    void modPow_should_throw_Exception_when_modulus_is_not_invertible() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigGaussian.ONE.modPow(BigInteger.ONE,
+            BigGaussian.ZERO)).withMessage("modulus expected to be invertible but modulus = %s", BigGaussian.ZERO)
+            .withNoCause();
+    }
+
+    @Test
+    void modPow_should_satisfy_fermat_when_modulus_is_prime() {
+        // a^(p^2 - 1) = 1 (mod p) for Gaussian primes p = 3 (mod 4)
+        final var p = BigInteger.valueOf(1000000007L);
+        final var gaussian = new BigGaussian(BigInteger.valueOf(12345L), BigInteger.valueOf(678L));
+
+        assertThat(gaussian.modPow(p.pow(2).subtract(BigInteger.ONE), BigGaussian.ofReal(p)))
+            .isEqualTo(BigGaussian.ONE);
+    }
+
+    @Test
+    void modPow_should_return_0_when_modulus_is_unit() {
+        assertThat(new BigGaussian(BigInteger.TWO, BigInteger.ONE).modPow(BigInteger.ZERO, BigGaussian.I))
+            .isEqualTo(BigGaussian.ZERO);
+    }
+
+    @Test
+    void normalize_should_return_associate_in_first_quadrant() {
+        final var expected = new BigGaussian(BigInteger.TWO, BigInteger.ONE);
+
+        assertThat(expected.normalize()).isEqualTo(expected);
+        assertThat(expected.multiply(BigGaussian.I).normalize()).isEqualTo(expected);
+        assertThat(expected.negate().normalize()).isEqualTo(expected);
+        assertThat(expected.multiply(BigGaussian.MINUS_I).normalize()).isEqualTo(expected);
+    }
+
+    @Test
+    void factorize_should_throw_Exception_when_this_is_not_invertible() {
+        assertThatIllegalStateException().isThrownBy(BigGaussian.ZERO::factorize)
+            .withMessage("this expected to be invertible but this = %s", BigGaussian.ZERO).withNoCause();
+    }
+
+    @Test
+    void factorize_should_return_prime_factors_and_unit() {
+        assertThat(BigGaussian.ofReal(BigInteger.valueOf(5L)).factorize()).containsExactly(
+            entry(new BigGaussian(BigInteger.TWO, BigInteger.ONE), 1),
+            entry(new BigGaussian(BigInteger.ONE, BigInteger.TWO), 1), entry(BigGaussian.MINUS_I, 1));
+    }
+
+    @Test
+    void factorize_should_return_prime_factors_in_order_of_rational_primes() {
+        assertThat(new BigGaussian(BigInteger.valueOf(6L), BigInteger.valueOf(3L)).factorize()).containsExactly(
+            entry(BigGaussian.ofReal(BigInteger.valueOf(3L)), 1),
+            entry(new BigGaussian(BigInteger.TWO, BigInteger.ONE), 1));
+    }
+
+    @Test
+    void factorize_should_return_factors_whose_product_is_this_when_norm_has_large_prime_factors() {
+        final var split = new BigGaussian(BigInteger.valueOf(31595L), BigInteger.valueOf(-2428L));
+        final var other = new BigGaussian(BigInteger.valueOf(-44721L), BigInteger.valueOf(9344L));
+        final var gaussian = split.multiply(split).multiply(other).multiply(BigGaussian.ofReal(BigInteger.valueOf(21L)))
+            .multiply(new BigGaussian(BigInteger.ONE, BigInteger.ONE));
+
+        final var actual = gaussian.factorize();
+
+        var product = BigGaussian.ONE;
+        for (final var factor : actual.entrySet()) {
+            for (var i = 0; i < factor.getValue(); i++) {
+                product = product.multiply(factor.getKey());
+            }
+        }
+        assertThat(product).isEqualTo(gaussian);
+        assertThat(actual).containsKey(split.normalize()).containsEntry(split.normalize(), 2);
+        assertThat(actual.keySet()).filteredOn(factor -> !BigGaussian.UNITS.contains(factor))
+            .allSatisfy(factor -> assertThat(factor.getReal().signum()).isPositive());
+    }
+
     @Test
     void negate_should_calculate_negated() {
         final var actual = new BigGaussian(BigInteger.ONE, BigInteger.valueOf(2L)).negate();
@@ -242,6 +423,25 @@ final class BigGaussianTests {
         assertThat(actual).isEqualByComparingTo("2.236067977499789696409173668731276");
     }
 
+    @Test
+    void abs_should_round_to_current_context() {
+        final var gaussian = new BigGaussian(BigInteger.ONE, BigInteger.valueOf(2L));
+
+        final var actual = ReciprocalContext.ofPrecision(5).call(gaussian::abs);
+
+        assertThat(actual).isEqualTo("2.2361");
+    }
+
+    @Test
+    void abs_should_return_cached_absolute_value() {
+        final var gaussian = new BigGaussian(BigInteger.ONE, BigInteger.valueOf(2L));
+
+        final var actual = gaussian.abs();
+
+        assertThat(gaussian.abs()).isSameAs(actual);
+        assertThat(gaussian.abs(MathContext.DECIMAL32)).isEqualTo("2.236068");
+    }
+
     @Test
     void abs_with_MathContext_should_throw_Exception_when_mathContext_is_null() {
         assertThatNullPointerException().isThrownBy(() -> BigGaussian.ZERO.abs(null)).withMessage("mathContext")
@@ -270,17 +470,26 @@ final class BigGaussianTests {
     }
 
     @Test
-    void argument_should_return_minus_acos_when_imaginary_is_less_than_0() {
+    void argument_should_return_negative_angle_when_imaginary_is_less_than_0() {
         final var actual = new BigGaussian(BigInteger.ONE, BigInteger.ONE.negate()).argument();
 
-        assertThat(actual).isEqualByComparingTo("-0.7853981633974483096156608458198756");
+        assertThat(actual).isEqualByComparingTo("-0.7853981633974483096156608458198757");
     }
 
     @Test
-    void argument_should_return_acos_when_imaginary_is_greater_than_0() {
+    void argument_should_return_positive_angle_when_imaginary_is_greater_than_0() {
         final var actual = new BigGaussian(BigInteger.ONE, BigInteger.ONE).argument();
 
-        assertThat(actual).isEqualByComparingTo("0.7853981633974483096156608458198756");
+        assertThat(actual).isEqualByComparingTo("0.7853981633974483096156608458198757");
+    }
+
+    @Test
+    void argument_should_return_cached_argument() {
+        final var gaussian = new BigGaussian(BigInteger.ONE, BigInteger.ONE);
+
+        final var actual = gaussian.argument();
+
+        assertThat(gaussian.argument()).isSameAs(actual);
     }
 
     @Test
@@ -296,17 +505,23 @@ final class BigGaussianTests {
     }
 
     @Test
-    void argument_with_MathContext_should_return_minus_acos_when_imaginary_is_less_than_0() {
+    void argument_with_MathContext_should_throw_Exception_when_precision_is_0() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigGaussian.ONE.argument(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0").withNoCause();
+    }
+
+    @Test
+    void argument_with_MathContext_should_return_negative_angle_when_imaginary_is_less_than_0() {
         final var actual = new BigGaussian(BigInteger.ONE, BigInteger.ONE.negate()).argument(MathContext.DECIMAL32);
 
-        assertThat(actual).isEqualByComparingTo("-0.7853984");
+        assertThat(actual).isEqualByComparingTo("-0.7853982");
     }
 
     @Test
-    void argument_with_MathContext_should_return_acos_when_imaginary_is_greater_than_0() {
+    void argument_with_MathContext_should_return_positive_angle_when_imaginary_is_greater_than_0() {
         final var actual = new BigGaussian(BigInteger.ONE, BigInteger.ONE).argument(MathContext.DECIMAL32);
 
-        assertThat(actual).isEqualByComparingTo("0.7853984");
+        assertThat(actual).isEqualByComparingTo("0.7853982");
     }
 
     @Test
@@ -1,10 +1,15 @@
 package reciprocal.number.complex;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
+import reciprocal.ReciprocalUtils;
 
 final class BigPolarFormTests {
     @Test
@@ -38,4 +43,179 @@ final class BigPolarFormTests {
 
         assertThat(polarForm.equalsByComparing(other)).isTrue();
     }
+
+    @Test
+    void multiply_should_throw_Exception_when_factor_is_null() {
+        final var polarForm = new BigPolarForm(BigDecimal.ZERO, BigDecimal.ZERO);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.multiply(null)).withMessage("factor")
+            .withNoCause();
+    }
+
+    @Test
+    void multiply_should_multiply_radials_and_add_angulars() {
+        final var polarForm = new BigPolarForm(BigDecimal.valueOf(2L), new BigDecimal("0.5"));
+        final var factor = new BigPolarForm(BigDecimal.valueOf(3L), new BigDecimal("0.25"));
+
+        assertThat(polarForm.multiply(factor)).isEqualTo(new BigPolarForm(BigDecimal.valueOf(6L),
+            new BigDecimal("0.75")));
+    }
+
+    @Test
+    void multiply_should_use_current_context() {
+        final var polarForm = new BigPolarForm(new BigDecimal("1.5"), new BigDecimal("0.15"));
+
+        assertThat(ReciprocalContext.ofPrecision(2).call(() -> polarForm.multiply(polarForm)))
+            .isEqualTo(new BigPolarForm(new BigDecimal("2.3"), new BigDecimal("0.30")));
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_mathContext_is_null() {
+        final var polarForm = new BigPolarForm(BigDecimal.ZERO, BigDecimal.ZERO);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.multiply(polarForm, null))
+            .withMessage("mathContext").withNoCause();
+    }
+
+    @Test
+    void multiply_should_round_to_mathContext() {
+        final var polarForm = new BigPolarForm(new BigDecimal("1.5"), new BigDecimal("0.15"));
+
+        assertThat(polarForm.multiply(polarForm, new MathContext(2))).isEqualTo(new BigPolarForm(
+            new BigDecimal("2.3"), new BigDecimal("0.30")));
+    }
+
+    @Test
+    void divide_should_throw_Exception_when_divisor_is_null() {
+        final var polarForm = new BigPolarForm(BigDecimal.ZERO, BigDecimal.ZERO);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.divide(null)).withMessage("divisor")
+            .withNoCause();
+    }
+
+    @Test
+    void divide_should_throw_Exception_when_divisor_is_not_invertible() {
+        final var polarForm = new BigPolarForm(BigDecimal.ONE, BigDecimal.ZERO);
+        final var divisor = new BigPolarForm(BigDecimal.ZERO, BigDecimal.ONE);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polarForm.divide(divisor))
+            .withMessage("divisor expected to be invertible but divisor = %s", divisor).withNoCause();
+    }
+
+    @Test
+    void divide_should_divide_radials_and_subtract_angulars() {
+        final var polarForm = new BigPolarForm(BigDecimal.ONE, new BigDecimal("0.75"));
+        final var divisor = new BigPolarForm(BigDecimal.valueOf(3L), new BigDecimal("0.25"));
+
+        assertThat(polarForm.divide(divisor, new MathContext(3))).isEqualTo(new BigPolarForm(
+            new BigDecimal("0.333"), new BigDecimal("0.50")));
+    }
+
+    @Test
+    void divide_should_use_current_context() {
+        final var polarForm = new BigPolarForm(BigDecimal.ONE, BigDecimal.ZERO);
+        final var divisor = new BigPolarForm(BigDecimal.valueOf(3L), BigDecimal.ZERO);
+
+        assertThat(ReciprocalContext.ofPrecision(3).call(() -> polarForm.divide(divisor)))
+            .isEqualTo(new BigPolarForm(new BigDecimal("0.333"), BigDecimal.ZERO));
+    }
+
+    @Test
+    void pow_should_throw_Exception_when_exponent_is_negative_and_this_is_not_invertible() {
+        final var polarForm = new BigPolarForm(BigDecimal.ZERO, BigDecimal.ONE);
+
+        assertThatIllegalStateException().isThrownBy(() -> polarForm.pow(-1))
+            .withMessage("this expected to be invertible but this = %s", polarForm).withNoCause();
+    }
+
+    @Test
+    void pow_should_raise_radial_and_multiply_angular() {
+        final var polarForm = new BigPolarForm(BigDecimal.valueOf(2L), new BigDecimal("0.25"));
+
+        assertThat(polarForm.pow(3)).isEqualTo(new BigPolarForm(BigDecimal.valueOf(8L), new BigDecimal("0.75")));
+    }
+
+    @Test
+    void pow_should_invert_when_exponent_is_negative() {
+        final var polarForm = new BigPolarForm(BigDecimal.valueOf(2L), new BigDecimal("0.25"));
+
+        assertThat(polarForm.pow(-1).equalsByComparing(new BigPolarForm(new BigDecimal("0.5"),
+            new BigDecimal("-0.25")))).isTrue();
+    }
+
+    @Test
+    void roots_should_throw_Exception_when_n_is_less_than_1() {
+        final var polarForm = new BigPolarForm(BigDecimal.ONE, BigDecimal.ZERO);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polarForm.roots(0))
+            .withMessage("n > 0 expected but n = 0").withNoCause();
+    }
+
+    @Test
+    void roots_should_throw_Exception_when_mathContext_is_null() {
+        final var polarForm = new BigPolarForm(BigDecimal.ONE, BigDecimal.ZERO);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.roots(2, null)).withMessage("mathContext")
+            .withNoCause();
+    }
+
+    @Test
+    void roots_should_return_n_th_roots() {
+        final var mathContext = new MathContext(10);
+        final var roots = new BigPolarForm(BigDecimal.valueOf(8L), BigDecimal.ZERO).roots(3, mathContext);
+
+        assertThat(roots).hasSize(3);
+        assertThat(roots).allSatisfy(root -> assertThat(root.getRadial()).isEqualByComparingTo("2"));
+        assertThat(roots).extracting(BigPolarForm::getAngular).containsExactly(new BigDecimal("0E-11"),
+            new BigDecimal("2.094395102"), new BigDecimal("4.188790205"));
+    }
+
+    @Test
+    void roots_should_start_with_principal_root() {
+        final var angular = new BigDecimal("0.3").subtract(ReciprocalUtils.pi(new MathContext(40))
+            .multiply(BigDecimal.valueOf(400L)));
+        final var roots = new BigPolarForm(BigDecimal.valueOf(8L), angular).roots(3, new MathContext(10));
+
+        assertThat(roots.get(0).getAngular()).isEqualByComparingTo("0.1");
+    }
+
+    @Test
+    void roots_should_return_roots_of_0() {
+        final var roots = new BigPolarForm(BigDecimal.ZERO, BigDecimal.ZERO).roots(2, new MathContext(10));
+
+        assertThat(roots).allSatisfy(root -> assertThat(root.getRadial()).isZero());
+    }
+
+    @Test
+    void toBigComplex_should_throw_Exception_when_mathContext_is_null() {
+        final var polarForm = new BigPolarForm(BigDecimal.ONE, BigDecimal.ZERO);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.toBigComplex(null)).withMessage("mathContext")
+            .withNoCause();
+    }
+
+    @Test
+    void toBigComplex_should_return_cartesian_form() {
+        final var polarForm = new BigPolarForm(BigDecimal.valueOf(2L), BigDecimal.ONE);
+
+        final var bigComplex = polarForm.toBigComplex(new MathContext(10));
+
+        assertThat(bigComplex.getReal()).isEqualTo(new BigDecimal("1.080604612"));
+        assertThat(bigComplex.getImaginary()).isEqualTo(new BigDecimal("1.682941970"));
+    }
+
+    @Test
+    void toBigComplex_should_return_cached_value_when_mathContext_is_equal() {
+        final var polarForm = new BigPolarForm(BigDecimal.valueOf(2L), BigDecimal.ONE);
+
+        assertThat(polarForm.toBigComplex()).isSameAs(polarForm.toBigComplex(MathContext.DECIMAL128));
+    }
+
+    @Test
+    void toBigComplex_should_calculate_again_when_mathContext_differs() {
+        final var polarForm = new BigPolarForm(BigDecimal.valueOf(2L), BigDecimal.ONE);
+        final var bigComplex = polarForm.toBigComplex(new MathContext(5));
+
+        assertThat(polarForm.toBigComplex(new MathContext(10))).isNotEqualTo(bigComplex);
+    }
 }
@@ -1,9 +1,17 @@
 package reciprocal.number.complex;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 final class GaussianTests {
@@ -50,6 +58,38 @@ final class GaussianTests {
         assertThat(actual.getImaginary()).isEqualByComparingTo(6L);
     }
 
+    @Test
+    void addExact_should_throw_Exception_when_summand_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> Gaussian.ONE.addExact(null)).withMessage("summand")
+            .withNoCause();
+    }
+
+    @Test
+    void addExact_should_calculate_sum() {
+        assertThat(new Gaussian(Long.MAX_VALUE, -1L).addExact(new Gaussian(-1L, Long.MIN_VALUE + 1L)))
+            .isEqualTo(new Gaussian(Long.MAX_VALUE - 1L, Long.MIN_VALUE));
+    }
+
+    @Test
+    void addExact_should_throw_Exception_when_sum_does_not_fit_into_longs() {
+        final var gaussian = Gaussian.ofImaginary(Long.MIN_VALUE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> gaussian.addExact(Gaussian.MINUS_I))
+            .withMessage("long overflow");
+    }
+
+    @Test
+    void addPromoting_should_return_Gaussian_when_sum_fits_into_longs() {
+        assertThat(Gaussian.ONE.addPromoting(Gaussian.I)).isEqualTo(new Gaussian(1L, 1L));
+    }
+
+    @Test
+    void addPromoting_should_return_BigGaussian_when_sum_does_not_fit_into_longs() {
+        final var actual = Gaussian.ofReal(Long.MAX_VALUE).addPromoting(Gaussian.ONE);
+
+        assertThat(actual).isEqualTo(BigGaussian.ofReal(BigInteger.ONE.shiftLeft(63)));
+    }
+
     @Test
     void subtract_should_throw_Exception_when_subtrahend_is_null() {
         assertThatNullPointerException().isThrownBy(() -> Gaussian.ZERO.subtract(null)).withMessage("subtrahend")
@@ -67,6 +107,35 @@ final class GaussianTests {
         assertThat(actual.getImaginary()).isEqualByComparingTo(6L);
     }
 
+    @Test
+    void subtractExact_should_throw_Exception_when_subtrahend_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> Gaussian.ONE.subtractExact(null))
+            .withMessage("subtrahend").withNoCause();
+    }
+
+    @Test
+    void subtractExact_should_calculate_difference() {
+        assertThat(new Gaussian(-1L, 0L).subtractExact(Gaussian.ofReal(Long.MAX_VALUE)))
+            .isEqualTo(Gaussian.ofReal(Long.MIN_VALUE));
+    }
+
+    @Test
+    void subtractExact_should_throw_Exception_when_difference_does_not_fit_into_longs() {
+        final var gaussian = Gaussian.ZERO;
+        final var subtrahend = Gaussian.ofImaginary(Long.MIN_VALUE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> gaussian.subtractExact(subtrahend))
+            .withMessage("long overflow");
+    }
+
+    @Test
+    void subtractPromoting_should_return_BigGaussian_when_difference_does_not_fit_into_longs() {
+        final var actual = Gaussian.ofReal(Long.MIN_VALUE).subtractPromoting(Gaussian.ONE);
+
+        assertThat(actual).isEqualTo(BigGaussian.ofReal(BigInteger.ONE.shiftLeft(63).negate().subtract(
+            BigInteger.ONE)));
+    }
+
     @Test
     void multiply_should_throw_Exception_when_factor_is_null() {
         assertThatNullPointerException().isThrownBy(() -> Gaussian.ZERO.multiply(null)).withMessage("factor")
@@ -84,6 +153,48 @@ final class GaussianTests {
         assertThat(actual.getImaginary()).isEqualByComparingTo(10L);
     }
 
+    @Test
+    void multiplyExact_should_throw_Exception_when_factor_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> Gaussian.ONE.multiplyExact(null)).withMessage("factor")
+            .withNoCause();
+    }
+
+    @Test
+    void multiplyExact_should_calculate_product_when_intermediate_products_do_not_fit_into_longs() {
+        final var gaussian = new Gaussian(3200000000L, 1200000000L);
+
+        assertThat(gaussian.multiplyExact(gaussian)).isEqualTo(new Gaussian(8800000000000000000L,
+            7680000000000000000L));
+    }
+
+    @Test
+    void multiplyExact_should_throw_Exception_when_product_does_not_fit_into_longs() {
+        final var gaussian = new Gaussian(1L << 32, 1L);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> gaussian.multiplyExact(gaussian))
+            .withMessage("long overflow");
+    }
+
+    @Test
+    void multiplyPromoting_should_equal_product_of_BigGaussians() {
+        final var random = new Random(42L);
+        for (var i = 0; i < 10000; i++) {
+            final var shift = random.nextInt(64);
+            final var gaussian = new Gaussian(random.nextLong() >> shift, random.nextLong() >> shift);
+            final var factor = new Gaussian(random.nextLong() >> shift, random.nextLong() >> shift);
+
+            final var actual = gaussian.multiplyPromoting(factor);
+
+            final var expected = gaussian.toBigGaussian().multiply(factor.toBigGaussian());
+            if (actual instanceof Gaussian product) {
+                assertThat(product.toBigGaussian()).isEqualTo(expected);
+            } else {
+                assertThat(actual).isEqualTo(expected);
+                assertThat(expected.getReal().bitLength() > 63 || expected.getImaginary().bitLength() > 63).isTrue();
+            }
+        }
+    }
+
     @Test
     void divide_should_throw_Exception_when_divisor_is_null() {
         assertThatNullPointerException().isThrownBy(() -> Gaussian.ZERO.divide(null)).withMessage("divisor")
@@ -125,6 +236,233 @@ final class GaussianTests {
         assertThat(actual.getImaginary()).isZero();
     }
 
+    @Test
+    void pow_should_calculate_power_when_power_does_not_fit_into_longs() {
+        final var actual = new Gaussian(1L, 1L).pow(128);
+
+        assertThat(actual.getReal()).isEqualTo(0x1.0p64D);
+        assertThat(actual.getImaginary()).isZero();
+    }
+
+    @Test
+    void pow_should_calculate_power_when_power_does_not_fit_into_doubles() {
+        final var actual = new Gaussian(1L, 1L).pow(4096);
+
+        assertThat(actual.getReal()).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(actual.getImaginary()).isZero();
+    }
+
+    @Test
+    void pow_should_calculate_power_in_logarithmic_time_when_exponent_is_large() {
+        final var gaussian = new Gaussian(3L, 4L);
+
+        final var actual = assertTimeoutPreemptively(Duration.ofSeconds(1L), () -> gaussian.pow(10_000_000));
+
+        assertThat(actual.abs()).isInfinite();
+    }
+
+    @Test
+    void pow_should_round_power_when_it_does_not_fit_into_longs() {
+        final var actual = new Gaussian(3L, 4L).pow(30);
+        final var expected = new BigGaussian(BigInteger.valueOf(3L), BigInteger.valueOf(4L)).powExact(30);
+
+        assertThat(actual.getReal()).isCloseTo(expected.getReal().doubleValue(), withinPercentage(1.0E-10D));
+        assertThat(actual.getImaginary()).isCloseTo(expected.getImaginary().doubleValue(),
+            withinPercentage(1.0E-10D));
+    }
+
+    @Test
+    void powExact_should_throw_Exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Gaussian.ONE.powExact(-1))
+            .withMessage("exponent >= 0 expected but exponent = -1").withNoCause();
+    }
+
+    @Test
+    void powExact_should_calculate_exact_power() {
+        assertThat(new Gaussian(1L, 2L).powExact(5)).isEqualTo(new Gaussian(41L, -38L));
+    }
+
+    @Test
+    void powExact_should_return_1_when_exponent_is_0() {
+        assertThat(new Gaussian(1L, 2L).powExact(0)).isEqualTo(Gaussian.ONE);
+    }
+
+    @Test
+    void powExact_should_calculate_power_when_exponent_is_large() {
+        assertThat(Gaussian.I.powExact(Integer.MAX_VALUE)).isEqualTo(Gaussian.MINUS_I);
+    }
+
+    @Test
+    void powExact_should_return_power_when_it_is_min_value() {
+        assertThat(new Gaussian(1L, 1L).powExact(126)).isEqualTo(Gaussian.ofImaginary(Long.MIN_VALUE));
+    }
+
+    @Test
+    void powExact_should_throw_Exception_when_power_does_not_fit_into_longs() {
+        final var gaussian = new Gaussian(1L, 1L);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> gaussian.powExact(128));
+    }
+
+    @Test
+    void powPromoting_should_throw_Exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Gaussian.ONE.powPromoting(-1))
+            .withMessage("exponent >= 0 expected but exponent = -1").withNoCause();
+    }
+
+    @Test
+    void powPromoting_should_return_Gaussian_when_power_fits_into_longs() {
+        assertThat(new Gaussian(1L, 1L).powPromoting(126)).isEqualTo(Gaussian.ofImaginary(Long.MIN_VALUE));
+    }
+
+    @Test
+    void powPromoting_should_return_BigGaussian_when_power_does_not_fit_into_longs() {
+        final var gaussian = new Gaussian(3L, -4L);
+
+        assertThat(gaussian.powPromoting(100)).isEqualTo(gaussian.toBigGaussian().powExact(100));
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_Exception_when_divisor_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> Gaussian.ONE.divideAndRemainder(null))
+            .withMessage("divisor").withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_Exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Gaussian.ONE.divideAndRemainder(Gaussian.ZERO))
+            .withMessage("divisor expected to be invertible but divisor = %s", Gaussian.ZERO).withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_calculate_quotient_and_remainder() {
+        final var actual = new Gaussian(7L, 2L).divideAndRemainder(new Gaussian(2L, -1L));
+
+        assertThat(actual).containsExactly(new Gaussian(2L, 2L), Gaussian.ONE);
+    }
+
+    @Test
+    void divideAndRemainder_should_not_overflow_when_parts_are_large() {
+        final var gaussian = new Gaussian(Long.MAX_VALUE, Long.MIN_VALUE + 1L);
+        final var divisor = new Gaussian(3L, 1L << 40);
+
+        final var actual = gaussian.divideAndRemainder(divisor);
+
+        final var expected = gaussian.toBigGaussian().divideAndRemainder(divisor.toBigGaussian());
+        assertThat(actual[0].toBigGaussian()).isEqualTo(expected[0]);
+        assertThat(actual[1].toBigGaussian()).isEqualTo(expected[1]);
+    }
+
+    @Test
+    void divideAndRemainder_should_equal_BigGaussian_when_dividend_is_large_and_divisor_is_small() {
+        final var gaussian = new Gaussian((1L << 55) + 12345L, -(1L << 50) - 678L);
+        final var divisor = new Gaussian(-13L, 17L);
+
+        final var actual = gaussian.divideAndRemainder(divisor);
+
+        final var expected = gaussian.toBigGaussian().divideAndRemainder(divisor.toBigGaussian());
+        assertThat(actual[0].toBigGaussian()).isEqualTo(expected[0]);
+        assertThat(actual[1].toBigGaussian()).isEqualTo(expected[1]);
+    }
+
+    @Test
+    void gcd_should_throw_Exception_when_other_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> Gaussian.ONE.gcd(null)).withMessage("other")
+            .withNoCause();
+    }
+
+    @Test
+    void gcd_should_calculate_greatest_common_divisor_in_first_quadrant() {
+        assertThat(Gaussian.ofReal(5L).gcd(new Gaussian(3L, 1L))).isEqualTo(new Gaussian(1L, 2L));
+    }
+
+    @Test
+    void gcd_should_return_0_when_both_are_0() {
+        assertThat(Gaussian.ZERO.gcd(Gaussian.ZERO)).isEqualTo(Gaussian.ZERO);
+    }
+
+    @Test
+    void extendedGcd_should_calculate_greatest_common_divisor_and_coefficients() {
+        final var gaussian = new Gaussian(11L, 3L);
+        final var other = new Gaussian(1L, 8L);
+
+        final var actual = gaussian.extendedGcd(other);
+
+        assertThat(actual[0]).isEqualTo(gaussian.gcd(other));
+        assertThat(actual[1].multiply(gaussian).add(actual[2].multiply(other))).isEqualTo(actual[0]);
+    }
+
+    @Test
+    void modPow_should_throw_Exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Gaussian.ONE.modPow(-1L, Gaussian.ONE))
+            .withMessage("exponent >= 0 expected but exponent = -1").withNoCause();
+    }
+
+    @Test
+    void modPow_should_throw_Exception_when_modulus_is_not_invertible() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Gaussian.ONE.modPow(1L, Gaussian.ZERO))
+            .withMessage("modulus expected to be invertible but modulus = %s", Gaussian.ZERO).withNoCause();
+    }
+
+    @Test
+    void modPow_should_calculate_power_modulo_modulus() {
+        final var gaussian = new Gaussian(2L, 3L);
+        final var modulus = new Gaussian(7L, -4L);
+        var expected = Gaussian.ONE;
+        for (var i = 0; i < 13; i++) {
+            expected = expected.multiply(gaussian).divideAndRemainder(modulus)[1];
+        }
+
+        assertThat(gaussian.modPow(13L, modulus)).isEqualTo(expected);
+    }
+
+    @Test
+    void modPow_should_equal_BigGaussian_when_modulus_is_mid_sized() {
+        final var gaussian = new Gaussian(123456789L, -987654321L);
+        final var modulus = new Gaussian(700001L, -500003L);
+
+        assertThat(gaussian.modPow(1_000_003L, modulus).toBigGaussian()).isEqualTo(
+            gaussian.toBigGaussian().modPow(BigInteger.valueOf(1_000_003L), modulus.toBigGaussian()));
+    }
+
+    @Test
+    void modPow_should_equal_BigGaussian_when_modulus_is_large() {
+        final var gaussian = new Gaussian(123456789L, -987654321L);
+        final var modulus = new Gaussian(1L << 40, 12345L);
+
+        assertThat(gaussian.modPow(65537L, modulus).toBigGaussian()).isEqualTo(
+            gaussian.toBigGaussian().modPow(BigInteger.valueOf(65537L), modulus.toBigGaussian()));
+    }
+
+    @Test
+    void normalize_should_return_associate_in_first_quadrant() {
+        assertThat(new Gaussian(2L, 1L).normalize()).isEqualTo(new Gaussian(2L, 1L));
+        assertThat(new Gaussian(-1L, 2L).normalize()).isEqualTo(new Gaussian(2L, 1L));
+        assertThat(new Gaussian(-2L, -1L).normalize()).isEqualTo(new Gaussian(2L, 1L));
+        assertThat(new Gaussian(1L, -2L).normalize()).isEqualTo(new Gaussian(2L, 1L));
+        assertThat(Gaussian.ZERO.normalize()).isEqualTo(Gaussian.ZERO);
+    }
+
+    @Test
+    void factorize_should_throw_Exception_when_this_is_not_invertible() {
+        assertThatIllegalStateException().isThrownBy(Gaussian.ZERO::factorize)
+            .withMessage("this expected to be invertible but this = %s", Gaussian.ZERO).withNoCause();
+    }
+
+    @Test
+    void factorize_should_return_empty_map_when_this_is_1() {
+        assertThat(Gaussian.ONE.factorize()).isEmpty();
+    }
+
+    @Test
+    void factorize_should_return_prime_factors_and_unit() {
+        assertThat(Gaussian.ofReal(2L).factorize()).containsExactly(entry(new Gaussian(1L, 1L), 2),
+            entry(Gaussian.MINUS_I, 1));
+        assertThat(Gaussian.ofReal(5L).factorize()).containsExactly(entry(new Gaussian(2L, 1L), 1),
+            entry(new Gaussian(1L, 2L), 1), entry(Gaussian.MINUS_I, 1));
+        assertThat(Gaussian.ofReal(9L).factorize()).containsExactly(entry(Gaussian.ofReal(3L), 2));
+    }
+
     @Test
     void negate_should_calculate_negated() {
         final var actual = new Gaussian(1L, 2L).negate();
@@ -1,7 +1,10 @@
 package reciprocal.number.complex;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +40,121 @@ final class PolarFormTests {
 
         assertThat(polarForm.equalsByComparing(other)).isTrue();
     }
+
+    @Test
+    void multiply_should_throw_Exception_when_factor_is_null() {
+        final var polarForm = new PolarForm(0.0D, 0.0D);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.multiply(null)).withMessage("factor")
+            .withNoCause();
+    }
+
+    @Test
+    void multiply_should_multiply_radials_and_add_angulars() {
+        assertThat(new PolarForm(2.0D, 0.5D).multiply(new PolarForm(3.0D, 0.25D)))
+            .isEqualTo(new PolarForm(6.0D, 0.75D));
+    }
+
+    @Test
+    void divide_should_throw_Exception_when_divisor_is_null() {
+        final var polarForm = new PolarForm(0.0D, 0.0D);
+
+        assertThatNullPointerException().isThrownBy(() -> polarForm.divide(null)).withMessage("divisor")
+            .withNoCause();
+    }
+
+    @Test
+    void divide_should_throw_Exception_when_divisor_is_not_invertible() {
+        final var polarForm = new PolarForm(1.0D, 0.0D);
+        final var divisor = new PolarForm(0.0D, 1.0D);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polarForm.divide(divisor))
+            .withMessage("divisor expected to be invertible but divisor = %s", divisor).withNoCause();
+    }
+
+    @Test
+    void divide_should_divide_radials_and_subtract_angulars() {
+        assertThat(new PolarForm(6.0D, 0.75D).divide(new PolarForm(3.0D, 0.25D)))
+            .isEqualTo(new PolarForm(2.0D, 0.5D));
+    }
+
+    @Test
+    void pow_should_throw_Exception_when_exponent_is_negative_and_this_is_not_invertible() {
+        final var polarForm = new PolarForm(0.0D, 1.0D);
+
+        assertThatIllegalStateException().isThrownBy(() -> polarForm.pow(-1))
+            .withMessage("this expected to be invertible but this = %s", polarForm).withNoCause();
+    }
+
+    @Test
+    void pow_should_raise_radial_and_multiply_angular() {
+        assertThat(new PolarForm(2.0D, 0.25D).pow(3)).isEqualTo(new PolarForm(8.0D, 0.75D));
+    }
+
+    @Test
+    void pow_should_invert_when_exponent_is_negative() {
+        assertThat(new PolarForm(2.0D, 0.25D).pow(-1)).isEqualTo(new PolarForm(0.5D, -0.25D));
+    }
+
+    @Test
+    void pow_should_return_one_when_exponent_is_0() {
+        assertThat(new PolarForm(2.0D, 0.25D).pow(0)).isEqualTo(new PolarForm(1.0D, 0.0D));
+    }
+
+    @Test
+    void roots_should_throw_Exception_when_n_is_less_than_1() {
+        final var polarForm = new PolarForm(1.0D, 0.0D);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polarForm.roots(0))
+            .withMessage("n > 0 expected but n = 0").withNoCause();
+    }
+
+    @Test
+    void roots_should_return_this_when_n_is_1() {
+        final var polarForm = new PolarForm(2.0D, 0.5D);
+
+        assertThat(polarForm.roots(1)).containsExactly(polarForm);
+    }
+
+    @Test
+    void roots_should_start_with_principal_root() {
+        final var roots = new PolarForm(8.0D, 0.3D - 4.0D * Math.PI).roots(3);
+
+        assertThat(roots.get(0).getAngular()).isCloseTo(0.1D, within(1.0E-15D));
+        assertThat(new PolarForm(8.0D, -Math.PI).roots(3).get(0).getAngular()).isEqualTo(Math.PI / 3.0D);
+    }
+
+    @Test
+    void roots_should_return_n_th_roots() {
+        final var roots = new PolarForm(8.0D, Math.PI).roots(3);
+
+        assertThat(roots).containsExactly(new PolarForm(2.0D, Math.PI / 3.0D), new PolarForm(2.0D, Math.PI),
+            new PolarForm(2.0D, 5.0D * Math.PI / 3.0D));
+    }
+
+    @Test
+    void roots_should_return_roots_whose_power_is_this() {
+        final var polarForm = new PolarForm(8.0D, Math.PI);
+
+        assertThat(polarForm.roots(3)).allSatisfy(root -> {
+            final var complex = root.pow(3).toComplex();
+            assertThat(complex.getReal()).isCloseTo(-8.0D, within(1.0E-12D));
+            assertThat(complex.getImaginary()).isCloseTo(0.0D, within(1.0E-12D));
+        });
+    }
+
+    @Test
+    void toComplex_should_return_cartesian_form() {
+        final var complex = new PolarForm(2.0D, Math.PI / 2.0D).toComplex();
+
+        assertThat(complex.getReal()).isCloseTo(0.0D, within(1.0E-15D));
+        assertThat(complex.getImaginary()).isEqualTo(2.0D);
+    }
+
+    @Test
+    void toComplex_should_return_cached_value() {
+        final var polarForm = new PolarForm(2.0D, 0.5D);
+
+        assertThat(polarForm.toComplex()).isSameAs(polarForm.toComplex());
+    }
 }
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import java.math.BigInteger;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 
 final class AbstractFractionTests {
     @Test
@@ -48,6 +50,57 @@ final class AbstractFractionTests {
         assertThat(new Fraction(2L, 4L).isReducible()).isTrue();
     }
 
+    @Test
+    void reduce_should_return_cached_reduced_when_this_is_cached() {
+        final var fraction = new Fraction(2L, 4L).cached();
+
+        final var actual = fraction.reduce();
+
+        assertThat(actual).isEqualTo(new Fraction(1L, 2L));
+        assertThat(fraction.reduce()).isSameAs(actual);
+        assertThat(actual.reduce()).isSameAs(actual);
+    }
+
+    @Test
+    void reduce_should_calculate_reduced_when_this_is_not_cached() {
+        final var fraction = new Fraction(2L, 4L);
+
+        assertThat(fraction.reduce()).isEqualTo(new Fraction(1L, 2L)).isNotSameAs(fraction.reduce());
+    }
+
+    @Test
+    void cached_should_return_equal_cached_fraction() {
+        final var fraction = new BigFraction(BigInteger.TWO, BigInteger.valueOf(4L));
+
+        final var actual = fraction.cached();
+
+        assertThat(fraction.isCached()).isFalse();
+        assertThat(actual).isEqualTo(fraction).hasSameHashCodeAs(fraction);
+        assertThat(actual.isCached()).isTrue();
+        assertThat(actual.cached()).isSameAs(actual);
+    }
+
+    @Test
+    void reduce_should_return_this_when_this_is_irreducible() {
+        final var fraction = new Fraction(-2L, 3L);
+
+        assertThat(fraction.reduce()).isSameAs(fraction);
+    }
+
+    @Test
+    void hashCode_should_return_same_hashCode_when_called_twice() {
+        final var fraction = new Fraction(1L, 2L);
+
+        assertThat(fraction.hashCode()).isEqualTo(fraction.hashCode()).isEqualTo(new Fraction(1L, 2L).hashCode());
+    }
+
+    @Test
+    void doubleValue_should_not_depend_on_current_context() {
+        final var actual = ReciprocalContext.ofPrecision(2).call(() -> new Fraction(1L, 3L).doubleValue());
+
+        assertThat(actual).isEqualTo(1.0D / 3.0D);
+    }
+
     @Test
     void isImproper_should_return_false_when_this_is_proper() {
         assertThat(new Fraction(2L, 3L).isImproper()).isFalse();
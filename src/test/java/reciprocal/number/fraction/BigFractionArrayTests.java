@@ -0,0 +1,114 @@
+package reciprocal.number.fraction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class BigFractionArrayTests {
+    @Test
+    void of_should_throw_Exception_when_lengths_are_not_equal() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigFractionArray.of(new BigInteger[]{BigInteger.ONE},
+            new BigInteger[0])).withMessage("equal lengths expected but 1 != 0").withNoCause();
+    }
+
+    @Test
+    void of_should_throw_Exception_when_one_denominator_is_0() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigFractionArray.of(new BigInteger[]{BigInteger.ONE},
+            new BigInteger[]{BigInteger.ZERO}))
+            .withMessage("all denominators expected not to be 0 but denominators = [0]").withNoCause();
+    }
+
+    @Test
+    void get_should_return_element() {
+        final var array = BigFractionArray.of(List.of(
+            new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(6L))));
+
+        assertThat(array.get(1)).isEqualTo(new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)));
+    }
+
+    @Test
+    void sum_should_calculate_reduced_sum() {
+        final var array = BigFractionArray.of(List.of(
+            new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(6L))));
+
+        assertThat(array.sum()).isEqualTo(new BigFraction(BigInteger.valueOf(17L), BigInteger.valueOf(12L)));
+    }
+
+    @Test
+    void sum_should_not_overflow() {
+        final var max = BigInteger.valueOf(Long.MAX_VALUE);
+        final var array = BigFractionArray.of(new BigInteger[]{BigInteger.ONE, BigInteger.ONE},
+            new BigInteger[]{max, max.subtract(BigInteger.ONE)});
+
+        assertThat(array.sum()).isEqualTo(new BigFraction(max.shiftLeft(1).subtract(BigInteger.ONE),
+            max.multiply(max.subtract(BigInteger.ONE))));
+    }
+
+    @Test
+    void product_should_calculate_reduced_product() {
+        final var array = BigFractionArray.of(List.of(
+            new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(6L))));
+
+        assertThat(array.product()).isEqualTo(new BigFraction(BigInteger.valueOf(-5L), BigInteger.valueOf(24L)));
+    }
+
+    @Test
+    void dot_should_calculate_reduced_dot_product() {
+        final var array = BigFractionArray.of(List.of(
+            new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(6L))));
+
+        assertThat(array.dot(array)).isEqualTo(new BigFraction(BigInteger.valueOf(281L), BigInteger.valueOf(144L)));
+    }
+
+    @Test
+    void scale_should_multiply_all_elements() {
+        final var array = BigFractionArray.of(List.of(
+            new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(6L))));
+        final var factor = new BigFraction(BigInteger.valueOf(4L), BigInteger.valueOf(6L));
+
+        assertThat(array.scale(factor).stream()).containsExactly(
+            new BigFraction(BigInteger.ONE, BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(-4L), BigInteger.valueOf(9L)),
+            new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(9L)));
+    }
+
+    @Test
+    void reduceAll_should_reduce_all_elements() {
+        final var array = BigFractionArray.of(new BigInteger[]{BigInteger.TWO, BigInteger.valueOf(-6L)},
+            new BigInteger[]{BigInteger.valueOf(4L), BigInteger.valueOf(9L)});
+
+        assertThat(array.reduceAll()).isEqualTo(BigFractionArray.of(new BigInteger[]{BigInteger.ONE,
+            BigInteger.valueOf(-2L)}, new BigInteger[]{BigInteger.TWO, BigInteger.valueOf(3L)}));
+    }
+
+    @Test
+    void sort_should_sort_in_ascending_order() {
+        final var array = BigFractionArray.of(
+            new BigInteger[]{BigInteger.ONE, BigInteger.ONE, BigInteger.valueOf(-2L)},
+            new BigInteger[]{BigInteger.TWO, BigInteger.valueOf(-3L), BigInteger.valueOf(3L)});
+
+        assertThat(array.sort().stream()).containsExactly(
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.ONE, BigInteger.valueOf(-3L)),
+            new BigFraction(BigInteger.ONE, BigInteger.TWO));
+    }
+}
@@ -0,0 +1,141 @@
+package reciprocal.number.fraction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class BigFractionTests {
+    @Test
+    void continuedFraction_should_return_terms() {
+        final var fraction = new BigFraction(BigInteger.valueOf(-415L), BigInteger.valueOf(93L));
+
+        assertThat(fraction.continuedFraction()).containsExactly(BigInteger.valueOf(-5L), BigInteger.ONE,
+            BigInteger.ONE, BigInteger.valueOf(6L), BigInteger.valueOf(7L));
+    }
+
+    @Test
+    void continuedFraction_should_be_lazy() {
+        final var fraction = new BigFraction(BigInteger.TEN.pow(1000).add(BigInteger.ONE), BigInteger.TEN.pow(1000));
+
+        assertThat(fraction.continuedFraction().limit(2)).containsExactly(BigInteger.ONE, BigInteger.TEN.pow(1000));
+    }
+
+    @Test
+    void convergents_should_return_convergents() {
+        final var fraction = new BigFraction(BigInteger.valueOf(415L), BigInteger.valueOf(-93L));
+
+        assertThat(fraction.convergents()).containsExactly(BigFraction.ofNumerator(BigInteger.valueOf(-5L)),
+            BigFraction.ofNumerator(BigInteger.valueOf(-4L)), new BigFraction(BigInteger.valueOf(-9L),
+                BigInteger.TWO), new BigFraction(BigInteger.valueOf(-58L), BigInteger.valueOf(13L)),
+            new BigFraction(BigInteger.valueOf(-415L), BigInteger.valueOf(93L)));
+    }
+
+    @Test
+    void limitDenominator_should_throw_Exception_when_maxDenominator_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigFraction.ONE.limitDenominator(null))
+            .withMessage("maxDenominator").withNoCause();
+    }
+
+    @Test
+    void limitDenominator_should_throw_Exception_when_maxDenominator_is_less_than_1() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigFraction.ONE.limitDenominator(BigInteger.ZERO))
+            .withMessage("maxDenominator > 0 expected but maxDenominator = 0").withNoCause();
+    }
+
+    @Test
+    void limitDenominator_should_return_best_rational_approximation() {
+        final var fraction = new BigFraction(BigInteger.valueOf(-355L), BigInteger.valueOf(113L));
+
+        assertThat(fraction.limitDenominator(BigInteger.valueOf(100L))).isEqualTo(
+            new BigFraction(BigInteger.valueOf(-311L), BigInteger.valueOf(99L)));
+    }
+
+    @Test
+    void valueOf_should_throw_Exception_when_value_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigFraction.valueOf(null)).withMessage("value")
+            .withNoCause();
+    }
+
+    @Test
+    void valueOf_should_return_exact_fraction() {
+        assertThat(BigFraction.valueOf(new BigDecimal("-1.25"))).isEqualTo(
+            new BigFraction(BigInteger.valueOf(-125L), BigInteger.valueOf(100L)));
+        assertThat(BigFraction.valueOf(new BigDecimal("1.2E+3"))).isEqualTo(
+            BigFraction.ofNumerator(BigInteger.valueOf(1200L)));
+    }
+
+    @Test
+    void approximate_should_return_best_rational_approximation() {
+        final var pi = new BigDecimal("3.14159265358979323846264338327950288");
+
+        assertThat(BigFraction.approximate(pi, BigInteger.valueOf(1000L))).isEqualTo(
+            new BigFraction(BigInteger.valueOf(355L), BigInteger.valueOf(113L)));
+        assertThat(BigFraction.approximate(pi, BigInteger.valueOf(100000L))).isEqualTo(
+            new BigFraction(BigInteger.valueOf(312689L), BigInteger.valueOf(99532L)));
+    }
+
+    @Test
+    void sum_should_throw_Exception_when_fractions_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigFraction.sum((List<BigFraction>) null))
+            .withMessage("fractions").withNoCause();
+    }
+
+    @Test
+    void sum_should_throw_Exception_when_one_fraction_is_null() {
+        final var fractions = new ArrayList<BigFraction>();
+        fractions.add(null);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> BigFraction.sum(fractions))
+            .withMessage("all fractions expected not to be null but fractions = [null]").withNoCause();
+    }
+
+    @Test
+    void sum_should_return_0_when_fractions_is_empty() {
+        assertThat(BigFraction.sum(List.of())).isEqualTo(BigFraction.ZERO);
+    }
+
+    @Test
+    void sum_should_calculate_reduced_sum() {
+        final var fractions = Stream.of(new BigFraction(BigInteger.ONE, BigInteger.TWO),
+            new BigFraction(BigInteger.valueOf(-2L), BigInteger.valueOf(3L)),
+            new BigFraction(BigInteger.valueOf(3L), BigInteger.valueOf(4L)),
+            new BigFraction(BigInteger.valueOf(5L), BigInteger.valueOf(6L)));
+
+        assertThat(BigFraction.sum(fractions)).isEqualTo(new BigFraction(BigInteger.valueOf(17L),
+            BigInteger.valueOf(12L)));
+    }
+
+    @Test
+    void sum_should_equal_sum_of_additions_when_summed_in_parallel() {
+        final var fractions = LongStream.rangeClosed(1L, 3000L)
+            .mapToObj(n -> new BigFraction(BigInteger.valueOf(n % 7L - 3L), BigInteger.valueOf(n))).toList();
+        final var expected = fractions.stream().reduce(BigFraction.ZERO, (a, b) -> a.add(b).reduce());
+
+        assertThat(BigFraction.sum(fractions)).isEqualTo(expected);
+    }
+
+    @Test
+    void sum_should_sum_large_harmonic_sum_in_seconds() {
+        final var n = 100_000L;
+        final var fractions = LongStream.rangeClosed(1L, n).mapToObj(k -> new BigFraction(BigInteger.ONE,
+            BigInteger.valueOf(k))).toList();
+        // ln(n) + gamma + 1 / (2 * n) - 1 / (12 * n^2)
+        final var expected = Math.log(n) + 0.5772156649015329D + 1.0D / (2.0D * n) - 1.0D / (12.0D * n * n);
+
+        final var sum = assertTimeoutPreemptively(Duration.ofSeconds(20L), () -> BigFraction.sum(fractions));
+
+        assertThat(sum.isIrreducible()).isTrue();
+        assertThat(sum.doubleValue()).isCloseTo(expected, within(1.0E-12D));
+    }
+}
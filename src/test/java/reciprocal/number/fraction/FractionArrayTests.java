@@ -0,0 +1,175 @@
+package reciprocal.number.fraction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class FractionArrayTests {
+    @Test
+    void of_should_throw_Exception_when_numerators_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> FractionArray.of(null, new long[0]))
+            .withMessage("numerators").withNoCause();
+    }
+
+    @Test
+    void of_should_throw_Exception_when_lengths_are_not_equal() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FractionArray.of(new long[1], new long[]{1L, 2L}))
+            .withMessage("equal lengths expected but 1 != 2").withNoCause();
+    }
+
+    @Test
+    void of_should_throw_Exception_when_one_denominator_is_0() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FractionArray.of(new long[2], new long[]{1L, 0L}))
+            .withMessage("all denominators expected not to be 0 but denominators = [1, 0]").withNoCause();
+    }
+
+    @Test
+    void of_should_throw_Exception_when_one_fraction_is_null() {
+        final var fractions = new ArrayList<Fraction>();
+        fractions.add(null);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> FractionArray.of(fractions))
+            .withMessage("all fractions expected not to be null but fractions = [null]").withNoCause();
+    }
+
+    @Test
+    void of_should_copy_fractions() {
+        final var fractions = List.of(new Fraction(1L, 2L), new Fraction(-2L, 3L));
+
+        final var actual = FractionArray.of(fractions);
+
+        assertThat(actual.size()).isEqualTo(2);
+        assertThat(actual.stream()).containsExactlyElementsOf(fractions);
+        assertThat(actual).isEqualTo(FractionArray.of(new long[]{1L, -2L}, new long[]{2L, 3L}));
+    }
+
+    @Test
+    void get_should_throw_Exception_when_index_is_out_of_bounds() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> array.get(4));
+    }
+
+    @Test
+    void get_should_return_element() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThat(array.get(1)).isEqualTo(new Fraction(-2L, 3L));
+    }
+
+    @Test
+    void sum_should_calculate_reduced_sum() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThat(array.sum()).isEqualTo(new Fraction(17L, 12L));
+    }
+
+    @Test
+    void sum_should_add_numerators_when_denominators_are_equal() {
+        final var array = FractionArray.of(new long[]{1L, 2L, 3L}, new long[]{12L, 12L, 12L});
+
+        assertThat(array.sum()).isEqualTo(new Fraction(1L, 2L));
+    }
+
+    @Test
+    void sum_should_return_0_when_empty() {
+        assertThat(FractionArray.of(List.of()).sum()).isEqualTo(Fraction.ZERO);
+    }
+
+    @Test
+    void sum_should_reduce_partial_sums_when_least_common_multiple_overflows() {
+        final var primes = new long[]{3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L, 29L, 31L, 37L, 41L, 43L, 47L, 53L, 59L};
+        final var numerators = new long[2 * primes.length];
+        final var denominators = new long[2 * primes.length];
+        for (var i = 0; i < primes.length; i++) {
+            numerators[2 * i] = 1L;
+            numerators[2 * i + 1] = primes[i] - 1L;
+            denominators[2 * i] = primes[i];
+            denominators[2 * i + 1] = primes[i];
+        }
+        final var array = FractionArray.of(numerators, denominators);
+
+        assertThat(array.sum()).isEqualTo(new Fraction(16L, 1L));
+    }
+
+    @Test
+    void sum_should_throw_Exception_when_overflowing() {
+        final var array = FractionArray.of(new long[]{1L, 1L}, new long[]{Long.MAX_VALUE, Long.MAX_VALUE - 1L});
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(array::sum);
+    }
+
+    @Test
+    void product_should_calculate_reduced_product() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThat(array.product()).isEqualTo(new Fraction(-5L, 24L));
+    }
+
+    @Test
+    void product_should_cancel_crosswise() {
+        final var array = FractionArray.of(new long[]{Long.MAX_VALUE, 3L}, new long[]{3L, Long.MAX_VALUE});
+
+        assertThat(array.product()).isEqualTo(Fraction.ONE);
+    }
+
+    @Test
+    void dot_should_throw_Exception_when_sizes_are_not_equal() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+        final var other = FractionArray.of(List.of(Fraction.ONE));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> array.dot(other))
+            .withMessage("equal sizes expected but 4 != 1").withNoCause();
+    }
+
+    @Test
+    void dot_should_calculate_reduced_dot_product() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThat(array.dot(array)).isEqualTo(new Fraction(281L, 144L));
+    }
+
+    @Test
+    void scale_should_multiply_all_elements() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThat(array.scale(new Fraction(4L, 6L))).isEqualTo(FractionArray.of(new long[]{1L, -4L, 1L, 5L},
+            new long[]{3L, 9L, 2L, 9L}));
+    }
+
+    @Test
+    void reduceAll_should_reduce_all_elements() {
+        final var array = FractionArray.of(new long[]{2L, -6L, 5L}, new long[]{4L, 9L, 7L});
+
+        assertThat(array.reduceAll()).isEqualTo(FractionArray.of(new long[]{1L, -2L, 5L}, new long[]{2L, 3L, 7L}));
+    }
+
+    @Test
+    void sort_should_sort_in_ascending_order() {
+        final var array = FractionArray.of(new long[]{1L, 1L, -2L, Long.MAX_VALUE, Long.MAX_VALUE - 1L},
+            new long[]{2L, -3L, 3L, Long.MAX_VALUE - 1L, Long.MAX_VALUE - 2L});
+
+        assertThat(array.sort()).isEqualTo(FractionArray.of(new long[]{-2L, 1L, 1L, Long.MAX_VALUE,
+            Long.MAX_VALUE - 1L}, new long[]{3L, -3L, 2L, Long.MAX_VALUE - 1L, Long.MAX_VALUE - 2L}));
+    }
+
+    @Test
+    void toString_should_return_String() {
+        final var array = FractionArray.of(new long[]{1L, -2L, 3L, 5L},
+            new long[]{2L, 3L, 4L, 6L});
+
+        assertThat(array).hasToString("FractionArray{numerators=[1, -2, 3, 5], denominators=[2, 3, 4, 6]}");
+    }
+}
@@ -4,8 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import reciprocal.ReciprocalContext;
 
 final class FractionTests {
     @Test
@@ -240,6 +244,46 @@ final class FractionTests {
         assertThat(new Fraction(1L, 2L).toBigDecimal()).isEqualByComparingTo("0.5");
     }
 
+    @Test
+    void toBigDecimal_should_round_to_current_context() {
+        final var actual = ReciprocalContext.ofPrecision(3).call(() -> new Fraction(1L, 3L).toBigDecimal());
+
+        assertThat(actual).isEqualTo("0.333");
+    }
+
+    @Test
+    void toBigDecimal_should_throw_Exception_when_mathContext_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new Fraction(1L, 2L).toBigDecimal(null))
+            .withMessage("mathContext").withNoCause();
+    }
+
+    @Test
+    void toBigDecimal_with_MathContext_should_calculate_BigDecimal() {
+        assertThat(new Fraction(2L, 3L).toBigDecimal(new MathContext(4))).isEqualTo("0.6667");
+    }
+
+    @Test
+    void intValue_should_truncate_quotient() {
+        assertThat(new Fraction(-7L, 2L).intValue()).isEqualTo(-3);
+    }
+
+    @Test
+    void longValue_should_truncate_quotient() {
+        assertThat(new Fraction(Long.MAX_VALUE, 2L).longValue()).isEqualTo(Long.MAX_VALUE / 2L);
+        assertThat(ReciprocalContext.ofPrecision(2).call(() -> new Fraction(12_345L, 1L).longValue()))
+            .isEqualTo(12_345L);
+    }
+
+    @Test
+    void floatValue_should_return_correctly_rounded_quotient() {
+        assertThat(new Fraction(2L, 3L).floatValue()).isEqualTo(2.0F / 3.0F);
+    }
+
+    @Test
+    void doubleValue_should_return_correctly_rounded_quotient() {
+        assertThat(new Fraction(2L, -3L).doubleValue()).isEqualTo(-2.0D / 3.0D);
+    }
+
     @Test
     void toBigFraction_should_calculate_BigFraction() {
         final var actual = new Fraction(1L, 2L).toBigFraction();
@@ -248,6 +292,101 @@ final class FractionTests {
         assertThat(actual.getDenominator()).isEqualByComparingTo(BigInteger.valueOf(2L));
     }
 
+    @Test
+    void continuedFraction_should_return_terms() {
+        assertThat(new Fraction(415L, 93L).continuedFraction()).containsExactly(4L, 2L, 6L, 7L);
+    }
+
+    @Test
+    void continuedFraction_should_return_floor_as_first_term_when_this_is_negative() {
+        assertThat(new Fraction(415L, -93L).continuedFraction()).containsExactly(-5L, 1L, 1L, 6L, 7L);
+    }
+
+    @Test
+    void convergents_should_return_convergents() {
+        assertThat(new Fraction(830L, 186L).convergents()).containsExactly(new Fraction(4L, 1L), new Fraction(9L, 2L),
+            new Fraction(58L, 13L), new Fraction(415L, 93L));
+    }
+
+    @Test
+    void limitDenominator_should_throw_Exception_when_maxDenominator_is_less_than_1() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Fraction.ONE.limitDenominator(0L))
+            .withMessage("maxDenominator > 0 expected but maxDenominator = 0").withNoCause();
+    }
+
+    @Test
+    void limitDenominator_should_return_best_rational_approximation() {
+        assertThat(new Fraction(355L, -113L).limitDenominator(10L)).isEqualTo(new Fraction(-22L, 7L));
+        assertThat(new Fraction(3L, 6L).limitDenominator(100L)).isEqualTo(new Fraction(1L, 2L));
+        assertThat(Fraction.ZERO.limitDenominator(1L)).isEqualTo(Fraction.ZERO);
+    }
+
+    @Test
+    void limitDenominator_should_return_convergent_when_semiconvergent_is_equally_close() {
+        assertThat(new Fraction(5L, 2L).limitDenominator(1L)).isEqualTo(Fraction.ofNumerator(2L));
+    }
+
+    @Test
+    void approximate_should_throw_Exception_when_value_is_not_finite() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Fraction.approximate(Double.NaN, 1L))
+            .withMessage("value expected to be finite but value = NaN").withNoCause();
+    }
+
+    @Test
+    void approximate_should_throw_Exception_when_value_does_not_fit_into_long() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Fraction.approximate(0x1.0p63D, 1L))
+            .withMessage("|value| < 2^63 expected but value = 9.223372036854776E18").withNoCause();
+    }
+
+    @Test
+    void approximate_should_throw_Exception_when_maxDenominator_is_less_than_1() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Fraction.approximate(0.5D, 0L))
+            .withMessage("maxDenominator > 0 expected but maxDenominator = 0").withNoCause();
+    }
+
+    @Test
+    void approximate_should_return_best_rational_approximation() {
+        assertThat(Fraction.approximate(Math.PI, 10L)).isEqualTo(new Fraction(22L, 7L));
+        assertThat(Fraction.approximate(Math.PI, 100L)).isEqualTo(new Fraction(311L, 99L));
+        assertThat(Fraction.approximate(Math.PI, 1000L)).isEqualTo(new Fraction(355L, 113L));
+        assertThat(Fraction.approximate(-0.1D, 10L)).isEqualTo(new Fraction(-1L, 10L));
+        assertThat(Fraction.approximate(1.0D / 3.0D, 1000000L)).isEqualTo(new Fraction(1L, 3L));
+    }
+
+    @Test
+    void approximate_should_return_integer_when_value_is_integer() {
+        assertThat(Fraction.approximate(-0x1.0p62D, 5L)).isEqualTo(Fraction.ofNumerator(-(1L << 62)));
+        assertThat(Fraction.approximate(0.0D, 5L)).isEqualTo(Fraction.ZERO);
+    }
+
+    @Test
+    void approximate_should_return_best_rational_approximation_when_value_is_small() {
+        assertThat(Fraction.approximate(1.0E-20D, 1000L)).isEqualTo(Fraction.ZERO);
+        assertThat(Fraction.approximate(3.0E-4D, 10000L)).isEqualTo(new Fraction(3L, 10000L));
+        assertThat(Fraction.approximate(Double.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(Fraction.ZERO);
+    }
+
+    @Test
+    void approximate_should_not_be_farther_than_any_fraction_with_bounded_denominator() {
+        final var random = new Random(42L);
+        for (var i = 0; i < 1000; i++) {
+            final var value = (random.nextDouble() - 0.5D) * 20.0D;
+            final var maxDenominator = 1L + random.nextInt(50);
+            final var exact = new BigDecimal(value);
+
+            final var distance = distance(exact, Fraction.approximate(value, maxDenominator));
+
+            for (var q = 1L; q <= maxDenominator; q++) {
+                final var p = Math.round(value * q);
+                assertThat(distance).isLessThanOrEqualTo(distance(exact, new Fraction(p, q)));
+            }
+        }
+    }
+
+    private static BigDecimal distance(final BigDecimal value, final Fraction fraction) {
+        return value.subtract(fraction.toBigDecimal(MathContext.DECIMAL128)).abs();
+    }
+
     @Test
     void getOne_should_return_one() {
         assertThat(Fraction.ZERO.getOne()).isSameAs(Fraction.ONE);
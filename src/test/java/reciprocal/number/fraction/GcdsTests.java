@@ -0,0 +1,39 @@
+package reciprocal.number.fraction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class GcdsTests {
+    @Test
+    void gcd_should_return_gcd_of_small_numbers() {
+        assertThat(Gcds.gcd(BigInteger.ZERO, BigInteger.ZERO)).isEqualTo(BigInteger.ZERO);
+        assertThat(Gcds.gcd(BigInteger.ZERO, BigInteger.valueOf(-6L))).isEqualTo(BigInteger.valueOf(6L));
+        assertThat(Gcds.gcd(BigInteger.valueOf(-12L), BigInteger.valueOf(18L))).isEqualTo(BigInteger.valueOf(6L));
+        assertThat(Gcds.gcd(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(Long.MIN_VALUE)))
+            .isEqualTo(BigInteger.ONE);
+    }
+
+    @Test
+    void gcd_should_equal_gcd_of_BigInteger() {
+        final var random = new Random(42L);
+        for (var i = 0; i < 300; i++) {
+            final var common = new BigInteger(1 + random.nextInt(10_000), random);
+            final var a = new BigInteger(1 + random.nextInt(30_000), random).multiply(common);
+            final var b = new BigInteger(1 + random.nextInt(30_000), random).multiply(common);
+            final var signed = random.nextBoolean() ? b : b.negate();
+
+            assertThat(Gcds.gcd(a, signed)).isEqualTo(a.gcd(signed));
+        }
+    }
+
+    @Test
+    void gcd_should_return_gcd_when_quotients_are_large() {
+        final var a = BigInteger.TWO.pow(50_000).add(BigInteger.ONE).multiply(BigInteger.valueOf(3L).pow(5_000));
+        final var b = BigInteger.valueOf(3L).pow(6_000).subtract(BigInteger.ONE).multiply(BigInteger.TEN.pow(3_000));
+
+        assertThat(Gcds.gcd(a, b)).isEqualTo(a.gcd(b));
+    }
+}
@@ -0,0 +1,93 @@
+package reciprocal.number.fraction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class QuotientsTests {
+    private static final MathContext EXACT_ENOUGH = new MathContext(1000);
+
+    @Test
+    void toDouble_should_return_correctly_rounded_quotient_of_longs() {
+        assertThat(Quotients.toDouble(1L, 3L)).isEqualTo(1.0D / 3.0D);
+        assertThat(Quotients.toDouble(-7L, 2L)).isEqualTo(-3.5D);
+        assertThat(Quotients.toDouble(0L, -5L)).isZero();
+        assertThat(Quotients.toDouble(Long.MAX_VALUE, 3L)).isEqualTo(expected(Long.MAX_VALUE, 3L));
+        assertThat(Quotients.toDouble(Long.MIN_VALUE, Long.MAX_VALUE))
+            .isEqualTo(expected(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertThat(Quotients.toDouble((1L << 53) + 1L, 1L)).isEqualTo(9.007199254740992E15D);
+        assertThat(Quotients.toDouble((1L << 53) + 3L, 1L)).isEqualTo(9.007199254740996E15D);
+    }
+
+    @Test
+    void toDouble_should_return_correctly_rounded_quotient_of_BigIntegers() {
+        final var random = new Random(42L);
+        for (var i = 0; i < 2_000; i++) {
+            final var numerator = new BigInteger(1 + random.nextInt(300), random);
+            final var denominator = new BigInteger(1 + random.nextInt(300), random).add(BigInteger.ONE);
+            final var signed = random.nextBoolean() ? numerator : numerator.negate();
+
+            assertThat(Quotients.toDouble(signed, denominator)).isEqualTo(expected(signed, denominator));
+            assertThat(Quotients.toFloat(signed, denominator))
+                .isEqualTo(new BigDecimal(signed).divide(new BigDecimal(denominator), EXACT_ENOUGH).floatValue());
+        }
+    }
+
+    @Test
+    void toDouble_should_round_ties_to_even() {
+        final var ulpHalf = BigInteger.ONE.shiftLeft(53).add(BigInteger.ONE);
+        final var ulpOneAndHalf = BigInteger.ONE.shiftLeft(53).add(BigInteger.valueOf(3L));
+
+        assertThat(Quotients.toDouble(ulpHalf, BigInteger.ONE)).isEqualTo(0x1.0p53D);
+        assertThat(Quotients.toDouble(ulpOneAndHalf, BigInteger.ONE)).isEqualTo(0x1.0p53D + 4.0D);
+        assertThat(Quotients.toDouble(ulpHalf.shiftLeft(1).add(BigInteger.ONE), BigInteger.TWO))
+            .isEqualTo(0x1.0p53D + 2.0D);
+    }
+
+    @Test
+    void toDouble_should_return_subnormals_and_infinity() {
+        final var twoPow1074 = BigInteger.ONE.shiftLeft(1074);
+
+        assertThat(Quotients.toDouble(BigInteger.ONE, twoPow1074)).isEqualTo(Double.MIN_VALUE);
+        assertThat(Quotients.toDouble(BigInteger.ONE, twoPow1074.shiftLeft(1))).isZero();
+        assertThat(Quotients.toDouble(BigInteger.valueOf(3L), twoPow1074.shiftLeft(2))).isEqualTo(Double.MIN_VALUE);
+        assertThat(Quotients.toDouble(BigInteger.valueOf(3L), twoPow1074.shiftLeft(1)))
+            .isEqualTo(2.0D * Double.MIN_VALUE);
+        assertThat(Quotients.toDouble(BigInteger.ONE.negate(), twoPow1074.shiftLeft(10))).isEqualTo(-0.0D);
+        assertThat(Quotients.toDouble(BigInteger.valueOf(7L), BigInteger.ONE.shiftLeft(1030)))
+            .isEqualTo(7.0D * 0x1.0p-1030D);
+        assertThat(Quotients.toDouble(BigInteger.ONE.shiftLeft(1024), BigInteger.ONE))
+            .isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(Quotients.toDouble(BigInteger.ONE.shiftLeft(1024).negate(), BigInteger.ONE))
+            .isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    void toFloat_should_return_correctly_rounded_quotient_of_longs() {
+        assertThat(Quotients.toFloat(1L, 3L)).isEqualTo(1.0F / 3.0F);
+        assertThat(Quotients.toFloat((1L << 24) + 1L, 1L)).isEqualTo(0x1.0p24F);
+        assertThat(Quotients.toFloat((1L << 24) + 3L, 1L)).isEqualTo(0x1.0p24F + 4.0F);
+        assertThat(Quotients.toFloat(Long.MAX_VALUE, 7L)).isEqualTo(
+            new BigDecimal(Long.MAX_VALUE).divide(BigDecimal.valueOf(7L), EXACT_ENOUGH).floatValue());
+    }
+
+    @Test
+    void toFloat_should_return_subnormals_and_infinity() {
+        assertThat(Quotients.toFloat(BigInteger.ONE, BigInteger.ONE.shiftLeft(149))).isEqualTo(Float.MIN_VALUE);
+        assertThat(Quotients.toFloat(BigInteger.ONE, BigInteger.ONE.shiftLeft(150))).isZero();
+        assertThat(Quotients.toFloat(BigInteger.ONE.shiftLeft(128), BigInteger.ONE))
+            .isEqualTo(Float.POSITIVE_INFINITY);
+    }
+
+    private static double expected(final long numerator, final long denominator) {
+        return expected(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    private static double expected(final BigInteger numerator, final BigInteger denominator) {
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), EXACT_ENOUGH).doubleValue();
+    }
+}
@@ -0,0 +1,44 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+final class AberthEhrlichTests {
+    @Test
+    void approximate_should_separate_equal_approximations() {
+        final var re = new double[] {0.5D, 0.5D};
+        final var im = new double[] {0.0D, 0.0D};
+
+        final var actual = AberthEhrlich.approximate(new double[] {-1.0D, 0.0D, 1.0D}, re, im);
+
+        assertThat(actual).isTrue();
+        assertThat(Arrays.stream(re).sorted().toArray()).containsExactly(new double[] {-1.0D, 1.0D}, within(1.0E-15D));
+        assertThat(im).containsExactly(new double[] {0.0D, 0.0D}, within(1.0E-15D));
+    }
+
+    @Test
+    void approximate_should_move_approximation_off_critical_point() {
+        final var re = new double[] {0.0D, 2.0D};
+        final var im = new double[] {0.0D, 0.0D};
+
+        final var actual = AberthEhrlich.approximate(new double[] {1.0D, 0.0D, 1.0D}, re, im);
+
+        assertThat(actual).isTrue();
+        assertThat(re).containsExactly(new double[] {0.0D, 0.0D}, within(1.0E-15D));
+        assertThat(Arrays.stream(im).sorted().toArray()).containsExactly(new double[] {-1.0D, 1.0D}, within(1.0E-15D));
+    }
+
+    @Test
+    void approximate_should_return_false_when_approximations_do_not_converge() {
+        final var re = new double[] {1.0D, -1.0D};
+        final var im = new double[] {1.0D, -1.0D};
+
+        final var actual = AberthEhrlich.approximate(new double[] {Double.MAX_VALUE, Double.MAX_VALUE,
+            Double.MAX_VALUE}, re, im);
+
+        assertThat(actual).isFalse();
+    }
+}
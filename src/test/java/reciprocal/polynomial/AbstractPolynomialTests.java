@@ -0,0 +1,70 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class AbstractPolynomialTests {
+    @Test
+    void constructor_should_throw_Exception_when_coefficients_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new BigIntegerPolynomial(null)).withMessage("coefficients")
+            .withNoCause();
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_coefficients_contains_null() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new BigIntegerPolynomial(Arrays.asList(BigInteger.ONE, null)))
+            .withMessage("all coefficients expected not to be null but coefficients = [1, null]").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_arguments_is_null() {
+        final var polynomial = new BigIntegerPolynomial(List.of(BigInteger.ONE));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate((List<BigInteger>) null))
+            .withMessage("arguments").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_arguments_contains_null() {
+        final var polynomial = new BigIntegerPolynomial(List.of(BigInteger.ONE));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polynomial.evaluate(Arrays.asList(BigInteger.ONE, null)))
+            .withMessage("all arguments expected not to be null but arguments = [1, null]").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_evaluate_at_all_arguments() {
+        final var polynomial = new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.ONE));
+
+        final var actual = polynomial.evaluate(List.of(BigInteger.ZERO, BigInteger.ONE, BigInteger.TWO));
+
+        assertThat(actual).containsExactly(BigInteger.ONE, BigInteger.valueOf(4L), BigInteger.valueOf(9L));
+    }
+
+    @Test
+    void get_should_throw_Exception_when_index_is_negative() {
+        final var polynomial = new BigIntegerPolynomial(List.of(BigInteger.ONE));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polynomial.get(-1))
+            .withMessage("expected index > -1 but index = -1").withNoCause();
+    }
+
+    @Test
+    void equals_should_return_true_when_coefficients_are_equal() {
+        assertThat(new BigIntegerPolynomial(List.of(BigInteger.ONE)))
+            .isEqualTo(new BigIntegerPolynomial(List.of(BigInteger.ONE)));
+    }
+
+    @Test
+    void toString_should_return_toString() {
+        assertThat(new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO)))
+            .hasToString("BigIntegerPolynomial{coefficients=[1, 2]}");
+    }
+}
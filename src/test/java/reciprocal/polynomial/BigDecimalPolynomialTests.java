@@ -0,0 +1,159 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class BigDecimalPolynomialTests {
+    @Test
+    void isZero_should_return_true_when_all_coefficients_are_0() {
+        assertThat(new BigDecimalPolynomial(List.of(new BigDecimal("0.00"))).isZero()).isTrue();
+    }
+
+    @Test
+    void evaluate_should_evaluate_with_Horner() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThat(polynomial.evaluate(BigDecimal.valueOf(2L))).isEqualByComparingTo("7");
+    }
+
+    @Test
+    void evaluate_with_MathContext_should_throw_Exception_when_argument_is_null() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate((BigDecimal) null, MathContext.DECIMAL32))
+            .withMessage("argument").withNoCause();
+    }
+
+    @Test
+    void evaluate_with_MathContext_should_throw_Exception_when_mathContext_is_null() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate(BigDecimal.ONE, null))
+            .withMessage("mathContext").withNoCause();
+    }
+
+    @Test
+    void evaluate_with_MathContext_should_round() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThat(polynomial.evaluate(new BigDecimal("1.23456789"), new MathContext(3))).isEqualTo("4.23");
+    }
+
+    @Test
+    void evaluate_with_MathContext_should_evaluate_at_all_arguments() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+        final var actual = polynomial.evaluate(List.of(BigDecimal.ZERO, BigDecimal.valueOf(2L)), MathContext.DECIMAL64);
+
+        assertThat(actual).usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(BigDecimal.ONE, BigDecimal.valueOf(7L));
+    }
+
+    @Test
+    void add_with_MathContext_should_throw_Exception_when_mathContext_is_null() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.add(polynomial, null)).withMessage("mathContext")
+            .withNoCause();
+    }
+
+    @Test
+    void add_should_calculate_sum() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThat(polynomial.add(polynomial).getCoefficients()).usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(BigDecimal.valueOf(2L), BigDecimal.valueOf(4L), BigDecimal.ONE);
+    }
+
+    @Test
+    void subtract_with_MathContext_should_calculate_difference() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThat(polynomial.subtract(polynomial, MathContext.DECIMAL64).isZero()).isTrue();
+    }
+
+    @Test
+    void multiply_with_MathContext_should_calculate_product() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+        final var factor = new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.ONE));
+
+        assertThat(polynomial.multiply(factor, MathContext.DECIMAL64).getCoefficients())
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(BigDecimal.ONE, BigDecimal.valueOf(3L), new BigDecimal("2.5"), new BigDecimal("0.5"));
+    }
+
+    @Test
+    void multiply_should_calculate_product() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThat(polynomial.multiply(polynomial).evaluate(BigDecimal.valueOf(2L))).isEqualByComparingTo("49");
+    }
+
+    @Test
+    void getDerivative_should_return_derivative() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThat(polynomial.getDerivative()).usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(BigDecimal.valueOf(2L), BigDecimal.ONE);
+    }
+
+    @Test
+    void getRoots_should_throw_Exception_when_mathContext_is_null() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.getRoots(null)).withMessage("mathContext")
+            .withNoCause();
+    }
+
+    @Test
+    void getRoots_should_throw_Exception_when_precision_is_0() {
+        final var polynomial =
+            new BigDecimalPolynomial(List.of(BigDecimal.ONE, BigDecimal.valueOf(2L), new BigDecimal("0.5")));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> polynomial.getRoots(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0").withNoCause();
+    }
+
+    @Test
+    void getRoots_should_throw_Exception_when_this_is_zero() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> new BigDecimalPolynomial(List.of(BigDecimal.ZERO)).getRoots())
+            .withMessage("this expected not to be zero but this = BigDecimalPolynomial{coefficients=[0]}")
+            .withNoCause();
+    }
+
+    @Test
+    void getRoots_should_return_roots_to_precision() {
+        final var mathContext = new MathContext(60);
+        final var polynomial = new BigDecimalPolynomial(List.of(BigDecimal.valueOf(-2L), BigDecimal.ZERO,
+            BigDecimal.ONE));
+        final var sqrt2 = BigDecimal.valueOf(2L).sqrt(mathContext);
+
+        final var actual = polynomial.getRoots(mathContext);
+
+        assertThat(actual).hasSize(2).allSatisfy(root -> {
+            assertThat(root.getReal().abs()).isCloseTo(sqrt2, within(new BigDecimal("1E-55")));
+            assertThat(root.getImaginary()).isCloseTo(BigDecimal.ZERO, within(new BigDecimal("1E-55")));
+        });
+        assertThat(actual).extracting(r -> r.getReal().signum()).containsExactlyInAnyOrder(1, -1);
+    }
+}
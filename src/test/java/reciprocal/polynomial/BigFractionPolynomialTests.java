@@ -0,0 +1,153 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import reciprocal.number.fraction.BigFraction;
+
+final class BigFractionPolynomialTests {
+    @Test
+    void interpolate_should_throw_Exception_when_points_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigFractionPolynomial.interpolate(null, List.of()))
+            .withMessage("points").withNoCause();
+    }
+
+    @Test
+    void interpolate_should_throw_Exception_when_values_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigFractionPolynomial.interpolate(List.of(), null))
+            .withMessage("values").withNoCause();
+    }
+
+    @Test
+    void interpolate_should_throw_Exception_when_points_is_empty() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigFractionPolynomial.interpolate(List.of(), List.of()))
+            .withMessage("points expected not to be empty").withNoCause();
+    }
+
+    @Test
+    void interpolate_should_throw_Exception_when_sizes_differ() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> BigFractionPolynomial.interpolate(List.of(BigFraction.ONE), List.of()))
+            .withMessage("points.size() == values.size() expected but 1 != 0").withNoCause();
+    }
+
+    @Test
+    void interpolate_should_throw_Exception_when_points_are_not_distinct() {
+        final var points =
+            List.of(BigFraction.ofDenominator(BigInteger.TWO), new BigFraction(BigInteger.TWO, BigInteger.valueOf(4L)));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> BigFractionPolynomial.interpolate(points, points))
+            .withMessage("distinct points expected but points = %s", points).withNoCause();
+    }
+
+    @Test
+    void interpolate_should_return_polynomial_through_points() {
+        final var random = new Random(42L);
+        final var coefficients = random.ints(100L, -1000, 1000).mapToObj(i -> BigFraction.ofNumerator(BigInteger
+            .valueOf(i))).toList();
+        final var polynomial = new BigFractionPolynomial(coefficients);
+        final var points = random.ints(-5000, 5000).distinct().limit(100L)
+            .mapToObj(i -> new BigFraction(BigInteger.valueOf(i), BigInteger.valueOf(7L))).toList();
+
+        final var actual = BigFractionPolynomial.interpolate(points, polynomial.evaluate(points));
+
+        assertThat(actual.getCoefficients()).isEqualTo(coefficients);
+    }
+
+    @Test
+    void isZero_should_return_true_when_all_coefficients_are_0() {
+        assertThat(new BigFractionPolynomial(List.of(BigFraction.ZERO)).isZero()).isTrue();
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_argument_is_null() {
+        final var polynomial =
+            new BigFractionPolynomial(List.of(BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO)));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate((BigFraction) null))
+            .withMessage("argument").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_evaluate_with_Horner() {
+        final var polynomial =
+            new BigFractionPolynomial(List.of(BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO)));
+        final var actual = polynomial.evaluate(BigFraction.ofDenominator(BigInteger.valueOf(3L)));
+
+        assertThat(actual).isEqualTo(new BigFraction(BigInteger.valueOf(7L), BigInteger.valueOf(6L)));
+    }
+
+    @Test
+    void evaluate_should_evaluate_many_arguments_over_common_denominator() {
+        final var random = new Random(42L);
+        final var polynomial = new BigFractionPolynomial(random.ints(50L, -50, 50)
+            .mapToObj(i -> new BigFraction(BigInteger.valueOf(i), BigInteger.valueOf(random.nextInt(1, 9)))).toList());
+        final var arguments = random.ints(100L, -50, 50)
+            .mapToObj(i -> new BigFraction(BigInteger.valueOf(i), BigInteger.valueOf(-random.nextInt(1, 9)))).toList();
+
+        final var actual = polynomial.evaluate(arguments);
+
+        assertThat(actual).isEqualTo(arguments.stream().map(polynomial::evaluate).map(BigFraction::reduce).toList());
+    }
+
+    @Test
+    void add_should_calculate_reduced_sum() {
+        final var polynomial =
+            new BigFractionPolynomial(List.of(BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO)));
+
+        assertThat(polynomial.add(polynomial).getCoefficients())
+            .containsExactly(BigFraction.ofNumerator(BigInteger.TWO), BigFraction.ONE);
+    }
+
+    @Test
+    void subtract_should_calculate_difference() {
+        final var polynomial =
+            new BigFractionPolynomial(List.of(BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO)));
+
+        assertThat(polynomial.subtract(polynomial).isZero()).isTrue();
+    }
+
+    @Test
+    void multiply_should_calculate_reduced_product() {
+        final var polynomial =
+            new BigFractionPolynomial(List.of(BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO)));
+
+        assertThat(polynomial.multiply(polynomial).getCoefficients())
+            .containsExactly(BigFraction.ONE, BigFraction.ONE, BigFraction.ofDenominator(BigInteger.valueOf(4L)));
+    }
+
+    @Test
+    void multiply_should_calculate_reduced_product_with_NTT() {
+        final var random = new Random(42L);
+        final var left = random.ints(100L, -50, 50)
+            .mapToObj(i -> new BigFraction(BigInteger.valueOf(i), BigInteger.valueOf(random.nextInt(1, 20)))).toList();
+        final var right = random.ints(80L, -50, 50)
+            .mapToObj(i -> new BigFraction(BigInteger.valueOf(i), BigInteger.valueOf(-random.nextInt(1, 20)))).toList();
+        final var expected = new ArrayList<BigFraction>();
+        for (var k = 0; k < left.size() + right.size() - 1; k++) {
+            var sum = BigFraction.ZERO;
+            for (var i = Math.max(0, k - right.size() + 1); i <= Math.min(k, left.size() - 1); i++) {
+                sum = sum.add(left.get(i).multiply(right.get(k - i))).normalize().reduce();
+            }
+            expected.add(sum);
+        }
+
+        final var actual = new BigFractionPolynomial(left).multiply(new BigFractionPolynomial(right));
+
+        assertThat(actual.getCoefficients()).isEqualTo(expected);
+    }
+
+    @Test
+    void getDerivative_should_return_derivative() {
+        final var polynomial =
+            new BigFractionPolynomial(List.of(BigFraction.ONE, BigFraction.ofDenominator(BigInteger.TWO)));
+
+        assertThat(polynomial.getDerivative()).containsExactly(BigFraction.ofDenominator(BigInteger.TWO));
+    }
+}
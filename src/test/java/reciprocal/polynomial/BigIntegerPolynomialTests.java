@@ -0,0 +1,166 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class BigIntegerPolynomialTests {
+    @Test
+    void isZero_should_return_false_when_one_coefficient_is_not_0() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThat(polynomial.isZero()).isFalse();
+    }
+
+    @Test
+    void isZero_should_return_true_when_all_coefficients_are_0() {
+        assertThat(new BigIntegerPolynomial(List.of(BigInteger.ZERO)).isZero()).isTrue();
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_argument_is_null() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate((BigInteger) null))
+            .withMessage("argument").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_evaluate_with_Horner() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThat(polynomial.evaluate(BigInteger.TWO)).isEqualTo(17L);
+    }
+
+    @Test
+    void add_should_throw_Exception_when_summand_is_null() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.add(null)).withMessage("summand").withNoCause();
+    }
+
+    @Test
+    void add_should_calculate_sum() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThat(polynomial.add(new BigIntegerPolynomial(List.of(BigInteger.ONE))).getCoefficients())
+            .containsExactly(BigInteger.TWO, BigInteger.TWO, BigInteger.valueOf(3L));
+    }
+
+    @Test
+    void subtract_should_throw_Exception_when_subtrahend_is_null() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.subtract(null)).withMessage("subtrahend")
+            .withNoCause();
+    }
+
+    @Test
+    void subtract_should_calculate_difference() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThat(polynomial.subtract(polynomial).isZero()).isTrue();
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_factor_is_null() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.multiply(null)).withMessage("factor")
+            .withNoCause();
+    }
+
+    @Test
+    void multiply_should_calculate_product() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+        final var actual = polynomial.multiply(new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.ONE)));
+
+        assertThat(actual.getCoefficients()).containsExactly(BigInteger.ONE, BigInteger.valueOf(3L),
+            BigInteger.valueOf(5L), BigInteger.valueOf(3L));
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_Karatsuba() {
+        final var random = new Random(42L);
+        final var left = random.longs(60L, -1000L, 1000L).mapToObj(BigInteger::valueOf).toList();
+        final var right = random.longs(50L, -1000L, 1000L).mapToObj(BigInteger::valueOf).toList();
+        final var expected = new ArrayList<BigInteger>();
+        for (var k = 0; k < left.size() + right.size() - 1; k++) {
+            var sum = BigInteger.ZERO;
+            for (var i = Math.max(0, k - right.size() + 1); i <= Math.min(k, left.size() - 1); i++) {
+                sum = sum.add(left.get(i).multiply(right.get(k - i)));
+            }
+            expected.add(sum);
+        }
+
+        final var actual = new BigIntegerPolynomial(left).multiply(new BigIntegerPolynomial(right));
+
+        assertThat(actual.getCoefficients()).isEqualTo(expected);
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_NTT() {
+        final var random = new Random(42L);
+        final var left = random.ints(300L).mapToObj(i -> new BigInteger(200, random).subtract(BigInteger.TWO.pow(199)))
+            .toList();
+        final var right = random.ints(200L).mapToObj(i -> new BigInteger(100, random).negate()).toList();
+        final var expected = new ArrayList<BigInteger>();
+        for (var k = 0; k < left.size() + right.size() - 1; k++) {
+            var sum = BigInteger.ZERO;
+            for (var i = Math.max(0, k - right.size() + 1); i <= Math.min(k, left.size() - 1); i++) {
+                sum = sum.add(left.get(i).multiply(right.get(k - i)));
+            }
+            expected.add(sum);
+        }
+
+        final var actual = new BigIntegerPolynomial(left).multiply(new BigIntegerPolynomial(right));
+
+        assertThat(actual.getCoefficients()).isEqualTo(expected);
+    }
+
+    @Test
+    void evaluate_should_evaluate_many_arguments_in_parallel() {
+        final var random = new Random(42L);
+        final var polynomial =
+            new BigIntegerPolynomial(random.longs(300L, -1000L, 1000L).mapToObj(BigInteger::valueOf).toList());
+        final var arguments = random.longs(200L, -100L, 100L).mapToObj(BigInteger::valueOf).toList();
+
+        final var actual = polynomial.evaluate(arguments);
+
+        assertThat(actual).isEqualTo(arguments.stream().map(polynomial::evaluate).toList());
+    }
+
+    @Test
+    void subproductTree_should_evaluate_at_all_points() {
+        final var random = new Random(42L);
+        final var coefficients = random.longs(200L, -1000L, 1000L).mapToObj(BigInteger::valueOf).toList();
+        final var points = random.longs(-100L, 100L).distinct().limit(128L).mapToObj(BigInteger::valueOf).toList();
+        final var polynomial = new BigIntegerPolynomial(coefficients);
+
+        final var actual = BigIntegerPolynomial.subproductTree(points).evaluate(coefficients);
+
+        assertThat(actual).isEqualTo(points.stream().map(polynomial::evaluate).toList());
+    }
+
+    @Test
+    void getDerivative_should_return_derivative() {
+        final var polynomial =
+            new BigIntegerPolynomial(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3L)));
+
+        assertThat(polynomial.getDerivative()).containsExactly(BigInteger.TWO, BigInteger.valueOf(6L));
+    }
+}
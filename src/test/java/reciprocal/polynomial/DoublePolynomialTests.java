@@ -0,0 +1,249 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import reciprocal.number.complex.Complex;
+
+final class DoublePolynomialTests {
+    @Test
+    void ofCoefficients_should_throw_Exception_when_coefficients_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> DoublePolynomial.ofCoefficients((double[]) null))
+            .withMessage("coefficients").withNoCause();
+    }
+
+    @Test
+    void ofCoefficients_should_return_polynomial() {
+        assertThat(DoublePolynomial.ofCoefficients(1.0D, 2.0D).getCoefficients()).containsExactly(1.0D, 2.0D);
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_coefficient_is_null() {
+        final var coefficients = Arrays.asList(1.0D, null);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new DoublePolynomial(coefficients))
+            .withMessage("all coefficients expected not to be null but coefficients = [1.0, null]").withNoCause();
+    }
+
+    @Test
+    void equals_should_return_true_when_coefficients_are_equal() {
+        final var polynomial = new DoublePolynomial(List.of(1.0D, 2.0D));
+
+        assertThat(polynomial).isEqualTo(DoublePolynomial.ofCoefficients(1.0D, 2.0D))
+            .hasSameHashCodeAs(DoublePolynomial.ofCoefficients(1.0D, 2.0D))
+            .hasToString("DoublePolynomial{coefficients=[1.0, 2.0]}");
+        assertThat(polynomial.get(1)).isEqualTo(2.0D);
+    }
+
+    @Test
+    void isZero_should_return_false_when_one_coefficient_is_not_0() {
+        assertThat(DoublePolynomial.ofCoefficients(0.0D, 1.0D).isZero()).isFalse();
+    }
+
+    @Test
+    void isZero_should_return_true_when_all_coefficients_are_0() {
+        assertThat(DoublePolynomial.ofCoefficients(0.0D, 0.0D).isZero()).isTrue();
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_argument_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> DoublePolynomial.ofCoefficients(1.0D).evaluate((Double) null))
+            .withMessage("argument").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_evaluate_with_Horner() {
+        assertThat(DoublePolynomial.ofCoefficients(1.0D, 2.0D, 3.0D).evaluate(2.0D)).isEqualTo(17.0D);
+    }
+
+    @Test
+    void evaluate_should_evaluate_boxed_argument() {
+        assertThat(DoublePolynomial.ofCoefficients(1.0D, 2.0D, 3.0D).evaluate(Double.valueOf(2.0D))).isEqualTo(17.0D);
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_arguments_is_null() {
+        final var polynomial = DoublePolynomial.ofCoefficients(1.0D);
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate((double[]) null))
+            .withMessage("arguments").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_evaluate_at_all_arguments() {
+        final var actual = DoublePolynomial.ofCoefficients(1.0D, 2.0D, 3.0D).evaluate(new double[] {0.0D, 1.0D, 2.0D});
+
+        assertThat(actual).containsExactly(1.0D, 6.0D, 17.0D);
+    }
+
+    @Test
+    void add_should_throw_Exception_when_summand_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> DoublePolynomial.ofCoefficients(1.0D).add(null))
+            .withMessage("summand").withNoCause();
+    }
+
+    @Test
+    void add_should_calculate_sum() {
+        final var actual = DoublePolynomial.ofCoefficients(1.0D, 2.0D).add(DoublePolynomial.ofCoefficients(3.0D));
+
+        assertThat(actual.getCoefficients()).containsExactly(4.0D, 2.0D);
+    }
+
+    @Test
+    void subtract_should_throw_Exception_when_subtrahend_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> DoublePolynomial.ofCoefficients(1.0D).subtract(null))
+            .withMessage("subtrahend").withNoCause();
+    }
+
+    @Test
+    void subtract_should_calculate_difference() {
+        final var actual = DoublePolynomial.ofCoefficients(1.0D).subtract(DoublePolynomial.ofCoefficients(3.0D, 2.0D));
+
+        assertThat(actual.getCoefficients()).containsExactly(-2.0D, -2.0D);
+    }
+
+    @Test
+    void multiply_should_throw_Exception_when_factor_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> DoublePolynomial.ofCoefficients(1.0D).multiply(null))
+            .withMessage("factor").withNoCause();
+    }
+
+    @Test
+    void multiply_should_calculate_product() {
+        final var actual =
+            DoublePolynomial.ofCoefficients(1.0D, 1.0D).multiply(DoublePolynomial.ofCoefficients(-1.0D, 1.0D));
+
+        assertThat(actual.getCoefficients()).containsExactly(-1.0D, 0.0D, 1.0D);
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_Karatsuba() {
+        final var random = new Random(42L);
+        final var left = random.doubles(60L, -1.0D, 1.0D).toArray();
+        final var right = random.doubles(50L, -1.0D, 1.0D).toArray();
+        final var expected = new double[left.length + right.length - 1];
+        for (var i = 0; i < left.length; i++) {
+            for (var j = 0; j < right.length; j++) {
+                expected[i + j] += left[i] * right[j];
+            }
+        }
+
+        final var actual =
+            DoublePolynomial.ofCoefficients(left).multiply(DoublePolynomial.ofCoefficients(right)).toArray();
+
+        assertThat(actual).containsExactly(expected, within(1.0E-9D));
+    }
+
+    @Test
+    void multiply_should_calculate_product_with_FFT() {
+        final var random = new Random(42L);
+        final var left = random.doubles(1000L, -1.0D, 1.0D).toArray();
+        final var right = random.doubles(700L, -1.0D, 1.0D).toArray();
+        final var expected = new double[left.length + right.length - 1];
+        for (var i = 0; i < left.length; i++) {
+            for (var j = 0; j < right.length; j++) {
+                expected[i + j] += left[i] * right[j];
+            }
+        }
+
+        final var actual =
+            DoublePolynomial.ofCoefficients(left).multiply(DoublePolynomial.ofCoefficients(right)).toArray();
+
+        assertThat(actual).containsExactly(expected, within(1.0E-9D));
+    }
+
+    @Test
+    void interpolate_should_throw_Exception_when_points_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> DoublePolynomial.interpolate(null, new double[0]))
+            .withMessage("points").withNoCause();
+    }
+
+    @Test
+    void interpolate_should_throw_Exception_when_points_are_not_distinct() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> DoublePolynomial.interpolate(new double[] {1.0D, 1.0D}, new double[] {1.0D, 2.0D}))
+            .withMessage("distinct points expected but points = [1.0, 1.0]").withNoCause();
+    }
+
+    @Test
+    void interpolate_should_return_polynomial_through_points() {
+        final var points = new double[10];
+        for (var i = 0; i < points.length; i++) {
+            points[i] = Math.cos(Math.PI * (2 * i + 1) / (2 * points.length));
+        }
+        final var polynomial = DoublePolynomial.ofCoefficients(1.0D, -2.0D, 0.5D, 3.0D);
+
+        final var actual = DoublePolynomial.interpolate(points, polynomial.evaluate(points)).toArray();
+
+        assertThat(actual).hasSize(points.length).startsWith(new double[] {1.0D, -2.0D, 0.5D, 3.0D},
+            within(1.0E-9D));
+        assertThat(Arrays.copyOfRange(actual, 4, actual.length)).containsOnly(new double[] {0.0D}, within(1.0E-9D));
+    }
+
+    @Test
+    void getDerivative_should_return_derivative() {
+        assertThat(DoublePolynomial.ofCoefficients(1.0D, 2.0D, 3.0D).getDerivative()).containsExactly(2.0D, 6.0D);
+    }
+
+    @Test
+    void getDerivative_should_return_0_when_this_is_constant() {
+        assertThat(new DoublePolynomial(List.of(1.0D)).getDerivative()).containsExactly(0.0D);
+    }
+
+    @Test
+    void getRoots_should_throw_Exception_when_this_is_zero() {
+        assertThatIllegalStateException().isThrownBy(() -> DoublePolynomial.ofCoefficients(0.0D).getRoots())
+            .withMessage("this expected not to be zero but this = DoublePolynomial{coefficients=[0.0]}").withNoCause();
+    }
+
+    @Test
+    void getRoots_should_throw_Exception_when_roots_do_not_converge() {
+        final var polynomial = DoublePolynomial.ofCoefficients(Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(polynomial::getRoots)
+            .withMessage("roots did not converge in 500 iterations").withNoCause();
+    }
+
+    @Test
+    void getRoots_should_return_real_roots() {
+        final var actual = DoublePolynomial.ofCoefficients(6.0D, -7.0D, 0.0D, 1.0D).getRoots();
+
+        assertThat(actual).extracting(Complex::getReal).map(Math::rint).containsExactlyInAnyOrder(1.0D, 2.0D, -3.0D);
+        assertThat(actual).allSatisfy(root -> {
+            assertThat(root.getReal()).isCloseTo(Math.rint(root.getReal()), within(1.0E-12D));
+            assertThat(root.getImaginary()).isCloseTo(0.0D, within(1.0E-12D));
+        });
+    }
+
+    @Test
+    void getRoots_should_return_complex_and_zero_roots() {
+        final var actual = DoublePolynomial.ofCoefficients(0.0D, 0.0D, 1.0D, 0.0D, 1.0D).getRoots();
+
+        assertThat(actual).hasSize(4).startsWith(Complex.ZERO, Complex.ZERO);
+        assertThat(actual.subList(2, 4)).extracting(Complex::getImaginary).map(Math::rint)
+            .containsExactlyInAnyOrder(1.0D, -1.0D);
+        assertThat(actual.subList(2, 4)).allSatisfy(root -> assertThat(root.getReal()).isCloseTo(0.0D,
+            within(1.0E-12D)));
+    }
+
+    @Test
+    void getRoots_should_return_roots_of_unity_in_parallel() {
+        final var coefficients = new double[201];
+        coefficients[0] = -1.0D;
+        coefficients[200] = 1.0D;
+
+        final var actual = DoublePolynomial.ofCoefficients(coefficients).getRoots();
+
+        assertThat(actual).hasSize(200).allSatisfy(root -> assertThat(root.abs()).isCloseTo(1.0D, within(1.0E-12D)));
+        assertThat(actual.stream().mapToDouble(Complex::argument).map(a -> Math.rint(a * 100.0D / Math.PI)).distinct()
+            .count()).isEqualTo(200L);
+    }
+}
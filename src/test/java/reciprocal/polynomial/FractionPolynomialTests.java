@@ -0,0 +1,65 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reciprocal.number.fraction.Fraction;
+
+final class FractionPolynomialTests {
+    @Test
+    void isZero_should_return_true_when_all_coefficients_are_0() {
+        assertThat(new FractionPolynomial(List.of(Fraction.ZERO)).isZero()).isTrue();
+    }
+
+    @Test
+    void evaluate_should_throw_Exception_when_argument_is_null() {
+        final var polynomial =
+            new FractionPolynomial(List.of(Fraction.ONE, new Fraction(1L, 2L)));
+
+        assertThatNullPointerException().isThrownBy(() -> polynomial.evaluate((Fraction) null))
+            .withMessage("argument").withNoCause();
+    }
+
+    @Test
+    void evaluate_should_evaluate_with_Horner() {
+        final var polynomial =
+            new FractionPolynomial(List.of(Fraction.ONE, new Fraction(1L, 2L)));
+
+        assertThat(polynomial.evaluate(new Fraction(1L, 3L))).isEqualTo(new Fraction(7L, 6L));
+    }
+
+    @Test
+    void add_should_calculate_reduced_sum() {
+        final var polynomial =
+            new FractionPolynomial(List.of(Fraction.ONE, new Fraction(1L, 2L)));
+
+        assertThat(polynomial.add(polynomial).getCoefficients()).containsExactly(new Fraction(2L, 1L), Fraction.ONE);
+    }
+
+    @Test
+    void subtract_should_calculate_difference() {
+        final var polynomial =
+            new FractionPolynomial(List.of(Fraction.ONE, new Fraction(1L, 2L)));
+
+        assertThat(polynomial.subtract(polynomial).isZero()).isTrue();
+    }
+
+    @Test
+    void multiply_should_calculate_reduced_product() {
+        final var polynomial =
+            new FractionPolynomial(List.of(Fraction.ONE, new Fraction(1L, 2L)));
+
+        assertThat(polynomial.multiply(polynomial).getCoefficients())
+            .containsExactly(Fraction.ONE, Fraction.ONE, new Fraction(1L, 4L));
+    }
+
+    @Test
+    void getDerivative_should_return_derivative() {
+        final var polynomial =
+            new FractionPolynomial(List.of(Fraction.ONE, new Fraction(1L, 2L)));
+
+        assertThat(polynomial.getDerivative()).containsExactly(new Fraction(1L, 2L));
+    }
+}
@@ -0,0 +1,28 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class KroneckerSubstitutionTests {
+    @Test
+    void multiply_should_calculate_product() {
+        final var random = new Random(42L);
+        final var left = random.ints(70L).mapToObj(i -> new BigInteger(2000, random).subtract(BigInteger.TWO.pow(1999)))
+            .toList();
+        final var right = random.ints(50L).mapToObj(i -> new BigInteger(1000, random).negate()).toList();
+        final var expected = new ArrayList<BigInteger>();
+        for (var k = 0; k < left.size() + right.size() - 1; k++) {
+            var sum = BigInteger.ZERO;
+            for (var i = Math.max(0, k - right.size() + 1); i <= Math.min(k, left.size() - 1); i++) {
+                sum = sum.add(left.get(i).multiply(right.get(k - i)));
+            }
+            expected.add(sum);
+        }
+
+        assertThat(KroneckerSubstitution.multiply(left, right)).isEqualTo(expected);
+    }
+}
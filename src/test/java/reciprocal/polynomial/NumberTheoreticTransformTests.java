@@ -0,0 +1,29 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class NumberTheoreticTransformTests {
+    @Test
+    void multiply_should_calculate_product() {
+        final var left = List.of(BigInteger.ONE, BigInteger.TWO.negate(), BigInteger.TWO.pow(100));
+        final var right = List.of(BigInteger.valueOf(3L), BigInteger.TEN.pow(30).negate());
+
+        final var actual = NumberTheoreticTransform.multiply(left, right);
+
+        assertThat(actual).contains(List.of(BigInteger.valueOf(3L), BigInteger.TEN.pow(30).negate().subtract(
+            BigInteger.valueOf(6L)), BigInteger.TWO.pow(100).multiply(BigInteger.valueOf(3L)).add(BigInteger.TWO
+            .multiply(BigInteger.TEN.pow(30))), BigInteger.TWO.pow(100).multiply(BigInteger.TEN.pow(30)).negate()));
+    }
+
+    @Test
+    void multiply_should_return_empty_when_coefficients_are_too_large() {
+        final var coefficients = Collections.nCopies(2, BigInteger.TWO.pow(1000));
+
+        assertThat(NumberTheoreticTransform.multiply(coefficients, coefficients)).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package reciprocal.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+final class SubproductTreeTests {
+    @Test
+    void evaluate_should_evaluate_at_all_points() {
+        final var arithmetic = new PolynomialArithmetic<>(0L, (a, b) -> Math.floorMod(a + b, 1_000_003L),
+            (a, b) -> Math.floorMod(a - b, 1_000_003L), (a, b) -> a * b % 1_000_003L, i -> (long) i);
+        final var points = LongStream.rangeClosed(1L, 300L).boxed().toList();
+        final var coefficients = LongStream.range(0L, 300L).map(i -> i * i % 1_000_003L).boxed().toList();
+        final var tree = new SubproductTree<>(arithmetic, arithmetic::multiply, points);
+
+        final var actual = tree.evaluate(coefficients);
+
+        assertThat(actual).isEqualTo(points.stream().map(point -> arithmetic.evaluate(coefficients, point)).toList());
+    }
+
+    @Test
+    void evaluate_should_need_subquadratic_number_of_multiplications() {
+        final var small = multiplications(256);
+        final var large = multiplications(1024);
+
+        // Horner's method needs n^2 multiplications, that is 16 times as many for 4 times as many points
+        assertThat(large).isLessThan(12L * small);
+    }
+
+    private static long multiplications(final int size) {
+        final var count = new AtomicLong();
+        final var arithmetic = new PolynomialArithmetic<>(0L, (a, b) -> Math.floorMod(a + b, 1_000_003L),
+            (a, b) -> Math.floorMod(a - b, 1_000_003L), (a, b) -> {
+                count.incrementAndGet();
+                return a * b % 1_000_003L;
+            }, i -> (long) i);
+        final List<Long> points = LongStream.rangeClosed(1L, size).boxed().toList();
+        final List<Long> coefficients = LongStream.range(0L, size).map(i -> 7L * i + 1L).boxed().toList();
+        final var tree = new SubproductTree<>(arithmetic, arithmetic::multiply, points);
+        count.set(0L);
+        tree.evaluate(coefficients);
+        return count.get();
+    }
+}
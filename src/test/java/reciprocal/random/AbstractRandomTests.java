@@ -1,9 +1,15 @@
 package reciprocal.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 
 import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.Test;
 
 final class AbstractRandomTests {
@@ -19,8 +25,114 @@ final class AbstractRandomTests {
             .withMessage("secureRandom").withNoCause();
     }
 
+    @Test
+    void constructor_should_throw_Exception_when_randomGenerator_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new BigIntegerRandom((RandomGenerator) null))
+            .withMessage("randomGenerator").withNoCause();
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_algorithm_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> BigIntegerRandom.of(null, 0L)).withMessage("algorithm")
+            .withNoCause();
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_algorithm_is_not_available() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BigIntegerRandom.of("Unknown", 0L));
+    }
+
+    @Test
+    void longs_should_be_reproducible_with_seed() {
+        final var expected = BigIntegerRandom.of("L64X128MixRandom", 42L).longs(100L).toArray();
+
+        assertThat(BigIntegerRandom.of("L64X128MixRandom", 42L).longs(100L).toArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void longs_should_throw_Exception_when_limit_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigIntegerRandom().longs(-1L))
+            .withMessage("limit > -1 expected but limit = -1").withNoCause();
+    }
+
+    @Test
+    void longs_should_throw_Exception_when_origin_is_not_less_than_bound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigIntegerRandom().longs(1L, 1L))
+            .withMessage("origin < bound expected but 1 >= 1").withNoCause();
+    }
+
+    @Test
+    void longs_should_return_longs_between_origin_and_bound_in_parallel() {
+        final var actual = BigIntegerRandom.of("L64X128MixRandom", 42L).longs(10_000L, -5L, 5L).parallel();
+
+        assertThat(actual).hasSize(10_000).allMatch(l -> l >= -5L && l < 5L);
+    }
+
+    @Test
+    void doubles_should_return_doubles_between_origin_and_bound() {
+        final var actual = BigIntegerRandom.of("Xoshiro256PlusPlus", 42L).doubles(1_000L, -1.0D, 1.0D);
+
+        assertThat(actual).hasSize(1_000).allMatch(d -> d >= -1.0D && d < 1.0D);
+    }
+
+    @Test
+    void doubles_should_throw_Exception_when_origin_is_not_less_than_bound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigIntegerRandom().doubles(1.0D, 0.0D))
+            .withMessage("origin < bound expected but 1.0 >= 0.0").withNoCause();
+    }
+
+    @Test
+    void isSplittable_should_return_true_when_randomGenerator_is_splittable() {
+        assertThat(BigIntegerRandom.of("L64X128MixRandom", 42L).isSplittable()).isTrue();
+    }
+
+    @Test
+    void isSplittable_should_return_false_when_randomGenerator_is_not_splittable() {
+        assertThat(new BigIntegerRandom().isSplittable()).isFalse();
+    }
+
+    @Test
+    void split_should_return_independent_generator() {
+        final var random = BigIntegerRandom.of("L64X128MixRandom", 42L);
+
+        final var actual = random.split();
+
+        assertThat(actual.longs(10L).toArray()).isNotEqualTo(random.longs(10L).toArray());
+    }
+
+    @Test
+    void split_should_throw_Exception_when_randomGenerator_is_not_splittable() {
+        assertThatIllegalStateException().isThrownBy(() -> new BigIntegerRandom().split())
+            .withMessageStartingWith("splittable randomGenerator expected but randomGenerator = ").withNoCause();
+    }
+
+    @Test
+    void split_should_throw_Exception_when_subclass_does_not_support_splitting() {
+        final AbstractRandom<?> random = mock(AbstractRandom.class, CALLS_REAL_METHODS);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(random::split)
+            .withMessageEndingWith(" does not support split()").withNoCause();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void getSecureRandom_should_return_secureRandom() {
+        final var secureRandom = new SecureRandom();
+
+        assertThat(new BigIntegerRandom(secureRandom).getSecureRandom()).isSameAs(secureRandom);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void getSecureRandom_should_throw_Exception_when_randomGenerator_is_not_secureRandom() {
+        final var random = BigIntegerRandom.of("L64X128MixRandom", 42L);
+
+        assertThatIllegalStateException().isThrownBy(random::getSecureRandom)
+            .withMessageStartingWith("secureRandom expected but randomGenerator = ").withNoCause();
+    }
+
     @Test
     void toString_should_return_toString() {
-        assertThat(new BigIntegerRandom()).hasToString("BigIntegerRandom{secureRandom=NativePRNG}");
+        assertThat(new BigIntegerRandom()).hasToString("BigIntegerRandom{randomGenerator=NativePRNG}");
     }
 }
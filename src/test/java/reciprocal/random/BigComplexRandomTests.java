@@ -0,0 +1,24 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+final class BigComplexRandomTests {
+    @Test
+    void numbers_should_return_complexes_with_parts_in_range() {
+        final var actual = BigComplexRandom.of("L64X128MixRandom", 42L).numbers(1_000L, 1L, 2L).toList();
+
+        assertThat(actual).hasSize(1_000).allSatisfy(c -> {
+            assertThat(c.getReal()).isGreaterThanOrEqualTo(BigDecimal.ONE).isLessThan(BigDecimal.valueOf(2L));
+            assertThat(c.getImaginary()).isGreaterThanOrEqualTo(BigDecimal.ONE).isLessThan(BigDecimal.valueOf(2L));
+        });
+    }
+
+    @Test
+    void split_should_return_BigComplexRandom() {
+        assertThat(BigComplexRandom.of("L64X128MixRandom", 42L).split().next(1L).getReal())
+            .isLessThan(BigDecimal.ONE);
+    }
+}
@@ -0,0 +1,96 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+final class BigDecimalRandomTests {
+    private static final MathContext MATH_CONTEXT = new MathContext(50);
+
+    @Test
+    void next_should_return_number_with_decimal_places_of_precision() {
+        final var actual = BigDecimalRandom.of("L64X128MixRandom", 42L).next(MATH_CONTEXT);
+
+        assertThat(actual.scale()).isEqualTo(50);
+        assertThat(actual).isGreaterThanOrEqualTo(BigDecimal.ZERO).isLessThan(BigDecimal.ONE);
+    }
+
+    @Test
+    void numbers_should_return_numbers_between_origin_and_bound() {
+        assertThat(BigDecimalRandom.of("L64X128MixRandom", 42L).numbers(100L, -3L, 3L)).hasSize(100)
+            .allMatch(n -> n.compareTo(BigDecimal.valueOf(-3L)) >= 0 && n.compareTo(BigDecimal.valueOf(3L)) < 0);
+    }
+
+    @Test
+    void next_should_throw_Exception_when_precision_is_unlimited() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new BigDecimalRandom().next(MathContext.UNLIMITED))
+            .withMessage("mathContext.getPrecision() > 0 expected but mathContext.getPrecision() = 0").withNoCause();
+    }
+
+    @Test
+    void nextGaussian_should_return_number_with_precision() {
+        final var actual = BigDecimalRandom.of("L64X128MixRandom", 42L).nextGaussian(MATH_CONTEXT);
+
+        assertThat(actual.precision()).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    void nextGaussian_should_throw_Exception_when_mean_is_null() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> new BigDecimalRandom().nextGaussian(null, BigDecimal.ONE, MATH_CONTEXT))
+            .withMessage("mean").withNoCause();
+    }
+
+    @Test
+    void nextExponential_should_throw_Exception_when_mean_is_not_positive() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new BigDecimalRandom().nextExponential(BigDecimal.ZERO, MATH_CONTEXT))
+            .withMessage("mean > 0 expected but mean = 0").withNoCause();
+    }
+
+    @Test
+    void fill_should_fill_array_with_uniformly_distributed_numbers() {
+        final var array = new BigDecimal[1_000];
+
+        BigDecimalRandom.of("L64X128MixRandom", 42L).fill(array, MATH_CONTEXT);
+
+        assertThat(array).doesNotHaveDuplicates()
+            .allMatch(n -> n.signum() >= 0 && n.compareTo(BigDecimal.ONE) < 0 && n.scale() == 50);
+        assertThat(Arrays.stream(array).mapToDouble(BigDecimal::doubleValue).average().orElseThrow())
+            .isCloseTo(0.5D, within(0.05D));
+    }
+
+    @Test
+    void fillGaussian_should_fill_array_with_normally_distributed_numbers() {
+        final var array = new BigDecimal[2_001];
+
+        BigDecimalRandom.of("L64X128MixRandom", 42L).fillGaussian(array, BigDecimal.TEN, BigDecimal.ONE,
+            MathContext.DECIMAL64);
+
+        final var mean = Arrays.stream(array).mapToDouble(BigDecimal::doubleValue).average().orElseThrow();
+        final var variance = Arrays.stream(array).mapToDouble(n -> (n.doubleValue() - mean) * (n.doubleValue() - mean))
+            .sum() / array.length;
+        assertThat(array).doesNotContainNull();
+        assertThat(mean).isCloseTo(10.0D, within(0.1D));
+        assertThat(variance).isCloseTo(1.0D, within(0.1D));
+    }
+
+    @Test
+    void fillExponential_should_fill_array_with_exponentially_distributed_numbers() {
+        final var array = new BigDecimal[2_000];
+
+        BigDecimalRandom.of("L64X128MixRandom", 42L).fillExponential(array, BigDecimal.valueOf(2L),
+            MathContext.DECIMAL64);
+
+        assertThat(array).allMatch(n -> n.signum() >= 0);
+        assertThat(Arrays.stream(array).mapToDouble(BigDecimal::doubleValue).average().orElseThrow())
+            .isCloseTo(2.0D, within(0.15D));
+    }
+}
@@ -0,0 +1,32 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+final class BigFractionRandomTests {
+    @Test
+    void numbers_should_return_fractions_with_numerator_and_denominator_in_range() {
+        final var actual = BigFractionRandom.of("Xoshiro256PlusPlus", 42L).numbers(1_000L, -5L, 5L).toList();
+
+        assertThat(actual).hasSize(1_000).allSatisfy(f -> {
+            assertThat(f.getNumerator()).isBetween(BigInteger.valueOf(-5L), BigInteger.valueOf(4L));
+            assertThat(f.getDenominator()).isBetween(BigInteger.valueOf(-5L), BigInteger.valueOf(4L))
+                .isNotEqualTo(BigInteger.ZERO);
+        });
+    }
+
+    @Test
+    void next_should_be_reproducible_with_seed() {
+        assertThat(BigFractionRandom.of("L64X128MixRandom", 42L).next())
+            .isEqualTo(BigFractionRandom.of("L64X128MixRandom", 42L).next());
+    }
+
+    @Test
+    void numbers_should_throw_Exception_when_origin_is_not_less_than_bound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigFractionRandom().numbers(2L, 1L))
+            .withMessage("origin < bound expected but 2 >= 1").withNoCause();
+    }
+}
@@ -1,11 +1,16 @@
 package reciprocal.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +36,149 @@ final class BigIntegerRandomTests {
         assertThat(actual).isOne();
     }
 
+    @Test
+    void next_should_return_next_number_between_origin_and_bound() {
+        when(secureRandom.nextLong(-1L, 2L)).thenReturn(1L);
+
+        final var actual = bigIntegerRandom.next(-1L, 2L);
+
+        verify(secureRandom).nextLong(-1L, 2L);
+        assertThat(actual).isOne();
+    }
+
+    @Test
+    void next_should_throw_Exception_when_origin_is_not_less_than_bound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> bigIntegerRandom.next(-1L, -2L))
+            .withMessage("origin < bound expected but -1 >= -2").withNoCause();
+    }
+
+    @Test
+    void numbers_should_return_numbers_between_origin_and_bound() {
+        final var actual = BigIntegerRandom.of("L64X128MixRandom", 42L).numbers(100L, -5L, 5L).toList();
+
+        assertThat(actual).hasSize(100)
+            .allMatch(n -> n.compareTo(BigInteger.valueOf(-5L)) >= 0 && n.compareTo(BigInteger.valueOf(5L)) < 0);
+    }
+
+    @Test
+    void next_should_draw_bytes_of_bit_length_of_bound() {
+        final var actual = bigIntegerRandom.next(BigInteger.ONE.shiftLeft(2048));
+
+        verify(secureRandom).nextBytes(argThat(bytes -> bytes.length == 256));
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void next_should_return_numbers_of_arbitrary_bit_length_below_bound() {
+        final var random = BigIntegerRandom.of("L64X128MixRandom", 42L);
+        final var bound = BigInteger.ONE.shiftLeft(2048).subtract(BigInteger.valueOf(159L));
+
+        for (var i = 0; i < 100; i++) {
+            assertThat(random.next(bound)).isNotNegative().isLessThan(bound);
+        }
+    }
+
+    @Test
+    void next_should_return_zero_when_bound_is_one() {
+        assertThat(BigIntegerRandom.of("L64X128MixRandom", 42L).next(BigInteger.ONE)).isZero();
+    }
+
+    @Test
+    void next_should_return_uniformly_distributed_numbers() {
+        final var random = BigIntegerRandom.of("L64X128MixRandom", 42L);
+        final var counts = new int[5];
+
+        for (var i = 0; i < 50_000; i++) {
+            counts[random.next(BigInteger.valueOf(5L)).intValueExact()]++;
+        }
+
+        assertThat(IntStream.of(counts)).allMatch(count -> count > 9_500 && count < 10_500);
+    }
+
+    @Test
+    void next_should_throw_Exception_when_bound_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> bigIntegerRandom.next(null)).withMessage("bound")
+            .withNoCause();
+    }
+
+    @Test
+    void next_should_throw_Exception_when_bound_is_not_positive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> bigIntegerRandom.next(BigInteger.ZERO))
+            .withMessage("bound > 0 expected but bound = 0").withNoCause();
+    }
+
+    @Test
+    void next_should_return_number_between_big_origin_and_bound() {
+        final var random = BigIntegerRandom.of("L64X128MixRandom", 42L);
+        final var origin = BigInteger.ONE.shiftLeft(100).negate();
+        final var bound = BigInteger.ONE.shiftLeft(90);
+
+        for (var i = 0; i < 100; i++) {
+            assertThat(random.next(origin, bound)).isGreaterThanOrEqualTo(origin).isLessThan(bound);
+        }
+    }
+
+    @Test
+    void next_should_throw_Exception_when_big_origin_is_not_less_than_bound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> bigIntegerRandom.next(BigInteger.TEN, BigInteger.ONE))
+            .withMessage("origin < bound expected but 10 >= 1").withNoCause();
+    }
+
+    @Test
+    void numbers_should_return_reproducible_numbers_below_bound() {
+        final var bound = BigInteger.ONE.shiftLeft(512);
+
+        final var actual = BigIntegerRandom.of("L64X128MixRandom", 42L).numbers(100L, bound).toList();
+
+        assertThat(actual).hasSize(100).allMatch(n -> n.signum() >= 0 && n.compareTo(bound) < 0)
+            .isEqualTo(BigIntegerRandom.of("L64X128MixRandom", 42L).numbers(100L, bound).toList());
+    }
+
+    @Test
+    void numbers_should_return_distinct_numbers_in_parallel() {
+        final var bound = BigInteger.ONE.shiftLeft(256);
+
+        final var actual = BigIntegerRandom.of("L64X128MixRandom", 42L).numbers(10_000L, BigInteger.ONE, bound)
+            .parallel().toList();
+
+        assertThat(actual).hasSize(10_000).doesNotHaveDuplicates()
+            .allMatch(n -> n.signum() > 0 && n.compareTo(bound) < 0);
+    }
+
+    @Test
+    void numbers_should_throw_Exception_when_limit_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> bigIntegerRandom.numbers(-1L, BigInteger.ONE))
+            .withMessage("limit > -1 expected but limit = -1").withNoCause();
+    }
+
+    @Test
+    void fill_should_fill_array_with_numbers_between_origin_and_bound() {
+        final var array = new BigInteger[1_000];
+        final var origin = BigInteger.ONE.shiftLeft(2047);
+        final var bound = BigInteger.ONE.shiftLeft(2048).subtract(BigInteger.ONE);
+
+        BigIntegerRandom.of("L64X128MixRandom", 42L).fill(array, origin, bound);
+
+        assertThat(array).doesNotContainNull().doesNotHaveDuplicates()
+            .allMatch(n -> n.compareTo(origin) >= 0 && n.compareTo(bound) < 0);
+    }
+
+    @Test
+    void fill_should_draw_bytes_at_once() {
+        final var array = new BigInteger[3];
+
+        bigIntegerRandom.fill(array, BigInteger.valueOf(256L));
+
+        verify(secureRandom).nextBytes(argThat(bytes -> bytes.length == 3));
+        assertThat(array).containsOnly(BigInteger.ZERO);
+    }
+
+    @Test
+    void fill_should_throw_Exception_when_array_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> bigIntegerRandom.fill(null, BigInteger.ONE))
+            .withMessage("array").withNoCause();
+    }
+
     @AfterEach
     void tearDown() {
         verifyNoMoreInteractions(secureRandom);
@@ -0,0 +1,31 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+final class ComplexRandomTests {
+    @Test
+    void next_should_return_complex_with_parts_between_zero_and_one() {
+        final var actual = ComplexRandom.of("L64X128MixRandom", 42L).next();
+
+        assertThat(actual.getReal()).isBetween(0.0D, 1.0D);
+        assertThat(actual.getImaginary()).isBetween(0.0D, 1.0D);
+    }
+
+    @Test
+    void numbers_should_return_complexes_with_parts_in_range_in_parallel() {
+        final var actual = ComplexRandom.of("L64X128MixRandom", 42L).numbers(10_000L, -2L, 3L).parallel().toList();
+
+        assertThat(actual).hasSize(10_000)
+            .allMatch(c -> c.getReal() >= -2.0D && c.getReal() < 3.0D)
+            .allMatch(c -> c.getImaginary() >= -2.0D && c.getImaginary() < 3.0D);
+    }
+
+    @Test
+    void next_should_throw_Exception_when_bound_is_not_positive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ComplexRandom().next(0L))
+            .withMessage("bound > 0 expected but bound = 0").withNoCause();
+    }
+}
@@ -0,0 +1,78 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.DoubleStream;
+import org.junit.jupiter.api.Test;
+
+final class DoubleRandomTests {
+    @Test
+    void next_should_return_double_between_origin_and_bound() {
+        assertThat(DoubleRandom.of("L64X128MixRandom", 42L).next(-2L, 2L)).isGreaterThanOrEqualTo(-2.0D)
+            .isLessThan(2.0D);
+    }
+
+    @Test
+    void numbers_should_return_doubles_between_zero_and_bound() {
+        assertThat(DoubleRandom.of("L64X128MixRandom", 42L).numbers(100L, 0L, 3L)).hasSize(100)
+            .allMatch(d -> d >= 0.0D && d < 3.0D);
+    }
+
+    @Test
+    void nextGaussian_should_be_reproducible_with_seed() {
+        assertThat(DoubleRandom.of("L64X128MixRandom", 42L).nextGaussian(1.0D, 2.0D))
+            .isEqualTo(DoubleRandom.of("L64X128MixRandom", 42L).nextGaussian(1.0D, 2.0D));
+    }
+
+    @Test
+    void nextGaussian_should_throw_Exception_when_standardDeviation_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DoubleRandom().nextGaussian(0.0D, -1.0D))
+            .withMessage("standardDeviation >= 0 expected but standardDeviation = -1.0").withNoCause();
+    }
+
+    @Test
+    void nextExponential_should_throw_Exception_when_mean_is_not_positive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DoubleRandom().nextExponential(0.0D))
+            .withMessage("mean > 0 expected but mean = 0.0").withNoCause();
+    }
+
+    @Test
+    void fill_should_fill_array_with_doubles_between_zero_and_one() {
+        final var array = new double[1_000];
+
+        DoubleRandom.of("L64X128MixRandom", 42L).fill(array);
+
+        assertThat(DoubleStream.of(array)).allMatch(d -> d >= 0.0D && d < 1.0D).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void fillGaussian_should_fill_array_with_normally_distributed_doubles() {
+        final var array = new double[100_000];
+
+        DoubleRandom.of("L64X128MixRandom", 42L).fillGaussian(array, 10.0D, 2.0D);
+
+        final var mean = DoubleStream.of(array).average().orElseThrow();
+        final var variance = DoubleStream.of(array).map(d -> (d - mean) * (d - mean)).sum() / array.length;
+        assertThat(mean).isCloseTo(10.0D, within(0.05D));
+        assertThat(variance).isCloseTo(4.0D, within(0.1D));
+    }
+
+    @Test
+    void fillExponential_should_fill_array_with_exponentially_distributed_doubles() {
+        final var array = new double[100_000];
+
+        DoubleRandom.of("L64X128MixRandom", 42L).fillExponential(array, 3.0D);
+
+        assertThat(DoubleStream.of(array).min().orElseThrow()).isNotNegative();
+        assertThat(DoubleStream.of(array).average().orElseThrow()).isCloseTo(3.0D, within(0.05D));
+    }
+
+    @Test
+    void fill_should_throw_Exception_when_array_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new DoubleRandom().fill(null)).withMessage("array")
+            .withNoCause();
+    }
+}
@@ -0,0 +1,59 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+final class FractionRandomTests {
+    @Test
+    void next_should_return_fraction_with_numerator_and_denominator_in_range() {
+        final var random = FractionRandom.of("L64X128MixRandom", 42L);
+
+        for (var i = 0; i < 1_000; i++) {
+            final var actual = random.next(-3L, 4L);
+            assertThat(actual.getNumerator()).isBetween(-3L, 3L);
+            assertThat(actual.getDenominator()).isBetween(-3L, 3L).isNotZero();
+        }
+    }
+
+    @Test
+    void next_should_return_fraction_with_positive_denominator_when_bound_is_given() {
+        final var actual = FractionRandom.of("L64X128MixRandom", 42L).next(2L);
+
+        assertThat(actual.getNumerator()).isBetween(0L, 1L);
+        assertThat(actual.getDenominator()).isOne();
+    }
+
+    @Test
+    void next_should_throw_Exception_when_bound_is_less_than_two() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new FractionRandom().next(1L))
+            .withMessage("bound > 1 expected but bound = 1").withNoCause();
+    }
+
+    @Test
+    void next_should_throw_Exception_when_range_contains_only_zero() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new FractionRandom().next(0L, 1L))
+            .withMessage("range expected to contain a number other than 0 but range = [0, 1)").withNoCause();
+    }
+
+    @Test
+    void numbers_should_return_fractions_in_range_in_parallel() {
+        final var actual = FractionRandom.of("L64X128MixRandom", 42L).numbers(10_000L, 1L, 100L).parallel().toList();
+
+        assertThat(actual).hasSize(10_000)
+            .allMatch(f -> f.getNumerator() >= 1L && f.getNumerator() < 100L)
+            .allMatch(f -> f.getDenominator() >= 1L && f.getDenominator() < 100L);
+    }
+
+    @Test
+    void numbers_should_be_reproducible_with_seed() {
+        assertThat(FractionRandom.of("L64X128MixRandom", 42L).numbers(100L).toList())
+            .isEqualTo(FractionRandom.of("L64X128MixRandom", 42L).numbers(100L).toList());
+    }
+
+    @Test
+    void split_should_return_FractionRandom() {
+        assertThat(FractionRandom.of("L64X128MixRandom", 42L).split().numbers(10L)).hasSize(10);
+    }
+}
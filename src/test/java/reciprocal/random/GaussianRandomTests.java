@@ -0,0 +1,29 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+final class GaussianRandomTests {
+    @Test
+    void numbers_should_return_gaussians_with_parts_in_range() {
+        final var actual = GaussianRandom.of("L64X128MixRandom", 42L).numbers(1_000L, 0L, 10L).toList();
+
+        assertThat(actual).hasSize(1_000)
+            .allMatch(g -> g.getReal() >= 0L && g.getReal() < 10L)
+            .allMatch(g -> g.getImaginary() >= 0L && g.getImaginary() < 10L);
+    }
+
+    @Test
+    void numbers_should_be_reproducible_with_seed() {
+        assertThat(GaussianRandom.of("L64X128MixRandom", 42L).numbers(100L).toList())
+            .isEqualTo(GaussianRandom.of("L64X128MixRandom", 42L).numbers(100L).toList());
+    }
+
+    @Test
+    void numbers_should_throw_Exception_when_limit_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new GaussianRandom().numbers(-1L))
+            .withMessage("limit > -1 expected but limit = -1").withNoCause();
+    }
+}
@@ -0,0 +1,113 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class RandomPoolTests {
+    @Test
+    void constructor_should_throw_Exception_when_constructor_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new RandomPool<BigIntegerRandom>(null, "L64X128MixRandom",
+            0L)).withMessage("constructor").withNoCause();
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_algorithm_is_null() {
+        assertThatNullPointerException().isThrownBy(() -> new RandomPool<>(BigIntegerRandom::new, null, 0L))
+            .withMessage("algorithm").withNoCause();
+    }
+
+    @Test
+    void constructor_should_throw_Exception_when_algorithm_is_not_available() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RandomPool<>(BigIntegerRandom::new, "Unknown", 0L));
+    }
+
+    @Test
+    void create_should_throw_Exception_when_streamIndex_is_negative() {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> pool.create(-1L))
+            .withMessage("streamIndex >= 0 expected but streamIndex = -1").withNoCause();
+    }
+
+    @Test
+    void create_should_return_new_generator_at_start_of_stream() {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+        final var generator = pool.create(0L);
+        final var expected = generator.longs(10L).toArray();
+
+        assertThat(pool.create(0L)).isNotSameAs(generator);
+        assertThat(pool.create(0L).longs(10L).toArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void create_should_return_reproducible_generator_per_seed_and_streamIndex() {
+        final var left = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+        final var right = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+
+        right.create(0L);
+
+        assertThat(left.create(1L).longs(10L).toArray()).isEqualTo(right.create(1L).longs(10L).toArray());
+    }
+
+    @Test
+    void create_should_return_different_sequences_for_different_streams() {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+
+        assertThat(pool.create(0L).longs(10L).toArray()).isNotEqualTo(pool.create(1L).longs(10L).toArray());
+    }
+
+    @Test
+    void create_should_return_same_sequences_in_other_threads() throws InterruptedException {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+        final var actual = new long[4][];
+        final var threads = IntStream.range(0, actual.length)
+            .mapToObj(i -> new Thread(() -> actual[i] = pool.create(actual.length - 1L - i).longs(10L).toArray()))
+            .toList();
+
+        threads.forEach(Thread::start);
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        for (var i = 0; i < actual.length; i++) {
+            assertThat(actual[i]).isEqualTo(pool.create(actual.length - 1L - i).longs(10L).toArray());
+        }
+    }
+
+    @Test
+    void get_without_streamIndex_should_return_same_generator_in_same_thread() {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+
+        assertThat(pool.get()).isSameAs(pool.get());
+    }
+
+    @Test
+    void get_without_streamIndex_should_return_different_sequences_in_other_threads() throws InterruptedException {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+        final var actual = new long[4][];
+        final var threads = IntStream.range(0, actual.length)
+            .mapToObj(i -> new Thread(() -> actual[i] = pool.get().longs(10L).toArray()))
+            .toList();
+
+        threads.forEach(Thread::start);
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        assertThat(Stream.of(actual).map(Arrays::toString)).doesNotHaveDuplicates()
+            .doesNotContain(Arrays.toString(pool.create(0L).longs(10L).toArray()));
+    }
+
+    @Test
+    void toString_should_return_toString() {
+        final var pool = new RandomPool<>(BigIntegerRandom::new, "L64X128MixRandom", 42L);
+
+        assertThat(pool).hasToString("RandomPool{algorithm=L64X128MixRandom}");
+    }
+}
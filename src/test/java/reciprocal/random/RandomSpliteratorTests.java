@@ -0,0 +1,48 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.junit.jupiter.api.Test;
+
+final class RandomSpliteratorTests {
+    @Test
+    void trySplit_should_split_range_and_generator_when_generator_is_splittable() {
+        final var spliterator = new RandomSpliterator<>(RandomGeneratorFactory.<SplittableGenerator>of(
+            "L64X128MixRandom").create(42L), RandomGenerator::nextLong, 0L, 10L);
+
+        final var actual = spliterator.trySplit();
+
+        assertThat(actual).isNotNull();
+        assertThat(actual.estimateSize()).isEqualTo(5L);
+        assertThat(spliterator.estimateSize()).isEqualTo(5L);
+    }
+
+    @Test
+    void trySplit_should_return_null_when_generator_is_not_splittable() {
+        final var spliterator = new RandomSpliterator<>(new SecureRandom(), RandomGenerator::nextLong, 0L, 10L);
+
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(spliterator.estimateSize()).isEqualTo(10L);
+    }
+
+    @Test
+    void trySplit_should_return_null_when_only_one_value_remains() {
+        final var spliterator = new RandomSpliterator<>(RandomGeneratorFactory.<SplittableGenerator>of(
+            "L64X128MixRandom").create(42L), RandomGenerator::nextLong, 0L, 1L);
+
+        assertThat(spliterator.trySplit()).isNull();
+    }
+
+    @Test
+    void tryAdvance_should_generate_values_until_fence() {
+        final var spliterator = new RandomSpliterator<>(new SecureRandom(), RandomGenerator::nextLong, 0L, 2L);
+
+        assertThat(spliterator.tryAdvance(l -> {})).isTrue();
+        assertThat(spliterator.tryAdvance(l -> {})).isTrue();
+        assertThat(spliterator.tryAdvance(l -> {})).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+final class VectorRandomTests {
+    @Test
+    void nextDoubleVector_should_return_vector_of_size_with_elements_in_range() {
+        final var actual = VectorRandom.of("L64X128MixRandom", 42L).nextDoubleVector(1_000, -1.0D, 1.0D);
+
+        assertThat(actual.getSize()).isEqualTo(1_000);
+        assertThat(actual.getElements()).allMatch(e -> e >= -1.0D && e < 1.0D);
+    }
+
+    @Test
+    void nextDoubleVector_should_throw_Exception_when_size_is_not_positive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new VectorRandom().nextDoubleVector(0))
+            .withMessage("size > 0 expected but size = 0").withNoCause();
+    }
+
+    @Test
+    void nextLongVector_should_return_vector_of_size_with_elements_in_range() {
+        final var actual = VectorRandom.of("L64X128MixRandom", 42L).nextLongVector(100, 5L, 10L);
+
+        assertThat(actual.getSize()).isEqualTo(100);
+        assertThat(actual.getElements()).allMatch(e -> e >= 5L && e < 10L);
+    }
+
+    @Test
+    void nextLongVector_should_be_reproducible_with_seed() {
+        assertThat(VectorRandom.of("L64X128MixRandom", 42L).nextLongVector(10))
+            .isEqualTo(VectorRandom.of("L64X128MixRandom", 42L).nextLongVector(10));
+    }
+
+    @Test
+    void nextLongVector_should_throw_Exception_when_origin_is_not_less_than_bound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new VectorRandom().nextLongVector(1, 1L, 1L))
+            .withMessage("origin < bound expected but 1 >= 1").withNoCause();
+    }
+
+    @Test
+    void nextBigDecimalVector_should_return_vector_with_elements_between_zero_and_one() {
+        final var actual = VectorRandom.of("L64X128MixRandom", 42L).nextBigDecimalVector(10);
+
+        assertThat(actual.getElements())
+            .allMatch(e -> e.compareTo(BigDecimal.ZERO) >= 0 && e.compareTo(BigDecimal.ONE) < 0);
+    }
+
+    @Test
+    void vectors_should_be_generated_in_parallel() {
+        final var random = VectorRandom.of("L64X128MixRandom", 42L);
+
+        assertThat(random.doubleVectors(100L, 10, 0.0D, 1.0D).parallel()).hasSize(100)
+            .allMatch(v -> v.getSize() == 10);
+        assertThat(random.longVectors(100L, 10, 0L, 2L).parallel()).hasSize(100);
+        assertThat(random.bigDecimalVectors(100L, 10, 0.0D, 1.0D).parallel()).hasSize(100);
+    }
+
+    @Test
+    void split_should_return_VectorRandom() {
+        assertThat(VectorRandom.of("L64X128MixRandom", 42L).split().nextDoubleVector(3).getSize()).isEqualTo(3);
+    }
+}
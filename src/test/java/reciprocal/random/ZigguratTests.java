@@ -0,0 +1,48 @@
+package reciprocal.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.DoubleStream;
+import org.junit.jupiter.api.Test;
+
+final class ZigguratTests {
+    private static final int SAMPLES = 1_000_000;
+
+    @Test
+    void normal_should_return_standard_normally_distributed_doubles() {
+        final var randomGenerator = RandomGeneratorFactory.of("L64X128MixRandom").create(42L);
+        final var samples = DoubleStream.generate(() -> Ziggurat.normal(randomGenerator)).limit(SAMPLES).toArray();
+
+        final var statistics = DoubleStream.of(samples).summaryStatistics();
+        final var variance = DoubleStream.of(samples).map(x -> x * x).sum() / SAMPLES;
+
+        assertThat(statistics.getAverage()).isCloseTo(0.0D, within(0.005D));
+        assertThat(variance).isCloseTo(1.0D, within(0.005D));
+        assertThat(fraction(samples, 1.0D)).isCloseTo(0.682689D, within(0.002D));
+        assertThat(fraction(samples, 2.0D)).isCloseTo(0.954500D, within(0.001D));
+        assertThat(fraction(samples, 3.442619855899D)).isCloseTo(0.999424D, within(0.0001D));
+        assertThat(statistics.getMax()).isGreaterThan(3.442619855899D);
+        assertThat(statistics.getMin()).isLessThan(-3.442619855899D);
+    }
+
+    @Test
+    void exponential_should_return_exponentially_distributed_doubles() {
+        final var randomGenerator = RandomGeneratorFactory.of("L64X128MixRandom").create(42L);
+        final var samples = DoubleStream.generate(() -> Ziggurat.exponential(randomGenerator)).limit(SAMPLES)
+            .toArray();
+
+        final var statistics = DoubleStream.of(samples).summaryStatistics();
+
+        assertThat(statistics.getMin()).isNotNegative();
+        assertThat(statistics.getAverage()).isCloseTo(1.0D, within(0.005D));
+        assertThat(DoubleStream.of(samples).filter(x -> x < 1.0D).count() / (double) SAMPLES)
+            .isCloseTo(1.0D - Math.exp(-1.0D), within(0.002D));
+        assertThat(statistics.getMax()).isGreaterThan(7.69711747013104972D);
+    }
+
+    private static double fraction(final double[] samples, final double bound) {
+        return DoubleStream.of(samples).filter(x -> Math.abs(x) < bound).count() / (double) samples.length;
+    }
+}